@@ -0,0 +1,160 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.apache.juneau.testutils.TestUtils.*;
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.stream.*;
+
+import org.apache.juneau.json.*;
+import org.junit.*;
+
+public class CompactObjectListTest {
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// List operations
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_basic() throws Exception {
+		ObjectList l = new CompactObjectList();
+		assertTrue(l.isEmpty());
+		for (int i = 0; i < 100; i++)
+			l.add(i);
+		assertEquals(100, l.size());
+		assertEquals(50, l.get(50));
+		assertEquals(50, l.set(50, "x"));
+		assertEquals("x", l.get(50));
+		assertEquals(50, l.indexOf("x"));
+		assertEquals(-1, l.indexOf("y"));
+		assertTrue(l.contains(99));
+		assertEquals(0, l.remove(0));
+		assertTrue(l.remove("x"));
+		assertFalse(l.remove("x"));
+		assertEquals(98, l.size());
+		assertEquals(1, l.get(0));
+		l.add(0, "a");
+		l.add(l.size(), "z");
+		assertEquals("a", l.get(0));
+		assertEquals("z", l.get(99));
+		l.addAll(1, Arrays.asList("b", "c"));
+		assertEquals("[a, b, c, 1, 2]", l.subList(0, 5).toString());
+		assertEquals(2, (int)l.getInt(4));
+		l.clear();
+		assertEquals(0, l.size());
+		assertObjectEquals("[]", l);
+
+		try {
+			l.get(0);
+			fail();
+		} catch (IndexOutOfBoundsException e) {}
+	}
+
+	@Test
+	public void a02_deque() throws Exception {
+		ObjectList l = new CompactObjectList();
+		assertNull(l.peek());
+		assertNull(l.poll());
+		assertNull(l.pollLast());
+		l.push(2);
+		l.addFirst(1);
+		l.addLast(3);
+		l.offer(4);
+		l.offerFirst(0);
+		assertObjectEquals("[0,1,2,3,4]", l);
+		assertEquals(0, l.getFirst());
+		assertEquals(4, l.getLast());
+		assertEquals(0, l.element());
+		assertEquals(4, l.peekLast());
+		assertEquals(0, l.pop());
+		assertEquals(1, l.poll());
+		assertEquals(4, l.pollLast());
+		assertEquals(3, l.removeLast());
+		assertEquals(2, l.removeFirst());
+		try {
+			l.removeFirst();
+			fail();
+		} catch (NoSuchElementException e) {}
+
+		l.addAll(Arrays.asList(1, 2, 1, 2));
+		assertTrue(l.removeLastOccurrence(1));
+		assertTrue(l.removeFirstOccurrence(2));
+		assertObjectEquals("[1,2]", l);
+
+		StringBuilder sb = new StringBuilder();
+		for (Iterator<Object> i = l.descendingIterator(); i.hasNext();)
+			sb.append(i.next());
+		assertEquals("21", sb.toString());
+	}
+
+	@Test
+	public void a03_iterators() throws Exception {
+		ObjectList l = new CompactObjectList(Arrays.asList(1, 2, 3, 4, 5));
+		for (Iterator<Object> i = l.iterator(); i.hasNext();)
+			if ((Integer)i.next() % 2 == 0)
+				i.remove();
+		assertObjectEquals("[1,3,5]", l);
+
+		ListIterator<Object> li = l.listIterator(1);
+		assertEquals(1, li.previous());
+		li.set(0);
+		li.next();
+		li.add(2);
+		assertEquals(3, li.next());
+		assertEquals(2, li.previousIndex());
+		assertObjectEquals("[0,2,3,5]", l);
+
+		l.removeIf(x -> (Integer)x > 2);
+		l.replaceAll(x -> (Integer)x + 1);
+		assertObjectEquals("[1,3]", l);
+		assertEquals(4, l.stream().mapToInt(x -> (Integer)x).sum());
+		assertEquals("1-3", l.stream().map(String::valueOf).collect(Collectors.joining("-")));
+
+		try {
+			for (Object o : l)
+				l.add(o);
+			fail();
+		} catch (ConcurrentModificationException e) {}
+	}
+
+	@Test
+	public void a04_equalsAndCopies() throws Exception {
+		ObjectList l = new CompactObjectList(Arrays.asList("a", 1, null));
+		ObjectList l2 = new ObjectList("a", 1, null);
+		assertEquals(l2, l);
+		assertEquals(l, l2);
+		assertEquals(l2.hashCode(), l.hashCode());
+		assertEquals("['a',1,null]", l.toString());
+		assertArrayEquals(new Object[]{"a", 1, null}, l.toArray());
+		assertArrayEquals(new String[]{"a", "1"}, new CompactObjectList(Arrays.asList("a", "1")).toArray(new String[0]));
+
+		ObjectList l3 = (ObjectList)l.clone();
+		l3.add(2);
+		assertEquals(3, l.size());
+		assertEquals(4, l3.size());
+		assertTrue(l3 instanceof CompactObjectList);
+
+		l.sort(Comparator.comparing(String::valueOf));
+		assertObjectEquals("[1,'a',null]", l);
+	}
+
+	@Test
+	public void a05_parsedElements() throws Exception {
+		ObjectList l = JsonParser.create().compactCollections().build().parse("[{foo:'bar'},{baz:123}]", ObjectList.class);
+		Iterator<ObjectMap> i = l.elements(ObjectMap.class).iterator();
+		assertEquals("bar", i.next().getString("foo"));
+		assertEquals(123, (int)i.next().getInt("baz"));
+	}
+}
@@ -0,0 +1,255 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.apache.juneau.testutils.TestUtils.*;
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.apache.juneau.html.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.transform.*;
+import org.apache.juneau.uon.*;
+import org.apache.juneau.urlencoding.*;
+import org.apache.juneau.xml.*;
+import org.junit.*;
+
+public class CompactObjectMapTest {
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Map operations
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_basic() throws Exception {
+		ObjectMap m = new CompactObjectMap();
+		assertTrue(m.isEmpty());
+		assertNull(m.put("b", 1));
+		assertNull(m.put("a", 2));
+		assertNull(m.put(null, 3));
+		assertEquals(1, m.put("b", 4));
+		assertEquals(3, m.size());
+		assertEquals(4, m.get("b"));
+		assertEquals(3, m.get(null));
+		assertNull(m.get("c"));
+		assertEquals("x", m.getOrDefault("c", "x"));
+		assertTrue(m.containsKey("a"));
+		assertTrue(m.containsOuterKey("a"));
+		assertFalse(m.containsKey("c"));
+		assertTrue(m.containsValue(2));
+		assertFalse(m.containsValue(5));
+		assertEquals(2, (int)m.getInt("a"));
+		assertEquals("[b, a, null]", m.keySet().toString());
+		assertEquals("[4, 2, 3]", m.values().toString());
+		assertEquals("[b=4, a=2, null=3]", m.entrySet().toString());
+		assertEquals(2, m.remove("a"));
+		assertNull(m.remove("a"));
+		assertEquals("[b, null]", m.keySet().toString());
+		m.clear();
+		assertTrue(m.isEmpty());
+		assertNull(m.get("b"));
+	}
+
+	@Test
+	public void a02_largeMapsAreIndexed() throws Exception {
+		ObjectMap m = new CompactObjectMap();
+		for (int i = 0; i < 1000; i++)
+			m.put("k" + i, i);
+		assertEquals(1000, m.size());
+		for (int i = 0; i < 1000; i++)
+			assertEquals(i, m.get("k" + i));
+		assertNull(m.get("k1000"));
+
+		for (int i = 0; i < 1000; i += 2)
+			m.remove("k" + i);
+		assertEquals(500, m.size());
+		for (int i = 0; i < 1000; i++)
+			assertEquals(i % 2 == 0 ? null : i, m.get("k" + i));
+
+		Iterator<String> it = m.keySet().iterator();
+		while (it.hasNext())
+			if (! it.next().equals("k999"))
+				it.remove();
+		assertObjectEquals("{k999:999}", m);
+		assertEquals(999, m.get("k999"));
+	}
+
+	@Test
+	public void a03_defaultMethods() throws Exception {
+		ObjectMap m = new CompactObjectMap();
+		assertNull(m.putIfAbsent("a", 1));
+		assertEquals(1, m.putIfAbsent("a", 2));
+		assertEquals(1, m.computeIfAbsent("a", k -> 3));
+		assertEquals(4, m.computeIfAbsent("b", k -> 4));
+		assertEquals(5, m.computeIfPresent("b", (k,v) -> 5));
+		assertNull(m.computeIfPresent("c", (k,v) -> 6));
+		assertEquals(7, m.compute("c", (k,v) -> 7));
+		assertEquals(8, m.merge("c", 1, (v1,v2) -> (Integer)v1 + (Integer)v2));
+		assertEquals(8, m.replace("c", 9));
+		assertTrue(m.replace("c", 9, 10));
+		assertFalse(m.replace("c", 9, 11));
+		assertFalse(m.remove("c", 11));
+		assertTrue(m.remove("c", 10));
+		assertNull(m.compute("b", (k,v) -> null));
+		assertEquals(1, m.merge("d", 1, (v1,v2) -> null));
+		assertNull(m.merge("d", 1, (v1,v2) -> null));
+		assertFalse(m.containsKey("d"));
+		m.replaceAll((k,v) -> (Integer)v * 10);
+		m.putAll(new ObjectMap().append("d", 1).append("a", 2));
+		assertObjectEquals("{a:2,d:1}", m);
+
+		StringBuilder sb = new StringBuilder();
+		m.forEach((k,v) -> sb.append(k).append(v));
+		assertEquals("a2d1", sb.toString());
+	}
+
+	@Test
+	public void a04_entrySet() throws Exception {
+		ObjectMap m = new CompactObjectMap().append("a", 1).append("b", 2).append("c", 3);
+		for (Map.Entry<String,Object> e : m.entrySet())
+			e.setValue((Integer)e.getValue() + 1);
+		assertObjectEquals("{a:2,b:3,c:4}", m);
+
+		Iterator<Map.Entry<String,Object>> it = m.entrySet().iterator();
+		it.next();
+		Map.Entry<String,Object> e = it.next();
+		it.remove();
+		assertEquals("c", it.next().getKey());
+		assertFalse(it.hasNext());
+		assertEquals("b", e.getKey());
+		assertNull(e.getValue());
+		assertObjectEquals("{a:2,c:4}", m);
+
+		try {
+			for (String k : m.keySet())
+				m.put(k + "x", 0);
+			fail();
+		} catch (ConcurrentModificationException e2) {}
+	}
+
+	@Test
+	public void a05_equalsAndCopies() throws Exception {
+		ObjectMap m = new CompactObjectMap().append("a", 1).append("b", new ObjectList().append(2));
+		ObjectMap m2 = new ObjectMap().append("a", 1).append("b", new ObjectList().append(2));
+		assertEquals(m2, m);
+		assertEquals(m, m2);
+		assertEquals(m2.hashCode(), m.hashCode());
+		assertEquals("{a:1,b:[2]}", m.toString());
+
+		ObjectMap m3 = (ObjectMap)m.clone();
+		m3.put("c", 3);
+		assertEquals(2, m.size());
+		assertEquals(3, m3.size());
+		assertTrue(m3 instanceof CompactObjectMap);
+
+		assertObjectEquals("{a:1,b:[2]}", new CompactObjectMap(m2));
+		assertObjectEquals("{a:1,b:[2]}", m.unmodifiable());
+	}
+
+	@Test
+	public void a06_innerMap() throws Exception {
+		for (ObjectMap m : new ObjectMap[]{new ObjectMap(), new CompactObjectMap()}) {
+			String n = m.getClass().getSimpleName();
+			m.setInner(new ObjectMap("{a:1,b:2}"));
+			m.put("b", 3);
+			m.put("c", 4);
+			assertEquals(n, 1, m.get("a"));
+			assertEquals(n, 3, m.get("b"));
+			assertEquals(n, 4, m.get("c"));
+			assertTrue(n, m.containsKey("a"));
+			assertFalse(n, m.containsOuterKey("a"));
+			assertFalse(n, m.containsKey("d"));
+			assertEquals(n, 2, m.size());
+			assertObjectEquals("['a','b','c']", m.keySet());
+			assertEquals(n, "{a:1,b:3,c:4}", m.toString());
+			assertEquals(n, 1, ((ObjectMap)m.clone()).get("a"));
+		}
+	}
+
+	@Test
+	public void a07_getSwapped() throws Exception {
+		for (ObjectMap m : new ObjectMap[]{new ObjectMap(), new CompactObjectMap()}) {
+			String n = m.getClass().getSimpleName();
+			m.setInner(new ObjectMap("{b:'2'}"));
+			m.put("a", "1");
+			assertEquals(n, Integer.valueOf(1), m.getSwapped("a", new IntegerSwap()));
+			assertNull(n, m.getSwapped("b", new IntegerSwap()));
+		}
+	}
+
+	public static class IntegerSwap extends PojoSwap<Integer,String> {
+		@Override /* PojoSwap */
+		public Integer unswap(BeanSession session, String o, ClassMeta<?> hint) throws Exception {
+			return Integer.valueOf(o);
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// PARSER_compactCollections
+	//-----------------------------------------------------------------------------------------------------------------
+
+	private static void assertCompact(Object o) {
+		if (o instanceof Map) {
+			assertTrue(o.getClass().getName(), o instanceof CompactObjectMap);
+			for (Object v : ((Map<?,?>)o).values())
+				assertCompact(v);
+		} else if (o instanceof Collection) {
+			assertTrue(o.getClass().getName(), o instanceof CompactObjectList);
+			for (Object v : (Collection<?>)o)
+				assertCompact(v);
+		}
+	}
+
+	@Test
+	public void b01_parsers() throws Exception {
+		ObjectMap in = new ObjectMap("{a:'foo',b:[1,{c:true}],d:{e:[[1],[2]]}}");
+		Serializer[] serializers = {
+			JsonSerializer.DEFAULT,
+			UonSerializer.DEFAULT,
+			UrlEncodingSerializer.DEFAULT,
+			XmlSerializer.DEFAULT,
+			HtmlSerializer.DEFAULT,
+			MsgPackSerializer.DEFAULT,
+		};
+		ParserBuilder[] parsers = {
+			JsonParser.create(),
+			UonParser.create(),
+			UrlEncodingParser.create(),
+			XmlParser.create(),
+			HtmlParser.create(),
+			MsgPackParser.create(),
+		};
+		for (int i = 0; i < serializers.length; i++) {
+			Object s = serializers[i].serialize(in);
+			Parser p = parsers[i].compactCollections().build();
+			Object o = p.parse(s, Object.class);
+			assertCompact(o);
+			assertEquals(p.getClass().getSimpleName(), in, o);
+
+			Map<?,?> m = p.parse(s, Map.class);
+			assertCompact(m);
+			assertEquals(p.getClass().getSimpleName(), in, m);
+		}
+	}
+
+	@Test
+	public void b02_defaultIsNotCompact() throws Exception {
+		Object o = JsonParser.DEFAULT.parse("{a:[1]}", Object.class);
+		assertEquals(ObjectMap.class, o.getClass());
+		assertEquals(ObjectList.class, ((ObjectMap)o).get("a").getClass());
+	}
+}
@@ -0,0 +1,208 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.json.*;
+import org.junit.*;
+
+/**
+ * Validates that {@link BeanContext#BEAN_useGeneratedAccessors} produces the same results as reflection.
+ */
+public class GeneratedAccessorsTest {
+
+	private static final JsonSerializer S = JsonSerializer.create().ssq().useGeneratedAccessors().build();
+	private static final JsonParser P = JsonParser.create().useGeneratedAccessors().build();
+	private static final BeanSession BS = BeanContext.create().useGeneratedAccessors().build().createSession();
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Public getters/setters on public class (LambdaMetafactory path)
+	//-----------------------------------------------------------------------------------------------------------------
+
+	public static class A {
+		private int f1;
+		private String f2;
+		private long f3;
+		private boolean f4;
+		private List<String> f5;
+
+		public int getF1() { return f1; }
+		public void setF1(int f1) { this.f1 = f1; }
+		public String getF2() { return f2; }
+		public void setF2(String f2) { this.f2 = f2; }
+		public long getF3() { return f3; }
+		public void setF3(long f3) { this.f3 = f3; }
+		public boolean isF4() { return f4; }
+		public void setF4(boolean f4) { this.f4 = f4; }
+		public List<String> getF5() { return f5; }
+		public void setF5(List<String> f5) { this.f5 = f5; }
+	}
+
+	@Test
+	public void a01_publicGettersAndSetters() throws Exception {
+		String json = "{f1:1,f2:'foo',f3:3,f4:true,f5:['a','b']}";
+		A a = P.parse(json, A.class);
+		assertEquals(1, a.f1);
+		assertEquals("foo", a.f2);
+		assertEquals(3L, a.f3);
+		assertTrue(a.f4);
+		assertEquals(Arrays.asList("a","b"), a.f5);
+		assertEquals(SimpleJsonSerializer.DEFAULT.serialize(a), S.serialize(a));
+	}
+
+	@Test
+	public void a02_beanMapGetPut() throws Exception {
+		BeanMap<A> m = BS.newBeanMap(A.class);
+		m.put("f1", 5);
+		m.put("f2", "bar");
+		assertEquals(5, m.get("f1"));
+		assertEquals("bar", m.get("f2"));
+		assertEquals(5, m.getBean().f1);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Public fields (MethodHandle path)
+	//-----------------------------------------------------------------------------------------------------------------
+
+	public static class B {
+		public int f1;
+		public String f2;
+		public Map<String,Integer> f3;
+	}
+
+	@Test
+	public void b01_publicFields() throws Exception {
+		String json = "{f1:1,f2:'foo',f3:{a:1}}";
+		B b = P.parse(json, B.class);
+		assertEquals(1, b.f1);
+		assertEquals("foo", b.f2);
+		assertEquals(Integer.valueOf(1), b.f3.get("a"));
+		assertEquals(json, S.serialize(b));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Non-public class and annotated private field (MethodHandle path)
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Bean(bpi="f1,f2")
+	static class C {
+		@Beanp
+		private int f1;
+		private String f2;
+
+		public String getF2() { return f2; }
+		public void setF2(String f2) { this.f2 = f2; }
+	}
+
+	@Test
+	public void c01_nonPublicClass() throws Exception {
+		JsonSerializer s = JsonSerializer.create().ssq().useGeneratedAccessors().beanClassVisibility(Visibility.PRIVATE).build();
+		JsonParser p = JsonParser.create().useGeneratedAccessors().beanClassVisibility(Visibility.PRIVATE).beanConstructorVisibility(Visibility.PRIVATE).build();
+		C c = p.parse("{f1:1,f2:'foo'}", C.class);
+		assertEquals(1, c.f1);
+		assertEquals("foo", c.f2);
+		assertEquals("{f1:1,f2:'foo'}", s.serialize(c));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Fluent setters
+	//-----------------------------------------------------------------------------------------------------------------
+
+	public static class D {
+		private int f1;
+
+		public int getF1() { return f1; }
+		public D setF1(int f1) { this.f1 = f1; return this; }
+	}
+
+	@Test
+	public void d01_fluentSetters() throws Exception {
+		JsonParser p = JsonParser.create().useGeneratedAccessors().set(BeanContext.BEAN_fluentSetters, true).build();
+		assertEquals(1, p.parse("{f1:1}", D.class).f1);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Exceptions thrown by getters/setters
+	//-----------------------------------------------------------------------------------------------------------------
+
+	public static class E {
+		public String getF1() { throw new RuntimeException("foo"); }
+		public void setF1(String f1) { throw new RuntimeException("bar"); }
+	}
+
+	@Test
+	public void e01_exceptionsAreWrapped() throws Exception {
+		BeanMap<E> m = BS.toBeanMap(new E());
+		try {
+			m.get("f1");
+			fail();
+		} catch (BeanRuntimeException e) {
+			assertEquals("foo", rootCause(e).getMessage());
+		}
+		try {
+			m.put("f1", "x");
+			fail();
+		} catch (BeanRuntimeException e) {
+			assertEquals("bar", rootCause(e).getMessage());
+		}
+	}
+
+	@Test
+	public void e02_ignoreInvocationExceptionsOnGetters() throws Exception {
+		JsonSerializer s = JsonSerializer.create().ssq().useGeneratedAccessors().ignoreInvocationExceptionsOnGetters().build();
+		assertEquals("{}", s.serialize(new E()));
+	}
+
+	@Test
+	public void e03_wrongTypeIsArgumentError() throws Exception {
+		for (BeanSession bs : new BeanSession[]{BS, BeanContext.DEFAULT.createSession()}) {
+			BeanMap<A> m = bs.newBeanMap(A.class);
+			try {
+				m.getPropertyMeta("f2").setDirect(m, 123);
+				fail();
+			} catch (BeanRuntimeException e) {
+				assertTrue(e.getCause() instanceof IllegalArgumentException);
+			}
+			try {
+				m.getPropertyMeta("f1").setDirect(m, null);
+				fail();
+			} catch (BeanRuntimeException e) {
+				assertTrue(e.getCause() instanceof IllegalArgumentException);
+			}
+		}
+	}
+
+	@Test
+	public void e04_ignoreInvocationExceptionsOnSetters_wrongType() throws Exception {
+		BeanSession bs = BeanContext.create().useGeneratedAccessors().ignoreInvocationExceptionsOnSetters().build().createSession();
+		BeanMap<A> m = bs.newBeanMap(A.class);
+		m.put("f2", "foo");
+		m.getPropertyMeta("f2").setDirect(m, 123);
+		m.getPropertyMeta("f1").setDirect(m, null);
+		assertEquals("foo", m.getBean().f2);
+		assertEquals(0, m.getBean().f1);
+
+		BeanMap<E> m2 = bs.toBeanMap(new E());
+		m2.getPropertyMeta("f1").setDirect(m2, "x");
+	}
+
+	private static Throwable rootCause(Throwable t) {
+		while (t.getCause() != null)
+			t = t.getCause();
+		return t;
+	}
+}
@@ -0,0 +1,192 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.transform.*;
+import org.apache.juneau.uon.*;
+import org.junit.*;
+
+/**
+ * Validates reading <jk>int</jk>, <jk>long</jk>, <jk>double</jk> and <jk>boolean</jk> bean properties without boxing.
+ */
+public class UnboxedPropertiesTest {
+
+	private static final BeanSession BS = BeanContext.DEFAULT.createSession();
+	private static final BeanSession BS_GA = BeanContext.create().useGeneratedAccessors().build().createSession();
+
+	public static class A {
+		public int f1;
+		public long f2;
+		public double f3;
+		public boolean f4;
+		public String f5;
+		public Integer f6;
+
+		A init() {
+			f1 = -123;
+			f2 = Long.MIN_VALUE;
+			f3 = 1.5;
+			f4 = true;
+			f5 = "foo";
+			f6 = 6;
+			return this;
+		}
+	}
+
+	public static class B {
+		private int f1 = Integer.MAX_VALUE;
+		private long f2 = 1234567890123L;
+		private double f3 = Double.NaN;
+		private boolean f4;
+
+		public int getF1() { return f1; }
+		public void setF1(int f1) { this.f1 = f1; }
+		public long getF2() { return f2; }
+		public void setF2(long f2) { this.f2 = f2; }
+		public double getF3() { return f3; }
+		public void setF3(double f3) { this.f3 = f3; }
+		public boolean isF4() { return f4; }
+		public void setF4(boolean f4) { this.f4 = f4; }
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Metadata
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_publicFields() throws Exception {
+		BeanMeta<A> bm = BS.getBeanMeta(A.class);
+		assertEquals(int.class, bm.getPropertyMeta("f1").getUnboxedType());
+		assertEquals(long.class, bm.getPropertyMeta("f2").getUnboxedType());
+		assertEquals(double.class, bm.getPropertyMeta("f3").getUnboxedType());
+		assertEquals(boolean.class, bm.getPropertyMeta("f4").getUnboxedType());
+		assertNull(bm.getPropertyMeta("f5").getUnboxedType());
+		assertNull(bm.getPropertyMeta("f6").getUnboxedType());
+	}
+
+	@Test
+	public void a02_gettersRequireGeneratedAccessors() throws Exception {
+		assertNull(BS.getBeanMeta(B.class).getPropertyMeta("f1").getUnboxedType());
+		assertEquals(int.class, BS_GA.getBeanMeta(B.class).getPropertyMeta("f1").getUnboxedType());
+		assertEquals(boolean.class, BS_GA.getBeanMeta(B.class).getPropertyMeta("f4").getUnboxedType());
+	}
+
+	@Test
+	public void a03_primitiveGetters() throws Exception {
+		for (BeanSession bs : new BeanSession[]{BS, BS_GA}) {
+			BeanMap<B> m = bs.toBeanMap(new B());
+			BeanMeta<B> bm = m.getMeta();
+			assertEquals(Integer.MAX_VALUE, bm.getPropertyMeta("f1").getInt(m));
+			assertEquals(1234567890123L, bm.getPropertyMeta("f2").getLong(m));
+			assertTrue(Double.isNaN(bm.getPropertyMeta("f3").getDouble(m)));
+			assertFalse(bm.getPropertyMeta("f4").getBoolean(m));
+		}
+	}
+
+	@Test
+	public void a04_beanPropertyValues() throws Exception {
+		Map<String,BeanPropertyValue> m = new LinkedHashMap<>();
+		for (BeanPropertyValue v : BS.toBeanMap(new A().init()).getValues(false))
+			m.put(v.getName(), v);
+		assertEquals(int.class, m.get("f1").getPrimitiveType());
+		assertEquals(-123, m.get("f1").getInt());
+		assertEquals(-123, m.get("f1").getValue());
+		assertEquals(Long.MIN_VALUE, m.get("f2").getLong());
+		assertEquals(Long.MIN_VALUE, m.get("f2").getValue());
+		assertEquals(1.5, m.get("f3").getDouble(), 0);
+		assertEquals(1.5, m.get("f3").getValue());
+		assertTrue(m.get("f4").getBoolean());
+		assertEquals(true, m.get("f4").getValue());
+		assertNull(m.get("f5").getPrimitiveType());
+		assertEquals("foo", m.get("f5").getValue());
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Serializers
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_json() throws Exception {
+		assertEquals("{f1:-123,f2:-9223372036854775808,f3:1.5,f4:true,f5:'foo',f6:6}", SimpleJsonSerializer.DEFAULT.serialize(new A().init()));
+		assertEquals("{f1:2147483647,f2:1234567890123,f3:NaN,f4:false}", JsonSerializer.create().ssq().useGeneratedAccessors().build().serialize(new B()));
+		assertEquals("{\n\tf1: 0,\n\tf2: 0,\n\tf3: 0.0,\n\tf4: false\n}", SimpleJsonSerializer.DEFAULT_READABLE.serialize(new A()));
+	}
+
+	@Test
+	public void b02_uon() throws Exception {
+		assertEquals("(f1=-123,f2=-9223372036854775808,f3=1.5,f4=true,f5=foo,f6=6)", UonSerializer.DEFAULT.serialize(new A().init()));
+		assertEquals("(f1=2147483647,f2=1234567890123,f3=NaN,f4=false)", UonSerializer.create().useGeneratedAccessors().build().serialize(new B()));
+	}
+
+	@Test
+	public void b03_msgPack() throws Exception {
+		A a = new A().init();
+		assertEquals(toMsgPack(MsgPackSerializer.DEFAULT, toMap(a)), toMsgPack(MsgPackSerializer.DEFAULT, a));
+		B b = new B();
+		assertEquals(toMsgPack(MsgPackSerializer.DEFAULT, toMap(b)), toMsgPack(MsgPackSerializer.create().useGeneratedAccessors().build(), b));
+		B b2 = MsgPackParser.DEFAULT.parse(MsgPackSerializer.DEFAULT.serialize(b), B.class);
+		assertEquals(Integer.MAX_VALUE, b2.f1);
+		assertEquals(1234567890123L, b2.f2);
+		assertTrue(Double.isNaN(b2.f3));
+		assertFalse(b2.f4);
+	}
+
+	private static String toMsgPack(Serializer s, Object o) throws Exception {
+		return s.serializeToString(o);
+	}
+
+	private static Map<String,Object> toMap(Object o) {
+		Map<String,Object> m = new LinkedHashMap<>();
+		for (BeanPropertyValue v : BS.toBeanMap(o).getValues(false))
+			m.put(v.getName(), v.getValue());
+		return m;
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Swaps and errors
+	//-----------------------------------------------------------------------------------------------------------------
+
+	public static class IntegerSwap extends PojoSwap<Integer,String> {
+		@Override
+		public String swap(BeanSession session, Integer o) {
+			return "#" + o;
+		}
+	}
+
+	@Test
+	public void c01_swapsOnWrapperClass() throws Exception {
+		JsonSerializer s = JsonSerializer.create().ssq().pojoSwaps(IntegerSwap.class).build();
+		assertNull(s.createSession().getBeanMeta(A.class).getPropertyMeta("f1").getUnboxedType());
+		assertEquals("{f1:'#-123',f2:-9223372036854775808,f3:1.5,f4:true,f5:'foo',f6:'#6'}", s.serialize(new A().init()));
+	}
+
+	public static class C {
+		public int getF1() { throw new RuntimeException("foo"); }
+		public void setF1(int f1) {}
+	}
+
+	@Test
+	public void c02_getterExceptions() throws Exception {
+		JsonSerializer s = JsonSerializer.create().ssq().useGeneratedAccessors().build();
+		assertEquals(JsonSerializer.create().ssq().build().serialize(new C()), s.serialize(new C()));
+		s = JsonSerializer.create().ssq().useGeneratedAccessors().ignoreInvocationExceptionsOnGetters().build();
+		assertEquals("{f1:0}", s.serialize(new C()));
+	}
+}
@@ -133,6 +133,40 @@ public class CommonParserTest {
 		public int a, b;
 	}
 
+	//====================================================================================================
+	// Skipping nested values of unknown properties.
+	//====================================================================================================
+	@Test
+	public void testSkippingUnknownPropertyValues() throws Exception {
+		ReaderParser p = JsonParser.create().ignoreUnknownBeanProperties().build();
+		B b;
+
+		String[] in = {
+			"{a:1,unknown:{x:[1,{y:'}]'}],z:\"\\\"{\"},b:2}",
+			"{a:1,unknown:[[],[{}],'[',\"]\"],b:2}",
+			"{a:1,unknown:'foo'+\"bar\",b:2}",
+			"{a:1,unknown:/*{[*/{x:1}/*]}*/,b:2}",
+			"{a:1,unknown:{x:1 // }\n},b:2}",
+			"{a:1,unknown:-1.5e10 , b:2}",
+			"{a:1,unknown:null}",
+			"{a:1,unknown:true\n,b:2}",
+		};
+		for (String s : in) {
+			b = p.parse(s, B.class);
+			assertEquals(s, 1, b.a);
+			assertEquals(s, s.endsWith("null}") ? 0 : 2, b.b);
+		}
+
+		b = JsonParser.create().ignoreUnknownBeanProperties().strict().build().parse("{\"a\":1,\"unknown\":{\"x\":[1,2]},\"b\":2}", B.class);
+		assertEquals(1, b.a);
+		assertEquals(2, b.b);
+
+		try {
+			p.parse("{a:1,unknown:{x:[1,2},b:2}", B.class);
+			fail("Exception expected");
+		} catch (ParseException e) {}
+	}
+
 	//====================================================================================================
 	// Writing to Collection properties with no setters.
 	//====================================================================================================
@@ -0,0 +1,250 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.transform.*;
+import org.junit.*;
+
+/**
+ * Validates the {@link JsonSerializer#JSON_compileBeans} and {@link JsonParser#JSON_compileBeans} settings.
+ */
+public class JsonCompileBeansTest {
+
+	private static final JsonSerializer
+		S = JsonSerializer.create().ssq().compileBeans().build(),
+		S_GENERIC = JsonSerializer.create().ssq().build();
+
+	private static final JsonParser
+		P = JsonParser.create().compileBeans().build(),
+		P_GENERIC = JsonParser.DEFAULT;
+
+	public static class A {
+		public int f1;
+		public long f2;
+		public double f3;
+		public boolean f4;
+		public String f5;
+		public Integer f6;
+		public Long f7;
+		public Double f8;
+		public Boolean f9;
+		public Short fa;
+		public Float fb;
+		public List<String> fc;
+		public B fd;
+
+		A init() {
+			f1 = -1;
+			f2 = 2;
+			f3 = 3.5;
+			f4 = true;
+			f5 = "foo's \"bar\"";
+			f6 = 6;
+			f7 = 7l;
+			f8 = 8.5;
+			f9 = false;
+			fa = 10;
+			fb = 11.5f;
+			fc = Arrays.asList("x", "y");
+			fd = new B();
+			return this;
+		}
+	}
+
+	@Bean(typeName="B")
+	public static class B {
+		public String b1 = "b1";
+	}
+
+	public static class C {
+		public String getF1() { throw new RuntimeException("foo"); }
+		public int getF2() { throw new RuntimeException("bar"); }
+		public String getF3() { return "baz"; }
+	}
+
+	public static class D {
+		public String f1 = "foo";
+
+		@Beanp(name="*")
+		public Map<String,Object> getExtra() {
+			return new LinkedHashMap<String,Object>() {{ put("f2", "bar"); }};
+		}
+	}
+
+	public static class E {
+		private int f1;
+		private String f2;
+
+		public int getF1() { return f1; }
+		public void setF1(int f1) { this.f1 = f1 * 10; }
+		public String getF2() { return f2; }
+		public void setF2(String f2) { throw new RuntimeException("baz"); }
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Serializer
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_serialize() throws Exception {
+		String expected = "{f1:-1,f2:2,f3:3.5,f4:true,f5:'foo\\'s \"bar\"',f6:6,f7:7,f8:8.5,f9:false,fa:10,fb:11.5,fc:['x','y'],fd:{b1:'b1'}}";
+		assertEquals(expected, S.serialize(new A().init()));
+		assertEquals(expected, S_GENERIC.serialize(new A().init()));
+	}
+
+	@Test
+	public void a02_serialize_compiledOnce() throws Exception {
+		S.serialize(new A().init());
+		BeanMeta<A> bm = S.createSession().getBeanMeta(A.class);
+		assertTrue(S.getBeanSerializerPlan(bm, x -> null) instanceof JsonCompiledBeanWriter);
+	}
+
+	@Test
+	public void a03_serialize_nulls() throws Exception {
+		assertEquals("{f1:0,f2:0,f3:0.0,f4:false}", S.serialize(new A()));
+		JsonSerializer s = JsonSerializer.create().ssq().compileBeans().trimNullProperties(false).build();
+		assertEquals("{f1:0,f2:0,f3:0.0,f4:false,f5:null,f6:null,f7:null,f8:null,f9:null,fa:null,fb:null,fc:null,fd:null}", s.serialize(new A()));
+	}
+
+	@Test
+	public void a04_serialize_readable() throws Exception {
+		JsonSerializer s = JsonSerializer.create().ws().compileBeans().build();
+		assertEquals(JsonSerializer.DEFAULT_READABLE.serialize(new A().init()), s.serialize(new A().init()));
+	}
+
+	@Test
+	public void a05_serialize_typeNames() throws Exception {
+		JsonSerializer s = JsonSerializer.create().ssq().compileBeans().addBeanTypes().addRootType().dictionary(B.class).build();
+		assertEquals("{_type:'B',b1:'b1'}", s.serialize(new B()));
+	}
+
+	@Test
+	public void a06_serialize_getterExceptions() throws Exception {
+		assertEquals("{f3:'baz'}", S.serialize(new C()));
+		JsonSerializer s = JsonSerializer.create().ssq().compileBeans().trimNullProperties(false).build();
+		assertEquals("{f1:null,f2:null,f3:'baz'}", s.serialize(new C()));
+	}
+
+	@Test
+	public void a07_serialize_dynaBeans() throws Exception {
+		assertEquals("{f1:'foo',f2:'bar'}", S.serialize(new D()));
+	}
+
+	@Test
+	public void a08_serialize_swaps() throws Exception {
+		JsonSerializer s = JsonSerializer.create().ssq().compileBeans().pojoSwaps(StringSwap.class, IntegerSwap.class).build();
+		JsonSerializer s2 = JsonSerializer.create().ssq().pojoSwaps(StringSwap.class, IntegerSwap.class).build();
+		assertEquals(s2.serialize(new A().init()), s.serialize(new A().init()));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Parser
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_parse() throws Exception {
+		String json = S.serialize(new A().init());
+		A a = P.parse(json, A.class);
+		assertEquals(json, S_GENERIC.serialize(a));
+		assertEquals(json, S_GENERIC.serialize(P_GENERIC.parse(json, A.class)));
+	}
+
+	@Test
+	public void b02_parse_fallback() throws Exception {
+		String json = "{f1:'1',f2:null,f3:'3.5',f4:'true',f5:null,f6:null,f7:'7',f8:1e2,f9:null,fa:10,fb:11.5,fc:['x'],fd:{b1:'x'}}";
+		String expected = "{f1:1,f2:0,f3:3.5,f4:true,f7:7,f8:100.0,fa:10,fb:11.5,fc:['x'],fd:{b1:'x'}}";
+		assertEquals(expected, S_GENERIC.serialize(P.parse(json, A.class)));
+		assertEquals(expected, S_GENERIC.serialize(P_GENERIC.parse(json, A.class)));
+	}
+
+	@Test
+	public void b03_parse_numbers() throws Exception {
+		String json = "{f1:-0,f2:9223372036854775807,f3:-1.5e-3,f6:2147483647,f7:-9223372036854775808,f8:0.1}";
+		String expected = "{f1:0,f2:9223372036854775807,f3:-0.0015,f4:false,f6:2147483647,f7:-9223372036854775808,f8:0.1}";
+		assertEquals(expected, S_GENERIC.serialize(P.parse(json, A.class)));
+		assertEquals(expected, S_GENERIC.serialize(P_GENERIC.parse(json, A.class)));
+	}
+
+	@Test
+	public void b04_parse_strict() throws Exception {
+		JsonParser p = JsonParser.create().strict().compileBeans().build();
+		assertEquals("{f1:1,f4:true,f5:'foo'}", S_GENERIC.serialize(p.parse("{\"f1\":1,\"f4\":true,\"f5\":\"foo\"}", B2.class)));
+		try {
+			p.parse("{\"f5\":'foo'}", B2.class);
+			fail();
+		} catch (ParseException e) {
+			assertTrue(e.getMessage().contains("Invalid quote character"));
+		}
+		try {
+			p.parse("{\"f1\":01}", B2.class);
+			fail();
+		} catch (ParseException e) {
+			assertTrue(e.getMessage().contains("Invalid JSON number"));
+		}
+	}
+
+	public static class B2 {
+		public int f1;
+		public boolean f4;
+		public String f5;
+	}
+
+	@Test
+	public void b05_parse_setters() throws Exception {
+		E e = P.parse("{f1:1}", E.class);
+		assertEquals(10, e.getF1());
+		try {
+			P.parse("{f2:'foo'}", E.class);
+			fail();
+		} catch (ParseException x) {
+			assertTrue(x.getRootCause().getMessage(), x.getMessage().contains("Error occurred trying to set property 'f2'"));
+		}
+		JsonParser p = JsonParser.create().compileBeans().ignoreInvocationExceptionsOnSetters().build();
+		assertNull(p.parse("{f2:'foo'}", E.class).getF2());
+	}
+
+	@Test
+	public void b06_parse_swaps() throws Exception {
+		JsonParser p = JsonParser.create().compileBeans().pojoSwaps(IntegerSwap.class).build();
+		assertEquals(123, p.parse("{f6:'123'}", A.class).f6.intValue());
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Utility classes
+	//-----------------------------------------------------------------------------------------------------------------
+
+	public static class StringSwap extends PojoSwap<String,String> {
+		@Override
+		public String swap(BeanSession session, String o) {
+			return "[" + o + "]";
+		}
+	}
+
+	public static class IntegerSwap extends PojoSwap<Integer,String> {
+		@Override
+		public String swap(BeanSession session, Integer o) {
+			return String.valueOf(o);
+		}
+		@Override
+		public Integer unswap(BeanSession session, String o, ClassMeta<?> hint) {
+			return Integer.valueOf(o);
+		}
+	}
+}
@@ -46,6 +46,7 @@ public class JsonConfigAnnotationTest {
 
 	@JsonConfig(
 		addBeanTypes="$X{true}",
+		compileBeans="$X{true}",
 		escapeSolidus="$X{true}",
 		simpleMode="$X{true}",
 		validateEnd="$X{true}"
@@ -58,6 +59,7 @@ public class JsonConfigAnnotationTest {
 		AnnotationList al = a.getAnnotationList(null);
 		JsonSerializerSession x = JsonSerializer.create().applyAnnotations(al, sr).build().createSession();
 		check("true", x.isAddBeanTypes());
+		check("true", x.isCompileBeans());
 		check("true", x.isEscapeSolidus());
 		check("true", x.isSimpleMode());
 	}
@@ -66,6 +68,7 @@ public class JsonConfigAnnotationTest {
 	public void basicParser() throws Exception {
 		AnnotationList al = a.getAnnotationList(null);
 		JsonParserSession x = JsonParser.create().applyAnnotations(al, sr).build().createSession();
+		check("true", x.isCompileBeans());
 		check("true", x.isValidateEnd());
 	}
 
@@ -82,6 +85,7 @@ public class JsonConfigAnnotationTest {
 		AnnotationList al = b.getAnnotationList(null);
 		JsonSerializerSession x = JsonSerializer.create().applyAnnotations(al, sr).build().createSession();
 		check("false", x.isAddBeanTypes());
+		check("false", x.isCompileBeans());
 		check("false", x.isEscapeSolidus());
 		check("false", x.isSimpleMode());
 	}
@@ -90,6 +94,7 @@ public class JsonConfigAnnotationTest {
 	public void noValuesParser() throws Exception {
 		AnnotationList al = b.getAnnotationList(null);
 		JsonParserSession x = JsonParser.create().applyAnnotations(al, sr).build().createSession();
+		check("false", x.isCompileBeans());
 		check("false", x.isValidateEnd());
 	}
 
@@ -105,6 +110,7 @@ public class JsonConfigAnnotationTest {
 		AnnotationList al = c.getAnnotationList(null);
 		JsonSerializerSession x = JsonSerializer.create().applyAnnotations(al, sr).build().createSession();
 		check("false", x.isAddBeanTypes());
+		check("false", x.isCompileBeans());
 		check("false", x.isEscapeSolidus());
 		check("false", x.isSimpleMode());
 	}
@@ -113,6 +119,7 @@ public class JsonConfigAnnotationTest {
 	public void noAnnotationParser() throws Exception {
 		AnnotationList al = c.getAnnotationList(null);
 		JsonParserSession x = JsonParser.create().applyAnnotations(al, sr).build().createSession();
+		check("false", x.isCompileBeans());
 		check("false", x.isValidateEnd());
 	}
 }
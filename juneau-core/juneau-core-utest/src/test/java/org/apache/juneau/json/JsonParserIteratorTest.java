@@ -0,0 +1,197 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.stream.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+import org.junit.*;
+
+/**
+ * Tests for {@link JsonParser#parseIterator(Object, java.lang.reflect.Type)}.
+ */
+public class JsonParserIteratorTest {
+
+	private static final JsonParser P = JsonParser.DEFAULT;
+
+	public static class A {
+		public int f1;
+		public String f2;
+	}
+
+	private static <E> List<E> toList(ParserIterator<E> i) {
+		List<E> l = new ArrayList<>();
+		while (i.hasNext())
+			l.add(i.next());
+		return l;
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Basic iteration
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_beans() throws Exception {
+		ParserIterator<A> i = P.parseIterator("[{f1:1,f2:'a'},{f1:2,f2:'b'}]", A.class);
+		assertTrue(i.hasNext());
+		assertTrue(i.hasNext());
+		A a = i.next();
+		assertEquals(1, a.f1);
+		assertEquals("a", a.f2);
+		a = i.next();
+		assertEquals(2, a.f1);
+		assertEquals("b", a.f2);
+		assertFalse(i.hasNext());
+		try {
+			i.next();
+			fail();
+		} catch (NoSuchElementException e) {}
+	}
+
+	@Test
+	public void a02_untyped() throws Exception {
+		assertEquals("[1,'foo',true,null,{a:1},[2]]", SimpleJsonSerializer.DEFAULT.toString(toList(P.parseIterator("[1,'foo',true,null,{a:1},[2]]", null))));
+	}
+
+	@Test
+	public void a03_emptyAndNull() throws Exception {
+		assertFalse(P.parseIterator("[]", A.class).hasNext());
+		assertFalse(P.parseIterator(" /*x*/ [ ] ", A.class).hasNext());
+		assertFalse(P.parseIterator(null, A.class).hasNext());
+	}
+
+	@Test
+	public void a04_whitespaceAndComments() throws Exception {
+		assertEquals(Arrays.asList(1, 2, 3), toList(P.parseIterator(" [ 1 , /*x*/ 2 ,\n 3 //y\n ] ", Integer.class)));
+	}
+
+	@Test
+	public void a05_stream() throws Exception {
+		try (Stream<A> s = P.parseIterator("[{f1:1},{f1:2},{f1:3}]", A.class).stream()) {
+			assertEquals(6, s.mapToInt(x -> x.f1).sum());
+		}
+	}
+
+	@Test
+	public void a06_parameterizedElementType() throws Exception {
+		List<Map<String,Integer>> l = toList(P.parseIterator("[{a:1},{b:2}]", P.getClassMeta(Map.class, String.class, Integer.class)));
+		assertEquals(Integer.valueOf(1), l.get(0).get("a"));
+		assertEquals(Integer.valueOf(2), l.get(1).get("b"));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Streaming input
+	//-----------------------------------------------------------------------------------------------------------------
+
+	/*
+	 * Generates "[{f1:0},{f1:1},...]" on the fly without ever holding the whole array in memory.
+	 */
+	private static class GeneratingReader extends Reader {
+		private final int count;
+		private int index = -1;
+		private String current = "[";
+		private int pos;
+
+		GeneratingReader(int count) {
+			this.count = count;
+		}
+
+		@Override
+		public int read(char[] cbuf, int off, int len) {
+			if (current == null)
+				return -1;
+			int n = 0;
+			while (n < len && current != null) {
+				if (pos == current.length()) {
+					index++;
+					pos = 0;
+					if (index < count)
+						current = (index == 0 ? "" : ",") + "{f1:" + index + "}";
+					else if (index == count)
+						current = "]";
+					else
+						current = null;
+					continue;
+				}
+				cbuf[off + n++] = current.charAt(pos++);
+			}
+			return n == 0 ? -1 : n;
+		}
+
+		@Override
+		public void close() {}
+	}
+
+	@Test
+	public void b01_largeReader() throws Exception {
+		long sum = 0, n = 0;
+		try (ParserIterator<A> i = P.parseIterator(new GeneratingReader(100000), A.class)) {
+			while (i.hasNext()) {
+				sum += i.next().f1;
+				n++;
+			}
+		}
+		assertEquals(100000, n);
+		assertEquals(99999L * 100000 / 2, sum);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Errors
+	//-----------------------------------------------------------------------------------------------------------------
+
+	private static void assertParseError(JsonParser p, String json, String expected) throws Exception {
+		try {
+			toList(p.parseIterator(json, Object.class));
+			fail("Exception expected.");
+		} catch (ParseException e) {
+			assertTrue(e.getMessage(), e.getMessage().contains(expected));
+		} catch (FormattedRuntimeException e) {
+			assertTrue(e.getCause() instanceof ParseException);
+			assertTrue(e.getMessage(), e.getMessage().contains(expected));
+		}
+	}
+
+	@Test
+	public void c01_errors() throws Exception {
+		assertParseError(P, "{a:1}", "Expected '[' at beginning of JSON array.");
+		assertParseError(P, "[1,2", "Expected ',' or ']'.");
+		assertParseError(P, "[1 2]", "Expected ',' or ']'.");
+		assertParseError(P, "[1,]", "Unexpected trailing comma in array.");
+		assertParseError(P, "[", "Expected one of the following characters");
+		assertParseError(JsonParser.create().validateEnd().build(), "[1] x", "Remainder after parse");
+	}
+
+	@Test
+	public void c02_closedAfterError() throws Exception {
+		ParserIterator<Object> i = P.parseIterator("[1,{a:1", Object.class);
+		assertEquals(1, i.next());
+		try {
+			i.next();
+			fail();
+		} catch (FormattedRuntimeException e) {}
+		assertFalse(i.hasNext());
+	}
+
+	@Test
+	public void c03_unsupportedParser() throws Exception {
+		try {
+			org.apache.juneau.xml.XmlParser.DEFAULT.parseIterator("<array/>", Object.class);
+			fail();
+		} catch (UnsupportedOperationException e) {}
+	}
+}
@@ -18,6 +18,7 @@ import static org.junit.Assert.*;
 import java.util.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
 import org.apache.juneau.json.annotation.*;
 import org.apache.juneau.serializer.*;
 import org.junit.*;
@@ -189,6 +190,19 @@ public class JsonTest {
 		assertEquals("x'x\"x", p.parse(r, ObjectMap.class).getString("f1"));
 	}
 
+	//====================================================================================================
+	// testEscapingMixedRuns - Escaped characters at the start, middle, and end of longer strings.
+	//====================================================================================================
+	@Test
+	public void testEscapingMixedRuns() throws Exception {
+		String in = "\nabc def\t'x'\"y\\z\r/end\f";
+		assertEquals("'\\nabc def\\t\\'x\\'\"y\\\\z/end\\f'", SimpleJsonSerializer.DEFAULT.serialize(in));
+		assertEquals("\"\\nabc def\\t'x'\\\"y\\\\z/end\\f\"", JsonSerializer.DEFAULT.serialize(in));
+		assertEquals("\"\\nabc def\\t'x'\\\"y\\\\z\\/end\\f\"", JsonSerializer.create().escapeSolidus().build().serialize(in));
+		assertEquals("\"no escapes at all\"", JsonSerializer.DEFAULT.serialize("no escapes at all"));
+		assertEquals("\"\\\\\"", JsonSerializer.DEFAULT.serialize("\\"));
+	}
+
 	//====================================================================================================
 	// testWrapperAttrAnnotationOnBean
 	//====================================================================================================
@@ -382,4 +396,40 @@ public class JsonTest {
 		r = JsonParser.DEFAULT.parse(r, String.class);
 		assertEquals("foo/bar", r);
 	}
+
+	//====================================================================================================
+	// testBeanAttrTokens
+	//====================================================================================================
+	@Test
+	public void testBeanAttrTokens() throws Exception {
+		D d = new D().init();
+
+		// Serialize twice so that the second pass uses the cached tokens.
+		for (int i = 0; i < 2; i++) {
+			assertEquals("{\"a\":1,\"b/c\":\"x\",\"class\":true,\"d1\":2,\"d/2\":3}", JsonSerializer.DEFAULT.serialize(d));
+			assertEquals("{a:1,'b/c':'x','class':true,d1:2,'d/2':3}", SimpleJsonSerializer.DEFAULT.serialize(d));
+			assertEquals("{a:1,'b\\/c':'x','class':true,d1:2,'d\\/2':3}", JsonSerializer.create().ssq().escapeSolidus().build().serialize(d));
+			assertEquals("{\n\t\"a\": 1,\n\t\"b/c\": \"x\",\n\t\"class\": true,\n\t\"d1\": 2,\n\t\"d/2\": 3\n}", JsonSerializer.DEFAULT_READABLE.serialize(d));
+		}
+	}
+
+	@Bean(bpi="a,b/c,class,*")
+	public static class D {
+		public int a;
+		@Beanp("b/c")
+		public String bc;
+		@Beanp("class")
+		public boolean c;
+		@Beanp(name="*")
+		public Map<String,Object> d = new LinkedHashMap<>();
+
+		public D init() {
+			a = 1;
+			bc = "x";
+			c = true;
+			d.put("d1", 2);
+			d.put("d/2", 3);
+			return this;
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,181 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import static org.apache.juneau.testutils.TestUtils.*;
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+import org.junit.*;
+
+/**
+ * Tests the {@link LazyObjectMap} class.
+ */
+public class LazyObjectMapTest {
+
+	private static final String JSON = "{a:'foo',\"b\":123,'c':true,d:null,e:[1,'x',{f:1}],g:{h:{i:1.5,j:'}'}},k:-1e3}";
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Basic tests
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_get() throws Exception {
+		LazyObjectMap m = new LazyObjectMap(JSON);
+		assertEquals(7, m.size());
+		assertObjectEquals("['a','b','c','d','e','g','k']", m.keySet());
+		assertEquals("foo", m.getString("a"));
+		assertEquals(123, (int)m.getInt("b"));
+		assertEquals(true, m.getBoolean("c"));
+		assertNull(m.get("d"));
+		assertTrue(m.containsKey("d"));
+		assertObjectEquals("[1,'x',{f:1}]", m.getObjectList("e"));
+		assertEquals(-1000.0, m.get("k", Double.class), 0);
+		assertNull(m.get("x"));
+	}
+
+	@Test
+	public void a02_nestedObjectsAreLazy() throws Exception {
+		LazyObjectMap m = new LazyObjectMap(JSON);
+		Object g = m.get("g");
+		assertTrue(g instanceof LazyObjectMap);
+		assertSame(g, m.get("g"));
+		assertEquals("}", m.getObjectMap("g").getObjectMap("h").getString("j"));
+		assertEquals(1.5f, m.getAt("g/h/i", Float.class), 0);
+	}
+
+	@Test
+	public void a03_valuesParsedOnAccess() throws Exception {
+		LazyObjectMap m = new LazyObjectMap("{a:1,b:[1,2,,,],c:{d:1,e}}");
+		assertEquals(1, (int)m.getInt("a"));
+		try {
+			m.get("b");
+			fail();
+		} catch (BeanRuntimeException e) {
+			assertTrue(e.getCause() instanceof ParseException);
+		}
+		try {
+			m.getObjectMap("c");
+			fail();
+		} catch (BeanRuntimeException e) {}
+	}
+
+	@Test
+	public void a04_keysAndSyntax() throws Exception {
+		LazyObjectMap m = new LazyObjectMap(" /*x*/ { 'a\\'b' : 'x' + \"y\" , // c\n \"c\\u0041\":[ '[' , \"]\" ] /*}*/ , d-e.f:1 } ");
+		assertObjectEquals("['a\\'b','cA','d-e.f']", m.keySet());
+		assertEquals("xy", m.get("a'b"));
+		assertObjectEquals("['[',']']", m.get("cA"));
+		assertEquals(1, m.get("d-e.f"));
+	}
+
+	@Test
+	public void a05_sameAsObjectMap() throws Exception {
+		assertEquals(new ObjectMap(JSON).toString(), new LazyObjectMap(JSON).toString());
+		assertEquals(new ObjectMap(JSON), new LazyObjectMap(JSON));
+		LazyObjectMap m = new LazyObjectMap(JSON);
+		for (Object o : m.values())
+			assertFalse(o != null && o.getClass().getName().endsWith("Lazy"));
+		assertTrue(m.containsValue("foo"));
+	}
+
+	@Test
+	public void a06_modification() throws Exception {
+		LazyObjectMap m = new LazyObjectMap(JSON);
+		assertEquals("foo", m.put("a", "bar"));
+		assertEquals(123, m.remove("b"));
+		assertEquals("bar", m.get("a"));
+		assertEquals("{a:'bar',c:true,d:null,e:[1,'x',{f:1}],g:{h:{i:1.5,j:'}'}},k:-1000.0}", m.toString());
+	}
+
+	@Test
+	public void a07_emptyInput() throws Exception {
+		assertTrue(new LazyObjectMap("").isEmpty());
+		assertTrue(new LazyObjectMap((String)null).isEmpty());
+		assertTrue(new LazyObjectMap(" { } ").isEmpty());
+	}
+
+	@Test
+	public void a08_malformed() throws Exception {
+		for (String s : new String[]{"[1]", "{a}", "{a:1", "{a:'x}", "{a:1 b:2}", "{a:{b:1}", "{:1}"}) {
+			try {
+				new LazyObjectMap(s);
+				fail(s);
+			} catch (ParseException e) {}
+		}
+	}
+
+	@Test
+	public void a09_reader() throws Exception {
+		LazyObjectMap m = new LazyObjectMap(new StringReader(JSON), JsonParser.DEFAULT);
+		assertEquals(JSON, m.getSource());
+		assertEquals("foo", m.getString("a"));
+	}
+
+	@Test
+	public void a10_convertToBean() throws Exception {
+		A a = new LazyObjectMap("{a:'foo',b:{a:'bar'},c:[{a:'baz'}]}").cast(A.class);
+		assertObjectEquals("{a:'foo',b:{a:'bar'},c:[{a:'baz'}]}", a);
+		assertObjectEquals("[{a:'baz'}]", new LazyObjectMap("{x:[{a:'baz'}]}").get("x", List.class, A.class));
+	}
+
+	@Test
+	public void a11_defaultMapMethods() throws Exception {
+		LazyObjectMap m = new LazyObjectMap(JSON);
+		m.replaceAll((k,v) -> k.equals("a") ? v + "x" : v);
+		assertEquals("foox", m.get("a"));
+
+		m = new LazyObjectMap(JSON);
+		assertEquals(124, m.compute("b", (k,v) -> (Integer)v + 1));
+		assertEquals("foo!", m.computeIfPresent("a", (k,v) -> v + "!"));
+		assertEquals(true, m.computeIfAbsent("c", k -> false));
+		assertEquals(-999, m.merge("k", 1, (v1,v2) -> ((Number)v1).intValue() + (Integer)v2));
+		assertEquals(true, m.putIfAbsent("c", false));
+		assertEquals(true, m.replace("c", false));
+		assertTrue(m.replace("c", false, true));
+		assertTrue(m.remove("c", true));
+		assertObjectEquals("{h:{i:1.5,j:'}'}}", m.get("g"));
+
+		m = new LazyObjectMap(JSON);
+		m.putAll(new ObjectMap("{a:'bar'}"));
+		assertEquals("bar", m.get("a"));
+		m.clear();
+		assertTrue(m.isEmpty());
+		assertEquals("{}", m.toString());
+	}
+
+	@Test
+	public void a12_javaSerialization() throws Exception {
+		LazyObjectMap m = new LazyObjectMap(JSON);
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+			oos.writeObject(m);
+		}
+		try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+			Object o = ois.readObject();
+			assertEquals(ObjectMap.class, o.getClass());
+			assertEquals(m.toString(), o.toString());
+			assertEquals("1.5", ((ObjectMap)o).getObjectMap("g").getObjectMap("h").getString("i"));
+		}
+	}
+
+	public static class A {
+		public String a;
+		public A b;
+		public List<A> c;
+	}
+}
@@ -0,0 +1,185 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import static org.apache.juneau.testutils.TestUtils.*;
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.stream.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.serializer.*;
+import org.junit.*;
+
+public class NdJsonTest {
+
+	public static class A {
+		public String f1;
+		public int f2;
+
+		public A init(int i) {
+			f1 = "x" + i;
+			f2 = i;
+			return this;
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Serializer
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_serializeCollection() throws Exception {
+		List<A> l = Arrays.asList(new A().init(1), new A().init(2));
+		assertEquals("{\"f1\":\"x1\",\"f2\":1}\n{\"f1\":\"x2\",\"f2\":2}\n", NdJsonSerializer.DEFAULT.serialize(l));
+	}
+
+	@Test
+	public void a02_serializeArraysIteratorsAndStreams() throws Exception {
+		assertEquals("1\n2\n3\n", NdJsonSerializer.DEFAULT.serialize(new int[]{1,2,3}));
+		assertEquals("\"a\"\nnull\n", NdJsonSerializer.DEFAULT.serialize(Arrays.asList("a", null).iterator()));
+		assertEquals("{\"a\":[1,2]}\n{}\n", NdJsonSerializer.DEFAULT.serialize(Stream.of(new ObjectMap("{a:[1,2]}"), new ObjectMap())));
+		assertEquals("", NdJsonSerializer.DEFAULT.serialize(Collections.emptyList()));
+	}
+
+	@Test
+	public void a03_serializeSingleObject() throws Exception {
+		assertEquals("{\"f1\":\"x1\",\"f2\":1}\n", NdJsonSerializer.DEFAULT.serialize(new A().init(1)));
+		assertEquals("null\n", NdJsonSerializer.DEFAULT.serialize(null));
+	}
+
+	@Test
+	public void a04_whitespaceIsIgnored() throws Exception {
+		NdJsonSerializer s = NdJsonSerializer.create().ws().build();
+		assertEquals("{\"a\":[1,2]}\n", s.serialize(Arrays.asList(new ObjectMap("{a:[1,2]}"))));
+	}
+
+	@Test
+	public void a05_sessionWhitespaceIsIgnored() throws Exception {
+		SerializerSessionArgs args = SerializerSessionArgs.create().useWhitespace(true);
+		assertEquals("{\"a\":[1,2]}\n", NdJsonSerializer.DEFAULT.createSession(args).serialize(Arrays.asList(new ObjectMap("{a:[1,2]}"))));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Parser
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_parseCollections() throws Exception {
+		String in = "{f1:'x1',f2:1}\n\n  \r\n{\"f1\":\"x2\",\"f2\":2}\r\n";
+		List<A> l = NdJsonParser.DEFAULT.parse(in, List.class, A.class);
+		assertObjectEquals("[{f1:'x1',f2:1},{f1:'x2',f2:2}]", l);
+		assertTrue(l.get(0) instanceof A);
+
+		A[] a = NdJsonParser.DEFAULT.parse(in, A[].class);
+		assertEquals(2, a.length);
+		assertEquals("x2", a[1].f1);
+
+		LinkedList<A> l2 = NdJsonParser.DEFAULT.parse(in, LinkedList.class, A.class);
+		assertEquals(2, l2.size());
+
+		Object o = NdJsonParser.DEFAULT.parse("1\n'foo'\n[1,2]\n{a:1}", Object.class);
+		assertTrue(o instanceof ObjectList);
+		assertObjectEquals("[1,'foo',[1,2],{a:1}]", o);
+
+		assertObjectEquals("[]", NdJsonParser.DEFAULT.parse("", List.class, A.class));
+	}
+
+	@Test
+	public void b02_parseSingleObject() throws Exception {
+		A a = NdJsonParser.DEFAULT.parse("{f1:'x1',f2:1}\n", A.class);
+		assertEquals(1, a.f2);
+	}
+
+	@Test
+	public void b03_parseIntoCollection() throws Exception {
+		List<Object> l = new ArrayList<>();
+		NdJsonParser.DEFAULT.parseIntoCollection("1\n2\n", l, Integer.class);
+		assertObjectEquals("[1,2]", l);
+	}
+
+	@Test
+	public void b04_parseIterator() throws Exception {
+		List<Integer> l = new ArrayList<>();
+		try (ParserIterator<A> i = NdJsonParser.DEFAULT.parseIterator(new StringReader("{f2:1}\n\n{f2:2}\n{f2:3}"), A.class)) {
+			while (i.hasNext())
+				l.add(i.next().f2);
+		}
+		assertObjectEquals("[1,2,3]", l);
+	}
+
+	@Test
+	public void b05_parseErrorsReportLine() throws Exception {
+		try {
+			NdJsonParser.DEFAULT.parse("{f2:1}\n{f2:2\n{f2:3}", List.class, A.class);
+			fail();
+		} catch (ParseException e) {
+			assertTrue(e.getMessage(), e.getMessage().startsWith("Could not parse line 2 of NDJSON input."));
+		}
+		try {
+			NdJsonParser.DEFAULT.parseIterator("{f2:1}\n{f2:x}", A.class).stream().count();
+			fail();
+		} catch (FormattedRuntimeException e) {
+			assertTrue(e.getCause().getMessage(), e.getCause().getMessage().startsWith("Could not parse line 2 of NDJSON input."));
+		}
+	}
+
+	@Test
+	public void b06_parallelPreservesOrder() throws Exception {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 5000; i++)
+			sb.append("{f1:'x").append(i).append("',f2:").append(i).append("}\n");
+
+		NdJsonParser p = NdJsonParser.create().parallel().chunkSize(100).build();
+		List<A> l = p.parse(sb, List.class, A.class);
+		assertEquals(5000, l.size());
+		for (int i = 0; i < 5000; i++)
+			assertEquals(i, l.get(i).f2);
+
+		l = NdJsonParser.DEFAULT_PARALLEL.parse(sb, List.class, A.class);
+		assertEquals(5000, l.size());
+		assertEquals("x4999", l.get(4999).f1);
+	}
+
+	@Test
+	public void b07_parallelErrorsReportLine() throws Exception {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 300; i++)
+			sb.append(i == 250 ? "{f2:" : "{f2:1}").append('\n');
+		NdJsonParser p = NdJsonParser.create().parallel().chunkSize(100).build();
+		try {
+			p.parse(sb, List.class, A.class);
+			fail();
+		} catch (ParseException e) {
+			assertTrue(e.getMessage(), e.getMessage().startsWith("Could not parse line 251 of NDJSON input."));
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Round trip
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void c01_roundTrip() throws Exception {
+		List<A> l = new ArrayList<>();
+		for (int i = 0; i < 10; i++)
+			l.add(new A().init(i));
+		String s = NdJsonSerializer.DEFAULT.serialize(l);
+		assertEquals(10, s.split("\n").length);
+		List<A> l2 = NdJsonParser.DEFAULT.parse(s, List.class, A.class);
+		assertObjectEquals(SimpleJsonSerializer.DEFAULT.serialize(l), l2);
+	}
+}
@@ -16,6 +16,7 @@ import static org.apache.juneau.testutils.TestUtils.*;
 import static org.junit.Assert.*;
 
 import java.io.*;
+import java.util.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.internal.*;
@@ -131,6 +132,34 @@ public class MsgPackParserTest {
 		assertObjectEquals("{'1':2}", r);
 	}
 
+	//====================================================================================================
+	// testSkippingUnknownPropertyValues
+	// Validates that values of ignored unknown properties are fully consumed from the stream.
+	//====================================================================================================
+	@Test
+	public void testSkippingUnknownPropertyValues() throws Exception {
+		InputStreamParser p = MsgPackParser.DEFAULT.builder().ignoreUnknownBeanProperties().build();
+		ObjectMap m = new ObjectMap()
+			.append("a", 1)
+			.append("u1", new ObjectMap().append("x", new ObjectList(1, "foo", null, true, 1.5d, new byte[]{1,2,3})))
+			.append("u2", new ObjectList(new ObjectMap(), new ObjectList(), -1, 1000000, -1000000L, "bar"))
+			.append("b", 2);
+		byte[] in = MsgPackSerializer.DEFAULT.serialize(m);
+
+		A t = p.parse(in, A.class);
+		assertEquals(1, t.a);
+		assertEquals(2, t.b);
+
+		try {
+			p.parse(Arrays.copyOf(in, in.length - 3), A.class);
+			fail("Exception expected");
+		} catch (Exception e) {}
+	}
+
+	public static class A {
+		public int a, b;
+	}
+
 	private InputStream is(String spacedHex) throws Exception {
 		return new CloseableByteArrayInputStream(StringUtils.fromSpacedHex(spacedHex));
 	}
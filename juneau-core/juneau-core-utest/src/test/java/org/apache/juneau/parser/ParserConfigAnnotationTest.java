@@ -56,13 +56,16 @@ public class ParserConfigAnnotationTest {
 	@ParserConfig(
 		autoCloseStreams="$X{true}",
 		binaryFormat="$X{HEX}",
+		compactCollections="$X{true}",
 		debugOutputLines="$X{1}",
 		fileCharset="$X{US-ASCII}",
 		streamCharset="$X{US-ASCII}",
 		listener=AA.class,
+		projection="$X{a/b}",
 		strict="$X{true}",
 		trimStrings="$X{true}",
-		unbuffered="$X{true}"
+		unbuffered="$X{true}",
+		useBufferPool="$X{true}"
 	)
 	static class A {}
 	static ClassInfo a = ClassInfo.of(A.class);
@@ -72,13 +75,16 @@ public class ParserConfigAnnotationTest {
 		AnnotationList al = a.getAnnotationList(null);
 		JsonParserSession x = JsonParser.create().applyAnnotations(al, sr).build().createSession();
 		check("true", x.isAutoCloseStreams());
+		check("true", x.isCompactCollections());
 		check("1", x.getDebugOutputLines());
 		check("US-ASCII", x.getFileCharset());
 		check("US-ASCII", x.getStreamCharset());
 		check("AA", x.getListener());
+		check("{a={b=*}}", x.getProjection());
 		check("true", x.isStrict());
 		check("true", x.isTrimStrings());
 		check("true", x.isUnbuffered());
+		check("true", x.isUseBufferPool());
 	}
 
 	@Test
@@ -86,12 +92,15 @@ public class ParserConfigAnnotationTest {
 		AnnotationList al = a.getAnnotationList(null);
 		MsgPackParserSession x = MsgPackParser.create().applyAnnotations(al, sr).build().createSession();
 		check("true", x.isAutoCloseStreams());
+		check("true", x.isCompactCollections());
 		check("HEX", x.getBinaryFormat());
 		check("1", x.getDebugOutputLines());
 		check("AA", x.getListener());
+		check("{a={b=*}}", x.getProjection());
 		check("true", x.isStrict());
 		check("true", x.isTrimStrings());
 		check("true", x.isUnbuffered());
+		check("true", x.isUseBufferPool());
 	}
 
 	//-----------------------------------------------------------------------------------------------------------------
@@ -107,13 +116,16 @@ public class ParserConfigAnnotationTest {
 		AnnotationList al = b.getAnnotationList(null);
 		JsonParserSession x = JsonParser.create().applyAnnotations(al, sr).build().createSession();
 		check("false", x.isAutoCloseStreams());
+		check("false", x.isCompactCollections());
 		check("5", x.getDebugOutputLines());
 		check(Charset.defaultCharset().toString(), x.getFileCharset());
 		check("UTF-8", x.getStreamCharset());
 		check(null, x.getListener());
+		check("*", x.getProjection());
 		check("false", x.isStrict());
 		check("false", x.isTrimStrings());
 		check("false", x.isUnbuffered());
+		check("false", x.isUseBufferPool());
 	}
 
 	@Test
@@ -121,12 +133,15 @@ public class ParserConfigAnnotationTest {
 		AnnotationList al = b.getAnnotationList(null);
 		MsgPackParserSession x = MsgPackParser.create().applyAnnotations(al, sr).build().createSession();
 		check("false", x.isAutoCloseStreams());
+		check("false", x.isCompactCollections());
 		check("HEX", x.getBinaryFormat());
 		check("5", x.getDebugOutputLines());
 		check(null, x.getListener());
+		check("*", x.getProjection());
 		check("false", x.isStrict());
 		check("false", x.isTrimStrings());
 		check("false", x.isUnbuffered());
+		check("false", x.isUseBufferPool());
 	}
 
 	//-----------------------------------------------------------------------------------------------------------------
@@ -141,10 +156,12 @@ public class ParserConfigAnnotationTest {
 		AnnotationList al = c.getAnnotationList(null);
 		JsonParserSession x = JsonParser.create().applyAnnotations(al, sr).build().createSession();
 		check("false", x.isAutoCloseStreams());
+		check("false", x.isCompactCollections());
 		check("5", x.getDebugOutputLines());
 		check(Charset.defaultCharset().toString(), x.getFileCharset());
 		check("UTF-8", x.getStreamCharset());
 		check(null, x.getListener());
+		check("*", x.getProjection());
 		check("false", x.isStrict());
 		check("false", x.isTrimStrings());
 		check("false", x.isUnbuffered());
@@ -155,9 +172,11 @@ public class ParserConfigAnnotationTest {
 		AnnotationList al = c.getAnnotationList(null);
 		MsgPackParserSession x = MsgPackParser.create().applyAnnotations(al, sr).build().createSession();
 		check("false", x.isAutoCloseStreams());
+		check("false", x.isCompactCollections());
 		check("HEX", x.getBinaryFormat());
 		check("5", x.getDebugOutputLines());
 		check(null, x.getListener());
+		check("*", x.getProjection());
 		check("false", x.isStrict());
 		check("false", x.isTrimStrings());
 		check("false", x.isUnbuffered());
@@ -13,6 +13,7 @@
 package org.apache.juneau.parser;
 
 import static org.apache.juneau.testutils.TestUtils.*;
+import static org.junit.Assert.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.json.*;
@@ -113,4 +114,26 @@ public class ParserGroupTest {
 			super(ps, "text/5");
 		}
 	}
+
+	//====================================================================================================
+	// Match cache
+	//====================================================================================================
+	@Test
+	public void testMatchCache() throws Exception {
+		ParserGroup g = ParserGroup.create().append(P1.class, P2.class).matchCacheSize(2).build();
+
+		ParserMatch m = g.getParserMatch("text/2;charset=utf-8");
+		assertInstanceOf(P2.class, m.getParser());
+		assertSame(m, g.getParserMatch("text/2; charset=utf-8 "));
+		assertEquals(1, g.getMatchCache().getHits());
+		assertEquals(1, g.getMatchCache().size());
+
+		assertInstanceOf(P1.class, g.getParser("text/1"));
+		assertInstanceOf(P2.class, g.getParser("text/2a"));
+		assertEquals(2, g.getMatchCache().size());
+		assertEquals(1, g.getMatchCache().getEvictions());
+
+		assertNull(g.getParser("text/none"));
+		assertEquals(2, g.getMatchCache().size());
+	}
 }
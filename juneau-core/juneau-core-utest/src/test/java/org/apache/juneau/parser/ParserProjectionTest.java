@@ -0,0 +1,191 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.parser;
+
+import static org.apache.juneau.testutils.TestUtils.*;
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.xml.*;
+import org.junit.*;
+
+/**
+ * Tests the {@link Parser#PARSER_projection} setting.
+ */
+public class ParserProjectionTest {
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// ParserProjection
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_all() throws Exception {
+		assertSame(ParserProjection.ALL, ParserProjection.of());
+		assertSame(ParserProjection.ALL, ParserProjection.of((String[])null));
+		assertSame(ParserProjection.ALL, ParserProjection.of("", "/"));
+		assertSame(ParserProjection.ALL, ParserProjection.ALL.get("foo"));
+		assertTrue(ParserProjection.ALL.isAll());
+	}
+
+	@Test
+	public void a02_paths() throws Exception {
+		ParserProjection p = ParserProjection.of("a/b/c", "a/d", "/e/");
+		assertEquals("{a={b={c=*}, d=*}, e=*}", p.toString());
+		assertNull(p.get("b"));
+		assertTrue(p.get("e").isAll());
+		assertNull(p.get("a").get("c"));
+		assertTrue(p.get("a").get("b").get("c").get("x").isAll());
+	}
+
+	@Test
+	public void a03_shorterPathWins() throws Exception {
+		assertEquals("{a=*}", ParserProjection.of("a/b", "a").toString());
+		assertEquals("{a=*}", ParserProjection.of("a", "a/b").toString());
+	}
+
+	@Test
+	public void a04_wildcard() throws Exception {
+		ParserProjection p = ParserProjection.of("*/id", "x/y");
+		assertEquals("*", p.get("foo").get("id").toString());
+		assertNull(p.get("foo").get("name"));
+		assertNull(p.get("x").get("id"));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Parsing
+	//-----------------------------------------------------------------------------------------------------------------
+
+	public static class A {
+		public String name;
+		public int age;
+		public B address;
+		public List<B> history;
+		public Map<String,B> other;
+	}
+
+	public static class B {
+		public String street, city;
+	}
+
+	private static A a() {
+		A a = new A();
+		a.name = "foo";
+		a.age = 10;
+		a.address = b("s1", "c1");
+		a.history = Arrays.asList(b("s2", "c2"), b("s3", "c3"));
+		a.other = new LinkedHashMap<>();
+		a.other.put("k1", b("s4", "c4"));
+		return a;
+	}
+
+	private static B b(String street, String city) {
+		B b = new B();
+		b.street = street;
+		b.city = city;
+		return b;
+	}
+
+	private static final String[] PATHS = {"name", "address/city", "history/street", "other/*/city"};
+	private static final String EXPECTED = "{address:{city:'c1'},age:0,history:[{street:'s2'},{street:'s3'}],name:'foo',other:{k1:{city:'c4'}}}";
+
+	@Test
+	public void b01_json() throws Exception {
+		String in = SimpleJsonSerializer.DEFAULT.serialize(a());
+		assertObjectEquals(EXPECTED, JsonParser.create().projection(PATHS).build().parse(in, A.class));
+	}
+
+	@Test
+	public void b02_jsonSkippedValuesNotBuilt() throws Exception {
+		String in = "{name:'foo',age:'not-a-number',address:{street:{x:[1,2,{y:'}'}]},city:'c1'}}";
+		assertObjectEquals("{address:{city:'c1'},age:0,name:'foo'}", JsonParser.create().projection("name", "address/city").build().parse(in, A.class));
+	}
+
+	@Test
+	public void b03_jsonMap() throws Exception {
+		ObjectMap m = JsonParser.create().projection("a/b", "c").build().parse("{a:{b:1,c:2},b:3,c:{d:[4]}}", ObjectMap.class);
+		assertObjectEquals("{a:{b:1},c:{d:[4]}}", m);
+	}
+
+	@Test
+	public void b04_msgPack() throws Exception {
+		byte[] in = MsgPackSerializer.DEFAULT.serialize(a());
+		assertObjectEquals(EXPECTED, MsgPackParser.create().projection(PATHS).build().parse(in, A.class));
+		assertObjectEquals("{a:{b:1}}", MsgPackParser.create().projection("a/b").build().parse(MsgPackSerializer.DEFAULT.serialize(new ObjectMap("{a:{b:1,c:[1,2]},d:'x'}")), ObjectMap.class));
+	}
+
+	@Test
+	public void b05_xml() throws Exception {
+		String in = XmlSerializer.DEFAULT_SQ.serialize(a());
+		assertObjectEquals(EXPECTED, XmlParser.create().projection(PATHS).build().parse(in, A.class));
+	}
+
+	@Test
+	public void b06_sessionArgs() throws Exception {
+		String in = SimpleJsonSerializer.DEFAULT.serialize(a());
+		JsonParser p = JsonParser.create().projection("age").build();
+		ParserSessionArgs args = ParserSessionArgs.create().projection(PATHS);
+		assertObjectEquals(EXPECTED, p.createSession(args).parse(in, A.class));
+		assertObjectEquals("{age:10}", p.parse(in, A.class));
+	}
+
+	@Test
+	public void b07_sessionReuse() throws Exception {
+		ReaderParserSession s = JsonParser.create().projection("a/b").build().createSession();
+		try {
+			s.parse("{a:{b:[}}", ObjectMap.class);
+			fail();
+		} catch (ParseException e) {}
+		assertObjectEquals("{a:{b:1}}", s.parse("{a:{b:1,c:2},d:3}", ObjectMap.class));
+	}
+
+	@Bean(typeName="C")
+	public static class C {
+		public String f1, f2;
+	}
+
+	@Test
+	public void b08_typePropertyAlwaysParsed() throws Exception {
+		String in = "{x:{_type:'C',f1:'a',f2:'b'},y:1}";
+		ObjectMap m = JsonParser.create().beanDictionary(C.class).projection("x/f1").build().parse(in, ObjectMap.class);
+		assertObjectEquals("{x:{_type:'C',f1:'a'}}", m);
+		assertTrue(m.get("x") instanceof C);
+	}
+
+	@Bean(typePropertyName="t", beanDictionary=D1.class)
+	public static interface D {}
+
+	@Bean(typeName="D1")
+	public static class D1 implements D {
+		public String f1, f2;
+	}
+
+	public static class E {
+		public D d;
+	}
+
+	@Test
+	public void b09_beanTypePropertyNameAlwaysParsed() throws Exception {
+		String in = "{d:{t:'D1',f1:'a',f2:'b'},x:1}";
+		E e = JsonParser.create().projection("d/f1").build().parse(in, E.class);
+		assertObjectEquals("{d:{t:'D1',f1:'a'}}", e);
+		assertTrue(e.d instanceof D1);
+
+		e = MsgPackParser.create().projection("d/f1").build().parse(MsgPackSerializer.DEFAULT.serialize(new ObjectMap(in)), E.class);
+		assertObjectEquals("{d:{t:'D1',f1:'a'}}", e);
+	}
+}
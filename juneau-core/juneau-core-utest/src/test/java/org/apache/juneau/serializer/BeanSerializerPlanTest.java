@@ -0,0 +1,234 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.serializer;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.serializer.BeanSerializerPlan.*;
+import org.apache.juneau.transform.*;
+import org.apache.juneau.uon.*;
+import org.apache.juneau.xml.*;
+import org.apache.juneau.xml.annotation.*;
+import org.junit.*;
+
+/**
+ * Validates serializing beans through precomputed {@link BeanSerializerPlan} objects.
+ */
+public class BeanSerializerPlanTest {
+
+	public static class A {
+		public int f1;
+		public long f2;
+		public double f3;
+		public boolean f4;
+		public String f5;
+		public String f6;
+		public Integer f7;
+		public List<String> f8;
+		public B f9;
+
+		A init() {
+			f1 = -1;
+			f2 = 2;
+			f3 = 3.5;
+			f4 = true;
+			f5 = " foo's \"bar\" ";
+			f8 = Arrays.asList("x", "y");
+			f9 = new B();
+			return this;
+		}
+	}
+
+	@Bean(typeName="B")
+	public static class B {
+		public String b1 = "b1";
+	}
+
+	public static class C {
+		public String getF1() { throw new RuntimeException("foo"); }
+		public int getF2() { throw new RuntimeException("bar"); }
+		public String getF3() { return "baz"; }
+	}
+
+	public static class D {
+		public String f1 = "foo";
+
+		@Beanp(name="*")
+		public Map<String,Object> getExtra() {
+			return new LinkedHashMap<String,Object>() {{ put("f2", "bar"); }};
+		}
+	}
+
+	public static class E {
+		public Object f1 = new B();
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Plan metadata
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_propertyKinds() throws Exception {
+		Map<String,Kind> m = new LinkedHashMap<>();
+		for (Property p : new BeanSerializerPlan(BeanContext.DEFAULT.createSession().getBeanMeta(A.class)).getProperties())
+			m.put(p.getName(), p.getKind());
+		assertEquals("{f1=INT, f2=LONG, f3=DOUBLE, f4=BOOLEAN, f5=STRING, f6=STRING, f7=OTHER, f8=OTHER, f9=OTHER}", m.toString());
+	}
+
+	@Test
+	public void a02_swapsOnStrings() throws Exception {
+		BeanMeta<A> bm = BeanContext.create().pojoSwaps(StringSwap.class).build().createSession().getBeanMeta(A.class);
+		assertFalse(bm.getPropertyMeta("f5").isPlainString());
+		assertEquals(Kind.OTHER, new BeanSerializerPlan(bm).getProperties()[4].getKind());
+	}
+
+	@Test
+	public void a03_canUse() throws Exception {
+		BeanSession bs = BeanContext.DEFAULT.createSession();
+		assertTrue(BeanSerializerPlan.canUse(bs.toBeanMap(new A())));
+		assertFalse(BeanSerializerPlan.canUse(bs.toBeanMap(new D())));
+	}
+
+	@Test
+	public void a04_cachedPerSerializer() throws Exception {
+		BeanMeta<A> bm = BeanContext.DEFAULT.createSession().getBeanMeta(A.class);
+		BeanSerializerPlan p1 = JsonSerializer.DEFAULT.getBeanSerializerPlan(bm, BeanSerializerPlan::new);
+		assertSame(p1, JsonSerializer.DEFAULT.getBeanSerializerPlan(bm, BeanSerializerPlan::new));
+		assertNotSame(p1, UonSerializer.DEFAULT.getBeanSerializerPlan(bm, BeanSerializerPlan::new));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// JSON
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_json() throws Exception {
+		assertEquals("{f1:-1,f2:2,f3:3.5,f4:true,f5:' foo\\'s \"bar\" ',f8:['x','y'],f9:{b1:'b1'}}", SimpleJsonSerializer.DEFAULT.serialize(new A().init()));
+		assertEquals("{\"f1\":-1,\"f2\":2,\"f3\":3.5,\"f4\":true,\"f5\":\" foo's \\\"bar\\\" \",\"f6\":null,\"f7\":null,\"f8\":[\"x\",\"y\"],\"f9\":{\"b1\":\"b1\"}}", JsonSerializer.create().trimNullProperties(false).build().serialize(new A().init()));
+		assertEquals("{'f1':-1,'f2':2,'f3':3.5,'f4':true,'f5':'foo\\'s \"bar\"','f8':['x','y'],'f9':{'b1':'b1'}}", JsonSerializer.create().sq().trimStrings().build().serialize(new A().init()));
+	}
+
+	@Test
+	public void b02_json_typeNames() throws Exception {
+		assertEquals("{f1:{_type:'B',b1:'b1'}}", JsonSerializer.create().ssq().addBeanTypes().dictionary(B.class).build().serialize(new E()));
+	}
+
+	@Test
+	public void b03_json_getterExceptions() throws Exception {
+		assertEquals("{f3:'baz'}", SimpleJsonSerializer.DEFAULT.serialize(new C()));
+		assertEquals("{f1:null,f2:null,f3:'baz'}", JsonSerializer.create().ssq().trimNullProperties(false).build().serialize(new C()));
+	}
+
+	@Test
+	public void b04_json_dynaBeans() throws Exception {
+		assertEquals("{f1:'foo',f2:'bar'}", SimpleJsonSerializer.DEFAULT.serialize(new D()));
+	}
+
+	@Test
+	public void b05_json_swaps() throws Exception {
+		assertEquals("{f1:-1,f2:2,f3:3.5,f4:true,f5:'[[ foo\\'s \"bar\" ]]',f8:['[x]','[y]'],f9:{b1:'[[b1]]'}}", JsonSerializer.create().ssq().pojoSwaps(StringSwap.class).build().serialize(new A().init()));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// UON
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void c01_uon() throws Exception {
+		assertEquals("(f1=-1,f2=2,f3=3.5,f4=true,f5=' foo~'s \"bar\" ',f8=@(x,y),f9=(b1=b1))", UonSerializer.DEFAULT.serialize(new A().init()));
+		assertEquals("(f1=-1,f2=2,f3=3.5,f4=true,f5=' foo~'s \"bar\" ',f6=null,f7=null,f8=@(x,y),f9=(b1=b1))", UonSerializer.create().trimNullProperties(false).build().serialize(new A().init()));
+		assertEquals("(f3=baz)", UonSerializer.DEFAULT.serialize(new C()));
+		assertEquals("(f1=(_type=B,b1=b1))", UonSerializer.create().addBeanTypes().dictionary(B.class).build().serialize(new E()));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// MessagePack
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void d01_msgPack() throws Exception {
+		MsgPackSerializer s = MsgPackSerializer.create().trimNullProperties(false).build();
+		Map<String,Object> m = new LinkedHashMap<>();
+		m.put("f1", -1);
+		m.put("f2", 2);
+		m.put("f3", 3.5);
+		m.put("f4", true);
+		m.put("f5", " foo's \"bar\" ");
+		m.put("f6", null);
+		m.put("f7", null);
+		m.put("f8", Arrays.asList("x", "y"));
+		m.put("f9", new B());
+		assertEquals(s.serializeToString(m), s.serializeToString(new A().init()));
+
+		m.remove("f6");
+		m.remove("f7");
+		assertEquals(s.serializeToString(m), MsgPackSerializer.DEFAULT.serializeToString(new A().init()));
+
+		m.clear();
+		m.put("f3", "baz");
+		assertEquals(s.serializeToString(m), MsgPackSerializer.DEFAULT.serializeToString(new C()));
+		assertEquals(m, MsgPackParser.DEFAULT.parse(MsgPackSerializer.DEFAULT.serialize(new C()), Map.class));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// XML
+	//-----------------------------------------------------------------------------------------------------------------
+
+	public static class F {
+		@Xml(format=XmlFormat.ATTR)
+		public int f1 = 1;
+		@Xml(format=XmlFormat.ATTR)
+		public String f2 = "foo";
+		public String f3 = "bar";
+		public String f4;
+	}
+
+	@Xml(format=XmlFormat.ATTRS)
+	public static class G {
+		public int f1 = 1;
+		public String f2 = "foo";
+	}
+
+	public static class H {
+		@Xml(format=XmlFormat.ATTR)
+		public String f1 = "foo";
+		@Xml(format=XmlFormat.TEXT)
+		public String f2 = "bar";
+	}
+
+	@Test
+	public void e01_xml() throws Exception {
+		assertEquals("<object f1='1' f2='foo'><f3>bar</f3></object>", XmlSerializer.DEFAULT_SQ.serialize(new F()));
+		assertEquals("<object f1='1' f2='foo'><f3>bar</f3><f4 _type='null'/></object>", XmlSerializer.create().sq().trimNullProperties(false).build().serialize(new F()));
+		assertEquals("<object f1='1' f2='foo'/>", XmlSerializer.DEFAULT_SQ.serialize(new G()));
+		assertEquals("<object f1='foo'>bar</object>", XmlSerializer.DEFAULT_SQ.serialize(new H()));
+		assertEquals("<object><f3>baz</f3></object>", XmlSerializer.DEFAULT_SQ.serialize(new C()));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Utility classes
+	//-----------------------------------------------------------------------------------------------------------------
+
+	public static class StringSwap extends PojoSwap<String,String> {
+		@Override
+		public String swap(BeanSession session, String o) {
+			return "[" + o + "]";
+		}
+	}
+}
@@ -61,6 +61,7 @@ public class SerializerConfigAnnotationTest {
 		quoteChar="$X{'}",
 		sortCollections="$X{true}",
 		sortMaps="$X{true}",
+		streamFlushInterval="$X{5}",
 		trimEmptyCollections="$X{true}",
 		trimEmptyMaps="$X{true}",
 		trimNullProperties="$X{true}",
@@ -68,6 +69,7 @@ public class SerializerConfigAnnotationTest {
 		uriContext="{}",
 		uriRelativity="$X{RESOURCE}",
 		uriResolution="$X{ABSOLUTE}",
+		useBufferPool="$X{true}",
 		useWhitespace="$X{true}"
 	)
 	static class A {}
@@ -84,6 +86,7 @@ public class SerializerConfigAnnotationTest {
 		check("'", x.getQuoteChar());
 		check("true", x.isSortCollections());
 		check("true", x.isSortMaps());
+		check("5", x.getStreamFlushInterval());
 		check("true", x.isTrimEmptyCollections());
 		check("true", x.isTrimEmptyMaps());
 		check("true", x.isTrimNullProperties());
@@ -91,6 +94,7 @@ public class SerializerConfigAnnotationTest {
 		check("{absoluteAuthority:'/',absoluteContextRoot:'/',absolutePathInfo:'/',absolutePathInfoParent:'/',absoluteServletPath:'/',absoluteServletPathParent:'/',rootRelativeContextRoot:'/',rootRelativePathInfo:'/',rootRelativePathInfoParent:'/',rootRelativeServletPath:'/',rootRelativeServletPathParent:'/'}", x.getUriContext());
 		check("RESOURCE", x.getUriRelativity());
 		check("ABSOLUTE", x.getUriResolution());
+		check("true", x.isUseBufferPool());
 		check("true", x.isUseWhitespace());
 	}
 
@@ -111,6 +115,7 @@ public class SerializerConfigAnnotationTest {
 		check("{absoluteAuthority:'/',absoluteContextRoot:'/',absolutePathInfo:'/',absolutePathInfoParent:'/',absoluteServletPath:'/',absoluteServletPathParent:'/',rootRelativeContextRoot:'/',rootRelativePathInfo:'/',rootRelativePathInfoParent:'/',rootRelativeServletPath:'/',rootRelativeServletPathParent:'/'}", x.getUriContext());
 		check("RESOURCE", x.getUriRelativity());
 		check("ABSOLUTE", x.getUriResolution());
+		check("true", x.isUseBufferPool());
 	}
 
 	//-----------------------------------------------------------------------------------------------------------------
@@ -132,6 +137,7 @@ public class SerializerConfigAnnotationTest {
 		check("\"", x.getQuoteChar());
 		check("false", x.isSortCollections());
 		check("false", x.isSortMaps());
+		check("0", x.getStreamFlushInterval());
 		check("false", x.isTrimEmptyCollections());
 		check("false", x.isTrimEmptyMaps());
 		check("true", x.isTrimNullProperties());
@@ -13,6 +13,7 @@
 package org.apache.juneau.serializer;
 
 import static org.apache.juneau.testutils.TestUtils.*;
+import static org.junit.Assert.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.json.*;
@@ -151,4 +152,36 @@ public class SerializerGroupTest {
 			super(ps, "application/json", "*/*");
 		}
 	}
+
+	//====================================================================================================
+	// Match cache
+	//====================================================================================================
+	@Test
+	public void testMatchCache() throws Exception {
+		SerializerGroup g = SerializerGroup.create().append(SA1.class, SA3.class).matchCacheSize(2).build();
+
+		SerializerMatch m = g.getSerializerMatch("text/foo;q=0.9,text/baz;q=0.8");
+		assertInstanceOf(SA1.class, m.getSerializer());
+		assertSame(m, g.getSerializerMatch(" text/foo; q=0.9 , text/baz;q=0.8 "));
+		assertEquals(1, g.getMatchCache().getHits());
+		assertEquals(1, g.getMatchCache().size());
+
+		assertInstanceOf(SA3.class, g.getSerializer("text/baz"));
+		assertInstanceOf(SA3.class, g.getSerializer("text/baz_a"));
+		assertInstanceOf(SA1.class, g.getSerializer("text/foo"));
+		assertEquals(2, g.getMatchCache().size());
+		assertEquals(2, g.getMatchCache().getEvictions());
+
+		assertNull(g.getSerializer("text/none"));
+		assertEquals(2, g.getMatchCache().size());
+	}
+
+	@Test
+	public void testMatchCacheDisabled() throws Exception {
+		SerializerGroup g = SerializerGroup.create().append(SA1.class).matchCacheSize(0).build();
+		assertInstanceOf(SA1.class, g.getSerializer("text/foo"));
+		assertInstanceOf(SA1.class, g.getSerializer("text/foo"));
+		assertEquals(0, g.getMatchCache().size());
+		assertEquals(0, g.getMatchCache().getHits());
+	}
 }
@@ -0,0 +1,169 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.serializer;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.stream.*;
+
+import org.apache.juneau.html.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.uon.*;
+import org.apache.juneau.xml.*;
+import org.junit.*;
+
+/**
+ * Tests for serializing lazily-evaluated sources such as iterators and streams.
+ */
+public class StreamSerializationTest {
+
+	private static final WriterSerializer JSON = SimpleJsonSerializer.DEFAULT;
+
+	public static class A {
+		public int f1;
+		public A init(int f1) {
+			this.f1 = f1;
+			return this;
+		}
+	}
+
+	public static class B {
+		public Stream<A> f1;
+		public Iterator<String> f2;
+	}
+
+	/** Writer that remembers what had been written at the time of the last flush. */
+	private static class FlushTrackingWriter extends StringWriter {
+		String flushed = "";
+		int flushes;
+
+		@Override /* Writer */
+		public void flush() {
+			flushed = toString();
+			flushes++;
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// JSON
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_json_sources() throws Exception {
+		List<Integer> l = Arrays.asList(1,2,3);
+		assertEquals("[1,2,3]", JSON.serialize(l.iterator()));
+		assertEquals("[1,2,3]", JSON.serialize(l.stream()));
+		assertEquals("[1,2,3]", JSON.serialize(IntStream.rangeClosed(1, 3)));
+		assertEquals("[1,2,3]", JSON.serialize(l.spliterator()));
+		assertEquals("[1,2,3]", JSON.serialize(Collections.enumeration(l)));
+		assertEquals("[]", JSON.serialize(Collections.emptyIterator()));
+	}
+
+	@Test
+	public void a02_json_beanProperties() throws Exception {
+		B b = new B();
+		b.f1 = Stream.of(new A().init(1), new A().init(2));
+		b.f2 = Arrays.asList("x","y").iterator();
+		assertEquals("{f1:[{f1:1},{f1:2}],f2:['x','y']}", JSON.serialize(b));
+	}
+
+	@Test
+	public void a03_json_whitespace() throws Exception {
+		WriterSerializer s = SimpleJsonSerializer.DEFAULT_READABLE;
+		assertEquals(s.serialize(Arrays.asList(1,2)), s.serialize(Stream.of(1,2)));
+	}
+
+	@Test
+	public void a04_json_streamIsClosed() throws Exception {
+		AtomicBoolean closed = new AtomicBoolean();
+		JSON.serialize(Stream.of(1,2).onClose(() -> closed.set(true)));
+		assertTrue(closed.get());
+	}
+
+	@Test
+	public void a05_json_sortCollections() throws Exception {
+		// Sorting requires the entire contents, so the source is copied into a list first.
+		WriterSerializer s = SimpleJsonSerializer.create().sortCollections().build();
+		assertEquals("[1,2,3]", s.serialize(Stream.of(3,1,2)));
+	}
+
+	@Test
+	public void a06_json_flushInterval() throws Exception {
+		WriterSerializer s = JsonSerializer.create().ssq().streamFlushInterval(2).build();
+		final FlushTrackingWriter w = new FlushTrackingWriter();
+		final List<String> seen = new ArrayList<>();
+		Iterator<Integer> i = new Iterator<Integer>() {
+			int next = 1;
+			@Override /* Iterator */
+			public boolean hasNext() {
+				return next <= 5;
+			}
+			@Override /* Iterator */
+			public Integer next() {
+				seen.add(w.flushed);
+				return next++;
+			}
+		};
+		s.serialize(i, w);
+		assertEquals("[1,2,3,4,5]", w.toString());
+		assertEquals("[, , [1,2, [1,2, [1,2,3,4]", seen.toString());
+	}
+
+	@Test
+	public void a07_json_noFlushByDefault() throws Exception {
+		FlushTrackingWriter w = new FlushTrackingWriter();
+		JSON.serialize(IntStream.range(0, 100), w);
+		// Only flushed once by the serializer when it's done.
+		assertEquals(1, w.flushes);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// XML
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_xml_sources() throws Exception {
+		WriterSerializer s = XmlSerializer.DEFAULT_SQ;
+		List<Integer> l = Arrays.asList(1,2,3);
+		String expected = s.serialize(l);
+		assertEquals(expected, s.serialize(l.iterator()));
+		assertEquals(expected, s.serialize(l.stream()));
+		assertEquals(expected, s.serialize(Collections.enumeration(l)));
+	}
+
+	@Test
+	public void b02_xml_beanProperties() throws Exception {
+		WriterSerializer s = XmlSerializer.DEFAULT_SQ;
+		B b = new B();
+		b.f1 = Stream.of(new A().init(1), new A().init(2));
+		b.f2 = Arrays.asList("x","y").iterator();
+		assertEquals("<object><f1><object><f1>1</f1></object><object><f1>2</f1></object></f1><f2><string>x</string><string>y</string></f2></object>", s.serialize(b));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Serializers that don't stream.
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void c01_nonStreamingSerializers() throws Exception {
+		List<Integer> l = Arrays.asList(1,2,3);
+		assertEquals(HtmlSerializer.DEFAULT_SQ.serialize(l), HtmlSerializer.DEFAULT_SQ.serialize(l.stream()));
+		assertEquals(UonSerializer.DEFAULT.serialize(l), UonSerializer.DEFAULT.serialize(l.stream()));
+		assertEquals(UonSerializer.DEFAULT.serialize(l), UonSerializer.DEFAULT.serialize(l.spliterator()));
+		assertArrayEquals(MsgPackSerializer.DEFAULT.serialize(l), MsgPackSerializer.DEFAULT.serialize(l.iterator()));
+	}
+}
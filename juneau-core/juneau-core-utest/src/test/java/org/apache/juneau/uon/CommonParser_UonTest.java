@@ -119,6 +119,35 @@ public class CommonParser_UonTest {
 		public int a, b;
 	}
 
+	//====================================================================================================
+	// Skipping nested values of unknown properties.
+	//====================================================================================================
+	@Test
+	public void testSkippingUnknownPropertyValues() throws Exception {
+		ReaderParser p = UonParser.create().ignoreUnknownBeanProperties().build();
+		B t;
+
+		String[] in = {
+			"(a=1,unknown=(x=@(1,'a,)'),y='b~'c'),b=2)",
+			"(a=1,unknown=@(@(),@(()),'(',')'),b=2)",
+			"(a=1,unknown='foo,bar)',b=2)",
+			"(a=1,unknown=foo~'bar,b=2)",
+			"(a=1,unknown=foo'bar,b=2)",
+			"(a=1,unknown=,b=2)",
+			"(a=1,unknown=null)",
+		};
+		for (String s : in) {
+			t = p.parse(s, B.class);
+			assertEquals(s, 1, t.a);
+			assertEquals(s, s.endsWith("null)") ? 0 : 2, t.b);
+		}
+
+		try {
+			p.parse("(a=1,unknown=(x=@(1,2)", B.class);
+			fail("Exception expected");
+		} catch (ParseException e) {}
+	}
+
 	//====================================================================================================
 	// Writing to Collection properties with no setters.
 	//====================================================================================================
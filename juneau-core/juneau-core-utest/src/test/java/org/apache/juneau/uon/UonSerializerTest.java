@@ -293,6 +293,17 @@ public class UonSerializerTest {
 		assertEquals("(\n\t'\n'=(\n\t\t'\n'='\n'\n\t)\n)", sr.serialize(t));
 	}
 
+	//====================================================================================================
+	// Escaped and encoded characters at the start, middle, and end of longer strings.
+	//====================================================================================================
+	@Test
+	public void testEscapingMixedRuns() throws Exception {
+		Object t = new ObjectMap().append("k", "~abc def'ghi€jkl~");
+		assertEquals("(k='~~abc+def~'ghi%E2%82%ACjkl~~')", s.serialize(t));
+		assertEquals("(k='~~abc def~'ghi€jkl~~')", su.serialize(t));
+		assertEquals("'abc+def%26ghi'", s.serialize("abc def&ghi"));
+	}
+
 	//====================================================================================================
 	// Unicode characters test
 	//====================================================================================================
@@ -0,0 +1,71 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.utils;
+
+import static org.junit.Assert.*;
+
+import org.apache.juneau.internal.*;
+import org.junit.*;
+
+public class BoundedCacheTest {
+
+	//====================================================================================================
+	// Basic tests
+	//====================================================================================================
+
+	@Test
+	public void testGetPut() throws Exception {
+		BoundedCache<String,String> c = new BoundedCache<>(10);
+		assertNull(c.get("a"));
+		assertEquals("A", c.put("a", "A"));
+		assertEquals("A", c.put("a", "B"));
+		assertEquals("A", c.get("a"));
+		assertEquals(1, c.size());
+		assertEquals(1, c.getHits());
+		assertEquals(1, c.getMisses());
+		c.clear();
+		assertNull(c.get("a"));
+		assertEquals(0, c.size());
+	}
+
+	@Test
+	public void testBounded() throws Exception {
+		BoundedCache<Integer,Integer> c = new BoundedCache<>(100);
+		for (int i = 0; i < 10000; i++)
+			c.put(i, i);
+		assertEquals(100, c.size());
+		assertEquals(9900, c.getEvictions());
+	}
+
+	@Test
+	public void testRecentlyUsedEntriesRetained() throws Exception {
+		BoundedCache<Integer,Integer> c = new BoundedCache<>(3);
+		c.put(1, 1);
+		c.put(2, 2);
+		c.put(3, 3);
+		c.get(1);
+		c.put(4, 4);
+		assertNotNull(c.get(1));
+		assertNull(c.get(2));
+		assertNotNull(c.get(3));
+		assertNotNull(c.get(4));
+	}
+
+	@Test
+	public void testDisabled() throws Exception {
+		BoundedCache<String,String> c = new BoundedCache<>(0);
+		assertEquals("A", c.put("a", "A"));
+		assertNull(c.get("a"));
+		assertEquals(0, c.size());
+	}
+}
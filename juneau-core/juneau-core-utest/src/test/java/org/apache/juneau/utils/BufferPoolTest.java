@@ -0,0 +1,162 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.utils;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.internal.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.serializer.*;
+import org.junit.*;
+
+/**
+ * Tests the {@link BufferPool} class and the <c>useBufferPool</c> parser and serializer settings.
+ */
+@SuppressWarnings({"resource"})
+public class BufferPoolTest {
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// BufferPool
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_charBuffer_reused() throws Exception {
+		char[] c1 = BufferPool.getCharBuffer();
+		assertTrue(c1.length >= BufferPool.CHAR_BUFFER_SIZE);
+		BufferPool.release(c1);
+		long hits = BufferPool.getHits();
+		char[] c2 = BufferPool.getCharBuffer();
+		assertSame(c1, c2);
+		assertEquals(hits+1, BufferPool.getHits());
+		BufferPool.release(c2);
+	}
+
+	@Test
+	public void a02_charBuffer_nestedBorrowsAllocate() throws Exception {
+		char[] c1 = BufferPool.getCharBuffer();
+		long misses = BufferPool.getMisses();
+		char[] c2 = BufferPool.getCharBuffer();
+		assertNotSame(c1, c2);
+		assertEquals(misses+1, BufferPool.getMisses());
+		BufferPool.release(c2);
+		BufferPool.release(c1);
+	}
+
+	@Test
+	public void a03_charBuffer_largeDiscarded() throws Exception {
+		long discards = BufferPool.getDiscards();
+		BufferPool.release(new char[BufferPool.MAX_RETAINED_SIZE+1]);
+		assertEquals(discards+1, BufferPool.getDiscards());
+	}
+
+	@Test
+	public void a04_stringBuilderWriter_resetOnRelease() throws Exception {
+		StringBuilderWriter w = BufferPool.getStringBuilderWriter();
+		w.append("foo");
+		BufferPool.release(w);
+		StringBuilderWriter w2 = BufferPool.getStringBuilderWriter();
+		assertSame(w, w2);
+		assertEquals("", w2.toString());
+		BufferPool.release(w2);
+	}
+
+	@Test
+	public void a05_stringBuilderWriter_largeDiscarded() throws Exception {
+		StringBuilderWriter w = BufferPool.getStringBuilderWriter();
+		w.append(new String(new char[BufferPool.MAX_RETAINED_SIZE+1]));
+		long discards = BufferPool.getDiscards();
+		BufferPool.release(w);
+		assertEquals(discards+1, BufferPool.getDiscards());
+		assertNotSame(w, BufferPool.getStringBuilderWriter());
+	}
+
+	@Test
+	public void a06_byteArrayOutputStream_resetOnRelease() throws Exception {
+		ByteArrayOutputStream b = BufferPool.getByteArrayOutputStream();
+		b.write(1);
+		BufferPool.release(b);
+		ByteArrayOutputStream b2 = BufferPool.getByteArrayOutputStream();
+		assertSame(b, b2);
+		assertEquals(0, b2.size());
+		BufferPool.release(b2);
+	}
+
+	@Test
+	public void a07_byteArrayOutputStream_foreignStreamsIgnored() throws Exception {
+		ByteArrayOutputStream b = new ByteArrayOutputStream();
+		BufferPool.release(b);
+		assertNotSame(b, BufferPool.getByteArrayOutputStream());
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Serializers and parsers
+	//-----------------------------------------------------------------------------------------------------------------
+
+	public static class B {
+		public String f1;
+		public List<Integer> f2;
+
+		static B create() {
+			B b = new B();
+			b.f1 = "foo";
+			b.f2 = Arrays.asList(1, 2, 3);
+			return b;
+		}
+	}
+
+	@Test
+	public void b01_writerSerializer() throws Exception {
+		WriterSerializer s1 = SimpleJsonSerializer.DEFAULT, s2 = JsonSerializer.create().ssq().useBufferPool().build();
+		assertEquals(s1.serialize(B.create()), s2.serialize(B.create()));
+		long hits = BufferPool.getHits();
+		assertEquals("{f1:'foo',f2:[1,2,3]}", s2.serialize(B.create()));
+		assertTrue(BufferPool.getHits() > hits);
+	}
+
+	@Test
+	public void b02_outputStreamSerializer() throws Exception {
+		OutputStreamSerializer s1 = MsgPackSerializer.DEFAULT, s2 = MsgPackSerializer.create().useBufferPool().build();
+		assertArrayEquals(s1.serialize(B.create()), s2.serialize(B.create()));
+		long hits = BufferPool.getHits();
+		assertArrayEquals(s1.serialize(B.create()), s2.serialize(B.create()));
+		assertTrue(BufferPool.getHits() > hits);
+	}
+
+	@Test
+	public void b03_readerParser() throws Exception {
+		ReaderParser p = JsonParser.create().useBufferPool().build();
+		String json = "{f1:'bar',f2:[4,5,6]}";
+		assertEquals("bar", p.parse(json, B.class).f1);
+		long hits = BufferPool.getHits();
+		B b = p.parse(json, B.class);
+		assertEquals("bar", b.f1);
+		assertEquals(Arrays.asList(4,5,6), b.f2);
+		assertTrue(BufferPool.getHits() > hits);
+	}
+
+	@Test
+	public void b04_readerParser_largeInput() throws Exception {
+		ReaderParser p = JsonParser.create().useBufferPool().build();
+		StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < 10000; i++)
+			sb.append(i == 0 ? "" : ",").append(i);
+		sb.append(']');
+		assertEquals(10000, p.parse(sb, int[].class).length);
+		assertEquals(3, p.parse("[1,2,3]", int[].class).length);
+	}
+}
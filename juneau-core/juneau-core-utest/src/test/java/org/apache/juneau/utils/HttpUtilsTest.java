@@ -167,4 +167,20 @@ public class HttpUtilsTest {
 		assertEquals("/post", detectHttpPath(B2.class.getMethod("post",int.class,A.class), false));
 		assertEquals("/createFoo", detectHttpPath(B2.class.getMethod("createFoo",int.class,A.class), false));
 	}
+
+	//====================================================================================================
+	// normalizeMediaTypeHeader()
+	//====================================================================================================
+
+	@Test
+	public void testNormalizeMediaTypeHeader() throws Exception {
+		assertNull(normalizeMediaTypeHeader(null));
+		assertEquals("", normalizeMediaTypeHeader(""));
+		assertEquals("", normalizeMediaTypeHeader("  "));
+		assertEquals("text/json", normalizeMediaTypeHeader("text/json"));
+		assertEquals("text/json", normalizeMediaTypeHeader(" text/json\t"));
+		assertEquals("text/json;q=0.9,text/xml", normalizeMediaTypeHeader(" text/json ; q=0.9 , text/xml"));
+		assertEquals("text/json;charset=utf-8", normalizeMediaTypeHeader("text/json;  charset=utf-8"));
+		assertEquals("text/foo bar", normalizeMediaTypeHeader("text/foo bar"));
+	}
 }
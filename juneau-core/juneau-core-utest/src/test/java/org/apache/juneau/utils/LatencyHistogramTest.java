@@ -0,0 +1,131 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.utils;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.*;
+
+import org.junit.*;
+import org.junit.runners.*;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class LatencyHistogramTest {
+
+	private static final long MS = TimeUnit.MILLISECONDS.toNanos(1), SEC = TimeUnit.SECONDS.toNanos(1);
+
+	// Histogram with a settable clock.
+	static class A extends LatencyHistogram {
+		long now = 0;
+
+		@Override
+		protected long nanoTime() {
+			return now;
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Buckets
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_buckets() throws Exception {
+		int prev = -1;
+		for (long v = 0; v < (1L << 33); v = v < 100 ? v+1 : v*11/10) {
+			int b = LatencyHistogram.bucket(v);
+			assertTrue(b >= prev);
+			assertTrue(b < LatencyHistogram.BUCKETS);
+			if (v < (1L << 32)) {
+				assertTrue(v <= LatencyHistogram.bucketUpperBound(b));
+				assertTrue(b == 0 || v > LatencyHistogram.bucketUpperBound(b-1));
+			}
+			prev = b;
+		}
+		assertEquals(LatencyHistogram.BUCKETS-1, LatencyHistogram.bucket(Long.MAX_VALUE));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Percentiles
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_percentiles() throws Exception {
+		LatencyHistogram h = new LatencyHistogram();
+		for (int i = 1; i <= 1000; i++)
+			h.record(i * MS);
+		LatencyHistogram.Snapshot s = h.getAllTime();
+		assertEquals(1000, s.getCount());
+		assertEquals(500, s.getP50(), 500*0.07);
+		assertEquals(900, s.getP90(), 900*0.07);
+		assertEquals(990, s.getP99(), 990*0.07);
+		assertEquals(999, s.getP999(), 999*0.07);
+		assertEquals(1000, s.getMax(), 0.001);
+		assertTrue(s.getP999() <= s.getMax());
+	}
+
+	@Test
+	public void b02_empty() throws Exception {
+		LatencyHistogram.Snapshot s = new LatencyHistogram().getAllTime();
+		assertEquals(0, s.getCount());
+		assertEquals(0, s.getP99(), 0);
+		assertEquals(0, s.getMax(), 0);
+	}
+
+	@Test
+	public void b03_smallTimes() throws Exception {
+		LatencyHistogram h = new LatencyHistogram();
+		h.record(5_000);
+		h.record(-1);
+		LatencyHistogram.Snapshot s = h.getAllTime();
+		assertEquals(2, s.getCount());
+		assertEquals(0.005, s.getP99(), 0.0001);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Windows
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void c01_windows() throws Exception {
+		A h = new A();
+		h.record(100 * MS);
+		h.now += 2 * 60 * SEC;
+		h.record(10 * MS);
+		h.record(10 * MS);
+
+		assertEquals(3, h.getAllTime().getCount());
+		assertEquals(2, h.getLastMinute().getCount());
+		assertEquals(3, h.getLast5Minutes().getCount());
+		assertEquals(10, h.getLastMinute().getP99(), 10*0.07);
+
+		h.now += 4 * 60 * SEC;
+		assertEquals(0, h.getLastMinute().getCount());
+		assertEquals(2, h.getLast5Minutes().getCount());
+
+		h.now += 10 * 60 * SEC;
+		h.record(1 * MS);
+		assertEquals(1, h.getLast5Minutes().getCount());
+		assertEquals(4, h.getAllTime().getCount());
+	}
+
+	@Test
+	public void c02_concurrent() throws Exception {
+		final LatencyHistogram h = new LatencyHistogram();
+		ExecutorService es = Executors.newFixedThreadPool(4);
+		for (int i = 0; i < 4; i++)
+			es.submit(() -> { for (int j = 0; j < 10000; j++) h.record(j * 1000); });
+		es.shutdown();
+		assertTrue(es.awaitTermination(30, TimeUnit.SECONDS));
+		assertEquals(40000, h.getAllTime().getCount());
+	}
+}
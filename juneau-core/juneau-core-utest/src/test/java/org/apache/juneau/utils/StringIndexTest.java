@@ -0,0 +1,161 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.utils;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.uon.*;
+import org.apache.juneau.urlencoding.*;
+import org.junit.*;
+
+/**
+ * Tests the {@link StringIndex} class and bean property name lookups in parsers.
+ */
+public class StringIndexTest {
+
+	private static String get(StringIndex si, String s) {
+		char[] c = ("xx" + s + "yy").toCharArray();
+		return si.get(c, 2, s.length());
+	}
+
+	private static String getBytes(StringIndex si, String s) throws Exception {
+		byte[] b = ("xx" + s + "yy").getBytes("UTF-8");
+		return si.get(b, 2, b.length - 4);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// StringIndex
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_chars() throws Exception {
+		String foo = new String("foo"), bar = new String("bar");
+		StringIndex si = new StringIndex(Arrays.asList(foo, bar, "", null));
+		assertSame(foo, get(si, "foo"));
+		assertSame(bar, get(si, "bar"));
+		assertEquals("", get(si, ""));
+		assertNull(get(si, "baz"));
+		assertNull(get(si, "fo"));
+		assertNull(get(si, "fooo"));
+	}
+
+	@Test
+	public void a02_bytes() throws Exception {
+		String foo = new String("foo"), bar = new String("bär");
+		StringIndex si = new StringIndex(Arrays.asList(foo, bar));
+		assertSame(foo, getBytes(si, "foo"));
+		assertNull(getBytes(si, "bär"));  // Only ASCII strings are matched.
+		assertNull(getBytes(si, "baz"));
+	}
+
+	@Test
+	public void a03_collisions() throws Exception {
+		// "Aa" and "BB" have the same hash code.
+		StringIndex si = new StringIndex(Arrays.asList("Aa", "BB", "AaAa", "BBBB", "AaBB"));
+		assertEquals("Aa", get(si, "Aa"));
+		assertEquals("BB", get(si, "BB"));
+		assertEquals("AaBB", get(si, "AaBB"));
+		assertNull(get(si, "BBAa"));
+	}
+
+	@Test
+	public void a04_manyStrings() throws Exception {
+		List<String> l = new ArrayList<>();
+		for (int i = 0; i < 1000; i++)
+			l.add("p" + i);
+		StringIndex si = new StringIndex(l);
+		for (String s : l)
+			assertSame(s, get(si, s));
+		assertNull(get(si, "p1000"));
+	}
+
+	@Test
+	public void a05_empty() throws Exception {
+		assertNull(get(StringIndex.EMPTY, "foo"));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// BeanMeta
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Bean(bpi="f1,f/2")
+	public static class A {
+		public String f1;
+		@Beanp("f/2")
+		public int f2;
+	}
+
+	@Test
+	public void b01_beanMetaIndex() throws Exception {
+		BeanMeta<A> bm = BeanContext.DEFAULT.getClassMeta(A.class).getBeanMeta();
+		StringIndex si = bm.getPropertyNameIndex();
+		assertSame(bm.getPropertyMeta("f1").getName(), get(si, "f1"));
+		assertEquals("f/2", get(si, "f/2"));
+		assertEquals("_type", get(si, "_type"));
+		assertNull(get(si, "f3"));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Parsers
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void c01_json() throws Exception {
+		A a = JsonParser.create().ignoreUnknownBeanProperties().build().parse("{f1:'a','f\\/2':1,\"f3\":2}", A.class);
+		assertEquals("a", a.f1);
+		assertEquals(1, a.f2);
+		a = JsonParser.DEFAULT.parse("{'f\\u0031':'b'}", A.class);
+		assertEquals("b", a.f1);
+	}
+
+	@Test
+	public void c02_jsonUnknownProperty() throws Exception {
+		try {
+			JsonParser.create().ignoreUnknownBeanProperties(false).build().parse("{f1:'a',f3:1}", A.class);
+			fail();
+		} catch (Exception e) {
+			assertTrue(e.getMessage().contains("f3"));
+		}
+	}
+
+	@Test
+	public void c03_uon() throws Exception {
+		A a = UonParser.DEFAULT.parse("(f1=a,'f/2'=1)", A.class);
+		assertEquals("a", a.f1);
+		assertEquals(1, a.f2);
+	}
+
+	@Test
+	public void c04_urlEncoding() throws Exception {
+		A a = UrlEncodingParser.DEFAULT.parse("f1=a&f%2F2=1", A.class);
+		assertEquals("a", a.f1);
+		assertEquals(1, a.f2);
+	}
+
+	@Test
+	public void c05_msgPack() throws Exception {
+		A a = new A();
+		a.f1 = "a";
+		a.f2 = 1;
+		a = MsgPackParser.DEFAULT.parse(MsgPackSerializer.DEFAULT.serialize(a), A.class);
+		assertEquals("a", a.f1);
+		assertEquals(1, a.f2);
+	}
+}
@@ -182,6 +182,53 @@ public class StringUtilsTest {
 		}
 	}
 
+	//====================================================================================================
+	// readNumber(ParserReader,Class,AsciiSet)
+	//====================================================================================================
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	@Test
+	public void testReadNumber() throws Exception {
+		String[] tokens = {
+			"0", "-0", "1", "-1", "123", "2147483647", "2147483648", "-2147483648", "-2147483649", "32767", "32768",
+			"127", "-129", "999999999999999999", "9223372036854775807", "1.5", "-1.5", "0.1", "3.14159", "1e10", "1E-5",
+			"2.5e+3", "0.000001234", "123456789.123", "9007199254740993", "1e23", "1e-30", "0123", "0x1F", "1.", ".5",
+			"-", "1e", "12345678901234567890"
+		};
+		Class[] types = {
+			null, Number.class, Integer.class, Long.class, Short.class, Byte.class, Double.class, Float.class,
+			AtomicInteger.class, AtomicLong.class, BigDecimal.class, int.class, double.class
+		};
+
+		for (String t : tokens) {
+			for (Class c : types) {
+				ParserReader in = new ParserReader(new ParserPipe(t + ","));
+				Number n = readNumber(in, c, null);
+				if (n == null) {
+					// Reader must be left where it started.
+					assertEquals(t, parseNumberString(in));
+				} else {
+					Number n2 = parseNumber(t, c);
+					assertEquals(t + "/" + c, n2.getClass(), n.getClass());
+					assertEquals(t + "/" + c, n2.toString(), n.toString());
+					assertEquals(',', in.read());
+				}
+			}
+		}
+
+		// End characters.
+		AsciiSet endChars = AsciiSet.create(",)");
+		assertEquals(123, readNumber(new ParserReader(new ParserPipe("123)")), Integer.class, endChars));
+		assertEquals(123, readNumber(new ParserReader(new ParserPipe("123 ")), Integer.class, endChars));
+		assertEquals(123, readNumber(new ParserReader(new ParserPipe("123")), Integer.class, endChars));
+		assertNull(readNumber(new ParserReader(new ParserPipe("123z")), Integer.class, endChars));
+		assertNull(readNumber(new ParserReader(new ParserPipe("123~,")), Integer.class, endChars));
+
+		// Values that should be handled directly.
+		assertEquals(-1.5, readNumber(new ParserReader(new ParserPipe("-1.5")), Double.class, null));
+		assertEquals(2500f, readNumber(new ParserReader(new ParserPipe("2.5e3")), Float.class, null));
+		assertEquals(999999999999999999L, readNumber(new ParserReader(new ParserPipe("999999999999999999")), null, null));
+	}
+
 	//====================================================================================================
 	// test - Basic tests
 	//====================================================================================================
@@ -0,0 +1,161 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.utils;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.nio.charset.*;
+
+import org.apache.juneau.internal.*;
+import org.apache.juneau.json.*;
+import org.junit.*;
+
+/**
+ * Tests the {@link Utf8Reader} class.
+ */
+@SuppressWarnings({"resource"})
+public class Utf8ReaderTest {
+
+	private static String utf8(byte[] b, int chunkSize) throws Exception {
+		Reader r = new Utf8Reader(new ByteArrayInputStream(b), false);
+		StringBuilder sb = new StringBuilder();
+		char[] c = new char[chunkSize];
+		int i;
+		while ((i = r.read(c)) != -1)
+			sb.append(c, 0, i);
+		return sb.toString();
+	}
+
+	private static String isr(byte[] b) throws Exception {
+		CharsetDecoder cd = IOUtils.UTF8.newDecoder();
+		cd.onMalformedInput(CodingErrorAction.REPLACE);
+		cd.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		return IOUtils.read(new InputStreamReader(new ByteArrayInputStream(b), cd));
+	}
+
+	private static void assertSame(byte[] b) throws Exception {
+		String expected = isr(b);
+		assertEquals(expected, utf8(b, 8192));
+		assertEquals(expected, utf8(b, 1));
+		assertEquals(expected, utf8(b, 3));
+	}
+
+	private static byte[] bytes(int...b) {
+		byte[] b2 = new byte[b.length];
+		for (int i = 0; i < b.length; i++)
+			b2[i] = (byte)b[i];
+		return b2;
+	}
+
+	private static String repeat(String s, int count) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < count; i++)
+			sb.append(s);
+		return sb.toString();
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Same output as InputStreamReader
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_ascii() throws Exception {
+		assertSame("{\"foo\":123}".getBytes("UTF-8"));
+		assertSame(new byte[0]);
+	}
+
+	@Test
+	public void a02_multiByte() throws Exception {
+		assertSame("aébࠀc￿中文".getBytes("UTF-8"));
+	}
+
+	@Test
+	public void a03_supplementary() throws Exception {
+		assertSame("x😀y𝄞".getBytes("UTF-8"));
+		assertSame("😀".getBytes("UTF-8"));
+	}
+
+	@Test
+	public void a04_acrossBufferBoundaries() throws Exception {
+		assertSame(repeat("abcdefgé中😀", Utf8Reader.BUFFER_SIZE / 4).getBytes("UTF-8"));
+		assertSame((repeat("a", Utf8Reader.BUFFER_SIZE - 1) + "😀" + repeat("b", Utf8Reader.BUFFER_SIZE + 1)).getBytes("UTF-8"));
+		assertSame((repeat("a", Utf8Reader.BUFFER_SIZE - 2) + "中" + repeat("b", 10)).getBytes("UTF-8"));
+	}
+
+	@Test
+	public void a05_malformed() throws Exception {
+		assertSame(bytes('a', 0x80, 'b'));
+		assertSame(bytes('a', 0xC0, 0x80, 'b'));
+		assertSame(bytes('a', 0xC3, 'b'));
+		assertSame(bytes('a', 0xE4, 0xB8, 'b'));
+		assertSame(bytes('a', 0xE0, 0x80, 0x80, 'b'));
+		assertSame(bytes('a', 0xED, 0xA0, 0x80, 'b'));
+		assertSame(bytes('a', 0xF0, 0x9F, 0x98, 'b'));
+		assertSame(bytes('a', 0xF4, 0x90, 0x80, 0x80, 'b'));
+		assertSame(bytes('a', 0xF5, 'b'));
+		assertSame(bytes('a', 0xFF, 0xFE));
+	}
+
+	@Test
+	public void a06_truncatedAtEnd() throws Exception {
+		assertSame(bytes('a', 0xC3));
+		assertSame(bytes('a', 0xE4, 0xB8));
+		assertSame(bytes('a', 0xF0, 0x9F, 0x98));
+	}
+
+	@Test
+	public void a07_singleCharReads() throws Exception {
+		Reader r = new Utf8Reader(new ByteArrayInputStream("a😀".getBytes("UTF-8")), false);
+		assertEquals('a', r.read());
+		assertEquals(0xD83D, r.read());
+		assertEquals(0xDE00, r.read());
+		assertEquals(-1, r.read());
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Strict mode
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_strict() throws Exception {
+		Reader r = new Utf8Reader(new ByteArrayInputStream(bytes('a', 0xC3, 'b')), true);
+		try {
+			IOUtils.read(r);
+			fail();
+		} catch (MalformedInputException e) {
+			assertEquals(1, e.getInputLength());
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Parsers reading from input streams
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void c01_jsonFromInputStream() throws Exception {
+		String s = "fooé中😀";
+		String[] r = JsonParser.DEFAULT.parse(new ByteArrayInputStream(("['" + s + "']").getBytes("UTF-8")), String[].class);
+		assertEquals(s, r[0]);
+	}
+
+	@Test
+	public void c02_jsonFromInputStream_strict() throws Exception {
+		try {
+			JsonParser.create().strict().build().parse(new ByteArrayInputStream(bytes('[', '"', 0xC3, '"', ']')), String[].class);
+			fail();
+		} catch (MalformedInputException e) {
+			assertEquals(1, e.getInputLength());
+		}
+	}
+}
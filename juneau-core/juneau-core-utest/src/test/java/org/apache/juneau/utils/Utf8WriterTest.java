@@ -0,0 +1,142 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.utils;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+
+import org.apache.juneau.internal.*;
+import org.apache.juneau.json.*;
+import org.junit.*;
+
+/**
+ * Tests the {@link Utf8Writer} class.
+ */
+@SuppressWarnings({"resource"})
+public class Utf8WriterTest {
+
+	private static byte[] utf8(String s) throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		Writer w = new Utf8Writer(baos);
+		w.write(s);
+		w.close();
+		return baos.toByteArray();
+	}
+
+	private static byte[] osw(String s) throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		Writer w = new OutputStreamWriter(baos, "UTF-8");
+		w.write(s);
+		w.close();
+		return baos.toByteArray();
+	}
+
+	private static String repeat(String s, int count) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < count; i++)
+			sb.append(s);
+		return sb.toString();
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Same output as OutputStreamWriter
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_ascii() throws Exception {
+		assertArrayEquals(osw("{\"foo\":123}"), utf8("{\"foo\":123}"));
+		assertArrayEquals(osw(""), utf8(""));
+	}
+
+	@Test
+	public void a02_multiByte() throws Exception {
+		String s = "aébࠀc￿中文";
+		assertArrayEquals(osw(s), utf8(s));
+	}
+
+	@Test
+	public void a03_surrogatePairs() throws Exception {
+		String s = "x😀y𝄞";
+		assertArrayEquals(osw(s), utf8(s));
+	}
+
+	@Test
+	public void a04_unpairedSurrogates() throws Exception {
+		assertArrayEquals(osw("a\ud83db"), utf8("a\ud83db"));
+		assertArrayEquals(osw("a\ude00b"), utf8("a\ude00b"));
+		assertArrayEquals(osw("a\ud83d😀"), utf8("a\ud83d😀"));
+		assertArrayEquals(osw("a\ud83d"), utf8("a\ud83d"));
+	}
+
+	@Test
+	public void a05_acrossBufferBoundaries() throws Exception {
+		String s = repeat("abcdefgé中😀", Utf8Writer.BUFFER_SIZE / 4);
+		assertArrayEquals(osw(s), utf8(s));
+		s = repeat("a", Utf8Writer.BUFFER_SIZE - 1) + "😀" + repeat("b", Utf8Writer.BUFFER_SIZE + 1);
+		assertArrayEquals(osw(s), utf8(s));
+	}
+
+	@Test
+	public void a06_surrogatePairSplitAcrossWrites() throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		Writer w = new Utf8Writer(baos);
+		w.write("a\ud83d");
+		w.write('\ude00');
+		w.write(new char[]{'\ud834'}, 0, 1);
+		w.append("\udd1e").append('b');
+		w.close();
+		assertArrayEquals(osw("a😀𝄞b"), baos.toByteArray());
+	}
+
+	@Test
+	public void a07_charArrayWithOffset() throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		Writer w = new Utf8Writer(baos);
+		w.write("xxéabc中yy".toCharArray(), 2, 6);
+		w.write("xxéabc中yy", 2, 6);
+		w.close();
+		assertArrayEquals(osw("éabc中yéabc中y"), baos.toByteArray());
+	}
+
+	@Test
+	public void a08_flushWritesToStream() throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		Writer w = new Utf8Writer(baos);
+		w.write("foo");
+		assertEquals(0, baos.size());
+		w.flush();
+		assertEquals("foo", baos.toString("UTF-8"));
+	}
+
+	@Test
+	public void a09_isUtf8() throws Exception {
+		assertTrue(Utf8Writer.isUtf8("UTF-8"));
+		assertTrue(Utf8Writer.isUtf8("utf-8"));
+		assertTrue(Utf8Writer.isUtf8("utf8"));
+		assertFalse(Utf8Writer.isUtf8("ISO-8859-1"));
+		assertFalse(Utf8Writer.isUtf8(null));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Serializers writing to output streams
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_jsonToOutputStream() throws Exception {
+		String s = "fooé中😀";
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		JsonSerializer.DEFAULT.serialize(new String[]{s}, baos);
+		assertEquals("[\"" + s + "\"]", baos.toString("UTF-8"));
+	}
+}
@@ -16,6 +16,7 @@ import static org.apache.juneau.testutils.TestUtils.*;
 import static org.apache.juneau.xml.annotation.XmlFormat.*;
 import static org.junit.Assert.*;
 
+import java.io.*;
 import java.net.*;
 import java.util.*;
 
@@ -33,6 +34,19 @@ import org.junit.*;
 @SuppressWarnings({"serial"})
 public class XmlTest {
 
+	//====================================================================================================
+	// Encoded characters at the start, middle, and end of longer strings.
+	//====================================================================================================
+	@Test
+	public void testEncodingMixedRuns() throws Exception {
+		String in = " a&b<c>d_x0041_e\u0001f'g\"h ";
+		assertEquals("_x0020_a&amp;b&lt;c&gt;d_x005F_x0041_e_x0001_f'g\"h_x0020_", XmlUtils.encodeText(new StringWriter(), in, false, false).toString());
+		assertEquals(" a&amp;b&lt;c&gt;d_x005F_x0041_e_x0001_f'g\"h ", XmlUtils.encodeText(new StringWriter(), in, false, true).toString());
+		assertEquals("_x0020_a&amp;b&lt;c&gt;d_x005F_x0041_e_x0001_f&apos;g&quot;h_x0020_", XmlUtils.encodeAttrValue(new StringWriter(), in, false).toString());
+		assertEquals("_x0020_a&b<c>d_x005F_x0041_e_x0001_f'g\"h_x0020_", XmlUtils.escapeText(in));
+		assertEquals("no encoding needed", XmlUtils.escapeText("no encoding needed"));
+	}
+
 	//====================================================================================================
 	// Simple comparison test with JSON serializer
 	//====================================================================================================
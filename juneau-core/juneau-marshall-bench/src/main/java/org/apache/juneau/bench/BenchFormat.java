@@ -0,0 +1,79 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.bench;
+
+import org.apache.juneau.html.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.transforms.*;
+import org.apache.juneau.uon.*;
+import org.apache.juneau.xml.*;
+
+/**
+ * The serializer/parser pairs being benchmarked.
+ *
+ * <p>
+ * Every pair is configured identically with ISO8601 instant swaps for {@link java.util.Date} and {@link java.util.Calendar}
+ * so that the {@link BenchModel#DATES} model round-trips in all formats.
+ */
+public enum BenchFormat {
+
+	/** {@link JsonSerializer} / {@link JsonParser} */
+	JSON(JsonSerializer.create(), JsonParser.create()),
+
+	/** {@link JsonSerializer} / {@link JsonParser} with {@link JsonSerializer#JSON_compileBeans} enabled. */
+	JSON_COMPILED(JsonSerializer.create().compileBeans(), JsonParser.create().compileBeans()),
+
+	/** {@link SimpleJsonSerializer} / {@link JsonParser} */
+	SIMPLE_JSON(SimpleJsonSerializer.create(), JsonParser.create()),
+
+	/** {@link XmlSerializer} / {@link XmlParser} */
+	XML(XmlSerializer.create(), XmlParser.create()),
+
+	/** {@link HtmlSerializer} / {@link HtmlParser} */
+	HTML(HtmlSerializer.create(), HtmlParser.create()),
+
+	/** {@link UonSerializer} / {@link UonParser} */
+	UON(UonSerializer.create(), UonParser.create()),
+
+	/** {@link MsgPackSerializer} / {@link MsgPackParser} */
+	MSGPACK(MsgPackSerializer.create(), MsgPackParser.create());
+
+	private final Serializer serializer;
+	private final Parser parser;
+
+	private BenchFormat(SerializerBuilder sb, ParserBuilder pb) {
+		this.serializer = sb.pojoSwaps(TemporalDateSwap.IsoInstant.class, TemporalCalendarSwap.IsoInstant.class).build();
+		this.parser = pb.pojoSwaps(TemporalDateSwap.IsoInstant.class, TemporalCalendarSwap.IsoInstant.class).build();
+	}
+
+	/**
+	 * Returns the serializer for this format.
+	 *
+	 * @return The serializer for this format.
+	 */
+	public Serializer getSerializer() {
+		return serializer;
+	}
+
+	/**
+	 * Returns the parser for this format.
+	 *
+	 * @return The parser for this format.
+	 */
+	public Parser getParser() {
+		return parser;
+	}
+}
@@ -0,0 +1,233 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.bench;
+
+import java.util.*;
+
+/**
+ * Representative bean graphs used as inputs to the serializer and parser benchmarks.
+ *
+ * <p>
+ * Each constant produces a freshly-populated object graph along with the class used to parse it back.
+ * Values are deterministic so that results are comparable between runs and releases.
+ */
+public enum BenchModel {
+
+	/** A single bean with a mix of primitive, string, and enum properties. */
+	FLAT(FlatBean.class) {
+		@Override
+		public Object create() {
+			return FlatBean.create(1);
+		}
+	},
+
+	/** A chain of beans nested 20 levels deep. */
+	DEEP(DeepBean.class) {
+		@Override
+		public Object create() {
+			return DeepBean.create(20);
+		}
+	},
+
+	/** A bean containing a list of 1000 flat beans. */
+	LIST(ListBean.class) {
+		@Override
+		public Object create() {
+			return ListBean.create(1000);
+		}
+	},
+
+	/** A bean containing a map of 100 flat beans keyed by string. */
+	MAP(MapBean.class) {
+		@Override
+		public Object create() {
+			return MapBean.create(100);
+		}
+	},
+
+	/** A bean containing a list of 100 beans with swapped {@link Date} and {@link Calendar} fields. */
+	DATES(DatesBean.class) {
+		@Override
+		public Object create() {
+			return DatesBean.create(100);
+		}
+	};
+
+	private final Class<?> type;
+
+	private BenchModel(Class<?> type) {
+		this.type = type;
+	}
+
+	/**
+	 * Returns the class to parse serialized output of this model back into.
+	 *
+	 * @return The class to parse serialized output of this model back into.
+	 */
+	public Class<?> getType() {
+		return type;
+	}
+
+	/**
+	 * Creates a new instance of this model.
+	 *
+	 * @return A new populated object graph.
+	 */
+	public abstract Object create();
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Beans
+	//-----------------------------------------------------------------------------------------------------------------
+
+	/**
+	 * Bean with getters and setters for a mix of simple property types.
+	 */
+	public static class FlatBean {
+		private int id;
+		private long timestamp;
+		private double value;
+		private boolean active;
+		private String name, description;
+		private Level level;
+
+		static FlatBean create(int i) {
+			FlatBean b = new FlatBean();
+			b.id = i;
+			b.timestamp = 1500000000000L + i;
+			b.value = i * 1.5d;
+			b.active = i % 2 == 0;
+			b.name = "name" + i;
+			b.description = "The quick brown fox jumps over the lazy dog #" + i;
+			b.level = Level.values()[i % Level.values().length];
+			return b;
+		}
+
+		public int getId() { return id; }
+		public void setId(int id) { this.id = id; }
+
+		public long getTimestamp() { return timestamp; }
+		public void setTimestamp(long timestamp) { this.timestamp = timestamp; }
+
+		public double getValue() { return value; }
+		public void setValue(double value) { this.value = value; }
+
+		public boolean isActive() { return active; }
+		public void setActive(boolean active) { this.active = active; }
+
+		public String getName() { return name; }
+		public void setName(String name) { this.name = name; }
+
+		public String getDescription() { return description; }
+		public void setDescription(String description) { this.description = description; }
+
+		public Level getLevel() { return level; }
+		public void setLevel(Level level) { this.level = level; }
+	}
+
+	/**
+	 * Simple enum used as a bean property type.
+	 */
+	public static enum Level {
+		/** Low */ LOW,
+		/** Medium */ MEDIUM,
+		/** High */ HIGH
+	}
+
+	/**
+	 * Recursive bean with public fields.
+	 */
+	public static class DeepBean {
+		public String name;
+		public int depth;
+		public List<String> tags;
+		public DeepBean child;
+
+		static DeepBean create(int depth) {
+			DeepBean b = new DeepBean();
+			b.name = "level" + depth;
+			b.depth = depth;
+			b.tags = Arrays.asList("a" + depth, "b" + depth);
+			if (depth > 0)
+				b.child = create(depth - 1);
+			return b;
+		}
+	}
+
+	/**
+	 * Bean containing a large collection of beans.
+	 */
+	public static class ListBean {
+		public List<FlatBean> items;
+
+		static ListBean create(int size) {
+			ListBean b = new ListBean();
+			b.items = new ArrayList<>(size);
+			for (int i = 0; i < size; i++)
+				b.items.add(FlatBean.create(i));
+			return b;
+		}
+	}
+
+	/**
+	 * Bean containing a map of beans.
+	 */
+	public static class MapBean {
+		public Map<String,FlatBean> entries;
+
+		static MapBean create(int size) {
+			MapBean b = new MapBean();
+			b.entries = new LinkedHashMap<>();
+			for (int i = 0; i < size; i++)
+				b.entries.put("key" + i, FlatBean.create(i));
+			return b;
+		}
+	}
+
+	/**
+	 * Bean containing a list of beans with date fields.
+	 *
+	 * <p>
+	 * The date fields are converted to ISO8601 instant strings through the swaps registered by {@link BenchFormat}.
+	 */
+	public static class DatesBean {
+		public List<DateEntry> entries;
+
+		static DatesBean create(int size) {
+			DatesBean b = new DatesBean();
+			b.entries = new ArrayList<>(size);
+			for (int i = 0; i < size; i++)
+				b.entries.add(DateEntry.create(i));
+			return b;
+		}
+	}
+
+	/**
+	 * Bean with {@link Date} and {@link Calendar} fields.
+	 */
+	public static class DateEntry {
+		public String id;
+		public Date created;
+		public Calendar modified;
+
+		static DateEntry create(int i) {
+			DateEntry e = new DateEntry();
+			e.id = "entry" + i;
+			Calendar c = new GregorianCalendar(TimeZone.getTimeZone("GMT"));
+			c.clear();
+			c.set(2019, Calendar.JANUARY, 1 + (i % 28), i % 24, i % 60, 0);
+			e.created = c.getTime();
+			e.modified = c;
+			return e;
+		}
+	}
+}
@@ -0,0 +1,47 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.bench;
+
+import org.openjdk.jmh.profile.*;
+import org.openjdk.jmh.results.format.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+/**
+ * Entry point of the benchmark jar.
+ *
+ * <p>
+ * Accepts the standard JMH command-line options, and additionally always attaches the GC profiler so that
+ * allocation rates (<c>gc.alloc.rate.norm</c>) are reported alongside ops/sec.
+ * Results are written in JSON format to <c>jmh-result.json</c> (override with <c>-rff</c>) so that runs from
+ * different releases can be compared.
+ */
+public class BenchmarkRunner {
+
+	/**
+	 * Runs the benchmarks.
+	 *
+	 * @param args JMH command-line options.
+	 * @throws Exception Benchmark failure or invalid arguments.
+	 */
+	public static void main(String[] args) throws Exception {
+		CommandLineOptions clo = new CommandLineOptions(args);
+		Options o = new OptionsBuilder()
+			.parent(clo)
+			.addProfiler(GCProfiler.class)
+			.resultFormat(clo.getResultFormat().orElse(ResultFormatType.JSON))
+			.result(clo.getResult().orElse("jmh-result.json"))
+			.build();
+		new Runner(o).run();
+	}
+}
@@ -0,0 +1,56 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.bench;
+
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures serialization throughput for every {@link BenchFormat} against every {@link BenchModel}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializeBenchmark {
+
+	@Param
+	public BenchFormat format;
+
+	@Param
+	public BenchModel model;
+
+	private Object input;
+
+	/**
+	 * Creates the object graph to serialize.
+	 */
+	@Setup
+	public void setup() {
+		input = model.create();
+	}
+
+	/**
+	 * Serializes the model to a {@link String} or <code><jk>byte</jk>[]</code>.
+	 *
+	 * @return The serialized output.
+	 * @throws Exception Serialization failed.
+	 */
+	@Benchmark
+	public Object serialize() throws Exception {
+		return format.getSerializer().serialize(input);
+	}
+}
@@ -0,0 +1,32 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+
+/**
+ * JMH benchmarks for the serializers and parsers in the <c>juneau-marshall</c> module.
+ *
+ * <p>
+ * Build the self-contained benchmark jar and run it:
+ * <p class='bcode w800'>
+ * 	mvn -pl juneau-core/juneau-marshall-bench -am package
+ * 	java -jar juneau-core/juneau-marshall-bench/target/juneau-benchmarks.jar
+ * </p>
+ *
+ * <p>
+ * Standard JMH command-line options can be passed to narrow the run, for example
+ * <c>java -jar juneau-benchmarks.jar Serialize -p format=JSON,MSGPACK -p model=LIST</c>.
+ *
+ * <p>
+ * Compiled bean serializers and parsers are compared against the generic path with
+ * <c>java -jar juneau-benchmarks.jar -p format=JSON,JSON_COMPILED</c>.
+ */
+package org.apache.juneau.bench;
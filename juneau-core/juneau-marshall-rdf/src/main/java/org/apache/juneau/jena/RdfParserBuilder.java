@@ -757,6 +757,18 @@ public class RdfParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public RdfParserBuilder compactCollections(boolean value) {
+		super.compactCollections(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public RdfParserBuilder compactCollections() {
+		super.compactCollections();
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public RdfParserBuilder debugOutputLines(int value) {
 		super.debugOutputLines(value);
@@ -769,6 +781,12 @@ public class RdfParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public RdfParserBuilder projection(String...values) {
+		super.projection(values);
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public RdfParserBuilder strict(boolean value) {
 		super.strict(value);
@@ -805,6 +823,18 @@ public class RdfParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public RdfParserBuilder useBufferPool(boolean value) {
+		super.useBufferPool(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public RdfParserBuilder useBufferPool() {
+		super.useBufferPool();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public RdfParserBuilder beanClassVisibility(Visibility value) {
 		super.beanClassVisibility(value);
@@ -1303,6 +1333,18 @@ public class RdfParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public RdfParserBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public RdfParserBuilder useGeneratedAccessors() {
+		super.useGeneratedAccessors();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public RdfParserBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
@@ -86,7 +86,7 @@ public class RdfParserSession extends ReaderParserSession {
 				c = (
 					type.canCreateNewInstance(getOuter())
 					? (Collection<?>)type.newInstance(getOuter())
-					: new ObjectList(this)
+					: newObjectList()
 				);
 
 			int argIndex = 0;
@@ -255,13 +255,13 @@ public class RdfParserSession extends ReaderParserSession {
 				else if (r.getProperty(pValue) != null) {
 					o = parseAnything(object(), n.asResource().getProperty(pValue).getObject(), outer, null);
 				} else if (isSeq(r)) {
-					o = new ObjectList(this);
+					o = newObjectList();
 					parseIntoCollection(r.as(Seq.class), (Collection)o, sType, pMeta);
 				} else if (isBag(r)) {
-					o = new ObjectList(this);
+					o = newObjectList();
 					parseIntoCollection(r.as(Bag.class), (Collection)o, sType, pMeta);
 				} else if (r.canAs(RDFList.class)) {
-					o = new ObjectList(this);
+					o = newObjectList();
 					parseIntoCollection(r.as(RDFList.class), (Collection)o, sType, pMeta);
 				} else {
 					// If it has a URI and no child properties, we interpret this as an
@@ -270,7 +270,7 @@ public class RdfParserSession extends ReaderParserSession {
 					if (uri != null && ! r.listProperties().hasNext()) {
 						o = r.getURI();
 					} else {
-						ObjectMap m2 = new ObjectMap(this);
+						ObjectMap m2 = newObjectMap();
 						parseIntoMap(r, m2, null, null, pMeta);
 						o = cast(m2, pMeta, eType);
 					}
@@ -290,13 +290,13 @@ public class RdfParserSession extends ReaderParserSession {
 			Resource r = n.asResource();
 			if (! urisVisited.add(r))
 				return null;
-			Map m = (sType.canCreateNewInstance(outer) ? (Map)sType.newInstance(outer) : new ObjectMap(this));
+			Map m = (sType.canCreateNewInstance(outer) ? (Map)sType.newInstance(outer) : newObjectMap());
 			o = parseIntoMap(r, m, eType.getKeyType(), eType.getValueType(), pMeta);
 		} else if (sType.isCollectionOrArray() || sType.isArgs()) {
 			if (sType.isArray() || sType.isArgs())
 				o = new ArrayList();
 			else
-				o = (sType.canCreateNewInstance(outer) ? (Collection<?>)sType.newInstance(outer) : new ObjectList(this));
+				o = (sType.canCreateNewInstance(outer) ? (Collection<?>)sType.newInstance(outer) : newObjectList());
 			Resource r = n.asResource();
 			if (! urisVisited.add(r))
 				return null;
@@ -329,7 +329,7 @@ public class RdfParserSession extends ReaderParserSession {
 			o = sType.newInstanceFromString(outer, decodeString(getValue(n, outer)));
 		} else if (n.isResource()) {
 			Resource r = n.asResource();
-			Map m = new ObjectMap(this);
+			Map m = newObjectMap();
 			parseIntoMap(r, m, sType.getKeyType(), sType.getValueType(), pMeta);
 			if (m.containsKey(getBeanTypePropertyName(eType)))
 				o = cast((ObjectMap)m, pMeta, eType);
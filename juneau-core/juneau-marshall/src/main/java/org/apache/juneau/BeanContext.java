@@ -2180,6 +2180,60 @@ public class BeanContext extends Context implements MetaProvider {
 	 */
 	public static final String BEAN_useEnumNames = PREFIX + ".useEnumNames.b";
 
+	/**
+	 * Configuration property:  Use generated property accessors.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.BeanContext#BEAN_useGeneratedAccessors BEAN_useGeneratedAccessors}
+	 * 	<li><b>Name:</b>  <js>"BeanContext.useGeneratedAccessors.b"</js>
+	 * 	<li><b>Data type:</b>  <jk>boolean</jk>
+	 * 	<li><b>System property:</b>  <c>BeanContext.useGeneratedAccessors</c>
+	 * 	<li><b>Environment variable:</b>  <c>BEANCONTEXT_USEGENERATEDACCESSORS</c>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Annotations:</b>
+	 * 		<ul>
+	 * 			<li class='ja'>{@link org.apache.juneau.annotation.BeanConfig#useGeneratedAccessors()}
+	 * 		</ul>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.BeanContextBuilder#useGeneratedAccessors(boolean)}
+	 * 			<li class='jm'>{@link org.apache.juneau.BeanContextBuilder#useGeneratedAccessors()}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * If <jk>true</jk>, then accessor objects are generated for each bean property when the bean metadata is created,
+	 * and {@link BeanMap#get(Object)} and {@link BeanMap#put(String,Object)} use them instead of calling the getters,
+	 * setters, and fields through reflection.
+	 *
+	 * <p>
+	 * Public getters and setters on public classes are bound through {@link java.lang.invoke.LambdaMetafactory}.
+	 * <br>All other properties are bound through {@link java.lang.invoke.MethodHandle MethodHandles}.
+	 * <br>Properties that cannot be bound either way silently fall back to reflection.
+	 *
+	 * <p>
+	 * This trades a small one-time cost per bean class for faster property access on every serialize and parse.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a serializer that uses generated accessors for bean properties.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.useGeneratedAccessors()
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>BEAN_useGeneratedAccessors</jsf>, <jk>true</jk>)
+	 * 		.build();
+	 * </p>
+	 */
+	public static final String BEAN_useGeneratedAccessors = PREFIX + ".useGeneratedAccessors.b";
+
 	/**
 	 * Configuration property:  Use interface proxies.
 	 *
@@ -2328,6 +2382,7 @@ public class BeanContext extends Context implements MetaProvider {
 		ignoreInvocationExceptionsOnSetters,
 		useJavaBeanIntrospector,
 		useEnumNames,
+		useGeneratedAccessors,
 		sortProperties,
 		fluentSetters,
 		debug;
@@ -2399,6 +2454,7 @@ public class BeanContext extends Context implements MetaProvider {
 		beansRequireSomeProperties = getBooleanProperty(BEAN_beansRequireSomeProperties, true);
 		beanMapPutReturnsOldValue = getBooleanProperty(BEAN_beanMapPutReturnsOldValue, false);
 		useEnumNames = getBooleanProperty(BEAN_useEnumNames, false);
+		useGeneratedAccessors = getBooleanProperty(BEAN_useGeneratedAccessors, false);
 		useInterfaceProxies = getBooleanProperty(BEAN_useInterfaceProxies, true);
 		ignoreUnknownBeanProperties = getBooleanProperty(BEAN_ignoreUnknownBeanProperties, false);
 		ignoreUnknownNullBeanProperties = getBooleanProperty(BEAN_ignoreUnknownNullBeanProperties, true);
@@ -3963,6 +4019,17 @@ public class BeanContext extends Context implements MetaProvider {
 		return useEnumNames;
 	}
 
+	/**
+	 * Configuration property:  Use generated property accessors.
+	 *
+	 * @see #BEAN_useGeneratedAccessors
+	 * @return
+	 * 	<jk>true</jk> if bean properties are accessed through generated accessors instead of reflection.
+	 */
+	protected final boolean isUseGeneratedAccessors() {
+		return useGeneratedAccessors;
+	}
+
 	/**
 	 * Configuration property:  Use interface proxies.
 	 *
@@ -4038,6 +4105,7 @@ public class BeanContext extends Context implements MetaProvider {
 				.append("sortProperties", sortProperties)
 				.append("timeZone", timeZone)
 				.append("useEnumNames", useEnumNames)
+				.append("useGeneratedAccessors", useGeneratedAccessors)
 				.append("useInterfaceProxies", useInterfaceProxies)
 				.append("useJavaBeanIntrospector", useJavaBeanIntrospector)
 			);
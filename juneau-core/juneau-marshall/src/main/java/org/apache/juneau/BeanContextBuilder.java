@@ -1871,6 +1871,42 @@ public class BeanContextBuilder extends ContextBuilder {
 		return set(BEAN_useEnumNames, true);
 	}
 
+	/**
+	 * Configuration property:  Use generated property accessors.
+	 *
+	 * <p>
+	 * If <jk>true</jk>, then bean properties are read and written through accessors generated when the bean metadata
+	 * is created instead of through reflection.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link BeanContext#BEAN_useGeneratedAccessors}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public BeanContextBuilder useGeneratedAccessors(boolean value) {
+		return set(BEAN_useGeneratedAccessors, value);
+	}
+
+	/**
+	 * Configuration property:  Use generated property accessors.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>useGeneratedAccessors(<jk>true</jk>)</code>.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link BeanContext#BEAN_useGeneratedAccessors}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public BeanContextBuilder useGeneratedAccessors() {
+		return set(BEAN_useGeneratedAccessors, true);
+	}
+
 	/**
 	 * Configuration property:  Use interface proxies.
 	 *
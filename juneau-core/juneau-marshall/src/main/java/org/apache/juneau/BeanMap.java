@@ -453,6 +453,10 @@ public class BeanMap<T> extends AbstractMap<String,Object> implements Delegate<T
 	 * <p>
 	 * This allows a snapshot of all values to be grabbed from a bean in one call.
 	 *
+	 * <p>
+	 * Properties whose value can be read without boxing (see {@link BeanPropertyMeta#getUnboxedType()}) are returned
+	 * as unboxed {@link BeanPropertyValue} objects.
+	 *
 	 * @param ignoreNulls
 	 * 	Don't return properties whose values are null.
 	 * @param prependVals
@@ -479,6 +483,17 @@ public class BeanMap<T> extends AbstractMap<String,Object> implements Delegate<T
 									l.add(new BeanPropertyValue(bpm, pName, val, null));
 							}
 						}
+					} else if (bpm.getUnboxedType() != null && bean != null) {
+						Class<?> t = bpm.getUnboxedType();
+						String pName = bpm.getName();
+						if (t == int.class)
+							l.add(new BeanPropertyValue(bpm, pName, bpm.getInt(this)));
+						else if (t == long.class)
+							l.add(new BeanPropertyValue(bpm, pName, bpm.getLong(this)));
+						else if (t == double.class)
+							l.add(new BeanPropertyValue(bpm, pName, bpm.getDouble(this)));
+						else
+							l.add(new BeanPropertyValue(bpm, pName, bpm.getBoolean(this)));
 					} else {
 						Object val = bpm.get(this, null);
 						if (val != null || ! ignoreNulls)
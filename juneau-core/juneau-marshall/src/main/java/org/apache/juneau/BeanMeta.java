@@ -25,6 +25,7 @@ import java.lang.reflect.*;
 import java.util.*;
 
 import org.apache.juneau.annotation.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.reflect.*;
 import org.apache.juneau.transform.*;
 
@@ -94,6 +95,7 @@ public class BeanMeta<T> {
 	// Other fields
 	final String typePropertyName;                         // "_type" property actual name.
 	private final BeanPropertyMeta typeProperty;           // "_type" mock bean property.
+	private final StringIndex propertyNameIndex;           // Property names and "_type" for lookups by parsers.
 	final BeanPropertyMeta dynaProperty;                   // "extras" property.
 	private final String dictionaryName;                   // The @Bean(typeName) annotation defined on this bean class.
 	final String notABeanReason;                           // Readable string explaining why this class wasn't a bean.
@@ -129,6 +131,9 @@ public class BeanMeta<T> {
 		this.beanRegistry = b.beanRegistry;
 		this.typePropertyName = b.typePropertyName;
 		this.typeProperty = BeanPropertyMeta.builder(this, typePropertyName).canRead().canWrite().rawMetaType(ctx.string()).beanRegistry(beanRegistry).build();
+		List<String> names = new ArrayList<>(properties.keySet());
+		names.add(typePropertyName);
+		this.propertyNameIndex = new StringIndex(names);
 		this.sortProperties = b.sortProperties;
 		this.fluentSetters = b.fluentSetters;
 	}
@@ -554,6 +559,28 @@ public class BeanMeta<T> {
 		return typeProperty;
 	}
 
+	/**
+	 * Returns an index of the property names on this bean (plus the <js>"_type"</js> property name) for looking up
+	 * names directly from parser buffers.
+	 *
+	 * <p>
+	 * Strings returned by the index are the same instances used as keys for {@link #getPropertyMeta(String)}.
+	 *
+	 * @return The property name index.
+	 */
+	public final StringIndex getPropertyNameIndex() {
+		return propertyNameIndex;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this bean has a dynamic property (i.e. <c><ja>@Beanp</ja>(name=<js>"*"</js>)</c>).
+	 *
+	 * @return <jk>true</jk> if this bean has a dynamic property.
+	 */
+	public final boolean hasDynaProperty() {
+		return dynaProperty != null;
+	}
+
 	/**
 	 * Possible property method types.
 	 */
@@ -0,0 +1,456 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static java.lang.invoke.MethodType.*;
+
+import java.lang.invoke.*;
+import java.lang.reflect.*;
+
+import org.apache.juneau.reflect.*;
+
+/**
+ * Generated accessor for reading and writing a single bean property without going through
+ * {@link Method#invoke(Object, Object...)} or {@link Field#get(Object)}.
+ *
+ * <p>
+ * Public getters and setters on public classes are bound through {@link LambdaMetafactory} so that the JIT can treat
+ * them like ordinary method calls.
+ * <br>Everything else (fields, non-public members, classes not visible to this class loader) is bound through
+ * {@link MethodHandle MethodHandles} created from the already-accessible reflection objects.
+ *
+ * <p>
+ * Exceptions thrown by the underlying member are wrapped in {@link InvocationTargetException}, and values that can't
+ * be assigned to the member are rejected with {@link IllegalArgumentException}, so that callers see the same
+ * exceptions as they would through reflection.
+ *
+ * <ul class='seealso'>
+ * 	<li class='jf'>{@link BeanContext#BEAN_useGeneratedAccessors}
+ * </ul>
+ */
+final class BeanPropertyAccessor {
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+	private static final MethodType GETTER_TYPE = methodType(Object.class, Object.class);
+	private static final MethodType SETTER_TYPE = methodType(void.class, Object.class, Object.class);
+
+	/**
+	 * Functional interface for reading a property value.
+	 */
+	@FunctionalInterface
+	public static interface Getter {
+
+		/**
+		 * Reads the property value from the specified bean.
+		 *
+		 * @param bean The bean to read from.
+		 * @return The property value.
+		 * @throws Throwable Thrown by the underlying getter.
+		 */
+		Object get(Object bean) throws Throwable;
+	}
+
+	/**
+	 * Functional interface for writing a property value.
+	 */
+	@FunctionalInterface
+	public static interface Setter {
+
+		/**
+		 * Writes the property value on the specified bean.
+		 *
+		 * @param bean The bean to write to.
+		 * @param value The new property value.
+		 * @throws Throwable Thrown by the underlying setter.
+		 */
+		void set(Object bean, Object value) throws Throwable;
+	}
+
+	/**
+	 * Functional interface for reading an <jk>int</jk> property value without boxing.
+	 */
+	@FunctionalInterface
+	public static interface IntGetter {
+
+		/**
+		 * Reads the property value from the specified bean.
+		 *
+		 * @param bean The bean to read from.
+		 * @return The property value.
+		 * @throws Throwable Thrown by the underlying getter.
+		 */
+		int get(Object bean) throws Throwable;
+	}
+
+	/**
+	 * Functional interface for reading a <jk>long</jk> property value without boxing.
+	 */
+	@FunctionalInterface
+	public static interface LongGetter {
+
+		/**
+		 * Reads the property value from the specified bean.
+		 *
+		 * @param bean The bean to read from.
+		 * @return The property value.
+		 * @throws Throwable Thrown by the underlying getter.
+		 */
+		long get(Object bean) throws Throwable;
+	}
+
+	/**
+	 * Functional interface for reading a <jk>double</jk> property value without boxing.
+	 */
+	@FunctionalInterface
+	public static interface DoubleGetter {
+
+		/**
+		 * Reads the property value from the specified bean.
+		 *
+		 * @param bean The bean to read from.
+		 * @return The property value.
+		 * @throws Throwable Thrown by the underlying getter.
+		 */
+		double get(Object bean) throws Throwable;
+	}
+
+	/**
+	 * Functional interface for reading a <jk>boolean</jk> property value without boxing.
+	 */
+	@FunctionalInterface
+	public static interface BooleanGetter {
+
+		/**
+		 * Reads the property value from the specified bean.
+		 *
+		 * @param bean The bean to read from.
+		 * @return The property value.
+		 * @throws Throwable Thrown by the underlying getter.
+		 */
+		boolean get(Object bean) throws Throwable;
+	}
+
+	private final Getter getter;
+	private final Setter setter;
+	private final Object primitiveGetter;
+	private final Class<?> setterType, setterWrapperType;
+
+	private BeanPropertyAccessor(Getter getter, Setter setter, Class<?> setterType, Object primitiveGetter) {
+		this.getter = getter;
+		this.setter = setter;
+		this.setterType = setterType;
+		this.setterWrapperType = setterType == null ? null : ClassInfo.of(setterType).getWrapperIfPrimitive();
+		this.primitiveGetter = primitiveGetter;
+	}
+
+	/**
+	 * Creates an accessor for the specified property members.
+	 *
+	 * <p>
+	 * Mirrors the lookup order used by {@link BeanPropertyMeta}:  getters take precedence over fields when reading,
+	 * and setters take precedence over fields when writing.
+	 *
+	 * <p>
+	 * If the read path returns an <jk>int</jk>, <jk>long</jk>, <jk>double</jk> or <jk>boolean</jk>, an additional
+	 * unboxed getter is generated as well.
+	 *
+	 * @param getter The getter method, or <jk>null</jk> if there isn't one.
+	 * @param setter The setter method, or <jk>null</jk> if there isn't one.
+	 * @param field The field, or <jk>null</jk> if there isn't one.
+	 * @return A new accessor, or <jk>null</jk> if neither a read nor a write path could be generated.
+	 */
+	static BeanPropertyAccessor create(Method getter, Method setter, Field field) {
+		Getter g = getter != null ? createGetter(getter) : field != null ? createGetter(field) : null;
+		Setter s = setter != null ? createSetter(setter) : field != null ? createSetter(field) : null;
+		if (g == null && s == null)
+			return null;
+		Class<?> st = s == null ? null : setter != null ? setter.getParameterTypes()[0] : field.getType();
+		Object pg = g == null ? null : getter != null ? createPrimitiveGetter(getter) : createPrimitiveGetter(field);
+		return new BeanPropertyAccessor(g, s, st, pg);
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this accessor can read the property.
+	 *
+	 * @return <jk>true</jk> if this accessor can read the property.
+	 */
+	boolean canGet() {
+		return getter != null;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this accessor can write the property.
+	 *
+	 * @return <jk>true</jk> if this accessor can write the property.
+	 */
+	boolean canSet() {
+		return setter != null;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this accessor can read the property as a primitive without boxing.
+	 *
+	 * @return <jk>true</jk> if this accessor can read the property as a primitive without boxing.
+	 */
+	boolean canGetPrimitive() {
+		return primitiveGetter != null;
+	}
+
+	/**
+	 * Reads the property value from the specified bean.
+	 *
+	 * @param bean The bean to read from.
+	 * @return The property value.
+	 * @throws InvocationTargetException Thrown by the underlying getter or field.
+	 */
+	Object get(Object bean) throws InvocationTargetException {
+		try {
+			return getter.get(bean);
+		} catch (Throwable t) {
+			throw new InvocationTargetException(t);
+		}
+	}
+
+	/**
+	 * Reads an <jk>int</jk> property value from the specified bean.
+	 *
+	 * <p>
+	 * Can only be called if {@link #canGetPrimitive()} is <jk>true</jk> and the property type is <jk>int</jk>.
+	 *
+	 * @param bean The bean to read from.
+	 * @return The property value.
+	 * @throws InvocationTargetException Thrown by the underlying getter or field.
+	 */
+	int getInt(Object bean) throws InvocationTargetException {
+		try {
+			return ((IntGetter)primitiveGetter).get(bean);
+		} catch (Throwable t) {
+			throw new InvocationTargetException(t);
+		}
+	}
+
+	/**
+	 * Reads a <jk>long</jk> property value from the specified bean.
+	 *
+	 * <p>
+	 * Can only be called if {@link #canGetPrimitive()} is <jk>true</jk> and the property type is <jk>long</jk>.
+	 *
+	 * @param bean The bean to read from.
+	 * @return The property value.
+	 * @throws InvocationTargetException Thrown by the underlying getter or field.
+	 */
+	long getLong(Object bean) throws InvocationTargetException {
+		try {
+			return ((LongGetter)primitiveGetter).get(bean);
+		} catch (Throwable t) {
+			throw new InvocationTargetException(t);
+		}
+	}
+
+	/**
+	 * Reads a <jk>double</jk> property value from the specified bean.
+	 *
+	 * <p>
+	 * Can only be called if {@link #canGetPrimitive()} is <jk>true</jk> and the property type is <jk>double</jk>.
+	 *
+	 * @param bean The bean to read from.
+	 * @return The property value.
+	 * @throws InvocationTargetException Thrown by the underlying getter or field.
+	 */
+	double getDouble(Object bean) throws InvocationTargetException {
+		try {
+			return ((DoubleGetter)primitiveGetter).get(bean);
+		} catch (Throwable t) {
+			throw new InvocationTargetException(t);
+		}
+	}
+
+	/**
+	 * Reads a <jk>boolean</jk> property value from the specified bean.
+	 *
+	 * <p>
+	 * Can only be called if {@link #canGetPrimitive()} is <jk>true</jk> and the property type is <jk>boolean</jk>.
+	 *
+	 * @param bean The bean to read from.
+	 * @return The property value.
+	 * @throws InvocationTargetException Thrown by the underlying getter or field.
+	 */
+	boolean getBoolean(Object bean) throws InvocationTargetException {
+		try {
+			return ((BooleanGetter)primitiveGetter).get(bean);
+		} catch (Throwable t) {
+			throw new InvocationTargetException(t);
+		}
+	}
+
+	/**
+	 * Writes the property value on the specified bean.
+	 *
+	 * @param bean The bean to write to.
+	 * @param value The new property value.
+	 * @throws IllegalArgumentException The value can't be assigned to the setter parameter or field.
+	 * @throws InvocationTargetException Thrown by the underlying setter.
+	 */
+	void set(Object bean, Object value) throws InvocationTargetException {
+		// Check the value up front since the generated setter would fail with a ClassCastException or
+		// NullPointerException that can't be told apart from one thrown by the setter itself.
+		if (value == null ? setterType.isPrimitive() : ! setterWrapperType.isInstance(value))
+			throw new IllegalArgumentException("Cannot assign value of type '" + (value == null ? null : value.getClass().getName()) + "' to property of type '" + setterType.getName() + "'");
+		try {
+			setter.set(bean, value);
+		} catch (Throwable t) {
+			throw new InvocationTargetException(t);
+		}
+	}
+
+	private static Getter createGetter(Method m) {
+		try {
+			if (m.getParameterTypes().length != 0)
+				return null;
+			MethodHandle mh = LOOKUP.unreflect(m);
+			if (isLinkable(m)) {
+				Class<?> c = m.getDeclaringClass();
+				CallSite cs = LambdaMetafactory.metafactory(
+					LOOKUP,
+					"get",
+					methodType(Getter.class),
+					GETTER_TYPE,
+					mh,
+					methodType(ClassInfo.of(m.getReturnType()).getWrapperIfPrimitive(), c)
+				);
+				return (Getter)cs.getTarget().invoke();
+			}
+			final MethodHandle mh2 = mh.asType(GETTER_TYPE);
+			return b -> mh2.invokeExact(b);
+		} catch (Throwable e) {
+			return null;
+		}
+	}
+
+	private static Getter createGetter(Field f) {
+		try {
+			final MethodHandle mh = LOOKUP.unreflectGetter(f).asType(GETTER_TYPE);
+			return b -> mh.invokeExact(b);
+		} catch (Throwable e) {
+			return null;
+		}
+	}
+
+	private static Object createPrimitiveGetter(Method m) {
+		try {
+			Class<?> t = m.getReturnType();
+			Class<?> sam = primitiveGetterType(t);
+			if (sam == null || m.getParameterTypes().length != 0)
+				return null;
+			MethodHandle mh = LOOKUP.unreflect(m);
+			if (isLinkable(m)) {
+				CallSite cs = LambdaMetafactory.metafactory(
+					LOOKUP,
+					"get",
+					methodType(sam),
+					methodType(t, Object.class),
+					mh,
+					methodType(t, m.getDeclaringClass())
+				);
+				return cs.getTarget().invoke();
+			}
+			return createPrimitiveGetter(mh, t);
+		} catch (Throwable e) {
+			return null;
+		}
+	}
+
+	private static Object createPrimitiveGetter(Field f) {
+		try {
+			Class<?> t = f.getType();
+			if (primitiveGetterType(t) == null)
+				return null;
+			return createPrimitiveGetter(LOOKUP.unreflectGetter(f), t);
+		} catch (Throwable e) {
+			return null;
+		}
+	}
+
+	private static Object createPrimitiveGetter(MethodHandle mh, Class<?> t) {
+		final MethodHandle mh2 = mh.asType(methodType(t, Object.class));
+		if (t == int.class)
+			return (IntGetter)b -> (int)mh2.invokeExact(b);
+		if (t == long.class)
+			return (LongGetter)b -> (long)mh2.invokeExact(b);
+		if (t == double.class)
+			return (DoubleGetter)b -> (double)mh2.invokeExact(b);
+		return (BooleanGetter)b -> (boolean)mh2.invokeExact(b);
+	}
+
+	private static Class<?> primitiveGetterType(Class<?> t) {
+		if (t == int.class)
+			return IntGetter.class;
+		if (t == long.class)
+			return LongGetter.class;
+		if (t == double.class)
+			return DoubleGetter.class;
+		if (t == boolean.class)
+			return BooleanGetter.class;
+		return null;
+	}
+
+	private static Setter createSetter(Method m) {
+		try {
+			if (m.getParameterTypes().length != 1)
+				return null;
+			MethodHandle mh = LOOKUP.unreflect(m);
+			if (isLinkable(m)) {
+				Class<?> c = m.getDeclaringClass();
+				CallSite cs = LambdaMetafactory.metafactory(
+					LOOKUP,
+					"set",
+					methodType(Setter.class),
+					SETTER_TYPE,
+					mh,
+					methodType(void.class, c, ClassInfo.of(m.getParameterTypes()[0]).getWrapperIfPrimitive())
+				);
+				return (Setter)cs.getTarget().invoke();
+			}
+			final MethodHandle mh2 = mh.asType(mh.type().changeReturnType(void.class)).asType(SETTER_TYPE);
+			return (b, v) -> { mh2.invokeExact(b, v); };
+		} catch (Throwable e) {
+			return null;
+		}
+	}
+
+	private static Setter createSetter(Field f) {
+		try {
+			if (Modifier.isFinal(f.getModifiers()))
+				return null;
+			final MethodHandle mh = LOOKUP.unreflectSetter(f).asType(SETTER_TYPE);
+			return (b, v) -> { mh.invokeExact(b, v); };
+		} catch (Throwable e) {
+			return null;
+		}
+	}
+
+	/*
+	 * Lambdas spun by LambdaMetafactory are defined against this class, so they can only call members that are
+	 * public and reachable from this class loader.
+	 */
+	private static boolean isLinkable(Method m) {
+		Class<?> c = m.getDeclaringClass();
+		if (! (Modifier.isPublic(m.getModifiers()) && Modifier.isPublic(c.getModifiers())) || Modifier.isStatic(m.getModifiers()))
+			return false;
+		try {
+			return Class.forName(c.getName(), false, BeanPropertyAccessor.class.getClassLoader()) == c;
+		} catch (Throwable e) {
+			return false;
+		}
+	}
+}
@@ -66,6 +66,11 @@ public final class BeanPropertyMeta {
 
 	private final Object overrideValue;                       // The bean property value (if it's an overridden delegate).
 	private final BeanPropertyMeta delegateFor;               // The bean property that this meta is a delegate for.
+	private final BeanPropertyAccessor accessor;              // Generated getter/setter (if BEAN_useGeneratedAccessors is enabled).
+	private final Class<?> unboxedType;                       // The primitive type if this property can be read without boxing.
+	private final boolean plainString;                        // True if this is a String property serialized as-is.
+	private final boolean plainValue;                         // True if this is a String, Boolean, or number wrapper property serialized as-is.
+	private final boolean directSet;                          // True if values of the property type can be set without conversion.
 	private final boolean canRead, canWrite, readOnly, writeOnly;
 	private final int hashCode;
 
@@ -434,6 +439,11 @@ public final class BeanPropertyMeta {
 		this.canWrite = b.canWrite;
 		this.readOnly = b.readOnly;
 		this.writeOnly = b.writeOnly;
+		this.accessor = beanContext.isUseGeneratedAccessors() && ! isDyna ? BeanPropertyAccessor.create(getter, setter, field) : null;
+		this.unboxedType = findUnboxedType();
+		this.plainString = findPlainString();
+		this.plainValue = findPlainValue();
+		this.directSet = findDirectSet();
 		this.hashCode = HashCode.create().add(beanMeta.hashCode()).add(name == null ? 0 : name.hashCode()).get();
 	}
 
@@ -559,6 +569,65 @@ public final class BeanPropertyMeta {
 		return properties;
 	}
 
+	/**
+	 * Returns the primitive type of this property if its value can be read without boxing.
+	 *
+	 * <p>
+	 * This is the case for <jk>int</jk>, <jk>long</jk>, <jk>double</jk> and <jk>boolean</jk> properties that don't
+	 * have any swaps or property filters associated with them and whose value can be read through a public field or
+	 * a generated accessor (see {@link BeanContext#BEAN_useGeneratedAccessors}).
+	 *
+	 * <p>
+	 * The values of these properties are read through {@link #getInt(BeanMap)}, {@link #getLong(BeanMap)},
+	 * {@link #getDouble(BeanMap)} and {@link #getBoolean(BeanMap)} by {@link BeanMap#getValues(boolean, BeanPropertyValue...)}.
+	 *
+	 * @return The primitive type of this property, or <jk>null</jk> if the value can't be read without boxing.
+	 */
+	public Class<?> getUnboxedType() {
+		return unboxedType;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this is a {@link String} property whose value is serialized as-is.
+	 *
+	 * <p>
+	 * This is the case for readable <c>String</c> properties that don't have any swaps, property filters, or URI
+	 * handling associated with them, so serializers can write the value returned by {@link #get(BeanMap, String)}
+	 * directly without resolving its class metadata.
+	 *
+	 * @return <jk>true</jk> if this is a <c>String</c> property whose value is serialized as-is.
+	 */
+	public boolean isPlainString() {
+		return plainString;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this is a <c>String</c>, <c>Boolean</c>, or number wrapper property whose value is
+	 * serialized as-is.
+	 *
+	 * <p>
+	 * Same as {@link #isPlainString()} but also includes properties of type <c>Boolean</c>, <c>Integer</c>,
+	 * <c>Long</c>, <c>Short</c>, <c>Byte</c>, <c>Float</c>, and <c>Double</c>.
+	 *
+	 * @return <jk>true</jk> if this is a property whose value is serialized as-is.
+	 */
+	public boolean isPlainValue() {
+		return plainValue;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if values can be set on this property through {@link #setDirect(BeanMap, Object)}.
+	 *
+	 * <p>
+	 * This is the case for writable <c>String</c>, <jk>int</jk>, <jk>long</jk>, <jk>double</jk> and <jk>boolean</jk>
+	 * properties (and their wrapper classes) that don't have any swaps associated with them.
+	 *
+	 * @return <jk>true</jk> if values can be set on this property without conversion.
+	 */
+	public boolean canSetDirect() {
+		return directSet;
+	}
+
 	/**
 	 * Returns the metadata on the property that this metadata is a delegate for.
 	 *
@@ -605,6 +674,130 @@ public final class BeanPropertyMeta {
 		}
 	}
 
+	/**
+	 * Same as {@link #get(BeanMap, String)} but returns the value as an <jk>int</jk>.
+	 *
+	 * <p>
+	 * If {@link #getUnboxedType()} returns <c><jk>int</jk>.<jk>class</jk></c>, the value is read without boxing.
+	 * <br>Otherwise, the value is read through {@link #get(BeanMap, String)} and converted to an <jk>int</jk>.
+	 *
+	 * @param m The bean map to get the value from.
+	 * @return The property value.
+	 */
+	public int getInt(BeanMap<?> m) {
+		Object bean = m.bean;
+		if (unboxedType == int.class && bean != null) {
+			try {
+				return accessor != null && accessor.canGetPrimitive() ? accessor.getInt(bean) : field.getInt(bean);
+			} catch (Throwable e) {
+				if (beanContext.isIgnoreInvocationExceptionsOnGetters())
+					return 0;
+				throw new BeanRuntimeException(e, beanMeta.c, "Exception occurred while getting property ''{0}''", name);
+			}
+		}
+		return m.getBeanSession().convertToType(get(m, null), int.class);
+	}
+
+	/**
+	 * Same as {@link #get(BeanMap, String)} but returns the value as a <jk>long</jk>.
+	 *
+	 * <p>
+	 * If {@link #getUnboxedType()} returns <c><jk>long</jk>.<jk>class</jk></c>, the value is read without boxing.
+	 * <br>Otherwise, the value is read through {@link #get(BeanMap, String)} and converted to a <jk>long</jk>.
+	 *
+	 * @param m The bean map to get the value from.
+	 * @return The property value.
+	 */
+	public long getLong(BeanMap<?> m) {
+		Object bean = m.bean;
+		if (unboxedType == long.class && bean != null) {
+			try {
+				return accessor != null && accessor.canGetPrimitive() ? accessor.getLong(bean) : field.getLong(bean);
+			} catch (Throwable e) {
+				if (beanContext.isIgnoreInvocationExceptionsOnGetters())
+					return 0;
+				throw new BeanRuntimeException(e, beanMeta.c, "Exception occurred while getting property ''{0}''", name);
+			}
+		}
+		return m.getBeanSession().convertToType(get(m, null), long.class);
+	}
+
+	/**
+	 * Same as {@link #get(BeanMap, String)} but returns the value as a <jk>double</jk>.
+	 *
+	 * <p>
+	 * If {@link #getUnboxedType()} returns <c><jk>double</jk>.<jk>class</jk></c>, the value is read without boxing.
+	 * <br>Otherwise, the value is read through {@link #get(BeanMap, String)} and converted to a <jk>double</jk>.
+	 *
+	 * @param m The bean map to get the value from.
+	 * @return The property value.
+	 */
+	public double getDouble(BeanMap<?> m) {
+		Object bean = m.bean;
+		if (unboxedType == double.class && bean != null) {
+			try {
+				return accessor != null && accessor.canGetPrimitive() ? accessor.getDouble(bean) : field.getDouble(bean);
+			} catch (Throwable e) {
+				if (beanContext.isIgnoreInvocationExceptionsOnGetters())
+					return 0;
+				throw new BeanRuntimeException(e, beanMeta.c, "Exception occurred while getting property ''{0}''", name);
+			}
+		}
+		return m.getBeanSession().convertToType(get(m, null), double.class);
+	}
+
+	/**
+	 * Same as {@link #get(BeanMap, String)} but returns the value as a <jk>boolean</jk>.
+	 *
+	 * <p>
+	 * If {@link #getUnboxedType()} returns <c><jk>boolean</jk>.<jk>class</jk></c>, the value is read without boxing.
+	 * <br>Otherwise, the value is read through {@link #get(BeanMap, String)} and converted to a <jk>boolean</jk>.
+	 *
+	 * @param m The bean map to get the value from.
+	 * @return The property value.
+	 */
+	public boolean getBoolean(BeanMap<?> m) {
+		Object bean = m.bean;
+		if (unboxedType == boolean.class && bean != null) {
+			try {
+				return accessor != null && accessor.canGetPrimitive() ? accessor.getBoolean(bean) : field.getBoolean(bean);
+			} catch (Throwable e) {
+				if (beanContext.isIgnoreInvocationExceptionsOnGetters())
+					return false;
+				throw new BeanRuntimeException(e, beanMeta.c, "Exception occurred while getting property ''{0}''", name);
+			}
+		}
+		return m.getBeanSession().convertToType(get(m, null), boolean.class);
+	}
+
+	/**
+	 * Same as {@link #set(BeanMap, String, Object)} but doesn't convert the value to the property type.
+	 *
+	 * <p>
+	 * Can only be used if {@link #canSetDirect()} returns <jk>true</jk> and the value is a non-null instance of the
+	 * property type (or its wrapper class if the property type is primitive).
+	 *
+	 * @param m The bean map to set the value on.
+	 * @param value The new value.
+	 * @throws BeanRuntimeException If the setter threw an exception.
+	 */
+	public void setDirect(BeanMap<?> m, Object value) throws BeanRuntimeException {
+		Object bean = m.bean;
+		if (bean == null) {
+			set(m, null, value);
+			return;
+		}
+		try {
+			invokeSetter(bean, null, value);
+		} catch (BeanRuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			if (beanContext.isIgnoreInvocationExceptionsOnSetters())
+				return;
+			throw new BeanRuntimeException(e, beanMeta.c, "Error occurred trying to set property ''{0}''", name);
+		}
+	}
+
 	/**
 	 * Equivalent to calling {@link BeanMap#getRaw(Object)}, but is faster since it avoids looking up the property meta.
 	 *
@@ -863,6 +1056,59 @@ public final class BeanPropertyMeta {
 		}
 	}
 
+	/*
+	 * Primitive properties can only be read without boxing if the value doesn't need to be transformed and there's a
+	 * read path that doesn't go through reflection.
+	 */
+	private Class<?> findUnboxedType() {
+		Class<?> c = rawTypeMeta == null ? null : rawTypeMeta.getInnerClass();
+		if (! (c == int.class || c == long.class || c == double.class || c == boolean.class))
+			return null;
+		if (isDyna || ! canRead || writeOnly || swap != null || properties != null || overrideValue != null)
+			return null;
+		if (rawTypeMeta.hasPojoSwaps() || rawTypeMeta.hasChildPojoSwaps())
+			return null;
+		if (beanContext.getClassMeta(ClassInfo.of(c).getWrapperIfPrimitive()).hasPojoSwaps())
+			return null;
+		if ((accessor != null && accessor.canGetPrimitive()) || (getter == null && field != null))
+			return c;
+		return null;
+	}
+
+	private boolean findPlainString() {
+		if (rawTypeMeta == null || rawTypeMeta.getInnerClass() != String.class)
+			return false;
+		if (isDyna || ! canRead || writeOnly || isUri || swap != null || properties != null || overrideValue != null)
+			return false;
+		return ! (rawTypeMeta.hasPojoSwaps() || rawTypeMeta.hasChildPojoSwaps());
+	}
+
+	private boolean findPlainValue() {
+		Class<?> c = rawTypeMeta == null ? null : rawTypeMeta.getInnerClass();
+		if (c == String.class)
+			return plainString;
+		if (! (c == Boolean.class || c == Integer.class || c == Long.class || c == Short.class || c == Byte.class || c == Float.class || c == Double.class))
+			return false;
+		if (isDyna || ! canRead || writeOnly || isUri || swap != null || properties != null || overrideValue != null)
+			return false;
+		return ! (rawTypeMeta.hasPojoSwaps() || rawTypeMeta.hasChildPojoSwaps());
+	}
+
+	private boolean findDirectSet() {
+		Class<?> c = rawTypeMeta == null ? null : rawTypeMeta.getInnerClass();
+		if (c == null)
+			return false;
+		ClassInfo ci = ClassInfo.of(c);
+		Class<?> w = ci.getWrapperIfPrimitive();
+		if (! (w == String.class || w == Boolean.class || w == Integer.class || w == Long.class || w == Double.class))
+			return false;
+		if (isDyna || readOnly || (setter == null && field == null) || swap != null)
+			return false;
+		if (rawTypeMeta.hasPojoSwaps() || rawTypeMeta.hasChildPojoSwaps())
+			return false;
+		return ! (c != w && beanContext.getClassMeta(w).hasPojoSwaps());
+	}
+
 	private Object invokeGetter(Object bean, String pName) throws IllegalArgumentException, IllegalAccessException, InvocationTargetException {
 		if (isDyna) {
 			Map m = null;
@@ -877,6 +1123,8 @@ public final class BeanPropertyMeta {
 				throw new BeanRuntimeException(beanMeta.c, "Getter or public field not defined on property ''{0}''", name);
 			return (m == null ? null : m.get(pName));
 		}
+		if (accessor != null && accessor.canGet())
+			return accessor.get(bean);
 		if (getter != null)
 			return getter.invoke(bean);
 		if (field != null)
@@ -897,6 +1145,10 @@ public final class BeanPropertyMeta {
 				throw new BeanRuntimeException(beanMeta.c, "Cannot set property ''{0}'' of type ''{1}'' to object of type ''{2}'' because no setter is defined on this property, and the existing property value is null", name, this.getClassMeta().getInnerClass().getName(), findClassName(val));
 			return (m == null ? null : m.put(pName, val));
 		}
+		if (accessor != null && accessor.canSet()) {
+			accessor.set(bean, val);
+			return null;
+		}
 		if (setter != null)
 			return setter.invoke(bean, val);
 		if (field != null) {
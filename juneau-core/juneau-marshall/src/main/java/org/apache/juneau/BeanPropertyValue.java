@@ -14,13 +14,23 @@ package org.apache.juneau;
 
 /**
  * Represents a simple bean property value and the meta-data associated with it.
+ *
+ * <p>
+ * Values of <jk>int</jk>, <jk>long</jk>, <jk>double</jk> and <jk>boolean</jk> properties can be stored without boxing
+ * (see {@link BeanPropertyMeta#getUnboxedType()}).
+ * <br>Serializers can check {@link #getPrimitiveType()} and read these through {@link #getInt()}, {@link #getLong()},
+ * {@link #getDouble()} and {@link #getBoolean()}.
+ * <br>{@link #getValue()} boxes the value on demand.
  */
 public class BeanPropertyValue implements Comparable<BeanPropertyValue> {
 
 	private final BeanPropertyMeta pMeta;
 	private final String name;
-	private final Object value;
 	private final Throwable thrown;
+	private final Class<?> primitiveType;
+	private final long longValue;
+	private final double doubleValue;
+	private Object value;
 
 	/**
 	 * Constructor.
@@ -35,6 +45,62 @@ public class BeanPropertyValue implements Comparable<BeanPropertyValue> {
 		this.name = name;
 		this.value = value;
 		this.thrown = thrown;
+		this.primitiveType = null;
+		this.longValue = 0;
+		this.doubleValue = 0;
+	}
+
+	/**
+	 * Constructor for an unboxed <jk>int</jk> value.
+	 *
+	 * @param pMeta The bean property metadata.
+	 * @param name The bean property name.
+	 * @param value The bean property value.
+	 */
+	public BeanPropertyValue(BeanPropertyMeta pMeta, String name, int value) {
+		this(pMeta, name, int.class, value, 0);
+	}
+
+	/**
+	 * Constructor for an unboxed <jk>long</jk> value.
+	 *
+	 * @param pMeta The bean property metadata.
+	 * @param name The bean property name.
+	 * @param value The bean property value.
+	 */
+	public BeanPropertyValue(BeanPropertyMeta pMeta, String name, long value) {
+		this(pMeta, name, long.class, value, 0);
+	}
+
+	/**
+	 * Constructor for an unboxed <jk>double</jk> value.
+	 *
+	 * @param pMeta The bean property metadata.
+	 * @param name The bean property name.
+	 * @param value The bean property value.
+	 */
+	public BeanPropertyValue(BeanPropertyMeta pMeta, String name, double value) {
+		this(pMeta, name, double.class, 0, value);
+	}
+
+	/**
+	 * Constructor for an unboxed <jk>boolean</jk> value.
+	 *
+	 * @param pMeta The bean property metadata.
+	 * @param name The bean property name.
+	 * @param value The bean property value.
+	 */
+	public BeanPropertyValue(BeanPropertyMeta pMeta, String name, boolean value) {
+		this(pMeta, name, boolean.class, value ? 1 : 0, 0);
+	}
+
+	private BeanPropertyValue(BeanPropertyMeta pMeta, String name, Class<?> primitiveType, long longValue, double doubleValue) {
+		this.pMeta = pMeta;
+		this.name = name;
+		this.thrown = null;
+		this.primitiveType = primitiveType;
+		this.longValue = longValue;
+		this.doubleValue = doubleValue;
 	}
 
 	/**
@@ -70,9 +136,66 @@ public class BeanPropertyValue implements Comparable<BeanPropertyValue> {
 	 * @return The bean property value.
 	 */
 	public final Object getValue() {
+		if (value == null && primitiveType != null) {
+			if (primitiveType == int.class)
+				value = (int)longValue;
+			else if (primitiveType == long.class)
+				value = longValue;
+			else if (primitiveType == double.class)
+				value = doubleValue;
+			else
+				value = longValue != 0;
+		}
 		return value;
 	}
 
+	/**
+	 * Returns the primitive type of the value if it's stored without boxing.
+	 *
+	 * @return
+	 * 	<c><jk>int</jk>.<jk>class</jk></c>, <c><jk>long</jk>.<jk>class</jk></c>, <c><jk>double</jk>.<jk>class</jk></c>,
+	 * 	<c><jk>boolean</jk>.<jk>class</jk></c>, or <jk>null</jk> if the value is not stored as a primitive.
+	 */
+	public final Class<?> getPrimitiveType() {
+		return primitiveType;
+	}
+
+	/**
+	 * Returns the unboxed <jk>int</jk> value.
+	 *
+	 * @return The unboxed value, or <c>0</c> if {@link #getPrimitiveType()} is not <jk>int</jk>.
+	 */
+	public final int getInt() {
+		return (int)longValue;
+	}
+
+	/**
+	 * Returns the unboxed <jk>long</jk> value.
+	 *
+	 * @return The unboxed value, or <c>0</c> if {@link #getPrimitiveType()} is not <jk>long</jk>.
+	 */
+	public final long getLong() {
+		return longValue;
+	}
+
+	/**
+	 * Returns the unboxed <jk>double</jk> value.
+	 *
+	 * @return The unboxed value, or <c>0</c> if {@link #getPrimitiveType()} is not <jk>double</jk>.
+	 */
+	public final double getDouble() {
+		return doubleValue;
+	}
+
+	/**
+	 * Returns the unboxed <jk>boolean</jk> value.
+	 *
+	 * @return The unboxed value, or <jk>false</jk> if {@link #getPrimitiveType()} is not <jk>boolean</jk>.
+	 */
+	public final boolean getBoolean() {
+		return longValue != 0;
+	}
+
 	/**
 	 * Returns the exception thrown by calling the property getter.
 	 *
@@ -91,7 +214,7 @@ public class BeanPropertyValue implements Comparable<BeanPropertyValue> {
 	public String toString() {
 		return new ObjectMap()
 			.append("name", name)
-			.append("value", value)
+			.append("value", getValue())
 			.append("type", pMeta.getClassMeta().getInnerClass().getSimpleName())
 			.toString();
 	}
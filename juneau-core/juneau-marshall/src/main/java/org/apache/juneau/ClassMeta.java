@@ -59,7 +59,7 @@ public final class ClassMeta<T> implements Type {
 
 	/** Class categories. */
 	enum ClassCategory {
-		MAP, COLLECTION, CLASS, METHOD, NUMBER, DECIMAL, BOOLEAN, CHAR, DATE, ARRAY, ENUM, OTHER, CHARSEQ, STR, OBJ, URI, BEANMAP, READER, INPUTSTREAM, VOID, ARGS, OPTIONAL
+		MAP, COLLECTION, CLASS, METHOD, NUMBER, DECIMAL, BOOLEAN, CHAR, DATE, ARRAY, ENUM, OTHER, CHARSEQ, STR, OBJ, URI, BEANMAP, READER, INPUTSTREAM, VOID, ARGS, OPTIONAL, STREAM
 	}
 
 	final Class<T> innerClass;                              // The class being wrapped.
@@ -432,6 +432,8 @@ public final class ClassMeta<T> implements Type {
 					cc = INPUTSTREAM;
 				else if (ci.is(Optional.class))
 					cc = OPTIONAL;
+				else if (ci.isChildOfAny(Iterator.class, Enumeration.class, java.util.stream.BaseStream.class, Spliterator.class))
+					cc = STREAM;
 			}
 
 			isMemberClass = ci.isMemberClass() && ci.isNotStatic();
@@ -577,6 +579,11 @@ public final class ClassMeta<T> implements Type {
 					}
 				}
 
+				// If this is a STREAM, the element type can only be determined from the elements themselves.
+				else if (cc == STREAM) {
+					elementType = findClassMeta(Object.class);
+				}
+
 				// If the category is unknown, see if it's a bean.
 				// Note that this needs to be done after all other initialization has been done.
 				else if (cc == OTHER) {
@@ -673,6 +680,7 @@ public final class ClassMeta<T> implements Type {
 					case OTHER:
 					case READER:
 					case OPTIONAL:
+					case STREAM:
 					case VOID:
 						break;
 				}
@@ -842,6 +850,15 @@ public final class ClassMeta<T> implements Type {
 		return childPojoSwaps != null;
 	}
 
+	/**
+	 * Returns <jk>true</jk> if this class has any {@link PojoSwap PojoSwaps} associated with it.
+	 *
+	 * @return <jk>true</jk> if this class has any {@link PojoSwap PojoSwaps} associated with it.
+	 */
+	protected boolean hasPojoSwaps() {
+		return pojoSwaps != null;
+	}
+
 	/**
 	 * Returns the {@link PojoSwap} where the specified class is the same/subclass of the normal class of one of the
 	 * child POJO swaps associated with this class.
@@ -1379,6 +1396,19 @@ public final class ClassMeta<T> implements Type {
 		return cc == INPUTSTREAM;
 	}
 
+	/**
+	 * Returns <jk>true</jk> if this class is a lazily-evaluated source of elements.
+	 *
+	 * <p>
+	 * This includes {@link Iterator Iterators}, {@link Enumeration Enumerations},
+	 * {@link java.util.stream.BaseStream Streams} and {@link Spliterator Spliterators}.
+	 *
+	 * @return <jk>true</jk> if this class is a lazily-evaluated source of elements.
+	 */
+	public boolean isStream() {
+		return cc == STREAM;
+	}
+
 	/**
 	 * Returns <jk>true</jk> if this class is {@link Void} or <jk>void</jk>.
 	 *
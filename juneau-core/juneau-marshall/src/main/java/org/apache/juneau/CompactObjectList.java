@@ -0,0 +1,468 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import java.util.*;
+
+import org.apache.juneau.parser.*;
+
+/**
+ * An {@link ObjectList} that stores its elements in a resizable array instead of a chain of linked nodes.
+ *
+ * <p>
+ * A {@link LinkedList} allocates one node object per element, which dominates the memory footprint of large
+ * parsed documents.
+ * This class keeps its elements in a single array and provides constant-time positional access.
+ *
+ * <p>
+ * Instances of this class are produced by parsers when the {@link Parser#PARSER_compactCollections} setting is
+ * enabled, but can also be created directly.
+ * Aside from the performance characteristics of its {@link List} and {@link Deque} operations, this class behaves
+ * the same as {@link ObjectList}.
+ *
+ * <p>
+ * This class is not thread safe.
+ */
+public class CompactObjectList extends ObjectList {
+	private static final long serialVersionUID = 1L;
+
+	private static final Object[] EMPTY = new Object[0];
+
+	private Object[] elements = EMPTY;
+	private int size;
+
+	/**
+	 * Construct an empty list.
+	 */
+	public CompactObjectList() {
+	}
+
+	/**
+	 * Construct an empty list with the specified bean session.
+	 *
+	 * @param session The bean session to associate with this list for creating beans.
+	 */
+	public CompactObjectList(BeanSession session) {
+		super(session);
+	}
+
+	/**
+	 * Construct a list and fill it with the specified collection of objects.
+	 *
+	 * @param c A list of objects to add to this list.
+	 */
+	public CompactObjectList(Collection<?> c) {
+		this();
+		if (c != null)
+			addAll(c);
+	}
+
+	@Override /* List */
+	public int size() {
+		return size;
+	}
+
+	@Override /* List */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override /* List */
+	public Object get(int index) {
+		checkIndex(index);
+		return elements[index];
+	}
+
+	@Override /* List */
+	public Object set(int index, Object element) {
+		checkIndex(index);
+		Object o = elements[index];
+		elements[index] = element;
+		return o;
+	}
+
+	@Override /* List */
+	public boolean add(Object e) {
+		insert(size, e);
+		return true;
+	}
+
+	@Override /* List */
+	public void add(int index, Object element) {
+		if (index < 0 || index > size)
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		insert(index, element);
+	}
+
+	@Override /* List */
+	public boolean addAll(Collection<? extends Object> c) {
+		return addAll(size, c);
+	}
+
+	@Override /* List */
+	public boolean addAll(int index, Collection<? extends Object> c) {
+		if (index < 0 || index > size)
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		Object[] a = c.toArray();
+		int n = a.length;
+		if (n == 0)
+			return false;
+		ensureCapacity(size + n);
+		System.arraycopy(elements, index, elements, index + n, size - index);
+		System.arraycopy(a, 0, elements, index, n);
+		size += n;
+		modCount++;
+		return true;
+	}
+
+	@Override /* List */
+	public Object remove(int index) {
+		checkIndex(index);
+		Object o = elements[index];
+		removeAt(index);
+		return o;
+	}
+
+	@Override /* List */
+	public boolean remove(Object o) {
+		int i = indexOf(o);
+		if (i == -1)
+			return false;
+		removeAt(i);
+		return true;
+	}
+
+	@Override /* List */
+	public void clear() {
+		Arrays.fill(elements, 0, size, null);
+		size = 0;
+		modCount++;
+	}
+
+	@Override /* List */
+	public boolean contains(Object o) {
+		return indexOf(o) != -1;
+	}
+
+	@Override /* List */
+	public int indexOf(Object o) {
+		for (int i = 0; i < size; i++)
+			if (Objects.equals(o, elements[i]))
+				return i;
+		return -1;
+	}
+
+	@Override /* List */
+	public int lastIndexOf(Object o) {
+		for (int i = size-1; i >= 0; i--)
+			if (Objects.equals(o, elements[i]))
+				return i;
+		return -1;
+	}
+
+	@Override /* List */
+	public Object[] toArray() {
+		return Arrays.copyOf(elements, size);
+	}
+
+	@Override /* List */
+	@SuppressWarnings("unchecked")
+	public <T> T[] toArray(T[] a) {
+		if (a.length < size)
+			return (T[])Arrays.copyOf(elements, size, a.getClass());
+		System.arraycopy(elements, 0, a, 0, size);
+		if (a.length > size)
+			a[size] = null;
+		return a;
+	}
+
+	@Override /* List */
+	public Iterator<Object> iterator() {
+		return new Itr(0);
+	}
+
+	@Override /* List */
+	public ListIterator<Object> listIterator() {
+		return new Itr(0);
+	}
+
+	@Override /* List */
+	public ListIterator<Object> listIterator(int index) {
+		if (index < 0 || index > size)
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		return new Itr(index);
+	}
+
+	@Override /* List */
+	public Spliterator<Object> spliterator() {
+		return Spliterators.spliterator(this, Spliterator.ORDERED);
+	}
+
+	@Override /* Deque */
+	public Iterator<Object> descendingIterator() {
+		final ListIterator<Object> i = new Itr(size);
+		return new Iterator<Object>() {
+
+			@Override /* Iterator */
+			public boolean hasNext() {
+				return i.hasPrevious();
+			}
+
+			@Override /* Iterator */
+			public Object next() {
+				return i.previous();
+			}
+
+			@Override /* Iterator */
+			public void remove() {
+				i.remove();
+			}
+		};
+	}
+
+	@Override /* Deque */
+	public void addFirst(Object e) {
+		insert(0, e);
+	}
+
+	@Override /* Deque */
+	public void addLast(Object e) {
+		insert(size, e);
+	}
+
+	@Override /* Deque */
+	public boolean offer(Object e) {
+		return add(e);
+	}
+
+	@Override /* Deque */
+	public boolean offerFirst(Object e) {
+		addFirst(e);
+		return true;
+	}
+
+	@Override /* Deque */
+	public boolean offerLast(Object e) {
+		addLast(e);
+		return true;
+	}
+
+	@Override /* Deque */
+	public void push(Object e) {
+		addFirst(e);
+	}
+
+	@Override /* Deque */
+	public Object getFirst() {
+		if (size == 0)
+			throw new NoSuchElementException();
+		return elements[0];
+	}
+
+	@Override /* Deque */
+	public Object getLast() {
+		if (size == 0)
+			throw new NoSuchElementException();
+		return elements[size-1];
+	}
+
+	@Override /* Deque */
+	public Object element() {
+		return getFirst();
+	}
+
+	@Override /* Deque */
+	public Object peek() {
+		return size == 0 ? null : elements[0];
+	}
+
+	@Override /* Deque */
+	public Object peekFirst() {
+		return peek();
+	}
+
+	@Override /* Deque */
+	public Object peekLast() {
+		return size == 0 ? null : elements[size-1];
+	}
+
+	@Override /* Deque */
+	public Object removeFirst() {
+		if (size == 0)
+			throw new NoSuchElementException();
+		return remove(0);
+	}
+
+	@Override /* Deque */
+	public Object removeLast() {
+		if (size == 0)
+			throw new NoSuchElementException();
+		return remove(size-1);
+	}
+
+	@Override /* Deque */
+	public Object remove() {
+		return removeFirst();
+	}
+
+	@Override /* Deque */
+	public Object pop() {
+		return removeFirst();
+	}
+
+	@Override /* Deque */
+	public Object poll() {
+		return size == 0 ? null : remove(0);
+	}
+
+	@Override /* Deque */
+	public Object pollFirst() {
+		return poll();
+	}
+
+	@Override /* Deque */
+	public Object pollLast() {
+		return size == 0 ? null : remove(size-1);
+	}
+
+	@Override /* Deque */
+	public boolean removeFirstOccurrence(Object o) {
+		return remove(o);
+	}
+
+	@Override /* Deque */
+	public boolean removeLastOccurrence(Object o) {
+		int i = lastIndexOf(o);
+		if (i == -1)
+			return false;
+		removeAt(i);
+		return true;
+	}
+
+	@Override /* Object */
+	public Object clone() {
+		CompactObjectList l = new CompactObjectList(getBeanSession());
+		l.elements = Arrays.copyOf(elements, size);
+		l.size = size;
+		return l;
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Internal
+	//-----------------------------------------------------------------------------------------------------------------
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+	}
+
+	private void ensureCapacity(int min) {
+		if (min > elements.length)
+			elements = Arrays.copyOf(elements, Math.max(min, elements.length == 0 ? 4 : elements.length + (elements.length >> 1)));
+	}
+
+	private void insert(int index, Object e) {
+		ensureCapacity(size + 1);
+		if (index < size)
+			System.arraycopy(elements, index, elements, index + 1, size - index);
+		elements[index] = e;
+		size++;
+		modCount++;
+	}
+
+	private void removeAt(int index) {
+		int n = size - index - 1;
+		if (n > 0)
+			System.arraycopy(elements, index + 1, elements, index, n);
+		elements[--size] = null;
+		modCount++;
+	}
+
+	private final class Itr implements ListIterator<Object> {
+		int cursor, last = -1, expectedModCount = modCount;
+
+		Itr(int index) {
+			cursor = index;
+		}
+
+		@Override /* ListIterator */
+		public boolean hasNext() {
+			return cursor < size;
+		}
+
+		@Override /* ListIterator */
+		public Object next() {
+			checkForComodification();
+			if (cursor >= size)
+				throw new NoSuchElementException();
+			last = cursor++;
+			return elements[last];
+		}
+
+		@Override /* ListIterator */
+		public boolean hasPrevious() {
+			return cursor > 0;
+		}
+
+		@Override /* ListIterator */
+		public Object previous() {
+			checkForComodification();
+			if (cursor <= 0)
+				throw new NoSuchElementException();
+			last = --cursor;
+			return elements[last];
+		}
+
+		@Override /* ListIterator */
+		public int nextIndex() {
+			return cursor;
+		}
+
+		@Override /* ListIterator */
+		public int previousIndex() {
+			return cursor - 1;
+		}
+
+		@Override /* ListIterator */
+		public void remove() {
+			if (last == -1)
+				throw new IllegalStateException();
+			checkForComodification();
+			removeAt(last);
+			cursor = last;
+			last = -1;
+			expectedModCount = modCount;
+		}
+
+		@Override /* ListIterator */
+		public void set(Object e) {
+			if (last == -1)
+				throw new IllegalStateException();
+			checkForComodification();
+			elements[last] = e;
+		}
+
+		@Override /* ListIterator */
+		public void add(Object e) {
+			checkForComodification();
+			insert(cursor++, e);
+			last = -1;
+			expectedModCount = modCount;
+		}
+
+		private void checkForComodification() {
+			if (modCount != expectedModCount)
+				throw new ConcurrentModificationException();
+		}
+	}
+}
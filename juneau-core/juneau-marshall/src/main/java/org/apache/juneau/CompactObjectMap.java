@@ -0,0 +1,598 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import java.util.*;
+import java.util.function.*;
+
+import org.apache.juneau.parser.*;
+import org.apache.juneau.transform.*;
+
+/**
+ * An {@link ObjectMap} that stores its entries in a pair of insertion-ordered arrays instead of a hash table.
+ *
+ * <p>
+ * Parsed documents typically contain large numbers of small maps.
+ * A {@link LinkedHashMap} allocates a hash table plus one linked entry object per key, whereas this class only
+ * allocates two arrays sized to the number of entries.
+ * Keys are located by a linear scan for small maps, and through a lightweight open-addressed index once the map
+ * grows beyond {@value #INDEX_THRESHOLD} entries.
+ *
+ * <p>
+ * Instances of this class are produced by parsers when the {@link Parser#PARSER_compactCollections} setting is
+ * enabled, but can also be created directly.
+ * Aside from memory usage, this class behaves the same as {@link ObjectMap}.
+ * <br>Lookups that miss fall back on the {@link #setInner(Map) inner map} if one is set.
+ *
+ * <p>
+ * This class is not thread safe.
+ */
+public class CompactObjectMap extends ObjectMap {
+	private static final long serialVersionUID = 1L;
+
+	/** Maps larger than this are indexed by hash. */
+	static final int INDEX_THRESHOLD = 8;
+
+	private static final String[] EMPTY_KEYS = new String[0];
+	private static final Object[] EMPTY_VALUES = new Object[0];
+
+	private String[] keys = EMPTY_KEYS;
+	private Object[] values = EMPTY_VALUES;
+	private int size;
+	private Map<String,Object> inner;
+
+	// Open-addressed table of entry positions (plus one, so zero means empty slot).
+	private transient int[] index;
+	private transient int modCount;
+
+	/**
+	 * Construct an empty map.
+	 */
+	public CompactObjectMap() {
+	}
+
+	/**
+	 * Construct an empty map with the specified bean session.
+	 *
+	 * @param session The bean session to use for creating beans.
+	 */
+	public CompactObjectMap(BeanSession session) {
+		super(session);
+	}
+
+	/**
+	 * Construct a map and fill it with the contents from the specified {@link Map}.
+	 *
+	 * @param m The map whose entries will be copied into this map.
+	 */
+	public CompactObjectMap(Map<?,?> m) {
+		this();
+		if (m != null)
+			for (Map.Entry<?,?> e : m.entrySet())
+				put(e.getKey().toString(), e.getValue());
+	}
+
+	@Override /* ObjectMap */
+	public ObjectMap setInner(Map<String,Object> inner) {
+		this.inner = inner;
+		return super.setInner(inner);
+	}
+
+	@Override /* Map */
+	public int size() {
+		return size;
+	}
+
+	@Override /* Map */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override /* Map */
+	public Object get(Object key) {
+		int i = indexOf(key);
+		Object o = i == -1 ? null : values[i];
+		if (o == null && inner != null)
+			o = inner.get(key);
+		return o;
+	}
+
+	@Override /* Map */
+	public Object getOrDefault(Object key, Object def) {
+		int i = indexOf(key);
+		return i == -1 ? def : values[i];
+	}
+
+	@Override /* Map */
+	public boolean containsKey(Object key) {
+		if (indexOf(key) != -1)
+			return true;
+		if (inner != null)
+			return inner.containsKey(key);
+		return false;
+	}
+
+	@Override /* ObjectMap */
+	public boolean containsOuterKey(Object key) {
+		return indexOf(key) != -1;
+	}
+
+	@Override /* Map */
+	public boolean containsValue(Object value) {
+		for (int i = 0; i < size; i++)
+			if (Objects.equals(values[i], value))
+				return true;
+		return false;
+	}
+
+	@Override /* Map */
+	public Object put(String key, Object value) {
+		int i = indexOf(key);
+		if (i != -1) {
+			Object o = values[i];
+			values[i] = value;
+			return o;
+		}
+		add(key, value);
+		return null;
+	}
+
+	@Override /* Map */
+	public void putAll(Map<? extends String,? extends Object> m) {
+		for (Map.Entry<? extends String,? extends Object> e : m.entrySet())
+			put(e.getKey(), e.getValue());
+	}
+
+	@Override /* Map */
+	public Object putIfAbsent(String key, Object value) {
+		int i = indexOf(key);
+		if (i == -1) {
+			add(key, value);
+			return null;
+		}
+		Object o = values[i];
+		if (o == null)
+			values[i] = value;
+		return o;
+	}
+
+	@Override /* Map */
+	public Object remove(Object key) {
+		int i = indexOf(key);
+		if (i == -1)
+			return null;
+		Object o = values[i];
+		removeAt(i);
+		return o;
+	}
+
+	@Override /* Map */
+	public boolean remove(Object key, Object value) {
+		int i = indexOf(key);
+		if (i == -1 || ! Objects.equals(values[i], value))
+			return false;
+		removeAt(i);
+		return true;
+	}
+
+	@Override /* Map */
+	public Object replace(String key, Object value) {
+		int i = indexOf(key);
+		if (i == -1)
+			return null;
+		Object o = values[i];
+		values[i] = value;
+		return o;
+	}
+
+	@Override /* Map */
+	public boolean replace(String key, Object oldValue, Object newValue) {
+		int i = indexOf(key);
+		if (i == -1 || ! Objects.equals(values[i], oldValue))
+			return false;
+		values[i] = newValue;
+		return true;
+	}
+
+	@Override /* Map */
+	public Object computeIfAbsent(String key, Function<? super String,? extends Object> f) {
+		int i = indexOf(key);
+		if (i != -1 && values[i] != null)
+			return values[i];
+		Object o = f.apply(key);
+		if (o != null) {
+			if (i == -1)
+				add(key, o);
+			else
+				values[i] = o;
+		}
+		return o;
+	}
+
+	@Override /* Map */
+	public Object computeIfPresent(String key, BiFunction<? super String,? super Object,? extends Object> f) {
+		int i = indexOf(key);
+		if (i == -1 || values[i] == null)
+			return null;
+		Object o = f.apply(key, values[i]);
+		if (o == null)
+			removeAt(i);
+		else
+			values[i] = o;
+		return o;
+	}
+
+	@Override /* Map */
+	public Object compute(String key, BiFunction<? super String,? super Object,? extends Object> f) {
+		int i = indexOf(key);
+		Object o = f.apply(key, i == -1 ? null : values[i]);
+		if (o == null) {
+			if (i != -1)
+				removeAt(i);
+		} else if (i == -1) {
+			add(key, o);
+		} else {
+			values[i] = o;
+		}
+		return o;
+	}
+
+	@Override /* Map */
+	public Object merge(String key, Object value, BiFunction<? super Object,? super Object,? extends Object> f) {
+		int i = indexOf(key);
+		Object old = i == -1 ? null : values[i];
+		Object o = old == null ? value : f.apply(old, value);
+		if (o == null) {
+			if (i != -1)
+				removeAt(i);
+		} else if (i == -1) {
+			add(key, o);
+		} else {
+			values[i] = o;
+		}
+		return o;
+	}
+
+	@Override /* Map */
+	public void forEach(BiConsumer<? super String,? super Object> action) {
+		int mc = modCount;
+		for (int i = 0; i < size; i++) {
+			action.accept(keys[i], values[i]);
+			if (mc != modCount)
+				throw new ConcurrentModificationException();
+		}
+	}
+
+	@Override /* Map */
+	public void replaceAll(BiFunction<? super String,? super Object,? extends Object> f) {
+		int mc = modCount;
+		for (int i = 0; i < size; i++) {
+			values[i] = f.apply(keys[i], values[i]);
+			if (mc != modCount)
+				throw new ConcurrentModificationException();
+		}
+	}
+
+	@Override /* Map */
+	public void clear() {
+		Arrays.fill(keys, 0, size, null);
+		Arrays.fill(values, 0, size, null);
+		size = 0;
+		index = null;
+		modCount++;
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	@Override /* ObjectMap */
+	public <T> T getSwapped(String key, PojoSwap<T,?> pojoSwap) throws ParseException {
+		try {
+			int i = indexOf(key);
+			Object o = i == -1 ? null : values[i];
+			if (o == null)
+				return null;
+			BeanSession bs = getBeanSession();
+			PojoSwap swap = pojoSwap;
+			return (T) swap.unswap(bs == null ? BeanContext.DEFAULT.createBeanSession() : bs, o, null);
+		} catch (ParseException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new ParseException(e);
+		}
+	}
+
+	@Override /* Map */
+	public Set<String> keySet() {
+		if (inner != null) {
+			LinkedHashSet<String> s = new LinkedHashSet<>();
+			s.addAll(inner.keySet());
+			for (int i = 0; i < size; i++)
+				s.add(keys[i]);
+			return s;
+		}
+		return new AbstractSet<String>() {
+
+			@Override /* Set */
+			public Iterator<String> iterator() {
+				return new Itr<String>() {
+					@Override
+					String get(int i) {
+						return keys[i];
+					}
+				};
+			}
+
+			@Override /* Set */
+			public int size() {
+				return size;
+			}
+
+			@Override /* Set */
+			public boolean contains(Object o) {
+				return containsKey(o);
+			}
+
+			@Override /* Set */
+			public boolean remove(Object o) {
+				int i = indexOf(o);
+				if (i == -1)
+					return false;
+				removeAt(i);
+				return true;
+			}
+
+			@Override /* Set */
+			public void clear() {
+				CompactObjectMap.this.clear();
+			}
+		};
+	}
+
+	@Override /* Map */
+	public Collection<Object> values() {
+		return new AbstractCollection<Object>() {
+
+			@Override /* Collection */
+			public Iterator<Object> iterator() {
+				return new Itr<Object>() {
+					@Override
+					Object get(int i) {
+						return values[i];
+					}
+				};
+			}
+
+			@Override /* Collection */
+			public int size() {
+				return size;
+			}
+
+			@Override /* Collection */
+			public boolean contains(Object o) {
+				return containsValue(o);
+			}
+
+			@Override /* Collection */
+			public void clear() {
+				CompactObjectMap.this.clear();
+			}
+		};
+	}
+
+	@Override /* Map */
+	public Set<Map.Entry<String,Object>> entrySet() {
+		if (inner != null)
+			return super.entrySet();  // Iterates over keySet() and get().
+		return new AbstractSet<Map.Entry<String,Object>>() {
+
+			@Override /* Set */
+			public Iterator<Map.Entry<String,Object>> iterator() {
+				return new Itr<Map.Entry<String,Object>>() {
+					@Override
+					Map.Entry<String,Object> get(int i) {
+						return new Entry(i);
+					}
+				};
+			}
+
+			@Override /* Set */
+			public int size() {
+				return size;
+			}
+
+			@Override /* Set */
+			public void clear() {
+				CompactObjectMap.this.clear();
+			}
+		};
+	}
+
+	@Override /* Object */
+	public Object clone() {
+		CompactObjectMap m = new CompactObjectMap(getBeanSession());
+		m.keys = Arrays.copyOf(keys, size);
+		m.values = Arrays.copyOf(values, size);
+		m.size = size;
+		if (index != null)
+			m.index = index.clone();
+		if (inner != null)
+			m.setInner(inner);
+		return m;
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Internal
+	//-----------------------------------------------------------------------------------------------------------------
+
+	private int indexOf(Object key) {
+		if (index == null) {
+			for (int i = 0; i < size; i++)
+				if (Objects.equals(keys[i], key))
+					return i;
+			return -1;
+		}
+		int mask = index.length - 1;
+		for (int h = hash(key) & mask; ; h = (h + 1) & mask) {
+			int j = index[h];
+			if (j == 0)
+				return -1;
+			if (Objects.equals(keys[j-1], key))
+				return j-1;
+		}
+	}
+
+	private void add(String key, Object value) {
+		if (size == keys.length) {
+			int len = size == 0 ? 4 : size + (size >> 1) + 1;
+			keys = Arrays.copyOf(keys, len);
+			values = Arrays.copyOf(values, len);
+		}
+		keys[size] = key;
+		values[size] = value;
+		size++;
+		modCount++;
+		if (index != null && size * 2 <= index.length)
+			addToIndex(index, size-1);
+		else if (size > INDEX_THRESHOLD)
+			reindex();
+	}
+
+	private void removeAt(int i) {
+		int n = size - i - 1;
+		if (n > 0) {
+			System.arraycopy(keys, i+1, keys, i, n);
+			System.arraycopy(values, i+1, values, i, n);
+		}
+		size--;
+		keys[size] = null;
+		values[size] = null;
+		modCount++;
+		if (index != null)
+			reindex();
+	}
+
+	private void reindex() {
+		if (size <= INDEX_THRESHOLD) {
+			index = null;
+			return;
+		}
+		int len = Integer.highestOneBit(size) << 2;
+		if (index == null || index.length != len)
+			index = new int[len];
+		else
+			Arrays.fill(index, 0);
+		for (int i = 0; i < size; i++)
+			addToIndex(index, i);
+	}
+
+	private void addToIndex(int[] index, int i) {
+		int mask = index.length - 1;
+		int h = hash(keys[i]) & mask;
+		while (index[h] != 0)
+			h = (h + 1) & mask;
+		index[h] = i+1;
+	}
+
+	private static int hash(Object key) {
+		int h = key == null ? 0 : key.hashCode();
+		return h ^ (h >>> 16);
+	}
+
+	private abstract class Itr<T> implements Iterator<T> {
+		int next, last = -1, expectedModCount = modCount;
+
+		abstract T get(int i);
+
+		@Override /* Iterator */
+		public boolean hasNext() {
+			return next < size;
+		}
+
+		@Override /* Iterator */
+		public T next() {
+			if (modCount != expectedModCount)
+				throw new ConcurrentModificationException();
+			if (next >= size)
+				throw new NoSuchElementException();
+			last = next++;
+			return get(last);
+		}
+
+		@Override /* Iterator */
+		public void remove() {
+			if (last == -1)
+				throw new IllegalStateException();
+			if (modCount != expectedModCount)
+				throw new ConcurrentModificationException();
+			removeAt(last);
+			next = last;
+			last = -1;
+			expectedModCount = modCount;
+		}
+	}
+
+	private final class Entry implements Map.Entry<String,Object> {
+		private final String key;
+		private int i;
+
+		Entry(int i) {
+			this.i = i;
+			this.key = keys[i];
+		}
+
+		// Entries outlive removals of earlier entries, so re-locate the key if it has shifted.
+		private int pos() {
+			if (i >= size || ! Objects.equals(keys[i], key))
+				i = indexOf(key);
+			return i;
+		}
+
+		@Override /* Map.Entry */
+		public String getKey() {
+			return key;
+		}
+
+		@Override /* Map.Entry */
+		public Object getValue() {
+			int p = pos();
+			return p == -1 ? null : values[p];
+		}
+
+		@Override /* Map.Entry */
+		public Object setValue(Object value) {
+			int p = pos();
+			if (p == -1)
+				throw new IllegalStateException("Entry was removed from map.");
+			Object o = values[p];
+			values[p] = value;
+			return o;
+		}
+
+		@Override /* Object */
+		public boolean equals(Object o) {
+			if (! (o instanceof Map.Entry))
+				return false;
+			Map.Entry<?,?> e = (Map.Entry<?,?>)o;
+			return Objects.equals(key, e.getKey()) && Objects.equals(getValue(), e.getValue());
+		}
+
+		@Override /* Object */
+		public int hashCode() {
+			return Objects.hashCode(key) ^ Objects.hashCode(getValue());
+		}
+
+		@Override /* Object */
+		public String toString() {
+			return key + "=" + getValue();
+		}
+	}
+}
@@ -1470,6 +1470,29 @@ public @interface BeanConfig {
 	 */
 	String useEnumNames() default "";
 
+	/**
+	 * Configuration property:  Use generated property accessors.
+	 *
+	 * <p>
+	 * If <js>"true"</js>, then bean properties are read and written through generated accessors instead of reflection.
+	 *
+	 * <ul class='notes'>
+	 * 	<li>
+	 *		Possible values:
+	 * 		<ul>
+	 * 			<li><js>"true"</js>
+	 * 			<li><js>"false"</js> (default)
+	 * 		</ul>
+	 * 	<li>
+	 * 		Supports {@doc DefaultSvlVariables} (e.g. <js>"$C{myConfigVar}"</js>).
+	 * </ul>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link BeanContext#BEAN_useGeneratedAccessors}
+	 * </ul>
+	 */
+	String useGeneratedAccessors() default "";
+
 	/**
 	 * Configuration property:  Use interface proxies.
 	 *
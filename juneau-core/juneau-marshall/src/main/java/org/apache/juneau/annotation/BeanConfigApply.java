@@ -153,6 +153,8 @@ public class BeanConfigApply extends ConfigApply<BeanConfig> {
 			psb.set(BEAN_timeZone, timeZone(a.timeZone()));
 		if (! a.useEnumNames().isEmpty())
 			psb.set(BEAN_useEnumNames, bool(a.useEnumNames()));
+		if (! a.useGeneratedAccessors().isEmpty())
+			psb.set(BEAN_useGeneratedAccessors, bool(a.useGeneratedAccessors()));
 		if (! a.useInterfaceProxies().isEmpty())
 			psb.set(BEAN_useInterfaceProxies, bool(a.useInterfaceProxies()));
 		if (! a.useJavaBeanIntrospector().isEmpty())
@@ -77,6 +77,18 @@ public class CsvParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public CsvParserBuilder compactCollections(boolean value) {
+		super.compactCollections(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public CsvParserBuilder compactCollections() {
+		super.compactCollections();
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public CsvParserBuilder debugOutputLines(int value) {
 		super.debugOutputLines(value);
@@ -89,6 +101,12 @@ public class CsvParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public CsvParserBuilder projection(String...values) {
+		super.projection(values);
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public CsvParserBuilder strict(boolean value) {
 		super.strict(value);
@@ -125,6 +143,18 @@ public class CsvParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public CsvParserBuilder useBufferPool(boolean value) {
+		super.useBufferPool(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public CsvParserBuilder useBufferPool() {
+		super.useBufferPool();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public CsvParserBuilder annotations(Annotation...values) {
 		super.annotations(values);
@@ -629,6 +659,18 @@ public class CsvParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public CsvParserBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public CsvParserBuilder useGeneratedAccessors() {
+		super.useGeneratedAccessors();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public CsvParserBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
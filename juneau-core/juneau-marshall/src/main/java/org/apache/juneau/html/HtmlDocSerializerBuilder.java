@@ -712,6 +712,12 @@ public class HtmlDocSerializerBuilder extends HtmlStrippedDocSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public HtmlDocSerializerBuilder streamFlushInterval(int value) {
+		super.streamFlushInterval(value);
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public HtmlDocSerializerBuilder trimEmptyCollections(boolean value) {
 		super.trimEmptyCollections(value);
@@ -772,6 +778,18 @@ public class HtmlDocSerializerBuilder extends HtmlStrippedDocSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public HtmlDocSerializerBuilder useBufferPool(boolean value) {
+		super.useBufferPool(value);
+		return this;
+	}
+
+	@Override /* SerializerBuilder */
+	public HtmlDocSerializerBuilder useBufferPool() {
+		super.useBufferPool();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public HtmlDocSerializerBuilder annotations(Annotation...values) {
 		super.annotations(values);
@@ -1276,6 +1294,18 @@ public class HtmlDocSerializerBuilder extends HtmlStrippedDocSerializerBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public HtmlDocSerializerBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public HtmlDocSerializerBuilder useGeneratedAccessors() {
+		super.useGeneratedAccessors();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public HtmlDocSerializerBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
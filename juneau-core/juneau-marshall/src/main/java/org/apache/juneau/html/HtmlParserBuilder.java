@@ -111,6 +111,18 @@ public class HtmlParserBuilder extends XmlParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public HtmlParserBuilder compactCollections(boolean value) {
+		super.compactCollections(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public HtmlParserBuilder compactCollections() {
+		super.compactCollections();
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public HtmlParserBuilder debugOutputLines(int value) {
 		super.debugOutputLines(value);
@@ -123,6 +135,12 @@ public class HtmlParserBuilder extends XmlParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public HtmlParserBuilder projection(String...values) {
+		super.projection(values);
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public HtmlParserBuilder strict(boolean value) {
 		super.strict(value);
@@ -651,6 +669,18 @@ public class HtmlParserBuilder extends XmlParserBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public HtmlParserBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public HtmlParserBuilder useGeneratedAccessors() {
+		super.useGeneratedAccessors();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public HtmlParserBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
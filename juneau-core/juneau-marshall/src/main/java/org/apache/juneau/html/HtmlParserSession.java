@@ -216,11 +216,11 @@ public final class HtmlParserSession extends XmlParserSession {
 
 			if (typeName.equals("object")) {
 				if (sType.isObject()) {
-					o = parseIntoMap(r, (Map)new ObjectMap(this), sType.getKeyType(), sType.getValueType(),
+					o = parseIntoMap(r, (Map)newObjectMap(), sType.getKeyType(), sType.getValueType(),
 						pMeta);
 				} else if (sType.isMap()) {
 					o = parseIntoMap(r, (Map)(sType.canCreateNewInstance(outer) ? sType.newInstance(outer)
-						: new ObjectMap(this)), sType.getKeyType(), sType.getValueType(), pMeta);
+						: newObjectMap()), sType.getKeyType(), sType.getValueType(), pMeta);
 				} else if (builder != null) {
 					BeanMap m = toBeanMap(builder.create(this, eType));
 					o = builder.build(this, parseIntoBean(r, m).getBean(), eType);
@@ -234,10 +234,10 @@ public final class HtmlParserSession extends XmlParserSession {
 
 			} else if (typeName.equals("array")) {
 				if (sType.isObject())
-					o = parseTableIntoCollection(r, (Collection)new ObjectList(this), sType, pMeta);
+					o = parseTableIntoCollection(r, (Collection)newObjectList(), sType, pMeta);
 				else if (sType.isCollection())
 					o = parseTableIntoCollection(r, (Collection)(sType.canCreateNewInstance(outer)
-						? sType.newInstance(outer) : new ObjectList(this)), sType, pMeta);
+						? sType.newInstance(outer) : newObjectList()), sType, pMeta);
 				else if (sType.isArray() || sType.isArgs()) {
 					ArrayList l = (ArrayList)parseTableIntoCollection(r, new ArrayList(), sType, pMeta);
 					o = toArray(sType, l);
@@ -257,10 +257,10 @@ public final class HtmlParserSession extends XmlParserSession {
 				sType = eType = cm;
 
 			if (sType.isObject())
-				o = parseIntoCollection(r, new ObjectList(this), sType, pMeta);
+				o = parseIntoCollection(r, newObjectList(), sType, pMeta);
 			else if (sType.isCollection() || sType.isObject())
 				o = parseIntoCollection(r, (Collection)(sType.canCreateNewInstance(outer)
-					? sType.newInstance(outer) : new ObjectList(this)), sType, pMeta);
+					? sType.newInstance(outer) : newObjectList()), sType, pMeta);
 			else if (sType.isArray() || sType.isArgs())
 				o = toArray(sType, parseIntoCollection(r, new ArrayList(), sType, pMeta));
 			else
@@ -453,7 +453,7 @@ public final class HtmlParserSession extends XmlParserSession {
 			} else {
 				String c = getAttributes(r).get(getBeanTypePropertyName(type.getElementType()));
 				Map m = (Map)(elementType.isMap() && elementType.canCreateNewInstance(l) ? elementType.newInstance(l)
-					: new ObjectMap(this));
+					: newObjectMap());
 				for (int i = 0; i < keys.size(); i++) {
 					tag = nextTag(r, TD, NULL);
 					if (tag == NULL) {
@@ -149,6 +149,11 @@ public class HtmlSerializerSession extends XmlSerializerSession {
 		return true;
 	}
 
+	@Override /* SerializerSession */
+	public boolean canSerializeStreams() {
+		return false;
+	}
+
 	@Override /* Serializer */
 	protected void doSerialize(SerializerPipe out, Object o) throws IOException, SerializeException {
 		doSerialize(o, getHtmlWriter(out));
@@ -0,0 +1,180 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * A thread-safe in-memory cache that holds at most a fixed number of entries.
+ *
+ * <p>
+ * Lookups are lock-free.
+ * <br>When the cache is full, entries are evicted using the CLOCK algorithm, an approximation of least-recently-used
+ * eviction:  entries that have been read since the eviction pointer last passed over them are given a second chance,
+ * and the first entry that hasn't been read is removed.
+ *
+ * <p>
+ * Hit, miss and eviction counts are tracked so that the effectiveness of the cache can be monitored.
+ *
+ * @param <K> The key type.
+ * @param <V> The value type.
+ */
+public final class BoundedCache<K,V> {
+
+	private final int maxSize;
+	private final ConcurrentHashMap<K,Entry<V>> map;
+	private final ConcurrentLinkedQueue<K> clock = new ConcurrentLinkedQueue<>();
+	private final LongAdder hits = new LongAdder(), misses = new LongAdder(), evictions = new LongAdder();
+
+	private static final class Entry<V> {
+		final V value;
+		volatile boolean referenced;
+
+		Entry(V value) {
+			this.value = value;
+		}
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param maxSize
+	 * 	The maximum number of entries to hold.
+	 * 	<br>If <c>0</c> or less, nothing is cached.
+	 */
+	public BoundedCache(int maxSize) {
+		this.maxSize = Math.max(maxSize, 0);
+		this.map = new ConcurrentHashMap<>(Math.min(this.maxSize, 256));
+	}
+
+	/**
+	 * Retrieves the value with the specified key from this cache.
+	 *
+	 * @param key The key.
+	 * @return The value, or <jk>null</jk> if the value is not in the cache.
+	 */
+	public V get(K key) {
+		Entry<V> e = map.get(key);
+		if (e == null) {
+			misses.increment();
+			return null;
+		}
+		if (! e.referenced)
+			e.referenced = true;
+		hits.increment();
+		return e.value;
+	}
+
+	/**
+	 * Adds the value with the specified key to this cache.
+	 *
+	 * <p>
+	 * If the cache is full, an existing entry is evicted to make room for this one.
+	 *
+	 * @param key The key.
+	 * @param value The value.
+	 * @return
+	 * 	Either the value already in the cache if it already exists, or the same value passed in.
+	 */
+	public V put(K key, V value) {
+		if (maxSize == 0)
+			return value;
+		Entry<V> e = map.putIfAbsent(key, new Entry<>(value));
+		if (e != null)
+			return e.value;
+		clock.add(key);
+		while (map.size() > maxSize && evict()) {}
+		return value;
+	}
+
+	private boolean evict() {
+		for (int i = 0; i <= maxSize * 2; i++) {
+			K k = clock.poll();
+			if (k == null)
+				return false;
+			Entry<V> e = map.get(k);
+			if (e == null)
+				continue;
+			if (e.referenced) {
+				e.referenced = false;
+				clock.add(k);
+			} else if (map.remove(k, e)) {
+				evictions.increment();
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Removes all entries from this cache.
+	 *
+	 * <p>
+	 * Does not reset the hit, miss and eviction counters.
+	 */
+	public void clear() {
+		map.clear();
+		clock.clear();
+	}
+
+	/**
+	 * Returns the number of entries currently in this cache.
+	 *
+	 * @return The number of entries currently in this cache.
+	 */
+	public int size() {
+		return map.size();
+	}
+
+	/**
+	 * Returns the maximum number of entries this cache will hold.
+	 *
+	 * @return The maximum number of entries this cache will hold.
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Returns the number of lookups that found a value.
+	 *
+	 * @return The number of lookups that found a value.
+	 */
+	public long getHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * Returns the number of lookups that didn't find a value.
+	 *
+	 * @return The number of lookups that didn't find a value.
+	 */
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	/**
+	 * Returns the number of entries removed to make room for new ones.
+	 *
+	 * @return The number of entries removed to make room for new ones.
+	 */
+	public long getEvictions() {
+		return evictions.sum();
+	}
+
+	@Override /* Object */
+	public String toString() {
+		return "BoundedCache{size=" + size() + ",maxSize=" + maxSize + ",hits=" + getHits() + ",misses=" + getMisses() + ",evictions=" + getEvictions() + "}";
+	}
+}
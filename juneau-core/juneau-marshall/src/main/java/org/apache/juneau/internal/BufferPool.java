@@ -0,0 +1,216 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.io.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * A per-thread pool of reusable I/O buffers used by parsers and serializers.
+ *
+ * <p>
+ * Each thread holds at most one instance of each type of buffer.
+ * <br>Borrowing a buffer takes it out of the thread's slot and returning it puts it back, so nested parse or
+ * serialize calls on the same thread simply allocate a new buffer instead of sharing one.
+ * <br>Buffers that have grown larger than {@link #MAX_RETAINED_SIZE} are discarded when they're returned so that a
+ * single large document doesn't pin memory on a thread indefinitely.
+ *
+ * <p>
+ * Pooling is opt-in and enabled through the {@link org.apache.juneau.parser.Parser#PARSER_useBufferPool} and
+ * {@link org.apache.juneau.serializer.Serializer#SERIALIZER_useBufferPool} settings.
+ *
+ * <p>
+ * Pool activity across all threads can be monitored through {@link #getHits()}, {@link #getMisses()} and
+ * {@link #getDiscards()}.
+ */
+public final class BufferPool {
+
+	/** The size of the character buffers returned by {@link #getCharBuffer()}. */
+	public static final int CHAR_BUFFER_SIZE = 1024;
+
+	/** Buffers whose capacity exceeds this size are not returned to the pool. */
+	public static final int MAX_RETAINED_SIZE = 64 * 1024;
+
+	private static final ThreadLocal<Slots> SLOTS = new ThreadLocal<Slots>() {
+		@Override /* ThreadLocal */
+		protected Slots initialValue() {
+			return new Slots();
+		}
+	};
+
+	private static final LongAdder hits = new LongAdder(), misses = new LongAdder(), discards = new LongAdder();
+
+	private static final class Slots {
+		char[] chars;
+		StringBuilderWriter writer;
+		ReusableByteArrayOutputStream bytes;
+	}
+
+	private BufferPool() {}
+
+	/**
+	 * Borrows a character buffer of at least {@link #CHAR_BUFFER_SIZE} characters.
+	 *
+	 * @return A character buffer.  Contents are undefined.
+	 */
+	public static char[] getCharBuffer() {
+		Slots s = SLOTS.get();
+		char[] c = s.chars;
+		if (c != null) {
+			s.chars = null;
+			hits.increment();
+			return c;
+		}
+		misses.increment();
+		return new char[CHAR_BUFFER_SIZE];
+	}
+
+	/**
+	 * Returns a character buffer to the pool.
+	 *
+	 * <p>
+	 * The buffer must not be used by the caller after this method is called.
+	 *
+	 * @param c The buffer to return.  Can be <jk>null</jk>.
+	 */
+	public static void release(char[] c) {
+		if (c == null || c.length < CHAR_BUFFER_SIZE)
+			return;
+		if (c.length > MAX_RETAINED_SIZE) {
+			discards.increment();
+			return;
+		}
+		SLOTS.get().chars = c;
+	}
+
+	/**
+	 * Borrows an empty writer that writes to an in-memory string builder.
+	 *
+	 * @return An empty writer.
+	 */
+	public static StringBuilderWriter getStringBuilderWriter() {
+		Slots s = SLOTS.get();
+		StringBuilderWriter w = s.writer;
+		if (w != null) {
+			s.writer = null;
+			hits.increment();
+			return w;
+		}
+		misses.increment();
+		return new StringBuilderWriter(CHAR_BUFFER_SIZE);
+	}
+
+	/**
+	 * Returns a writer to the pool.
+	 *
+	 * <p>
+	 * The writer must not be used by the caller after this method is called.
+	 *
+	 * @param w The writer to return.  Can be <jk>null</jk>.
+	 */
+	public static void release(StringBuilderWriter w) {
+		if (w == null)
+			return;
+		StringBuilder sb = w.getBuffer();
+		if (sb.capacity() > MAX_RETAINED_SIZE) {
+			discards.increment();
+			return;
+		}
+		sb.setLength(0);
+		SLOTS.get().writer = w;
+	}
+
+	/**
+	 * Borrows an empty in-memory byte stream.
+	 *
+	 * @return An empty byte stream.
+	 */
+	public static ByteArrayOutputStream getByteArrayOutputStream() {
+		Slots s = SLOTS.get();
+		ReusableByteArrayOutputStream b = s.bytes;
+		if (b != null) {
+			s.bytes = null;
+			hits.increment();
+			return b;
+		}
+		misses.increment();
+		return new ReusableByteArrayOutputStream();
+	}
+
+	/**
+	 * Returns a byte stream to the pool.
+	 *
+	 * <p>
+	 * Only streams created by {@link #getByteArrayOutputStream()} are pooled.
+	 * <br>The stream must not be used by the caller after this method is called.
+	 *
+	 * @param baos The stream to return.  Can be <jk>null</jk>.
+	 */
+	public static void release(ByteArrayOutputStream baos) {
+		if (! (baos instanceof ReusableByteArrayOutputStream))
+			return;
+		ReusableByteArrayOutputStream b = (ReusableByteArrayOutputStream)baos;
+		if (b.capacity() > MAX_RETAINED_SIZE) {
+			discards.increment();
+			return;
+		}
+		b.reset();
+		SLOTS.get().bytes = b;
+	}
+
+	/**
+	 * Returns the number of times a buffer was borrowed from a thread's pool.
+	 *
+	 * @return The number of times a buffer was borrowed from a thread's pool.
+	 */
+	public static long getHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * Returns the number of times a buffer had to be allocated because the thread's pool was empty.
+	 *
+	 * @return The number of times a buffer had to be allocated because the thread's pool was empty.
+	 */
+	public static long getMisses() {
+		return misses.sum();
+	}
+
+	/**
+	 * Returns the number of buffers that were not returned to the pool because they had grown too large.
+	 *
+	 * @return The number of buffers that were not returned to the pool because they had grown too large.
+	 */
+	public static long getDiscards() {
+		return discards.sum();
+	}
+
+	/**
+	 * Resets the hit, miss and discard counters.
+	 */
+	public static void resetStats() {
+		hits.reset();
+		misses.reset();
+		discards.reset();
+	}
+
+	private static final class ReusableByteArrayOutputStream extends ByteArrayOutputStream {
+		ReusableByteArrayOutputStream() {
+			super(CHAR_BUFFER_SIZE);
+		}
+
+		int capacity() {
+			return buf.length;
+		}
+	}
+}
@@ -94,4 +94,44 @@ public class HttpUtils {
 		sb.append(')');
 		return sb.toString();
 	}
+
+	/**
+	 * Normalizes a media type header value (e.g. <c>Accept</c> or <c>Content-Type</c>) so that equivalent values
+	 * produce the same string.
+	 *
+	 * <p>
+	 * Leading and trailing whitespace and whitespace adjacent to <js>','</js> and <js>';'</js> delimiters is removed.
+	 * <br>For example, <js>" text/json ; q=0.9 , text/xml"</js> becomes <js>"text/json;q=0.9,text/xml"</js>.
+	 *
+	 * @param value The header value.  Can be <jk>null</jk>.
+	 * @return The normalized header value, or the same string if it has no whitespace to remove.
+	 */
+	public static String normalizeMediaTypeHeader(String value) {
+		if (value == null)
+			return null;
+		int len = value.length();
+		boolean hasWs = false;
+		for (int i = 0; i < len && ! hasWs; i++)
+			hasWs = Character.isWhitespace(value.charAt(i));
+		if (! hasWs)
+			return value;
+
+		StringBuilder sb = new StringBuilder(len);
+		for (int i = 0; i < len; i++) {
+			char c = value.charAt(i);
+			if (Character.isWhitespace(c)) {
+				int j = i;
+				while (j < len && Character.isWhitespace(value.charAt(j)))
+					j++;
+				boolean atStart = sb.length() == 0, atEnd = j == len;
+				char prev = atStart ? 0 : sb.charAt(sb.length()-1), next = atEnd ? 0 : value.charAt(j);
+				if (! (atStart || atEnd || prev == ',' || prev == ';' || next == ',' || next == ';'))
+					sb.append(value, i, j);
+				i = j-1;
+			} else {
+				sb.append(c);
+			}
+		}
+		return sb.toString();
+	}
 }
@@ -96,6 +96,15 @@ public final class StringBuilderWriter extends Writer {
 		return this;
 	}
 
+	/**
+	 * Returns the string builder this writer writes to.
+	 *
+	 * @return The string builder this writer writes to.
+	 */
+	public StringBuilder getBuffer() {
+		return sb;
+	}
+
 	@Override /* Object */
 	public String toString() {
 		return sb.toString();
@@ -0,0 +1,118 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.util.*;
+
+/**
+ * A fixed set of strings that can be looked up by a range of characters or bytes without creating a new string.
+ *
+ * <p>
+ * Used by parsers to resolve known names (e.g. bean property names) directly from their read buffers so that
+ * only unknown names need to be materialized as strings.
+ *
+ * <p>
+ * Lookups return the same string instance that was passed into the constructor.
+ */
+public final class StringIndex {
+
+	/** An index containing no strings. */
+	public static final StringIndex EMPTY = new StringIndex(Collections.<String>emptySet());
+
+	private final String[] table;
+	private final int[] hashes;
+	private final int mask;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param strings The strings to index.  <jk>null</jk> entries are ignored.
+	 */
+	public StringIndex(Collection<String> strings) {
+		int size = 4;
+		while (size < strings.size() * 2)
+			size <<= 1;
+		this.table = new String[size];
+		this.hashes = new int[size];
+		this.mask = size - 1;
+		for (String s : strings) {
+			if (s == null)
+				continue;
+			int h = s.hashCode(), i = h & mask;
+			while (table[i] != null && ! table[i].equals(s))
+				i = (i + 1) & mask;
+			table[i] = s;
+			hashes[i] = h;
+		}
+	}
+
+	/**
+	 * Returns the indexed string equal to the specified range of characters.
+	 *
+	 * @param c The character buffer.
+	 * @param start The start position in the buffer.
+	 * @param len The number of characters.
+	 * @return The indexed string, or <jk>null</jk> if the characters don't match any string in this index.
+	 */
+	public String get(char[] c, int start, int len) {
+		int h = 0, end = start + len;
+		for (int i = start; i < end; i++)
+			h = 31*h + c[i];
+		for (int i = h & mask; table[i] != null; i = (i + 1) & mask) {
+			String s = table[i];
+			if (hashes[i] == h && s.length() == len && matches(s, c, start))
+				return s;
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the indexed string equal to the specified range of UTF-8 encoded bytes.
+	 *
+	 * <p>
+	 * Only ASCII strings are matched.
+	 *
+	 * @param b The byte buffer.
+	 * @param start The start position in the buffer.
+	 * @param len The number of bytes.
+	 * @return The indexed string, or <jk>null</jk> if the bytes don't match any ASCII string in this index.
+	 */
+	public String get(byte[] b, int start, int len) {
+		int h = 0, end = start + len;
+		for (int i = start; i < end; i++) {
+			if (b[i] < 0)
+				return null;
+			h = 31*h + b[i];
+		}
+		for (int i = h & mask; table[i] != null; i = (i + 1) & mask) {
+			String s = table[i];
+			if (hashes[i] == h && s.length() == len && matches(s, b, start))
+				return s;
+		}
+		return null;
+	}
+
+	private static boolean matches(String s, char[] c, int start) {
+		for (int i = 0; i < s.length(); i++)
+			if (s.charAt(i) != c[start + i])
+				return false;
+		return true;
+	}
+
+	private static boolean matches(String s, byte[] b, int start) {
+		for (int i = 0; i < s.length(); i++)
+			if (s.charAt(i) != b[start + i])
+				return false;
+		return true;
+	}
+}
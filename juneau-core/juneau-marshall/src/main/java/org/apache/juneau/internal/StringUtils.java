@@ -94,9 +94,214 @@ public final class StringUtils {
 	 * @throws ParseException Malformed input encountered.
 	 */
 	public static Number parseNumber(ParserReader r, Class<? extends Number> type) throws ParseException, IOException {
+		Number n = readNumber(r, type, null);
+		if (n != null)
+			return n;
 		return parseNumber(parseNumberString(r), type);
 	}
 
+	/**
+	 * Reads a number directly from the specified reader without creating an intermediate string.
+	 *
+	 * <p>
+	 * Only handles plain JSON-style numbers (e.g. <js>"-123"</js>, <js>"1.5"</js>, <js>"2e-3"</js>) that can be
+	 * converted exactly into one of the following types:
+	 * <ul>
+	 * 	<li><c>Integer</c>, <c>Long</c>, <c>Short</c>, <c>Byte</c>, <c>AtomicInteger</c>, <c>AtomicLong</c> (integer values only).
+	 * 	<li><c>Double</c>, <c>Float</c>.
+	 * 	<li><c>Number</c> or <jk>null</jk> (integer values only).
+	 * </ul>
+	 *
+	 * <p>
+	 * Anything else (e.g. overflow, hexadecimal/octal formats, too many significant digits, <c>BigDecimal</c>) causes this
+	 * method to return <jk>null</jk> and leave the reader where it started so that the caller can fall back to
+	 * {@link #parseNumberString(ParserReader)} and {@link #parseNumber(String, Class)}.
+	 * Results are always identical to the ones produced by {@link #parseNumber(String, Class)}.
+	 *
+	 * @param r The reader to read from.
+	 * @param type The number type to create.  If <jk>null</jk> or <c>Number</c>, uses the best guess.
+	 * @param endChars
+	 * 	If not <jk>null</jk>, the number must be followed by the end of input, whitespace, or one of these characters.
+	 * 	<br>Otherwise the number must be followed by any character that can't be part of a number.
+	 * @return The parsed number, or <jk>null</jk> if it couldn't be parsed directly.
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	public static Number readNumber(ParserReader r, Class<? extends Number> type, AsciiSet endChars) throws IOException {
+		if (type == null)
+			type = Number.class;
+		int kind = numberKind(type);
+		if (kind == NK_NONE)
+			return null;
+
+		r.mark();
+		int n = 1, c = r.read();
+		boolean isNegative = false, isInt = true;
+		long m = 0;
+		int digits = 0, exp = 0;
+
+		if (c == '-') {
+			isNegative = true;
+			c = r.read();
+			n++;
+		}
+
+		// Leading zeros are left to the fallback since they denote octal numbers in Java.
+		if (c == '0') {
+			c = r.read();
+			n++;
+		} else if (c >= '1' && c <= '9') {
+			while (c >= '0' && c <= '9') {
+				if (digits++ == 18)
+					return reset(r, n, c);
+				m = m * 10 + (c - '0');
+				c = r.read();
+				n++;
+			}
+		} else {
+			return reset(r, n, c);
+		}
+
+		if (c == '.') {
+			isInt = false;
+			c = r.read();
+			n++;
+			if (c < '0' || c > '9')
+				return reset(r, n, c);
+			while (c >= '0' && c <= '9') {
+				if (digits++ == 18)
+					return reset(r, n, c);
+				m = m * 10 + (c - '0');
+				exp--;
+				c = r.read();
+				n++;
+			}
+		}
+
+		if (c == 'e' || c == 'E') {
+			isInt = false;
+			c = r.read();
+			n++;
+			boolean isNegativeExp = false;
+			if (c == '+' || c == '-') {
+				isNegativeExp = (c == '-');
+				c = r.read();
+				n++;
+			}
+			if (c < '0' || c > '9')
+				return reset(r, n, c);
+			int e = 0;
+			while (c >= '0' && c <= '9') {
+				if (e < 1000)
+					e = e * 10 + (c - '0');
+				c = r.read();
+				n++;
+			}
+			exp += (isNegativeExp ? -e : e);
+		}
+
+		if (c != -1 && (numberChars.contains(c) || ! (endChars == null || endChars.contains(c) || Character.isWhitespace(c))))
+			return reset(r, n, c);
+
+		Number x = toNumber(kind, isNegative, isInt, m, exp);
+		if (x == null)
+			return reset(r, n, c);
+		if (c != -1)
+			r.unread();
+		r.unmark();
+		return x;
+	}
+
+	private static final int
+		NK_NONE=0, NK_AUTO=1, NK_INTEGER=2, NK_LONG=3, NK_SHORT=4, NK_BYTE=5, NK_ATOMIC_INTEGER=6, NK_ATOMIC_LONG=7,
+		NK_DOUBLE=8, NK_FLOAT=9;
+
+	private static int numberKind(Class<?> type) {
+		if (type == Number.class)
+			return NK_AUTO;
+		if (type == Integer.class || type == int.class)
+			return NK_INTEGER;
+		if (type == Long.class || type == long.class)
+			return NK_LONG;
+		if (type == Double.class || type == double.class)
+			return NK_DOUBLE;
+		if (type == Float.class || type == float.class)
+			return NK_FLOAT;
+		if (type == Short.class || type == short.class)
+			return NK_SHORT;
+		if (type == Byte.class || type == byte.class)
+			return NK_BYTE;
+		if (type == AtomicInteger.class)
+			return NK_ATOMIC_INTEGER;
+		if (type == AtomicLong.class)
+			return NK_ATOMIC_LONG;
+		return NK_NONE;
+	}
+
+	// Powers of ten that are exactly representable as doubles and floats.
+	private static final double[] DOUBLE_POWERS = {
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19,
+		1e20, 1e21, 1e22
+	};
+	private static final float[] FLOAT_POWERS = {
+		1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+	};
+
+	/*
+	 * Converts the mantissa/exponent pair into the specified number kind.
+	 * Returns null if the conversion isn't exact, or if the string-based conversion would behave differently.
+	 */
+	private static Number toNumber(int kind, boolean isNegative, boolean isInt, long m, int exp) {
+		long l = isNegative ? -m : m;
+		boolean isIntRange = l >= Integer.MIN_VALUE && l <= Integer.MAX_VALUE;
+		switch (kind) {
+			case NK_AUTO:
+				// Decimals are left to the fallback since it chooses between Float and Double based on their string forms.
+				if (! isInt)
+					return null;
+				return isIntRange ? (Number)Integer.valueOf((int)l) : (Number)Long.valueOf(l);
+			case NK_INTEGER:
+				return isInt && isIntRange ? Integer.valueOf((int)l) : null;
+			case NK_LONG:
+				return isInt ? Long.valueOf(l) : null;
+			case NK_SHORT:
+				return isInt && l >= Short.MIN_VALUE && l <= Short.MAX_VALUE ? Short.valueOf((short)l) : null;
+			case NK_BYTE:
+				return isInt && l >= Byte.MIN_VALUE && l <= Byte.MAX_VALUE ? Byte.valueOf((byte)l) : null;
+			case NK_ATOMIC_INTEGER:
+				return isInt && isIntRange ? new AtomicInteger((int)l) : null;
+			case NK_ATOMIC_LONG:
+				return isInt ? new AtomicLong(l) : null;
+			case NK_DOUBLE: {
+				// Both operands are exact so the single multiplication/division is correctly rounded.
+				if (m >= (1L << 53) || exp < -22 || exp > 22)
+					return null;
+				double d = exp < 0 ? m / DOUBLE_POWERS[-exp] : m * DOUBLE_POWERS[exp];
+				return isNegative ? -d : d;
+			}
+			case NK_FLOAT: {
+				if (m >= (1L << 24) || exp < -10 || exp > 10)
+					return null;
+				float f = exp < 0 ? m / FLOAT_POWERS[-exp] : m * FLOAT_POWERS[exp];
+				return isNegative ? -f : f;
+			}
+			default:
+				return null;
+		}
+	}
+
+	/*
+	 * Moves the reader back to where readNumber() started.
+	 * The last character is only counted if it was actually read.
+	 */
+	private static Number reset(ParserReader r, int n, int lastChar) throws IOException {
+		if (lastChar == -1)
+			n--;
+		for (int i = 0; i < n; i++)
+			r.unread();
+		r.unmark();
+		return null;
+	}
+
 	/**
 	 * Reads a numeric string from the specified reader.
 	 *
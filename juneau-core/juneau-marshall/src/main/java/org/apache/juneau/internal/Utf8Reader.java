@@ -0,0 +1,196 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.io.*;
+import java.nio.charset.*;
+
+/**
+ * A reader that decodes UTF-8 bytes directly from an input stream.
+ *
+ * <p>
+ * Equivalent to an {@link InputStreamReader} using a UTF-8 {@link CharsetDecoder} but without the decoder overhead.
+ * <br>Runs of ASCII bytes (the bulk of JSON and other text-based formats) are copied straight into the char buffer.
+ *
+ * <p>
+ * Malformed input is either replaced with <js>'�'</js> or causes a {@link MalformedInputException} to be thrown,
+ * the same as {@link CodingErrorAction#REPLACE} and {@link CodingErrorAction#REPORT} on a decoder.
+ *
+ * <p>
+ * Note that this class is NOT thread safe.
+ */
+public final class Utf8Reader extends Reader {
+
+	/** The size of the internal byte buffer. */
+	public static final int BUFFER_SIZE = 8192;
+
+	private final InputStream in;
+	private final boolean strict;
+	private final byte[] buf = new byte[BUFFER_SIZE];
+	private final char[] one = new char[1];
+	private int pos, limit;
+	private boolean eof;
+	private char pendingLowSurrogate;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param in The stream containing UTF-8 encoded bytes.
+	 * @param strict
+	 * 	If <jk>true</jk>, malformed input causes a {@link MalformedInputException} to be thrown.
+	 * 	<br>Otherwise, malformed input is replaced with <js>'�'</js>.
+	 */
+	public Utf8Reader(InputStream in, boolean strict) {
+		this.in = in;
+		this.strict = strict;
+	}
+
+	@Override /* Reader */
+	public int read() throws IOException {
+		return read(one, 0, 1) == -1 ? -1 : one[0];
+	}
+
+	@Override /* Reader */
+	public int read(char[] cbuf, int off, int len) throws IOException {
+		if (len == 0)
+			return 0;
+
+		int start = off, end = off + len;
+
+		if (pendingLowSurrogate != 0) {
+			cbuf[off++] = pendingLowSurrogate;
+			pendingLowSurrogate = 0;
+		}
+
+		while (off < end) {
+			if (pos == limit) {
+				// Don't block if we already have something to return.
+				if (off > start || ! fill(1))
+					break;
+			}
+
+			// ASCII fast path.
+			byte[] b = buf;
+			int p = pos, l = Math.min(limit, pos + (end - off));
+			while (p < l && b[p] >= 0)
+				cbuf[off++] = (char)b[p++];
+			pos = p;
+
+			if (off == end || pos == limit)
+				continue;
+
+			int b0 = b[pos] & 0xFF;
+			int n = b0 < 0xE0 ? 2 : b0 < 0xF0 ? 3 : 4;
+			if (limit - pos < n)
+				fill(n);
+
+			int cp = decode();
+			if (cp < 0x10000) {
+				cbuf[off++] = (char)cp;
+			} else {
+				cbuf[off++] = Character.highSurrogate(cp);
+				char lo = Character.lowSurrogate(cp);
+				if (off < end)
+					cbuf[off++] = lo;
+				else
+					pendingLowSurrogate = lo;
+			}
+		}
+
+		return off == start ? -1 : off - start;
+	}
+
+	/*
+	 * Decodes the multi-byte sequence at the current position.
+	 * Malformed sequences are consumed up to (but not including) the first byte that makes them invalid.
+	 */
+	private int decode() throws IOException {
+		int avail = limit - pos;
+		int b0 = buf[pos] & 0xFF;
+
+		if (b0 < 0xC2 || b0 > 0xF4) {
+			pos++;
+			return malformed(1);
+		}
+
+		int n = b0 < 0xE0 ? 2 : b0 < 0xF0 ? 3 : 4;
+		int cp = b0 & (n == 2 ? 0x1F : n == 3 ? 0x0F : 0x07);
+
+		for (int i = 1; i < n; i++) {
+			if (i >= avail) {
+				pos += i;
+				return malformed(i);
+			}
+			int bi = buf[pos + i] & 0xFF;
+			int lo = 0x80, hi = 0xBF;
+			// Reject overlong forms and code points above U+10FFFF at the second byte.
+			if (i == 1) {
+				if (b0 == 0xE0)
+					lo = 0xA0;
+				else if (b0 == 0xF0)
+					lo = 0x90;
+				else if (b0 == 0xF4)
+					hi = 0x8F;
+			}
+			if (bi < lo || bi > hi) {
+				pos += i;
+				return malformed(i);
+			}
+			cp = (cp << 6) | (bi & 0x3F);
+		}
+
+		pos += n;
+
+		// Encoded surrogates are malformed as a whole.
+		if (n == 3 && Character.isSurrogate((char)cp))
+			return malformed(3);
+
+		return cp;
+	}
+
+	private int malformed(int length) throws MalformedInputException {
+		if (strict)
+			throw new MalformedInputException(length);
+		return 0xFFFD;
+	}
+
+	/*
+	 * Makes sure at least 'need' bytes are available in the buffer unless the end of the stream has been reached.
+	 */
+	private boolean fill(int need) throws IOException {
+		if (pos > 0) {
+			int remaining = limit - pos;
+			System.arraycopy(buf, pos, buf, 0, remaining);
+			pos = 0;
+			limit = remaining;
+		}
+		while (limit < need && ! eof) {
+			int r = in.read(buf, limit, BUFFER_SIZE - limit);
+			if (r < 0)
+				eof = true;
+			else
+				limit += r;
+		}
+		return limit > 0;
+	}
+
+	@Override /* Reader */
+	public boolean ready() throws IOException {
+		return pendingLowSurrogate != 0 || pos < limit || in.available() > 0;
+	}
+
+	@Override /* Reader */
+	public void close() throws IOException {
+		in.close();
+	}
+}
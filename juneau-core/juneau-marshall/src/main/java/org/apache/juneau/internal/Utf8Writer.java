@@ -0,0 +1,214 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.io.*;
+
+/**
+ * A writer that encodes characters as UTF-8 directly into a byte buffer.
+ *
+ * <p>
+ * Equivalent to <c><jk>new</jk> OutputStreamWriter(out, <js>"UTF-8"</js>)</c> but without going through a
+ * {@link java.nio.charset.CharsetEncoder}.
+ * <br>ASCII characters (the bulk of JSON keys, numbers, and punctuation) are copied straight into the buffer.
+ * <br>Unpaired surrogates are written as <js>'?'</js>, the same as <c>OutputStreamWriter</c>.
+ *
+ * <p>
+ * Note that this class is NOT thread safe.
+ */
+public final class Utf8Writer extends Writer {
+
+	/** The size of the internal byte buffer. */
+	public static final int BUFFER_SIZE = 8192;
+
+	private final OutputStream out;
+	private final byte[] buf = new byte[BUFFER_SIZE];
+	private int pos;
+	private char highSurrogate;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param out The stream to write UTF-8 encoded bytes to.
+	 */
+	public Utf8Writer(OutputStream out) {
+		this.out = out;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the specified charset name refers to UTF-8.
+	 *
+	 * @param charset The charset name (e.g. <js>"UTF-8"</js>).
+	 * @return <jk>true</jk> if the specified charset name refers to UTF-8.
+	 */
+	public static boolean isUtf8(String charset) {
+		return "UTF-8".equalsIgnoreCase(charset) || "UTF8".equalsIgnoreCase(charset);
+	}
+
+	@Override /* Writer */
+	public void write(int c) throws IOException {
+		if (c < 0x80 && highSurrogate == 0) {
+			if (pos == BUFFER_SIZE)
+				flushBuffer();
+			buf[pos++] = (byte)c;
+		} else {
+			encode((char)c);
+		}
+	}
+
+	@Override /* Writer */
+	public void write(char[] cbuf, int off, int len) throws IOException {
+		int end = off + len;
+		while (off < end) {
+			// ASCII fast path.
+			if (highSurrogate == 0) {
+				int n = Math.min(end - off, BUFFER_SIZE - pos);
+				if (n == 0) {
+					flushBuffer();
+					continue;
+				}
+				int stop = off + n;
+				byte[] b = buf;
+				int p = pos;
+				while (off < stop) {
+					char c = cbuf[off];
+					if (c >= 0x80)
+						break;
+					b[p++] = (byte)c;
+					off++;
+				}
+				pos = p;
+				if (off == end)
+					break;
+				if (off < stop)
+					encode(cbuf[off++]);
+			} else {
+				encode(cbuf[off++]);
+			}
+		}
+	}
+
+	@Override /* Writer */
+	public void write(String str, int off, int len) throws IOException {
+		int end = off + len;
+		while (off < end) {
+			// ASCII fast path.
+			if (highSurrogate == 0) {
+				int n = Math.min(end - off, BUFFER_SIZE - pos);
+				if (n == 0) {
+					flushBuffer();
+					continue;
+				}
+				int stop = off + n;
+				byte[] b = buf;
+				int p = pos;
+				while (off < stop) {
+					char c = str.charAt(off);
+					if (c >= 0x80)
+						break;
+					b[p++] = (byte)c;
+					off++;
+				}
+				pos = p;
+				if (off == end)
+					break;
+				if (off < stop)
+					encode(str.charAt(off++));
+			} else {
+				encode(str.charAt(off++));
+			}
+		}
+	}
+
+	@Override /* Writer */
+	public void write(String str) throws IOException {
+		write(str, 0, str.length());
+	}
+
+	@Override /* Writer */
+	public Writer append(CharSequence csq) throws IOException {
+		String s = String.valueOf(csq);
+		write(s, 0, s.length());
+		return this;
+	}
+
+	@Override /* Writer */
+	public Writer append(char c) throws IOException {
+		write(c);
+		return this;
+	}
+
+	/*
+	 * Encodes a single character, combining it with a previously-written high surrogate if necessary.
+	 */
+	private void encode(char c) throws IOException {
+		if (BUFFER_SIZE - pos < 4)
+			flushBuffer();
+
+		if (highSurrogate != 0) {
+			char h = highSurrogate;
+			highSurrogate = 0;
+			if (Character.isLowSurrogate(c)) {
+				int cp = Character.toCodePoint(h, c);
+				buf[pos++] = (byte)(0xF0 | (cp >> 18));
+				buf[pos++] = (byte)(0x80 | ((cp >> 12) & 0x3F));
+				buf[pos++] = (byte)(0x80 | ((cp >> 6) & 0x3F));
+				buf[pos++] = (byte)(0x80 | (cp & 0x3F));
+				return;
+			}
+			buf[pos++] = '?';
+			encode(c);
+			return;
+		}
+
+		if (c < 0x80) {
+			buf[pos++] = (byte)c;
+		} else if (c < 0x800) {
+			buf[pos++] = (byte)(0xC0 | (c >> 6));
+			buf[pos++] = (byte)(0x80 | (c & 0x3F));
+		} else if (Character.isHighSurrogate(c)) {
+			highSurrogate = c;
+		} else if (Character.isLowSurrogate(c)) {
+			buf[pos++] = '?';
+		} else {
+			buf[pos++] = (byte)(0xE0 | (c >> 12));
+			buf[pos++] = (byte)(0x80 | ((c >> 6) & 0x3F));
+			buf[pos++] = (byte)(0x80 | (c & 0x3F));
+		}
+	}
+
+	private void flushBuffer() throws IOException {
+		if (pos > 0) {
+			out.write(buf, 0, pos);
+			pos = 0;
+		}
+	}
+
+	@Override /* Writer */
+	public void flush() throws IOException {
+		flushBuffer();
+		out.flush();
+	}
+
+	@Override /* Writer */
+	public void close() throws IOException {
+		if (highSurrogate != 0) {
+			highSurrogate = 0;
+			if (pos == BUFFER_SIZE)
+				flushBuffer();
+			buf[pos++] = '?';
+		}
+		flushBuffer();
+		out.close();
+	}
+}
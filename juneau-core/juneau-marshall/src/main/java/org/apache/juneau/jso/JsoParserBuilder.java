@@ -69,6 +69,18 @@ public class JsoParserBuilder extends InputStreamParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public JsoParserBuilder compactCollections(boolean value) {
+		super.compactCollections(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public JsoParserBuilder compactCollections() {
+		super.compactCollections();
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public JsoParserBuilder debugOutputLines(int value) {
 		super.debugOutputLines(value);
@@ -81,6 +93,12 @@ public class JsoParserBuilder extends InputStreamParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public JsoParserBuilder projection(String...values) {
+		super.projection(values);
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public JsoParserBuilder strict(boolean value) {
 		super.strict(value);
@@ -117,6 +135,18 @@ public class JsoParserBuilder extends InputStreamParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public JsoParserBuilder useBufferPool(boolean value) {
+		super.useBufferPool(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public JsoParserBuilder useBufferPool() {
+		super.useBufferPool();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public JsoParserBuilder annotations(Annotation...values) {
 		super.annotations(values);
@@ -621,6 +651,18 @@ public class JsoParserBuilder extends InputStreamParserBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public JsoParserBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public JsoParserBuilder useGeneratedAccessors() {
+		super.useGeneratedAccessors();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public JsoParserBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
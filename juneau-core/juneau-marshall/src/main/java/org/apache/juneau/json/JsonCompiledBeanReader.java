@@ -0,0 +1,139 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+
+/**
+ * Bean parser compiled for a single bean class when {@link JsonParser#JSON_compileBeans} is enabled.
+ *
+ * <p>
+ * Writable <c>String</c>, <jk>int</jk>, <jk>long</jk>, <jk>double</jk> and <jk>boolean</jk> properties (and their
+ * wrapper classes) are assigned a {@link PropertyReader} when the bean class is first parsed.
+ * <br>Readers parse the value directly into the property type and set it on the bean without going through the generic
+ * type dispatch and conversion of {@link BeanPropertyMeta#set(BeanMap, String, Object)}.
+ * <br>If a reader doesn't recognize the value (e.g. <js>"null"</js> or a quoted number), the property is parsed through
+ * the generic path.
+ */
+final class JsonCompiledBeanReader {
+
+	/**
+	 * Reads a single bean property value.
+	 */
+	@FunctionalInterface
+	interface PropertyReader {
+
+		/**
+		 * Reads the property value at the current position and sets it on the specified bean.
+		 *
+		 * @param s The current parser session.
+		 * @param r The reader positioned at the start of the value.
+		 * @param m The bean being parsed.
+		 * @return <jk>true</jk> if the value was read, <jk>false</jk> if nothing was consumed and the value must be parsed
+		 * 	through the generic path.
+		 * @throws IOException Thrown by underlying stream.
+		 * @throws ParseException Malformed input encountered.
+		 */
+		boolean read(JsonParserSession s, ParserReader r, BeanMap<?> m) throws IOException, ParseException;
+	}
+
+	private final Map<BeanPropertyMeta,PropertyReader> readers = new IdentityHashMap<>();
+
+	JsonCompiledBeanReader(BeanMeta<?> bm, JsonMetaProvider mp) {
+		for (BeanPropertyMeta pMeta : bm.getPropertyMetas()) {
+			if (pMeta.canSetDirect() && mp.getJsonClassMeta(pMeta.getClassMeta()).getWrapperAttr() == null) {
+				PropertyReader pr = compile(pMeta);
+				if (pr != null)
+					readers.put(pMeta, pr);
+			}
+		}
+	}
+
+	/**
+	 * Reads the value of the specified property if it has a compiled reader.
+	 *
+	 * @param s The current parser session.
+	 * @param r The reader positioned at the start of the value.
+	 * @param m The bean being parsed.
+	 * @param pMeta The property being parsed.
+	 * @return <jk>true</jk> if the value was read, <jk>false</jk> if it must be parsed through the generic path.
+	 * @throws IOException Thrown by underlying stream.
+	 * @throws ParseException Malformed input encountered.
+	 */
+	boolean read(JsonParserSession s, ParserReader r, BeanMap<?> m, BeanPropertyMeta pMeta) throws IOException, ParseException {
+		PropertyReader pr = readers.get(pMeta);
+		return pr != null && pr.read(s, r, m);
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the specified bean map can be parsed using a compiled reader.
+	 *
+	 * @param m The bean map to check.
+	 * @return <jk>true</jk> if the specified bean map can be parsed using a compiled reader.
+	 */
+	static boolean canUse(BeanMap<?> m) {
+		return m.getClass() == BeanMap.class && m.getMeta().getClass() == BeanMeta.class;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static PropertyReader compile(BeanPropertyMeta pMeta) {
+		Class<?> c = pMeta.getClassMeta().getInfo().getWrapperIfPrimitive();
+
+		if (c == String.class) {
+			return (s, r, m) -> {
+				int c2 = r.peek();
+				if (c2 != '"' && c2 != '\'')
+					return false;
+				pMeta.setDirect(m, s.parseString(r));
+				return true;
+			};
+		}
+
+		if (c == Boolean.class) {
+			return (s, r, m) -> {
+				int c2 = r.peek();
+				if (c2 == 't') {
+					s.parseKeyword("true", r);
+					pMeta.setDirect(m, Boolean.TRUE);
+				} else if (c2 == 'f') {
+					s.parseKeyword("false", r);
+					pMeta.setDirect(m, Boolean.FALSE);
+				} else {
+					return false;
+				}
+				return true;
+			};
+		}
+
+		if (c == Integer.class || c == Long.class || c == Double.class) {
+			Class<? extends Number> nc = (Class<? extends Number>)c;
+			return (s, r, m) -> {
+				int c2 = r.peek();
+				if (! (c2 == '-' || (c2 >= '0' && c2 <= '9')))
+					return false;
+				Number n = s.parseNumber(r, nc);
+				if (n != null && n.getClass() == nc)
+					pMeta.setDirect(m, n);
+				else
+					pMeta.set(m, null, n);
+				return true;
+			};
+		}
+
+		return null;
+	}
+}
@@ -0,0 +1,118 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import java.io.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.serializer.*;
+
+/**
+ * Bean serializer compiled for a single bean class when {@link JsonSerializer#JSON_compileBeans} is enabled.
+ *
+ * <p>
+ * Each readable property is assigned a {@link PropertyWriter} chosen from the property type when the bean class is
+ * first serialized, so that serializing a bean instance is a straight pass over the writers without any per-value
+ * type dispatch.
+ * <br>Properties that don't have a specialized writer go through the generic bean property path.
+ */
+final class JsonCompiledBeanWriter extends BeanSerializerPlan {
+
+	/**
+	 * Writes a single bean property.
+	 */
+	@FunctionalInterface
+	interface PropertyWriter {
+
+		/**
+		 * Writes the property of the specified bean.
+		 *
+		 * @param s The current serializer session.
+		 * @param out The output writer.
+		 * @param m The bean being serialized.
+		 * @param i The current indentation.
+		 * @param addComma Whether a comma must be written before the property.
+		 * @return Whether a comma must be written before the next property.
+		 * @throws IOException Thrown by underlying stream.
+		 * @throws SerializeException General serialization error occurred.
+		 */
+		boolean write(JsonSerializerSession s, JsonWriter out, BeanMap<?> m, int i, boolean addComma) throws IOException, SerializeException;
+	}
+
+	private final PropertyWriter[] writers;
+
+	JsonCompiledBeanWriter(BeanMeta<?> bm, JsonMetaProvider mp) {
+		super(bm);
+		Property[] pp = getProperties();
+		this.writers = new PropertyWriter[pp.length];
+		for (int i = 0; i < pp.length; i++)
+			writers[i] = compile(pp[i], mp);
+	}
+
+	/**
+	 * Writes all the readable properties of the specified bean.
+	 *
+	 * @param s The current serializer session.
+	 * @param out The output writer.
+	 * @param m The bean being serialized.
+	 * @param i The current indentation.
+	 * @param addComma Whether a comma must be written before the first property.
+	 * @return Whether any property has been written.
+	 * @throws IOException Thrown by underlying stream.
+	 * @throws SerializeException General serialization error occurred.
+	 */
+	boolean write(JsonSerializerSession s, JsonWriter out, BeanMap<?> m, int i, boolean addComma) throws IOException, SerializeException {
+		for (PropertyWriter w : writers)
+			addComma = w.write(s, out, m, i, addComma);
+		return addComma;
+	}
+
+	private static PropertyWriter compile(Property p, JsonMetaProvider mp) {
+		BeanPropertyMeta pMeta = p.getMeta();
+		String key = p.getName();
+		ClassMeta<?> cm = p.getClassMeta();
+
+		Kind k = p.getKind();
+		switch (k) {
+			case INT:
+			case LONG:
+			case DOUBLE:
+			case BOOLEAN:
+				return (s, out, m, i, addComma) -> s.serializePrimitiveBeanProperty(out, i, m, pMeta, key, k, cm, addComma);
+			default:
+				break;
+		}
+
+		// Values are only written as-is if they don't need to be wrapped in an object.
+		if (pMeta.isPlainValue() && mp.getJsonClassMeta(cm).getWrapperAttr() == null) {
+			if (cm.isString()) {
+				return (s, out, m, i, addComma) -> {
+					Object v = s.getPropertyValue(m, pMeta);
+					if (v == null)
+						return s.serializeBeanProperty(out, i, pMeta, key, null, cm, addComma);
+					s.beanAttr(out, i, pMeta, key, addComma).stringValue(s.toString(v));
+					return true;
+				};
+			}
+			return (s, out, m, i, addComma) -> {
+				Object v = s.getPropertyValue(m, pMeta);
+				if (v == null)
+					return s.serializeBeanProperty(out, i, pMeta, key, null, cm, addComma);
+				s.beanAttr(out, i, pMeta, key, addComma).append(v);
+				return true;
+			};
+		}
+
+		return (s, out, m, i, addComma) -> s.serializeBeanProperty(out, i, pMeta, key, s.getPropertyValue(m, pMeta), cm, addComma);
+	}
+}
@@ -111,6 +111,55 @@ public class JsonParser extends ReaderParser implements JsonMetaProvider, JsonCo
 
 	static final String PREFIX = "JsonParser";
 
+	/**
+	 * Configuration property:  Compile bean parsers.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.json.JsonParser#JSON_compileBeans JSON_compileBeans}
+	 * 	<li><b>Name:</b>  <js>"JsonParser.compileBeans.b"</js>
+	 * 	<li><b>Data type:</b>  <jk>boolean</jk>
+	 * 	<li><b>System property:</b>  <c>JsonParser.compileBeans</c>
+	 * 	<li><b>Environment variable:</b>  <c>JSONPARSER_COMPILEBEANS</c>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Annotations:</b>
+	 * 		<ul>
+	 * 			<li class='ja'>{@link org.apache.juneau.json.annotation.JsonConfig#compileBeans()}
+	 * 		</ul>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.json.JsonParserBuilder#compileBeans(boolean)}
+	 * 			<li class='jm'>{@link org.apache.juneau.json.JsonParserBuilder#compileBeans()}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * If <jk>true</jk>, a reader specialized to the properties and types of each bean class is compiled the first
+	 * time the class is parsed, and used instead of the generic bean map path.
+	 *
+	 * <p>
+	 * Compiled readers handle <c>String</c>, <jk>int</jk>, <jk>long</jk>, <jk>double</jk> and <jk>boolean</jk> properties (and their wrapper classes) with writable setters or fields.
+	 * <br>Everything else (collections, maps, swapped values, dynamic properties, etc...) falls back to the generic path.
+	 *
+	 * <p>
+	 * Compiled beans read and write values through accessors generated with {@link java.lang.invoke.LambdaMetafactory},
+	 * so the builder methods also enable {@link org.apache.juneau.BeanContext#BEAN_useGeneratedAccessors}.
+	 * <br>This setting is intended for the handful of bean classes that make up most of the traffic of an
+	 * application, where the one-time cost of compiling the bean is recovered quickly.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a parser that compiles bean classes on first use.</jc>
+	 * 	ReaderParser p = JsonParser
+	 * 		.<jsm>create</jsm>()
+	 * 		.compileBeans()
+	 * 		.build();
+	 * </p>
+	 */
+	public static final String JSON_compileBeans = PREFIX + ".compileBeans.b";
+
 	/**
 	 * Configuration property:  Validate end.
 	 *
@@ -205,9 +254,10 @@ public class JsonParser extends ReaderParser implements JsonMetaProvider, JsonCo
 	// Instance
 	//-------------------------------------------------------------------------------------------------------------------
 
-	private final boolean validateEnd;
+	private final boolean validateEnd, compileBeans;
 	private final Map<ClassMeta<?>,JsonClassMeta> jsonClassMetas = new ConcurrentHashMap<>();
 	private final Map<BeanPropertyMeta,JsonBeanPropertyMeta> jsonBeanPropertyMetas = new ConcurrentHashMap<>();
+	private final Map<BeanMeta<?>,JsonCompiledBeanReader> compiledBeanReaders = new ConcurrentHashMap<>();
 
 	/**
 	 * Constructor.
@@ -227,6 +277,7 @@ public class JsonParser extends ReaderParser implements JsonMetaProvider, JsonCo
 	public JsonParser(PropertyStore ps, String...consumes) {
 		super(ps, consumes);
 		validateEnd = getBooleanProperty(JSON_validateEnd, false);
+		compileBeans = getBooleanProperty(JSON_compileBeans, false);
 	}
 
 	@Override /* Context */
@@ -286,10 +337,36 @@ public class JsonParser extends ReaderParser implements JsonMetaProvider, JsonCo
 		return m;
 	}
 
+	/**
+	 * Returns the reader compiled for the specified bean class, compiling it on first use.
+	 *
+	 * @param bm The bean class being parsed.
+	 * @return The compiled reader.
+	 */
+	JsonCompiledBeanReader getCompiledBeanReader(BeanMeta<?> bm) {
+		JsonCompiledBeanReader r = compiledBeanReaders.get(bm);
+		if (r == null) {
+			r = new JsonCompiledBeanReader(bm, this);
+			compiledBeanReaders.put(bm, r);
+		}
+		return r;
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Properties
 	//-----------------------------------------------------------------------------------------------------------------
 
+	/**
+	 * Configuration property:  Compile bean parsers.
+	 *
+	 * @see #JSON_compileBeans
+	 * @return
+	 * 	<jk>true</jk> if readers specialized to each bean class are compiled on first use.
+	 */
+	protected final boolean isCompileBeans() {
+		return compileBeans;
+	}
+
 	/**
 	 * Configuration property:  Validate end.
 	 *
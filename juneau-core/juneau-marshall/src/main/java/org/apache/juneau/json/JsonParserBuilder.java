@@ -55,6 +55,44 @@ public class JsonParserBuilder extends ReaderParserBuilder {
 	// Properties
 	//-----------------------------------------------------------------------------------------------------------------
 
+	/**
+	 * Configuration property:  Compile bean readers.
+	 *
+	 * <p>
+	 * If <jk>true</jk>, a reader specialized to each bean class is compiled the first time the class is encountered.
+	 * <br>Also enables {@link #useGeneratedAccessors()} when <jk>true</jk>.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link JsonParser#JSON_compileBeans}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public JsonParserBuilder compileBeans(boolean value) {
+		if (value)
+			useGeneratedAccessors();
+		return set(JSON_compileBeans, value);
+	}
+
+	/**
+	 * Configuration property:  Compile bean readers.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>compileBeans(<jk>true</jk>)</code>.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link JsonParser#JSON_compileBeans}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public JsonParserBuilder compileBeans() {
+		return compileBeans(true);
+	}
+
 	/**
 	 * Configuration property:  Validate end.
 	 *
@@ -115,6 +153,18 @@ public class JsonParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public JsonParserBuilder compactCollections(boolean value) {
+		super.compactCollections(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public JsonParserBuilder compactCollections() {
+		super.compactCollections();
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public JsonParserBuilder debugOutputLines(int value) {
 		super.debugOutputLines(value);
@@ -127,6 +177,12 @@ public class JsonParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public JsonParserBuilder projection(String...values) {
+		super.projection(values);
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public JsonParserBuilder strict(boolean value) {
 		super.strict(value);
@@ -163,6 +219,18 @@ public class JsonParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public JsonParserBuilder useBufferPool(boolean value) {
+		super.useBufferPool(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public JsonParserBuilder useBufferPool() {
+		super.useBufferPool();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public JsonParserBuilder annotations(Annotation...values) {
 		super.annotations(values);
@@ -667,6 +735,18 @@ public class JsonParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public JsonParserBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public JsonParserBuilder useGeneratedAccessors() {
+		super.useGeneratedAccessors();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public JsonParserBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
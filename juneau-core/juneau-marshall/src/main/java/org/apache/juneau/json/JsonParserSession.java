@@ -96,7 +96,7 @@ public final class JsonParserSession extends ReaderParserSession {
 	@Override /* ReaderParserSession */
 	protected <K,V> Map<K,V> doParseIntoMap(ParserPipe pipe, Map<K,V> m, Type keyType, Type valueType) throws IOException, ParseException, ExecutableException {
 		try (ParserReader r = pipe.getParserReader()) {
-			m = parseIntoMap2(r, m, (ClassMeta<K>)getClassMeta(keyType), (ClassMeta<V>)getClassMeta(valueType), null);
+			m = parseIntoMap2(r, m, (ClassMeta<K>)getClassMeta(keyType), (ClassMeta<V>)getClassMeta(valueType), null, null);
 			validateEnd(r);
 			return m;
 		}
@@ -111,6 +111,88 @@ public final class JsonParserSession extends ReaderParserSession {
 		}
 	}
 
+	@Override /* ParserSession */
+	protected <E> ParserIterator<E> doParseIterator(ParserPipe pipe, ClassMeta<E> elementType) throws IOException, ParseException {
+		ParserReader r = pipe.getParserReader();
+		if (r != null) {
+			skipCommentsAndSpace(r);
+			if (r.read() != '[')
+				throw new ParseException(this, "Expected '[' at beginning of JSON array.");
+		}
+		return new JsonArrayIterator<>(pipe, r, elementType);
+	}
+
+	/*
+	 * Parses the elements of a JSON array one at a time.
+	 * Uses the same states as parseIntoCollection2() after the opening '[' has been consumed.
+	 */
+	private final class JsonArrayIterator<E> extends ParserIterator<E> {
+
+		private static final int
+			S1=1,     // Looking for starting [ or { or " or ' or LITERAL or ]
+			S2=2,     // Looking for , or ]
+			S3=3,     // Looking for starting [ or { or " or ' or LITERAL
+			READY=4,  // Positioned at the start of the next element.
+			END=5;    // Found closing ] or input was null.
+
+		private final ParserReader r;
+		private final ClassMeta<E> type;
+		private int state;
+
+		JsonArrayIterator(ParserPipe pipe, ParserReader r, ClassMeta<E> type) {
+			super(JsonParserSession.this, pipe);
+			this.r = r;
+			this.type = type;
+			this.state = r == null ? END : S1;
+		}
+
+		@Override /* ParserIterator */
+		protected boolean doHasNext() throws IOException, ParseException {
+			if (state == READY)
+				return true;
+			if (state == END)
+				return false;
+
+			skipCommentsAndSpace(r);
+			int c = r.peek();
+
+			if (state == S2) {
+				if (c == ']')
+					return end();
+				if (c != ',')
+					throw new ParseException(JsonParserSession.this, "Expected ',' or ']'.");
+				r.read();
+				state = S3;
+				skipCommentsAndSpace(r);
+				c = r.peek();
+			}
+
+			if (state == S3 && (c == ']' || c == -1))
+				throw new ParseException(JsonParserSession.this, "Unexpected trailing comma in array.");
+			if (c == ']')
+				return end();
+			if (c == -1)
+				throw new ParseException(JsonParserSession.this, "Expected one of the following characters: {,[,',\",LITERAL.");
+
+			state = READY;
+			return true;
+		}
+
+		@Override /* ParserIterator */
+		protected E doNext() throws IOException, ParseException, ExecutableException {
+			E o = parseAnything(type, r, getOuter(), null);
+			state = S2;
+			return o;
+		}
+
+		private boolean end() throws IOException, ParseException {
+			r.read();
+			state = END;
+			validateEnd(r);
+			return false;
+		}
+	}
+
 	private <T> T parseAnything(ClassMeta<?> eType, ParserReader r, Object outer, BeanPropertyMeta pMeta) throws IOException, ParseException, ExecutableException {
 
 		if (eType == null)
@@ -150,11 +232,11 @@ public final class JsonParserSession extends ReaderParserSession {
 			parseKeyword("null", r);
 		} else if (sType.isObject()) {
 			if (c == '{') {
-				ObjectMap m2 = new ObjectMap(this);
-				parseIntoMap2(r, m2, string(), object(), pMeta);
+				ObjectMap m2 = newObjectMap();
+				parseIntoMap2(r, m2, string(), object(), pMeta, eType);
 				o = cast(m2, pMeta, eType);
 			} else if (c == '[') {
-				o = parseIntoCollection2(r, new ObjectList(this), object(), pMeta);
+				o = parseIntoCollection2(r, newObjectList(), object(), pMeta);
 			} else if (c == '\'' || c == '"') {
 				o = parseString(r);
 				if (sType.isChar())
@@ -177,15 +259,15 @@ public final class JsonParserSession extends ReaderParserSession {
 		} else if (sType.isNumber()) {
 			o = parseNumber(r, (Class<? extends Number>)sType.getInnerClass());
 		} else if (sType.isMap()) {
-			Map m = (sType.canCreateNewInstance(outer) ? (Map)sType.newInstance(outer) : new ObjectMap(this));
-			o = parseIntoMap2(r, m, sType.getKeyType(), sType.getValueType(), pMeta);
+			Map m = (sType.canCreateNewInstance(outer) ? (Map)sType.newInstance(outer) : newObjectMap());
+			o = parseIntoMap2(r, m, sType.getKeyType(), sType.getValueType(), pMeta, eType);
 		} else if (sType.isCollection()) {
 			if (c == '{') {
-				ObjectMap m = new ObjectMap(this);
-				parseIntoMap2(r, m, string(), object(), pMeta);
+				ObjectMap m = newObjectMap();
+				parseIntoMap2(r, m, string(), object(), pMeta, eType);
 				o = cast(m, pMeta, eType);
 			} else {
-				Collection l = (sType.canCreateNewInstance(outer) ? (Collection)sType.newInstance() : new ObjectList(this));
+				Collection l = (sType.canCreateNewInstance(outer) ? (Collection)sType.newInstance() : newObjectList());
 				o = parseIntoCollection2(r, l, sType, pMeta);
 			}
 		} else if (builder != null) {
@@ -198,16 +280,16 @@ public final class JsonParserSession extends ReaderParserSession {
 			o = sType.newInstanceFromString(outer, parseString(r));
 		} else if (sType.isArray() || sType.isArgs()) {
 			if (c == '{') {
-				ObjectMap m = new ObjectMap(this);
-				parseIntoMap2(r, m, string(), object(), pMeta);
+				ObjectMap m = newObjectMap();
+				parseIntoMap2(r, m, string(), object(), pMeta, eType);
 				o = cast(m, pMeta, eType);
 			} else {
 				ArrayList l = (ArrayList)parseIntoCollection2(r, new ArrayList(), sType, pMeta);
 				o = toArray(sType, l);
 			}
 		} else if (c == '{') {
-			Map m = new ObjectMap(this);
-			parseIntoMap2(r, m, sType.getKeyType(), sType.getValueType(), pMeta);
+			Map m = newObjectMap();
+			parseIntoMap2(r, m, sType.getKeyType(), sType.getValueType(), pMeta, eType);
 			if (m.containsKey(getBeanTypePropertyName(eType)))
 				o = cast((ObjectMap)m, pMeta, eType);
 			else
@@ -232,10 +314,13 @@ public final class JsonParserSession extends ReaderParserSession {
 		return (T)o;
 	}
 
-	private Number parseNumber(ParserReader r, Class<? extends Number> type) throws IOException, ParseException {
+	Number parseNumber(ParserReader r, Class<? extends Number> type) throws IOException, ParseException {
 		int c = r.peek();
 		if (c == '\'' || c == '"')
 			return parseNumber(r, parseString(r), type);
+		Number n = readNumber(r, type, null);
+		if (n != null)
+			return n;
 		return parseNumber(r, parseNumberString(r), type);
 	}
 
@@ -295,7 +380,7 @@ public final class JsonParserSession extends ReaderParserSession {
 	}
 
 	private <K,V> Map<K,V> parseIntoMap2(ParserReader r, Map<K,V> m, ClassMeta<K> keyType,
-			ClassMeta<V> valueType, BeanPropertyMeta pMeta) throws IOException, ParseException, ExecutableException {
+			ClassMeta<V> valueType, BeanPropertyMeta pMeta, ClassMeta<?> eType) throws IOException, ParseException, ExecutableException {
 
 		if (keyType == null)
 			keyType = (ClassMeta<K>)string();
@@ -334,10 +419,17 @@ public final class JsonParserSession extends ReaderParserSession {
 				if (isCommentOrWhitespace(c)) {
 					skipCommentsAndSpace(r.unread());
 				} else {
-					K key = convertAttrToType(m, currAttr, keyType);
-					V value = parseAnything(valueType, r.unread(), m, pMeta);
-					setName(valueType, value, key);
-					m.put(key, value);
+					ParserProjection pp = getProjection(), cp = getProjection(currAttr, eType);
+					if (cp == null) {
+						skipValue(r.unread());
+					} else {
+						setProjection(cp);
+						K key = convertAttrToType(m, currAttr, keyType);
+						V value = parseAnything(valueType, r.unread(), m, pMeta);
+						setName(valueType, value, key);
+						m.put(key, value);
+						setProjection(pp);
+					}
 					state = S5;
 				}
 			} else if (state == S5) {
@@ -382,9 +474,17 @@ public final class JsonParserSession extends ReaderParserSession {
 	 * set the position marker to the last character in the field name.
 	 */
 	private String parseFieldName(ParserReader r) throws IOException, ParseException {
+		return parseFieldName(r, null);
+	}
+
+	/*
+	 * Same as above, but names found in the specified index (e.g. bean property names) are returned without
+	 * creating new strings.
+	 */
+	private String parseFieldName(ParserReader r, StringIndex names) throws IOException, ParseException {
 		int c = r.peek();
 		if (c == '\'' || c == '"')
-			return parseString(r);
+			return parseString(r, names);
 		if (isStrict())
 			throw new ParseException(this, "Unquoted attribute detected.");
 		if (! VALID_BARE_CHARS.contains(c))
@@ -395,7 +495,7 @@ public final class JsonParserSession extends ReaderParserSession {
 			c = r.read();
 			if (! VALID_BARE_CHARS.contains(c)) {
 				r.unread();
-				String s = r.getMarked().intern();
+				String s = names == null ? r.getMarked().intern() : r.getMarked(0, 0, names);
 				return s.equals("null") ? null : s;
 			}
 		}
@@ -478,6 +578,7 @@ public final class JsonParserSession extends ReaderParserSession {
 		int state = S0;
 		String currAttr = "";
 		int c = 0;
+		JsonCompiledBeanReader compiled = ctx.isCompileBeans() && JsonCompiledBeanReader.canUse(m) ? ctx.getCompiledBeanReader(m.getMeta()) : null;
 		mark();
 		try {
 			while (c != -1) {
@@ -498,7 +599,7 @@ public final class JsonParserSession extends ReaderParserSession {
 					} else {
 						r.unread();
 						mark();
-						currAttr = parseFieldName(r);
+						currAttr = parseFieldName(r, m.getMeta().getPropertyNameIndex());
 						state = S3;
 					}
 				} else if (state == S3) {
@@ -508,19 +609,31 @@ public final class JsonParserSession extends ReaderParserSession {
 					if (isCommentOrWhitespace(c)) {
 						skipCommentsAndSpace(r.unread());
 					} else {
-						if (! currAttr.equals(getBeanTypePropertyName(m.getClassMeta()))) {
+						ParserProjection pp = getProjection(), cp = getProjection(currAttr, m.getClassMeta());
+						if (cp == null) {
+							unmark();
+							skipValue(r.unread());
+						} else if (! currAttr.equals(getBeanTypePropertyName(m.getClassMeta()))) {
 							BeanPropertyMeta pMeta = m.getPropertyMeta(currAttr);
 							setCurrentProperty(pMeta);
 							if (pMeta == null) {
 								onUnknownProperty(currAttr, m);
 								unmark();
-								parseAnything(object(), r.unread(), m.getBean(false), null); // Read content anyway to ignore it
+								if (isStrict())
+									parseAnything(object(), r.unread(), m.getBean(false), null); // Read content anyway to ignore it
+								else
+									skipValue(r.unread());
 							} else {
 								unmark();
-								ClassMeta<?> cm = pMeta.getClassMeta();
-								Object value = parseAnything(cm, r.unread(), m.getBean(false), pMeta);
-								setName(cm, value, currAttr);
-								pMeta.set(m, currAttr, value);
+								r.unread();
+								if (compiled == null || ! compiled.read(this, r, m, pMeta)) {
+									setProjection(cp);
+									ClassMeta<?> cm = pMeta.getClassMeta();
+									Object value = parseAnything(cm, r, m.getBean(false), pMeta);
+									setName(cm, value, currAttr);
+									pMeta.set(m, currAttr, value);
+									setProjection(pp);
+								}
 							}
 							setCurrentProperty(null);
 						}
@@ -559,7 +672,14 @@ public final class JsonParserSession extends ReaderParserSession {
 	 * If the string consists of a concatenation of strings (e.g. 'AAA' + "BBB"), this method
 	 * will automatically concatenate the strings and return the result.
 	 */
-	private String parseString(ParserReader r) throws IOException, ParseException {
+	String parseString(ParserReader r) throws IOException, ParseException {
+		return parseString(r, null);
+	}
+
+	/*
+	 * Same as above, but strings found in the specified index are returned without creating new strings.
+	 */
+	private String parseString(ParserReader r, StringIndex names) throws IOException, ParseException {
 		r.mark();
 		int qc = r.read();		// The quote character being used (" or ')
 		if (qc != '"' && isStrict()) {
@@ -609,16 +729,16 @@ public final class JsonParserSession extends ReaderParserSession {
 					r.delete();
 				} else if (isQuoted) {
 					if (c == qc) {
-						s = r.getMarked(1, -1);
+						s = r.getMarked(1, -1, names);
 						break;
 					}
 				} else {
 					if (c == ',' || c == '}' || c == ']' || isWhitespace(c)) {
-						s = r.getMarked(0, -1);
+						s = r.getMarked(0, -1, names);
 						r.unread();
 						break;
 					} else if (c == -1) {
-						s = r.getMarked(0, 0);
+						s = r.getMarked(0, 0, names);
 						break;
 					}
 				}
@@ -643,7 +763,7 @@ public final class JsonParserSession extends ReaderParserSession {
 	 * Looks for the keywords true, false, or null.
 	 * Throws an exception if any of these keywords are not found at the specified position.
 	 */
-	private void parseKeyword(String keyword, ParserReader r) throws IOException, ParseException {
+	void parseKeyword(String keyword, ParserReader r) throws IOException, ParseException {
 		try {
 			String s = r.read(keyword.length());
 			if (s.equals(keyword))
@@ -676,6 +796,66 @@ public final class JsonParserSession extends ReaderParserSession {
 		}
 	}
 
+	/*
+	 * Moves the position beyond the value at the current position without creating any objects.
+	 * Used for ignoring the values of unknown bean properties.
+	 * Only brackets and quotes are tracked, so the syntax of the skipped value isn't validated.
+	 */
+	private void skipValue(ParserReader r) throws IOException, ParseException {
+		skipCommentsAndSpace(r);
+		int c = r.peek();
+
+		if (c == '{' || c == '[') {
+			int depth = 0;
+			while ((c = r.read()) != -1) {
+				if (c == '{' || c == '[') {
+					depth++;
+				} else if (c == '}' || c == ']') {
+					if (--depth == 0)
+						return;
+				} else if (c == '"' || c == '\'') {
+					skipQuoted(r, c);
+				} else if (c == '/') {
+					skipComments(r);
+				}
+			}
+			throw new ParseException(this, "Could not find end of JSON object or array.");
+		}
+
+		if (c == '"' || c == '\'') {
+			skipQuoted(r, r.read());
+			// Look for concatenated string (i.e. whitespace followed by +).
+			skipCommentsAndSpace(r);
+			if (r.peek() == '+') {
+				r.read();
+				skipValue(r);
+			}
+			return;
+		}
+
+		// Numbers, keywords, and unquoted strings.
+		while ((c = r.read()) != -1) {
+			if (c == ',' || c == '}' || c == ']' || c == '/' || isWhitespace(c)) {
+				r.unread();
+				return;
+			}
+		}
+	}
+
+	/*
+	 * Moves the position beyond the end of a quoted string whose opening quote has already been read.
+	 */
+	private void skipQuoted(ParserReader r, int qc) throws IOException, ParseException {
+		int c;
+		while ((c = r.read()) != -1) {
+			if (c == '\\')
+				r.read();
+			else if (c == qc)
+				return;
+		}
+		throw new ParseException(this, "Could not find expected end character ''{0}''.", (char)qc);
+	}
+
 	/*
 	 * Doesn't actually parse anything, but moves the position beyond the construct "{wrapperAttr:" when
 	 * the @Json(wrapperAttr) annotation is used on a class.
@@ -788,6 +968,17 @@ public final class JsonParserSession extends ReaderParserSession {
 	// Properties
 	//-----------------------------------------------------------------------------------------------------------------
 
+	/**
+	 * Configuration property:  Compile bean parsers.
+	 *
+	 * @see JsonParser#JSON_compileBeans
+	 * @return
+	 * 	<jk>true</jk> if readers specialized to each bean class are compiled on first use.
+	 */
+	protected final boolean isCompileBeans() {
+		return ctx.isCompileBeans();
+	}
+
 	/**
 	 * Configuration property:  Validate end.
 	 *
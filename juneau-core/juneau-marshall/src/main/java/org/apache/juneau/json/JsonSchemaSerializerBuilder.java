@@ -222,6 +222,18 @@ public class JsonSchemaSerializerBuilder extends JsonSerializerBuilder {
 		return set(JSONSCHEMA_useBeanDefs, true);
 	}
 
+	@Override /* JsonSerializerBuilder */
+	public JsonSchemaSerializerBuilder compileBeans(boolean value) {
+		super.compileBeans(value);
+		return this;
+	}
+
+	@Override /* JsonSerializerBuilder */
+	public JsonSchemaSerializerBuilder compileBeans() {
+		super.compileBeans();
+		return this;
+	}
+
 	@Override /* JsonSerializerBuilder */
 	public JsonSchemaSerializerBuilder escapeSolidus(boolean value) {
 		super.escapeSolidus(value);
@@ -389,6 +401,12 @@ public class JsonSchemaSerializerBuilder extends JsonSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public JsonSchemaSerializerBuilder streamFlushInterval(int value) {
+		super.streamFlushInterval(value);
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public JsonSchemaSerializerBuilder trimEmptyCollections(boolean value) {
 		super.trimEmptyCollections(value);
@@ -449,6 +467,18 @@ public class JsonSchemaSerializerBuilder extends JsonSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public JsonSchemaSerializerBuilder useBufferPool(boolean value) {
+		super.useBufferPool(value);
+		return this;
+	}
+
+	@Override /* SerializerBuilder */
+	public JsonSchemaSerializerBuilder useBufferPool() {
+		super.useBufferPool();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public JsonSchemaSerializerBuilder annotations(Annotation...values) {
 		super.annotations(values);
@@ -953,6 +983,18 @@ public class JsonSchemaSerializerBuilder extends JsonSerializerBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public JsonSchemaSerializerBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public JsonSchemaSerializerBuilder useGeneratedAccessors() {
+		super.useGeneratedAccessors();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public JsonSchemaSerializerBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
@@ -130,6 +130,55 @@ public class JsonSerializer extends WriterSerializer implements JsonMetaProvider
 	 */
 	public static final String JSON_addBeanTypes = PREFIX + ".addBeanTypes.b";
 
+	/**
+	 * Configuration property:  Compile bean serializers.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.json.JsonSerializer#JSON_compileBeans JSON_compileBeans}
+	 * 	<li><b>Name:</b>  <js>"JsonSerializer.compileBeans.b"</js>
+	 * 	<li><b>Data type:</b>  <jk>boolean</jk>
+	 * 	<li><b>System property:</b>  <c>JsonSerializer.compileBeans</c>
+	 * 	<li><b>Environment variable:</b>  <c>JSONSERIALIZER_COMPILEBEANS</c>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Annotations:</b>
+	 * 		<ul>
+	 * 			<li class='ja'>{@link org.apache.juneau.json.annotation.JsonConfig#compileBeans()}
+	 * 		</ul>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.json.JsonSerializerBuilder#compileBeans(boolean)}
+	 * 			<li class='jm'>{@link org.apache.juneau.json.JsonSerializerBuilder#compileBeans()}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * If <jk>true</jk>, a writer specialized to the properties and types of each bean class is compiled the first
+	 * time the class is serialized, and used instead of the generic bean map path.
+	 *
+	 * <p>
+	 * Compiled writers handle <jk>int</jk>, <jk>long</jk>, <jk>double</jk> and <jk>boolean</jk> properties, <c>String</c>, <c>Boolean</c> and number wrapper properties, and nested beans whose property type is a final bean class.
+	 * <br>Everything else (collections, maps, swapped values, dynamic properties, etc...) falls back to the generic path.
+	 *
+	 * <p>
+	 * Compiled beans read and write values through accessors generated with {@link java.lang.invoke.LambdaMetafactory},
+	 * so the builder methods also enable {@link org.apache.juneau.BeanContext#BEAN_useGeneratedAccessors}.
+	 * <br>This setting is intended for the handful of bean classes that make up most of the traffic of an
+	 * application, where the one-time cost of compiling the bean is recovered quickly.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a serializer that compiles bean classes on first use.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.compileBeans()
+	 * 		.build();
+	 * </p>
+	 */
+	public static final String JSON_compileBeans = PREFIX + ".compileBeans.b";
+
 	/**
 	 * Configuration property:  Prefix solidus <js>'/'</js> characters with escapes.
 	 *
@@ -333,9 +382,11 @@ public class JsonSerializer extends WriterSerializer implements JsonMetaProvider
 	private final boolean
 		simpleMode,
 		escapeSolidus,
-		addBeanTypes;
+		addBeanTypes,
+		compileBeans;
 	private final Map<ClassMeta<?>,JsonClassMeta> jsonClassMetas = new ConcurrentHashMap<>();
 	private final Map<BeanPropertyMeta,JsonBeanPropertyMeta> jsonBeanPropertyMetas = new ConcurrentHashMap<>();
+	private final Map<BeanPropertyMeta,char[]> attrTokens = new ConcurrentHashMap<>();
 
 	private volatile JsonSchemaSerializer schemaSerializer;
 
@@ -381,6 +432,7 @@ public class JsonSerializer extends WriterSerializer implements JsonMetaProvider
 		simpleMode = getBooleanProperty(JSON_simpleMode, false);
 		escapeSolidus = getBooleanProperty(JSON_escapeSolidus, false);
 		addBeanTypes = getBooleanProperty(JSON_addBeanTypes, getBooleanProperty(SERIALIZER_addBeanTypes, false));
+		compileBeans = getBooleanProperty(JSON_compileBeans, false);
 	}
 
 	@Override /* Context */
@@ -455,6 +507,14 @@ public class JsonSerializer extends WriterSerializer implements JsonMetaProvider
 		return m;
 	}
 
+	/*
+	 * Returns the cache of pre-encoded bean property name tokens (e.g. "name":) for this serializer.
+	 * The tokens only depend on settings of this serializer, so they can be shared across sessions.
+	 */
+	final Map<BeanPropertyMeta,char[]> getAttrTokens() {
+		return attrTokens;
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Properties
 	//-----------------------------------------------------------------------------------------------------------------
@@ -472,6 +532,17 @@ public class JsonSerializer extends WriterSerializer implements JsonMetaProvider
 		return addBeanTypes;
 	}
 
+	/**
+	 * Configuration property:  Compile bean serializers.
+	 *
+	 * @see #JSON_compileBeans
+	 * @return
+	 * 	<jk>true</jk> if writers specialized to each bean class are compiled on first use.
+	 */
+	protected final boolean isCompileBeans() {
+		return compileBeans;
+	}
+
 	/**
 	 * Configuration property:  Prefix solidus <js>'/'</js> characters with escapes.
 	 *
@@ -506,6 +577,7 @@ public class JsonSerializer extends WriterSerializer implements JsonMetaProvider
 				.append("simpleMode", simpleMode)
 				.append("escapeSolidus", escapeSolidus)
 				.append("addBeanTypes", addBeanTypes)
+				.append("compileBeans", compileBeans)
 			);
 	}
 }
\ No newline at end of file
@@ -55,6 +55,44 @@ public class JsonSerializerBuilder extends WriterSerializerBuilder {
 	// Properties
 	//-----------------------------------------------------------------------------------------------------------------
 
+	/**
+	 * Configuration property:  Compile bean writers.
+	 *
+	 * <p>
+	 * If <jk>true</jk>, a writer specialized to each bean class is compiled the first time the class is encountered.
+	 * <br>Also enables {@link #useGeneratedAccessors()} when <jk>true</jk>.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link JsonSerializer#JSON_compileBeans}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public JsonSerializerBuilder compileBeans(boolean value) {
+		if (value)
+			useGeneratedAccessors();
+		return set(JSON_compileBeans, value);
+	}
+
+	/**
+	 * Configuration property:  Compile bean writers.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>compileBeans(<jk>true</jk>)</code>.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link JsonSerializer#JSON_compileBeans}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public JsonSerializerBuilder compileBeans() {
+		return compileBeans(true);
+	}
+
 	/**
 	 * Configuration property:  Prefix solidus <js>'/'</js> characters with escapes.
 	 *
@@ -280,6 +318,12 @@ public class JsonSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public JsonSerializerBuilder streamFlushInterval(int value) {
+		super.streamFlushInterval(value);
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public JsonSerializerBuilder trimEmptyCollections(boolean value) {
 		super.trimEmptyCollections(value);
@@ -340,6 +384,18 @@ public class JsonSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public JsonSerializerBuilder useBufferPool(boolean value) {
+		super.useBufferPool(value);
+		return this;
+	}
+
+	@Override /* SerializerBuilder */
+	public JsonSerializerBuilder useBufferPool() {
+		super.useBufferPool();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public JsonSerializerBuilder annotations(Annotation...values) {
 		super.annotations(values);
@@ -844,6 +900,18 @@ public class JsonSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public JsonSerializerBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public JsonSerializerBuilder useGeneratedAccessors() {
+		super.useGeneratedAccessors();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public JsonSerializerBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
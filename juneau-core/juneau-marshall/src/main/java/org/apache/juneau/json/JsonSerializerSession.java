@@ -14,10 +14,12 @@ package org.apache.juneau.json;
 
 import java.io.*;
 import java.util.*;
+import java.util.function.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.internal.*;
 import org.apache.juneau.serializer.*;
+import org.apache.juneau.serializer.BeanSerializerPlan.*;
 import org.apache.juneau.transform.*;
 
 /**
@@ -30,6 +32,8 @@ import org.apache.juneau.transform.*;
 public class JsonSerializerSession extends WriterSerializerSession {
 
 	private final JsonSerializer ctx;
+	private final boolean plainStrings;
+	private final Function<BeanMeta<?>,JsonCompiledBeanWriter> compiler;
 
 	/**
 	 * Create a new session using properties specified in the context.
@@ -46,6 +50,8 @@ public class JsonSerializerSession extends WriterSerializerSession {
 	protected JsonSerializerSession(JsonSerializer ctx, SerializerSessionArgs args) {
 		super(ctx, args);
 		this.ctx = ctx;
+		this.plainStrings = getJsonClassMeta(string()).getWrapperAttr() == null;
+		this.compiler = ctx.isCompileBeans() ? x -> new JsonCompiledBeanWriter(x, ctx) : null;
 	}
 
 	@Override /* SerializerSesssion */
@@ -53,6 +59,11 @@ public class JsonSerializerSession extends WriterSerializerSession {
 		serializeAnything(getJsonWriter(out), o, getExpectedRootType(o), "root", null);
 	}
 
+	@Override /* SerializerSession */
+	public boolean canSerializeStreams() {
+		return ! isSortCollections();
+	}
+
 	/**
 	 * Method that can be called from subclasses to serialize an object to JSON.
 	 *
@@ -151,6 +162,8 @@ public class JsonSerializerSession extends WriterSerializerSession {
 			serializeCollection(out, (Collection) o, eType);
 		} else if (sType.isArray()) {
 			serializeCollection(out, toList(sType.getInnerClass(), o), eType);
+		} else if (sType.isStream()) {
+			serializeStream(out, o, eType);
 		} else if (sType.isReader() || sType.isInputStream()) {
 			IOUtils.pipe(o, out);
 		} else {
@@ -199,6 +212,16 @@ public class JsonSerializerSession extends WriterSerializerSession {
 	}
 
 	private SerializerWriter serializeBeanMap(JsonWriter out, BeanMap<?> m, String typeName) throws IOException, SerializeException {
+		if (compiler != null) {
+			JsonCompiledBeanWriter w = getBeanSerializerPlan(m, compiler);
+			if (w != null)
+				return serializeBeanMap(out, m, typeName, w);
+		}
+
+		BeanSerializerPlan plan = getBeanSerializerPlan(m, BeanSerializerPlan::new);
+		if (plan != null)
+			return serializeBeanMap(out, m, typeName, plan);
+
 		int i = indent;
 		out.append('{');
 
@@ -208,28 +231,161 @@ public class JsonSerializerSession extends WriterSerializerSession {
 			if (pMeta.canRead()) {
 				ClassMeta<?> cMeta = p.getClassMeta();
 				String key = p.getName();
-				Object value = p.getValue();
 				Throwable t = p.getThrown();
 				if (t != null)
 					onBeanGetterException(pMeta, t);
 
-				if (canIgnoreValue(cMeta, key, value))
+				// Unboxed primitives are never ignored and don't need to go through serializeAnything().
+				Class<?> pt = p.getPrimitiveType();
+				if (pt != null) {
+					if (addComma)
+						out.append(',').smi(i);
+					out.cr(i).beanAttr(pMeta, key).s(i);
+					if (pt == int.class)
+						out.longValue(p.getInt());
+					else if (pt == long.class)
+						out.longValue(p.getLong());
+					else if (pt == double.class)
+						out.doubleValue(p.getDouble());
+					else
+						out.booleanValue(p.getBoolean());
+					addComma = true;
 					continue;
+				}
 
-				if (addComma)
-					out.append(',').smi(i);
+				addComma = serializeBeanProperty(out, i, pMeta, key, p.getValue(), cMeta, addComma);
+			}
+		}
+		out.cre(i-1).append('}');
+		return out;
+	}
 
-				out.cr(i).attr(key).append(':').s(i);
+	private SerializerWriter serializeBeanMap(JsonWriter out, BeanMap<?> m, String typeName, BeanSerializerPlan plan) throws IOException, SerializeException {
+		int i = indent;
+		out.append('{');
 
-				serializeAnything(out, value, cMeta, key, pMeta);
+		boolean addComma = false;
+		if (typeName != null) {
+			BeanPropertyMeta tp = m.getMeta().getTypeProperty();
+			addComma = serializeBeanProperty(out, i, tp, tp.getName(), typeName, tp.getClassMeta(), addComma);
+		}
+
+		for (Property p : plan.getProperties()) {
+			BeanPropertyMeta pMeta = p.getMeta();
+			String key = p.getName();
+			Kind k = p.getKind();
 
+			if (k == Kind.OTHER || (k == Kind.STRING && ! plainStrings)) {
+				addComma = serializeBeanProperty(out, i, pMeta, key, getBeanPropertyValue(m, pMeta), p.getClassMeta(), addComma);
+				continue;
+			}
+
+			if (k == Kind.STRING) {
+				Object value = getBeanPropertyValue(m, pMeta);
+				if (value == null) {
+					addComma = serializeBeanProperty(out, i, pMeta, key, null, p.getClassMeta(), addComma);
+					continue;
+				}
+				if (addComma)
+					out.append(',').smi(i);
+				out.cr(i).beanAttr(pMeta, key).s(i).stringValue(toString(value));
 				addComma = true;
+				continue;
 			}
+
+			addComma = serializePrimitiveBeanProperty(out, i, m, pMeta, key, k, p.getClassMeta(), addComma);
+		}
+
+		out.cre(i-1).append('}');
+		return out;
+	}
+
+	private SerializerWriter serializeBeanMap(JsonWriter out, BeanMap<?> m, String typeName, JsonCompiledBeanWriter w) throws IOException, SerializeException {
+		int i = indent;
+		out.append('{');
+
+		boolean addComma = false;
+		if (typeName != null) {
+			BeanPropertyMeta tp = m.getMeta().getTypeProperty();
+			addComma = serializeBeanProperty(out, i, tp, tp.getName(), typeName, tp.getClassMeta(), addComma);
 		}
+
+		w.write(this, out, m, i, addComma);
+
 		out.cre(i-1).append('}');
 		return out;
 	}
 
+	boolean serializeBeanProperty(JsonWriter out, int i, BeanPropertyMeta pMeta, String key, Object value, ClassMeta<?> cMeta, boolean addComma) throws IOException, SerializeException {
+		if (canIgnoreValue(cMeta, key, value))
+			return addComma;
+
+		if (addComma)
+			out.append(',').smi(i);
+
+		out.cr(i).beanAttr(pMeta, key).s(i);
+
+		serializeAnything(out, value, cMeta, key, pMeta);
+
+		return true;
+	}
+
+	/*
+	 * Writes an unboxed int, long, double, or boolean bean property.
+	 * Unboxed primitives are never ignored unless the getter throws an exception.
+	 */
+	boolean serializePrimitiveBeanProperty(JsonWriter out, int i, BeanMap<?> m, BeanPropertyMeta pMeta, String key, Kind k, ClassMeta<?> cMeta, boolean addComma) throws IOException, SerializeException {
+		long l = 0;
+		double d = 0;
+		boolean b = false;
+		try {
+			if (k == Kind.INT)
+				l = pMeta.getInt(m);
+			else if (k == Kind.LONG)
+				l = pMeta.getLong(m);
+			else if (k == Kind.DOUBLE)
+				d = pMeta.getDouble(m);
+			else
+				b = pMeta.getBoolean(m);
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable t) {
+			return serializeBeanPropertyError(out, i, pMeta, key, cMeta, t, addComma);
+		}
+		beanAttr(out, i, pMeta, key, addComma);
+		if (k == Kind.INT || k == Kind.LONG)
+			out.longValue(l);
+		else if (k == Kind.DOUBLE)
+			out.doubleValue(d);
+		else
+			out.booleanValue(b);
+		return true;
+	}
+
+	/*
+	 * Writes the separator, name, and whitespace preceding a bean property value.
+	 */
+	JsonWriter beanAttr(JsonWriter out, int i, BeanPropertyMeta pMeta, String key, boolean addComma) throws IOException {
+		if (addComma)
+			out.append(',').smi(i);
+		return out.cr(i).beanAttr(pMeta, key).s(i);
+	}
+
+	/*
+	 * Reports an exception thrown by a bean property getter and serializes the property as null.
+	 */
+	boolean serializeBeanPropertyError(JsonWriter out, int i, BeanPropertyMeta pMeta, String key, ClassMeta<?> cMeta, Throwable t, boolean addComma) throws IOException, SerializeException {
+		onBeanGetterException(pMeta, t);
+		return serializeBeanProperty(out, i, pMeta, key, null, cMeta, addComma);
+	}
+
+	/*
+	 * Same as getBeanPropertyValue(BeanMap,BeanPropertyMeta) but accessible to compiled bean writers.
+	 */
+	Object getPropertyValue(BeanMap<?> m, BeanPropertyMeta pMeta) {
+		return getBeanPropertyValue(m, pMeta);
+	}
+
 	@SuppressWarnings({"rawtypes", "unchecked"})
 	private SerializerWriter serializeCollection(JsonWriter out, Collection c, ClassMeta<?> type) throws IOException, SerializeException {
 
@@ -250,6 +406,33 @@ public class JsonSerializerSession extends WriterSerializerSession {
 		return out;
 	}
 
+	@SuppressWarnings({ "rawtypes" })
+	private SerializerWriter serializeStream(JsonWriter out, Object o, ClassMeta<?> type) throws IOException, SerializeException {
+
+		ClassMeta<?> elementType = type.isStream() ? type.getElementType() : object();
+		int flushInterval = getStreamFlushInterval(), count = 0;
+
+		out.append('[');
+
+		try {
+			// Delimiters are written before each element (instead of after) so that a flush never has to wait
+			// on the source to find out whether there's another element.
+			for (Iterator i = toIterator(o); i.hasNext();) {
+				Object value = i.next();
+				if (count++ > 0)
+					out.append(',').smi(indent);
+				out.cr(indent);
+				serializeAnything(out, value, elementType, "<iterator>", null);
+				if (flushInterval > 0 && count % flushInterval == 0)
+					out.flush();
+			}
+		} finally {
+			closeStream(o);
+		}
+		out.cre(indent-1).append(']');
+		return out;
+	}
+
 	/**
 	 * Converts the specified output target object to an {@link JsonWriter}.
 	 *
@@ -262,7 +445,7 @@ public class JsonSerializerSession extends WriterSerializerSession {
 		if (output instanceof JsonWriter)
 			return (JsonWriter)output;
 		JsonWriter w = new JsonWriter(out.getWriter(), isUseWhitespace(), getMaxIndent(), isEscapeSolidus(), getQuoteChar(),
-			isSimpleMode(), isTrimStrings(), getUriResolver());
+			isSimpleMode(), isTrimStrings(), getUriResolver(), ctx.getAttrTokens());
 		out.setWriter(w);
 		return w;
 	}
@@ -284,6 +467,17 @@ public class JsonSerializerSession extends WriterSerializerSession {
 		return ctx.isAddBeanTypes();
 	}
 
+	/**
+	 * Configuration property:  Compile bean serializers.
+	 *
+	 * @see JsonSerializer#JSON_compileBeans
+	 * @return
+	 * 	<jk>true</jk> if writers specialized to each bean class are compiled on first use.
+	 */
+	protected final boolean isCompileBeans() {
+		return ctx.isCompileBeans();
+	}
+
 	/**
 	 * Configuration property:  Prefix solidus <js>'/'</js> characters with escapes.
 	 *
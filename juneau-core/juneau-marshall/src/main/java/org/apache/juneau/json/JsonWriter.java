@@ -13,6 +13,7 @@
 package org.apache.juneau.json;
 
 import java.io.*;
+import java.util.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.internal.*;
@@ -51,7 +52,16 @@ public final class JsonWriter extends SerializerWriter {
 	private static final AsciiSet validAttrChars = AsciiSet.create().ranges("a-z","A-Z","0-9").chars("_").build();
 	private static final AsciiSet validFirstAttrChars = AsciiSet.create().ranges("a-z","A-Z").chars("_").build();
 
-	private final AsciiSet ec;
+	// Escape tables indexed by ASCII character.
+	// A null entry means the character is written as-is, an empty string means the character is dropped.
+	private static final String[]
+		ESCAPES_DQ = escapes('"', false),
+		ESCAPES_DQ_SOLIDUS = escapes('"', true),
+		ESCAPES_SQ = escapes('\'', false),
+		ESCAPES_SQ_SOLIDUS = escapes('\'', true);
+
+	private final String[] escapes;
+	private final Map<BeanPropertyMeta,char[]> attrTokens;
 
 	/**
 	 * Constructor.
@@ -67,10 +77,67 @@ public final class JsonWriter extends SerializerWriter {
 	 */
 	protected JsonWriter(Writer out, boolean useWhitespace, int maxIndent, boolean escapeSolidus, char quoteChar,
 			boolean simpleMode, boolean trimStrings, UriResolver uriResolver) {
+		this(out, useWhitespace, maxIndent, escapeSolidus, quoteChar, simpleMode, trimStrings, uriResolver, null);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param out The writer being wrapped.
+	 * @param useWhitespace If <jk>true</jk>, tabs and spaces will be used in output.
+	 * @param maxIndent The maximum indentation level.
+	 * @param escapeSolidus If <jk>true</jk>, forward slashes should be escaped in the output.
+	 * @param quoteChar The quote character to use (i.e. <js>'\''</js> or <js>'"'</js>)
+	 * @param simpleMode If <jk>true</jk>, JSON attributes will only be quoted when necessary.
+	 * @param trimStrings If <jk>true</jk>, strings will be trimmed before being serialized.
+	 * @param uriResolver The URI resolver for resolving URIs to absolute or root-relative form.
+	 * @param attrTokens
+	 * 	Cache of pre-encoded bean property name tokens used by {@link #beanAttr(BeanPropertyMeta, String)}.
+	 * 	<br>Must only be shared between writers with the same <c>escapeSolidus</c>, <c>quoteChar</c>,
+	 * 	<c>simpleMode</c>, and <c>trimStrings</c> settings.
+	 * 	<br>Can be <jk>null</jk> to disable caching.
+	 */
+	protected JsonWriter(Writer out, boolean useWhitespace, int maxIndent, boolean escapeSolidus, char quoteChar,
+			boolean simpleMode, boolean trimStrings, UriResolver uriResolver, Map<BeanPropertyMeta,char[]> attrTokens) {
 		super(out, useWhitespace, maxIndent, trimStrings, quoteChar, uriResolver);
 		this.simpleMode = simpleMode;
 		this.escapeSolidus = escapeSolidus;
-		this.ec = escapeSolidus ? encodedChars2 : encodedChars;
+		this.escapes = getEscapes(quoteChar, escapeSolidus);
+		this.attrTokens = attrTokens;
+	}
+
+	private static String[] getEscapes(char quoteChar, boolean escapeSolidus) {
+		if (quoteChar == '"')
+			return escapeSolidus ? ESCAPES_DQ_SOLIDUS : ESCAPES_DQ;
+		if (quoteChar == '\'')
+			return escapeSolidus ? ESCAPES_SQ_SOLIDUS : ESCAPES_SQ;
+		return escapes(quoteChar, escapeSolidus);
+	}
+
+	private static String[] escapes(char quoteChar, boolean escapeSolidus) {
+		String[] a = new String[128];
+		AsciiSet ec = escapeSolidus ? encodedChars2 : encodedChars;
+		for (char c = 0; c < 128; c++) {
+			if (! ec.contains(c))
+				continue;
+			if (c == '\n')
+				a[c] = "\\n";
+			else if (c == '\t')
+				a[c] = "\\t";
+			else if (c == '\b')
+				a[c] = "\\b";
+			else if (c == '\f')
+				a[c] = "\\f";
+			else if (c == quoteChar)
+				a[c] = "\\" + quoteChar;
+			else if (c == '\\')
+				a[c] = "\\\\";
+			else if (c == '/' && escapeSolidus)
+				a[c] = "\\/";
+			else if (c == '\r')
+				a[c] = "";
+		}
+		return a;
 	}
 
 	/**
@@ -83,43 +150,65 @@ public final class JsonWriter extends SerializerWriter {
 	public JsonWriter stringValue(String s) throws IOException {
 		if (s == null)
 			return this;
-		boolean doConvert = false;
-		for (int i = 0; i < s.length() && ! doConvert; i++) {
-			char c = s.charAt(i);
-			doConvert |= ec.contains(c);
-		}
 		q();
-		if (! doConvert) {
-			out.append(s);
-		} else {
-			for (int i = 0; i < s.length(); i++) {
-				char c = s.charAt(i);
-				if (ec.contains(c)) {
-					if (c == '\n')
-						out.append('\\').append('n');
-					else if (c == '\t')
-						out.append('\\').append('t');
-					else if (c == '\b')
-						out.append('\\').append('b');
-					else if (c == '\f')
-						out.append('\\').append('f');
-					else if (c == quoteChar)
-						out.append('\\').append(quoteChar);
-					else if (c == '\\')
-						out.append('\\').append('\\');
-					else if (c == '/' && escapeSolidus)
-						out.append('\\').append('/');
-					else if (c != '\r')
-						out.append(c);
-				} else {
-					out.append(c);
-				}
+
+		// Copy runs of characters that don't need escaping in bulk.
+		String[] escapes = this.escapes;
+		int len = s.length(), start = 0;
+		for (int i = 0; i < len; i++) {
+			char c = s.charAt(i);
+			if (c < 128 && escapes[c] != null) {
+				if (i > start)
+					out.write(s, start, i - start);
+				out.write(escapes[c]);
+				start = i + 1;
 			}
 		}
+		if (start == 0)
+			out.write(s);
+		else if (start < len)
+			out.write(s, start, len - start);
+
 		q();
 		return this;
 	}
 
+	/**
+	 * Serializes the specified number as a JSON number value.
+	 *
+	 * @param l The number being serialized.
+	 * @return This object (for method chaining).
+	 * @throws IOException Should never happen.
+	 */
+	public JsonWriter longValue(long l) throws IOException {
+		appendLong(l);
+		return this;
+	}
+
+	/**
+	 * Serializes the specified number as a JSON number value.
+	 *
+	 * @param d The number being serialized.
+	 * @return This object (for method chaining).
+	 * @throws IOException Should never happen.
+	 */
+	public JsonWriter doubleValue(double d) throws IOException {
+		out.append(Double.toString(d));
+		return this;
+	}
+
+	/**
+	 * Serializes the specified boolean as a JSON boolean value.
+	 *
+	 * @param b The boolean being serialized.
+	 * @return This object (for method chaining).
+	 * @throws IOException Should never happen.
+	 */
+	public JsonWriter booleanValue(boolean b) throws IOException {
+		out.append(b ? "true" : "false");
+		return this;
+	}
+
 	/**
 	 * Serializes the specified object as a JSON attribute name.
 	 *
@@ -168,6 +257,34 @@ public final class JsonWriter extends SerializerWriter {
 		return this;
 	}
 
+	/**
+	 * Serializes the specified bean property name as a JSON attribute name followed by <js>':'</js>.
+	 *
+	 * <p>
+	 * Bean property names don't change, so the encoded token (e.g. <js>"name":</js>) is computed once per property
+	 * and then written as a single block.
+	 *
+	 * @param pMeta The bean property.
+	 * @param name
+	 * 	The name of the property being serialized.
+	 * 	<br>Only cached when it's the same as {@link BeanPropertyMeta#getName()} (e.g. not for dynamic properties).
+	 * @return This object (for method chaining).
+	 * @throws IOException Should never happen.
+	 */
+	public JsonWriter beanAttr(BeanPropertyMeta pMeta, String name) throws IOException {
+		if (attrTokens == null || pMeta == null || name != pMeta.getName())
+			return attr(name).append(':');
+		char[] token = attrTokens.get(pMeta);
+		if (token == null) {
+			StringWriter sw = new StringWriter();
+			new JsonWriter(sw, false, maxIndent, escapeSolidus, quoteChar, simpleMode, trimStrings, null).attr(name).append(':');
+			token = sw.toString().toCharArray();
+			attrTokens.put(pMeta, token);
+		}
+		out.write(token);
+		return this;
+	}
+
 	/**
 	 * Appends a URI to the output.
 	 *
@@ -0,0 +1,417 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import java.io.*;
+import java.util.*;
+import java.util.function.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.parser.*;
+
+/**
+ * An {@link ObjectMap} over JSON text whose values are only parsed when they're first accessed.
+ *
+ * <p>
+ * Construction only scans the top-level object of the input, recording the key names and the positions of their
+ * values in the source text.
+ * <br>A value is parsed the first time it's retrieved through {@link #get(Object)} (or any of the typed getters such
+ * as {@link #getString(String)} or {@link #getMap(String)}) and is then cached in the map.
+ * <br>Values that are JSON objects are returned as nested <c>LazyObjectMaps</c> over the same source text, so
+ * drilling into a document only parses the parts along the way.
+ *
+ * <p>
+ * This makes it cheap to inspect a few fields of a large document, for example to route or filter a request before
+ * forwarding it.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	LazyObjectMap m = <jk>new</jk> LazyObjectMap(json);
+ *
+ * 	<jc>// Only the "header" object and its "type" value get parsed.</jc>
+ * 	String type = m.getObjectMap(<js>"header"</js>).getString(<js>"type"</js>);
+ * </p>
+ *
+ * <ul class='notes'>
+ * 	<li>
+ * 		Methods that need every value, such as {@link #entrySet()}, {@link #values()}, and serialization, parse all
+ * 		remaining values.
+ * 	<li>
+ * 		Syntax errors within a value are only detected when that value is parsed, and are then thrown as
+ * 		{@link BeanRuntimeException BeanRuntimeExceptions}.
+ * 	<li>
+ * 		Nested objects are not converted to beans through the bean type property (e.g. <js>"_type"</js>).
+ * 	<li>
+ * 		Instances are serialized through Java serialization as plain {@link ObjectMap ObjectMaps} with all values
+ * 		parsed.
+ * 	<li>
+ * 		This class is not thread safe.
+ * </ul>
+ */
+public class LazyObjectMap extends ObjectMap {
+	private static final long serialVersionUID = 1L;
+
+	private final String src;
+	private final transient JsonParser parser;
+	private int unparsed;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param s The JSON object text.
+	 * @param p The parser to use to parse the values, or <jk>null</jk> to use {@link JsonParser#DEFAULT}.
+	 * @throws ParseException Malformed input encountered in the top-level object.
+	 */
+	public LazyObjectMap(CharSequence s, JsonParser p) throws ParseException {
+		super(p == null ? null : p.createBeanSession());
+		this.src = s == null ? "" : s.toString();
+		this.parser = p == null ? JsonParser.DEFAULT : p;
+		if (skipWs(0, src.length()) < src.length())
+			index(0, src.length());
+	}
+
+	/**
+	 * Shortcut for <code><jk>new</jk> LazyObjectMap(string, JsonParser.<jsf>DEFAULT</jsf>)</code>.
+	 *
+	 * @param s The JSON object text.
+	 * @throws ParseException Malformed input encountered in the top-level object.
+	 */
+	public LazyObjectMap(CharSequence s) throws ParseException {
+		this(s, null);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * <p>
+	 * The contents of the reader are read fully into memory.
+	 *
+	 * @param r The reader containing the JSON object text.
+	 * @param p The parser to use to parse the values, or <jk>null</jk> to use {@link JsonParser#DEFAULT}.
+	 * @throws ParseException Malformed input encountered in the top-level object.
+	 * @throws IOException If a problem occurred trying to read from the reader.
+	 */
+	public LazyObjectMap(Reader r, JsonParser p) throws ParseException, IOException {
+		this(IOUtils.read(r), p);
+	}
+
+	private LazyObjectMap(LazyObjectMap parent, int start, int end) throws ParseException {
+		super(parent.getBeanSession());
+		this.src = parent.src;
+		this.parser = parent.parser;
+		index(start, end);
+	}
+
+	/**
+	 * Returns the source text this map was created from.
+	 *
+	 * @return The source text this map was created from.
+	 */
+	public String getSource() {
+		return src;
+	}
+
+	@Override /* Map */
+	public Object get(Object key) {
+		Object o = super.get(key);
+		if (o instanceof Lazy) {
+			o = parse((Lazy)o);
+			super.put((String)key, o);
+			unparsed--;
+		}
+		return o;
+	}
+
+	@Override /* Map */
+	public Object getOrDefault(Object key, Object def) {
+		Object o = get(key);
+		return o != null || containsKey(key) ? o : def;
+	}
+
+	@Override /* Map */
+	public Object put(String key, Object value) {
+		Object o = super.put(key, value);
+		if (o instanceof Lazy) {
+			unparsed--;
+			o = parse((Lazy)o);
+		}
+		return o;
+	}
+
+	@Override /* Map */
+	public Object remove(Object key) {
+		Object o = super.remove(key);
+		if (o instanceof Lazy) {
+			unparsed--;
+			o = parse((Lazy)o);
+		}
+		return o;
+	}
+
+	@Override /* Map */
+	public Set<Map.Entry<String,Object>> entrySet() {
+		parseAll();
+		return super.entrySet();
+	}
+
+	@Override /* Map */
+	public Collection<Object> values() {
+		parseAll();
+		return super.values();
+	}
+
+	@Override /* Map */
+	public boolean containsValue(Object value) {
+		parseAll();
+		return super.containsValue(value);
+	}
+
+	@Override /* Map */
+	public void forEach(BiConsumer<? super String,? super Object> action) {
+		parseAll();
+		super.forEach(action);
+	}
+
+	@Override /* Map */
+	public void replaceAll(BiFunction<? super String,? super Object,? extends Object> function) {
+		parseAll();
+		super.replaceAll(function);
+	}
+
+	@Override /* Map */
+	public Object putIfAbsent(String key, Object value) {
+		get(key);
+		return super.putIfAbsent(key, value);
+	}
+
+	@Override /* Map */
+	public boolean remove(Object key, Object value) {
+		get(key);
+		return super.remove(key, value);
+	}
+
+	@Override /* Map */
+	public Object replace(String key, Object value) {
+		get(key);
+		return super.replace(key, value);
+	}
+
+	@Override /* Map */
+	public boolean replace(String key, Object oldValue, Object newValue) {
+		get(key);
+		return super.replace(key, oldValue, newValue);
+	}
+
+	@Override /* Map */
+	public Object computeIfAbsent(String key, Function<? super String,? extends Object> mappingFunction) {
+		get(key);
+		return super.computeIfAbsent(key, mappingFunction);
+	}
+
+	@Override /* Map */
+	public Object computeIfPresent(String key, BiFunction<? super String,? super Object,? extends Object> remappingFunction) {
+		get(key);
+		return super.computeIfPresent(key, remappingFunction);
+	}
+
+	@Override /* Map */
+	public Object compute(String key, BiFunction<? super String,? super Object,? extends Object> remappingFunction) {
+		get(key);
+		return super.compute(key, remappingFunction);
+	}
+
+	@Override /* Map */
+	public Object merge(String key, Object value, BiFunction<? super Object,? super Object,? extends Object> remappingFunction) {
+		get(key);
+		return super.merge(key, value, remappingFunction);
+	}
+
+	@Override /* Map */
+	public void putAll(Map<? extends String,? extends Object> m) {
+		for (Map.Entry<? extends String,? extends Object> e : m.entrySet())
+			put(e.getKey(), e.getValue());
+	}
+
+	@Override /* Map */
+	public void clear() {
+		super.clear();
+		unparsed = 0;
+	}
+
+	/*
+	 * Serializes this map as a plain ObjectMap since the parser can't be serialized.
+	 */
+	private Object writeReplace() throws ObjectStreamException {
+		return new ObjectMap(this);
+	}
+
+	private void parseAll() {
+		if (unparsed > 0) {
+			for (Map.Entry<String,Object> e : super.entrySet())
+				if (e.getValue() instanceof Lazy)
+					e.setValue(parse((Lazy)e.getValue()));
+			unparsed = 0;
+		}
+	}
+
+	private Object parse(Lazy l) {
+		try {
+			if (src.charAt(l.start) == '{')
+				return new LazyObjectMap(this, l.start, l.end);
+			return parser.parse(src.substring(l.start, l.end), Object.class);
+		} catch (ParseException e) {
+			throw new BeanRuntimeException(e);
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Scanning
+	//-----------------------------------------------------------------------------------------------------------------
+
+	/*
+	 * Records the positions of the values of the object starting at the specified position.
+	 */
+	private void index(int i, int end) throws ParseException {
+		i = skipWs(i, end);
+		if (i == end || src.charAt(i) != '{')
+			throw error(i, "Expected '{' at beginning of JSON object.");
+		i = skipWs(i+1, end);
+		if (i < end && src.charAt(i) == '}')
+			return;
+		while (true) {
+			String key;
+			int ks = i;
+			char c = i < end ? src.charAt(i) : 0;
+			if (c == '"' || c == '\'') {
+				i = skipString(i, end);
+				key = src.substring(ks+1, i-1);
+				if (key.indexOf('\\') != -1)
+					key = parser.parse(src.substring(ks, i), String.class);
+			} else {
+				while (i < end && (c = src.charAt(i)) != ':' && c != '/' && ! Character.isWhitespace(c))
+					i++;
+				if (i == ks)
+					throw error(i, "Could not find attribute name on JSON object.");
+				key = src.substring(ks, i);
+			}
+			i = skipWs(i, end);
+			if (i == end || src.charAt(i) != ':')
+				throw error(i, "Could not find ':' following attribute name on JSON object.");
+			int vs = skipWs(i+1, end);
+			i = skipValue(vs, end);
+			if (super.put(key, new Lazy(vs, i)) instanceof Lazy)
+				unparsed--;
+			unparsed++;
+			i = skipWs(i, end);
+			c = i < end ? src.charAt(i) : 0;
+			if (c == '}')
+				return;
+			if (c != ',')
+				throw error(i, "Could not find '}' marking end of JSON object.");
+			i = skipWs(i+1, end);
+		}
+	}
+
+	private int skipValue(int i, int end) throws ParseException {
+		char c = i < end ? src.charAt(i) : 0;
+		if (c == '{' || c == '[') {
+			int depth = 0;
+			while (i < end) {
+				c = src.charAt(i);
+				if (c == '"' || c == '\'') {
+					i = skipString(i, end);
+				} else if (c == '/') {
+					i = skipComment(i, end);
+				} else {
+					i++;
+					if (c == '{' || c == '[')
+						depth++;
+					else if ((c == '}' || c == ']') && --depth == 0)
+						return i;
+				}
+			}
+			throw error(i, "Could not find end of JSON object or array.");
+		}
+		if (c == '"' || c == '\'') {
+			i = skipString(i, end);
+			for (int j = skipWs(i, end); j < end && src.charAt(j) == '+'; j = skipWs(i, end))
+				i = skipString(skipWs(j+1, end), end);
+			return i;
+		}
+		int s = i;
+		while (i < end && (c = src.charAt(i)) != ',' && c != '}' && c != ']' && c != '/' && ! Character.isWhitespace(c))
+			i++;
+		if (i == s)
+			throw error(i, "Expected one of the following characters: {,[,',\",LITERAL.");
+		return i;
+	}
+
+	private int skipString(int i, int end) throws ParseException {
+		char q = i < end ? src.charAt(i) : 0;
+		if (q != '"' && q != '\'')
+			throw error(i, "Expected quoted string.");
+		for (i++; i < end; i++) {
+			char c = src.charAt(i);
+			if (c == '\\')
+				i++;
+			else if (c == q)
+				return i+1;
+		}
+		throw error(i, "Could not find expected end character '" + q + "'.");
+	}
+
+	private int skipWs(int i, int end) throws ParseException {
+		while (i < end) {
+			char c = src.charAt(i);
+			if (c == '/')
+				i = skipComment(i, end);
+			else if (Character.isWhitespace(c))
+				i++;
+			else
+				break;
+		}
+		return i;
+	}
+
+	private int skipComment(int i, int end) throws ParseException {
+		char c = i+1 < end ? src.charAt(i+1) : 0;
+		if (c == '*') {
+			int j = src.indexOf("*/", i+2);
+			if (j == -1 || j+2 > end)
+				throw error(i, "Open ended comment.");
+			return j+2;
+		}
+		if (c == '/') {
+			int j = src.indexOf('\n', i+2);
+			return j == -1 || j > end ? end : j+1;
+		}
+		throw error(i, "Invalid comment.");
+	}
+
+	private static ParseException error(int pos, String msg) {
+		return new ParseException("{0}  Position: {1}", msg, String.valueOf(pos));
+	}
+
+	/*
+	 * The position of an unparsed value in the source text.
+	 */
+	private static final class Lazy {
+		final int start, end;
+
+		Lazy(int start, int end) {
+			this.start = start;
+			this.end = end;
+		}
+	}
+}
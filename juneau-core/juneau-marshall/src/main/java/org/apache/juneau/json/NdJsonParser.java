@@ -0,0 +1,236 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.parser.*;
+
+/**
+ * Parses newline-delimited JSON (also known as JSON Lines) into collections, arrays and iterators of POJOs.
+ *
+ * <h5 class='topic'>Media types</h5>
+ *
+ * Handles <c>Content-Type</c> types:  <bc>application/x-ndjson</bc>
+ *
+ * <h5 class='topic'>Description</h5>
+ *
+ * Each non-blank line of the input is parsed as a separate JSON value using the same settings as {@link JsonParser}.
+ * <br>When parsing into a collection or array, every line becomes an element.
+ * <br>When parsing into {@link Object}, the lines are returned as an {@link ObjectList}.
+ * <br>Any other type is parsed from the input as a single JSON value.
+ *
+ * <p>
+ * {@link ParserSession#parseIterator(Object, Class)} reads and parses one line at a time so that arbitrarily large
+ * inputs can be processed in constant memory.
+ *
+ * <p>
+ * When {@link #NDJSON_parallel} is enabled, the input is split into chunks of {@link #NDJSON_chunkSize} lines
+ * that are parsed concurrently on the {@link java.util.concurrent.ForkJoinPool#commonPool() common fork/join pool}.
+ * The elements are returned in the same order as they appear in the input.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<jc>// Parse one bean per line.</jc>
+ * 	List&lt;Person&gt; l = NdJsonParser.<jsf>DEFAULT</jsf>.parse(reader, List.<jk>class</jk>, Person.<jk>class</jk>);
+ *
+ * 	<jc>// Same, but parse chunks of lines in parallel.</jc>
+ * 	l = NdJsonParser.<jsf>DEFAULT_PARALLEL</jsf>.parse(reader, List.<jk>class</jk>, Person.<jk>class</jk>);
+ * </p>
+ */
+@ConfigurableContext
+public class NdJsonParser extends ReaderParser {
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Configurable properties
+	//-------------------------------------------------------------------------------------------------------------------
+
+	static final String PREFIX = "NdJsonParser";
+
+	/**
+	 * Configuration property:  Parse lines in parallel.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.json.NdJsonParser#NDJSON_parallel NDJSON_parallel}
+	 * 	<li><b>Name:</b>  <js>"NdJsonParser.parallel.b"</js>
+	 * 	<li><b>Data type:</b>  <jk>boolean</jk>
+	 * 	<li><b>System property:</b>  <c>NdJsonParser.parallel</c>
+	 * 	<li><b>Environment variable:</b>  <c>NDJSONPARSER_PARALLEL</c>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * If <jk>true</jk>, inputs with more than {@link #NDJSON_chunkSize} lines are split into chunks that are parsed
+	 * concurrently on the common fork/join pool when parsing into collections and arrays.
+	 *
+	 * <p>
+	 * The whole input is read into memory before parsing starts.
+	 * <br>Iterators returned by {@link ParserSession#parseIterator(Object, Class)} always parse sequentially.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a parser that parses chunks of 500 lines in parallel.</jc>
+	 * 	ReaderParser p = NdJsonParser
+	 * 		.<jsm>create</jsm>()
+	 * 		.parallel()
+	 * 		.chunkSize(500)
+	 * 		.build();
+	 * </p>
+	 */
+	public static final String NDJSON_parallel = PREFIX + ".parallel.b";
+
+	/**
+	 * Configuration property:  Parallel chunk size.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.json.NdJsonParser#NDJSON_chunkSize NDJSON_chunkSize}
+	 * 	<li><b>Name:</b>  <js>"NdJsonParser.chunkSize.i"</js>
+	 * 	<li><b>Data type:</b>  <jk>int</jk>
+	 * 	<li><b>System property:</b>  <c>NdJsonParser.chunkSize</c>
+	 * 	<li><b>Environment variable:</b>  <c>NDJSONPARSER_CHUNKSIZE</c>
+	 * 	<li><b>Default:</b>  <c>1000</c>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * The number of lines parsed by each task when {@link #NDJSON_parallel} is enabled.
+	 */
+	public static final String NDJSON_chunkSize = PREFIX + ".chunkSize.i";
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Predefined instances
+	//-------------------------------------------------------------------------------------------------------------------
+
+	/** Default parser, all default settings.*/
+	public static final NdJsonParser DEFAULT = new NdJsonParser(PropertyStore.DEFAULT);
+
+	/** Default parser, parallel parsing enabled.*/
+	public static final NdJsonParser DEFAULT_PARALLEL = new NdJsonParser.Parallel(PropertyStore.DEFAULT);
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Predefined subclasses
+	//-------------------------------------------------------------------------------------------------------------------
+
+	/** Default parser, parallel parsing enabled. */
+	public static class Parallel extends NdJsonParser {
+
+		/**
+		 * Constructor.
+		 *
+		 * @param ps The property store containing all the settings for this object.
+		 */
+		public Parallel(PropertyStore ps) {
+			super(ps.builder().set(NDJSON_parallel, true).build());
+		}
+	}
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Instance
+	//-------------------------------------------------------------------------------------------------------------------
+
+	private final boolean parallel;
+	private final int chunkSize;
+	private final JsonParser jsonParser;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param ps The property store containing all the settings for this object.
+	 */
+	public NdJsonParser(PropertyStore ps) {
+		super(ps, "application/x-ndjson");
+		parallel = getBooleanProperty(NDJSON_parallel, false);
+		chunkSize = Math.max(1, getIntegerProperty(NDJSON_chunkSize, 1000));
+		jsonParser = new JsonParser(ps);
+	}
+
+	@Override /* Context */
+	public NdJsonParserBuilder builder() {
+		return new NdJsonParserBuilder(getPropertyStore());
+	}
+
+	/**
+	 * Instantiates a new clean-slate {@link NdJsonParserBuilder} object.
+	 *
+	 * <p>
+	 * This is equivalent to simply calling <code><jk>new</jk> NdJsonParserBuilder()</code>.
+	 *
+	 * @return A new {@link NdJsonParserBuilder} object.
+	 */
+	public static NdJsonParserBuilder create() {
+		return new NdJsonParserBuilder();
+	}
+
+	@Override /* Parser */
+	public NdJsonParserSession createSession() {
+		return createSession(createDefaultSessionArgs());
+	}
+
+	@Override /* Parser */
+	public NdJsonParserSession createSession(ParserSessionArgs args) {
+		return new NdJsonParserSession(this, args);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Properties
+	//-----------------------------------------------------------------------------------------------------------------
+
+	/**
+	 * Configuration property:  Parse lines in parallel.
+	 *
+	 * @see #NDJSON_parallel
+	 * @return
+	 * 	<jk>true</jk> if large inputs are split into chunks that are parsed concurrently.
+	 */
+	protected final boolean isParallel() {
+		return parallel;
+	}
+
+	/**
+	 * Configuration property:  Parallel chunk size.
+	 *
+	 * @see #NDJSON_chunkSize
+	 * @return
+	 * 	The number of lines parsed by each task when parsing in parallel.
+	 */
+	protected final int getChunkSize() {
+		return chunkSize;
+	}
+
+	/**
+	 * Returns the JSON parser used to parse individual lines.
+	 *
+	 * @return The JSON parser used to parse individual lines.
+	 */
+	protected final JsonParser getJsonParser() {
+		return jsonParser;
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Other methods
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Override /* Context */
+	public ObjectMap toMap() {
+		return super.toMap()
+			.append("NdJsonParser", new DefaultFilteringObjectMap()
+				.append("chunkSize", chunkSize)
+				.append("parallel", parallel)
+			);
+	}
+}
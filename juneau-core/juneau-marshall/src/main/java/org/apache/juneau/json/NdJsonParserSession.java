@@ -0,0 +1,201 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import java.io.*;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+
+/**
+ * Session object that lives for the duration of a single use of {@link NdJsonParser}.
+ *
+ * <p>
+ * This class is NOT thread safe.
+ * It is typically discarded after one-time use although it can be reused against multiple inputs.
+ */
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public final class NdJsonParserSession extends ReaderParserSession {
+
+	private final NdJsonParser ctx;
+	private final ParserSessionArgs args;
+	private JsonParserSession lineSession;
+
+	/**
+	 * Create a new session using properties specified in the context.
+	 *
+	 * @param ctx
+	 * 	The context creating this session object.
+	 * 	The context contains all the configuration settings for this object.
+	 * @param args
+	 * 	Runtime session arguments.
+	 */
+	protected NdJsonParserSession(NdJsonParser ctx, ParserSessionArgs args) {
+		super(ctx, args);
+		this.ctx = ctx;
+		this.args = args;
+	}
+
+	@Override /* ParserSession */
+	protected <T> T doParse(ParserPipe pipe, ClassMeta<T> type) throws IOException, ParseException, ExecutableException {
+		if (! (type.isObject() || type.isCollectionOrArray()))
+			return getLineSession().parse(pipe.getReader(), type);
+		Object outer = getOuter();
+		Collection c = type.isCollection() && type.canCreateNewInstance(outer) ? (Collection)type.newInstance(outer) : newObjectList();
+		parseLines(pipe, c, (ClassMeta)(type.isObject() ? object() : type.getElementType()));
+		return (T)(type.isArray() ? toArray(type, c) : c);
+	}
+
+	@Override /* ReaderParserSession */
+	protected <E> Collection<E> doParseIntoCollection(ParserPipe pipe, Collection<E> c, Type elementType) throws IOException, ParseException {
+		return parseLines(pipe, c, (ClassMeta<E>)(elementType == null ? object() : getClassMeta(elementType)));
+	}
+
+	@Override /* ParserSession */
+	protected <E> ParserIterator<E> doParseIterator(ParserPipe pipe, ClassMeta<E> elementType) throws IOException {
+		return new LineIterator<>(pipe, elementType);
+	}
+
+	/*
+	 * Parses the elements of the input one line at a time.
+	 */
+	private final class LineIterator<E> extends ParserIterator<E> {
+
+		private final BufferedReader r;
+		private final ClassMeta<E> type;
+		private String line;
+		private int lineNo;
+
+		LineIterator(ParserPipe pipe, ClassMeta<E> type) throws IOException {
+			super(NdJsonParserSession.this, pipe);
+			this.r = getBufferedReader(pipe);
+			this.type = type;
+		}
+
+		@Override /* ParserIterator */
+		protected boolean doHasNext() throws IOException {
+			while (line == null) {
+				String l = r == null ? null : r.readLine();
+				if (l == null)
+					return false;
+				lineNo++;
+				if (! isBlank(l))
+					line = l;
+			}
+			return true;
+		}
+
+		@Override /* ParserIterator */
+		protected E doNext() throws ParseException {
+			String l = line;
+			line = null;
+			return parseLine(getLineSession(), l, type, lineNo);
+		}
+	}
+
+	private <E> Collection<E> parseLines(ParserPipe pipe, Collection<E> c, ClassMeta<E> eType) throws IOException, ParseException {
+		BufferedReader r = getBufferedReader(pipe);
+		if (r == null)
+			return c;
+
+		if (! ctx.isParallel()) {
+			JsonParserSession s = getLineSession();
+			int lineNo = 0;
+			for (String l = r.readLine(); l != null; l = r.readLine()) {
+				lineNo++;
+				if (! isBlank(l))
+					c.add(parseLine(s, l, eType, lineNo));
+			}
+			return c;
+		}
+
+		final List<String> lines = new ArrayList<>();
+		for (String l = r.readLine(); l != null; l = r.readLine())
+			lines.add(l);
+
+		int chunkSize = ctx.getChunkSize(), size = lines.size();
+		if (size <= chunkSize) {
+			c.addAll(parseChunk(getLineSession(), lines, 0, size, eType));
+			return c;
+		}
+
+		// Each chunk is parsed with its own session since sessions are not thread safe.
+		List<ForkJoinTask<List<E>>> tasks = new ArrayList<>();
+		ForkJoinPool pool = ForkJoinPool.commonPool();
+		for (int i = 0; i < size; i += chunkSize) {
+			final int start = i, end = Math.min(i + chunkSize, size);
+			tasks.add(pool.submit(() -> parseChunk(ctx.getJsonParser().createSession(args), lines, start, end, eType)));
+		}
+
+		try {
+			for (ForkJoinTask<List<E>> t : tasks)
+				c.addAll(t.get());
+		} catch (ExecutionException e) {
+			Throwable t = e.getCause();
+			// The pool wraps checked exceptions thrown by callables in (possibly several layers of) runtime exceptions.
+			while (t instanceof RuntimeException && t.getCause() != null)
+				t = t.getCause();
+			if (t instanceof ParseException)
+				throw (ParseException)t;
+			throw new ParseException(t);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ParseException(e);
+		} finally {
+			for (ForkJoinTask<List<E>> t : tasks)
+				t.cancel(false);
+		}
+		return c;
+	}
+
+	private <E> List<E> parseChunk(JsonParserSession s, List<String> lines, int start, int end, ClassMeta<E> eType) throws ParseException {
+		List<E> l = new ArrayList<>(end - start);
+		for (int i = start; i < end; i++) {
+			String line = lines.get(i);
+			if (! isBlank(line))
+				l.add(parseLine(s, line, eType, i + 1));
+		}
+		return l;
+	}
+
+	private <E> E parseLine(JsonParserSession s, String line, ClassMeta<E> eType, int lineNo) throws ParseException {
+		try {
+			return s.parse(line, eType);
+		} catch (ParseException e) {
+			throw new ParseException(e, "Could not parse line {0} of NDJSON input.  {1}", lineNo, e.getMessage());
+		}
+	}
+
+	private JsonParserSession getLineSession() {
+		if (lineSession == null)
+			lineSession = ctx.getJsonParser().createSession(args);
+		return lineSession;
+	}
+
+	private static BufferedReader getBufferedReader(ParserPipe pipe) throws IOException {
+		Reader r = pipe.getReader();
+		if (r == null || r instanceof BufferedReader)
+			return (BufferedReader)r;
+		return new BufferedReader(r);
+	}
+
+	private static boolean isBlank(String s) {
+		for (int i = 0; i < s.length(); i++)
+			if (! Character.isWhitespace(s.charAt(i)))
+				return false;
+		return true;
+	}
+}
@@ -0,0 +1,116 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import org.apache.juneau.*;
+import org.apache.juneau.serializer.*;
+
+/**
+ * Serializes collections, arrays, iterators and streams of POJOs to newline-delimited JSON (also known as JSON Lines).
+ *
+ * <h5 class='topic'>Media types</h5>
+ *
+ * Handles <c>Accept</c> types:  <bc>application/x-ndjson</bc>
+ * <p>
+ * Produces <c>Content-Type</c> types:  <bc>application/x-ndjson</bc>
+ *
+ * <h5 class='topic'>Description</h5>
+ *
+ * Each element of the root collection, array, {@link java.util.Iterator} or {@link java.util.stream.Stream} is
+ * serialized as a single line of JSON followed by a newline character.
+ * <br>Any other root object is written as a single line.
+ *
+ * <p>
+ * Elements are written as they're read from the source, so lazily-evaluated sources such as streams of database
+ * rows are never held in memory as a whole.
+ * <br>The output is flushed every {@link Serializer#SERIALIZER_streamFlushInterval} lines.
+ *
+ * <p>
+ * All the settings of {@link JsonSerializer} are supported, except that whitespace is always disabled so that
+ * every element fits on one line.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	List&lt;Person&gt; l = ...;
+ *
+ * 	<jc>// Produces:
+ * 	// {"name":"John Smith","age":21}
+ * 	// {"name":"Jane Doe","age":22}</jc>
+ * 	String ndjson = NdJsonSerializer.<jsf>DEFAULT</jsf>.serialize(l);
+ * </p>
+ */
+public class NdJsonSerializer extends JsonSerializer {
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Predefined instances
+	//-------------------------------------------------------------------------------------------------------------------
+
+	/** Default serializer, all default settings.*/
+	public static final NdJsonSerializer DEFAULT = new NdJsonSerializer(PropertyStore.DEFAULT);
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Instance
+	//-------------------------------------------------------------------------------------------------------------------
+
+	/**
+	 * Constructor.
+	 *
+	 * @param ps The property store containing all the settings for this object.
+	 */
+	public NdJsonSerializer(PropertyStore ps) {
+		super(
+			ps.builder()
+				.set(WSERIALIZER_useWhitespace, false)
+				.build(),
+			"application/x-ndjson", "application/x-ndjson"
+		);
+	}
+
+	@Override /* Context */
+	public NdJsonSerializerBuilder builder() {
+		return new NdJsonSerializerBuilder(getPropertyStore());
+	}
+
+	/**
+	 * Instantiates a new clean-slate {@link NdJsonSerializerBuilder} object.
+	 *
+	 * <p>
+	 * This is equivalent to simply calling <code><jk>new</jk> NdJsonSerializerBuilder()</code>.
+	 *
+	 * @return A new {@link NdJsonSerializerBuilder} object.
+	 */
+	public static NdJsonSerializerBuilder create() {
+		return new NdJsonSerializerBuilder();
+	}
+
+	@Override /* Context */
+	public NdJsonSerializerSession createSession() {
+		return createSession(createDefaultSessionArgs());
+	}
+
+	@Override /* Serializer */
+	public NdJsonSerializerSession createSession(SerializerSessionArgs args) {
+		return new NdJsonSerializerSession(this, args);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Other methods
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Override /* Context */
+	public ObjectMap toMap() {
+		return super.toMap()
+			.append("NdJsonSerializer", new DefaultFilteringObjectMap()
+			);
+	}
+}
@@ -0,0 +1,90 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import java.io.*;
+import java.lang.reflect.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.serializer.*;
+
+/**
+ * Session object that lives for the duration of a single use of {@link NdJsonSerializer}.
+ *
+ * <p>
+ * This class is NOT thread safe.
+ * It is typically discarded after one-time use although it can be reused within the same thread.
+ */
+public class NdJsonSerializerSession extends JsonSerializerSession {
+
+	/**
+	 * Create a new session using properties specified in the context.
+	 *
+	 * @param ctx
+	 * 	The context creating this session object.
+	 * 	The context contains all the configuration settings for this object.
+	 * @param args
+	 * 	Runtime arguments.
+	 * 	These specify session-level information such as locale and URI context.
+	 * 	It also include session-level properties that override the properties defined on the bean and
+	 * 	serializer contexts.
+	 */
+	protected NdJsonSerializerSession(NdJsonSerializer ctx, SerializerSessionArgs args) {
+		super(ctx, args);
+	}
+
+	/**
+	 * Whitespace is always disabled, even when enabled through session properties, so that every element fits on one
+	 * line.
+	 */
+	@Override /* WriterSerializerSession */
+	protected final boolean isUseWhitespace() {
+		return false;
+	}
+
+	@Override /* SerializerSesssion */
+	protected void doSerialize(SerializerPipe out, Object o) throws IOException, SerializeException {
+		JsonWriter w = getJsonWriter(out);
+		ClassMeta<?> type = o == null ? object() : getClassMetaForObject(o);
+
+		if (type.isCollection()) {
+			ClassMeta<?> elementType = type.getElementType();
+			for (Object value : sort((Collection<?>)o))
+				serializeLine(w, value, elementType);
+		} else if (type.isArray()) {
+			ClassMeta<?> elementType = type.getElementType();
+			for (int i = 0, n = Array.getLength(o); i < n; i++)
+				serializeLine(w, Array.get(o, i), elementType);
+		} else if (type.isStream()) {
+			ClassMeta<?> elementType = type.getElementType();
+			int flushInterval = getStreamFlushInterval(), count = 0;
+			try {
+				for (Iterator<?> i = toIterator(o); i.hasNext();) {
+					serializeLine(w, i.next(), elementType);
+					if (flushInterval > 0 && ++count % flushInterval == 0)
+						w.flush();
+				}
+			} finally {
+				closeStream(o);
+			}
+		} else {
+			serializeLine(w, o, getExpectedRootType(o));
+		}
+	}
+
+	private void serializeLine(JsonWriter w, Object o, ClassMeta<?> eType) throws IOException, SerializeException {
+		serializeAnything(w, o, eType, "root", null);
+		w.append('\n');
+	}
+}
@@ -119,6 +119,31 @@ public @interface JsonConfig {
 	 */
 	String addBeanTypes() default "";
 
+	/**
+	 * Configuration property:  Compile bean serializers and parsers.
+	 *
+	 * <p>
+	 * If <js>"true"</js>, serializers and parsers specialized to each bean class are compiled the first time the class is
+	 * encountered.
+	 *
+	 * <ul class='notes'>
+	 * 	<li>
+	 * 		Possible values:
+	 * 		<ul>
+	 * 			<li><js>"true"</js>
+	 * 			<li><js>"false"</js> (default)
+	 * 		</ul>
+	 * 	<li>
+	 * 		Supports {@doc DefaultSvlVariables} (e.g. <js>"$C{myConfigVar}"</js>).
+	 * </ul>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link JsonSerializer#JSON_compileBeans}
+	 * 	<li class='jf'>{@link JsonParser#JSON_compileBeans}
+	 * </ul>
+	 */
+	String compileBeans() default "";
+
 	/**
 	 * Configuration property:  Prefix solidus <js>'/'</js> characters with escapes.
 	 *
@@ -15,6 +15,7 @@ package org.apache.juneau.json.annotation;
 import static org.apache.juneau.json.JsonSerializer.*;
 import static org.apache.juneau.json.JsonParser.*;
 import org.apache.juneau.*;
+import org.apache.juneau.json.*;
 import org.apache.juneau.reflect.*;
 import org.apache.juneau.svl.*;
 
@@ -38,6 +39,10 @@ public class JsonConfigApply extends ConfigApply<JsonConfig> {
 		JsonConfig a = ai.getAnnotation();
 		if (! a.addBeanTypes().isEmpty())
 			psb.set(JSON_addBeanTypes, bool(a.addBeanTypes()));
+		if (! a.compileBeans().isEmpty()) {
+			psb.set(JsonSerializer.JSON_compileBeans, bool(a.compileBeans()));
+			psb.set(JsonParser.JSON_compileBeans, bool(a.compileBeans()));
+		}
 		if (! a.escapeSolidus().isEmpty())
 			psb.set(JSON_escapeSolidus, bool(a.escapeSolidus()));
 		if (! a.simpleMode().isEmpty())
@@ -17,6 +17,7 @@ import static org.apache.juneau.msgpack.DataType.*;
 
 import java.io.*;
 
+import org.apache.juneau.internal.*;
 import org.apache.juneau.parser.*;
 
 /**
@@ -33,8 +34,13 @@ public final class MsgPackInputStream extends ParserInputStream {
 	private long length;
 	private int lastByte;
 	private int extType;
+	private StringIndex stringIndex;
+	private byte[] indexBuffer;
 	int pos = 0;
 
+	// Maximum length of strings that are looked up in the string index.
+	private static final int MAX_INDEXED_LENGTH = 128;
+
 	// Data type quick-lookup table.
 	private static final DataType[] TYPES = new DataType[] {
 		/*0x0?*/ INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,
@@ -393,9 +399,56 @@ public final class MsgPackInputStream extends ParserInputStream {
 	 * Read a string from the stream.
 	 */
 	String readString() throws IOException {
+		if (stringIndex != null && length <= MAX_INDEXED_LENGTH) {
+			int len = (int)length;
+			if (indexBuffer == null)
+				indexBuffer = new byte[MAX_INDEXED_LENGTH];
+			read(indexBuffer, 0, len);
+			String s = stringIndex.get(indexBuffer, 0, len);
+			return s != null ? s : new String(indexBuffer, 0, len, UTF8);
+		}
 		return new String(readBinary(), UTF8);
 	}
 
+	/**
+	 * Moves the position beyond the next value in the stream without creating any objects.
+	 *
+	 * <p>
+	 * Arrays and maps are skipped recursively.
+	 */
+	void skipValue() throws IOException {
+		DataType dt = readDataType();
+		long n = length;
+		switch (dt) {
+			case NULL:
+			case BOOLEAN:
+				return;
+			case ARRAY:
+				for (long i = 0; i < n; i++)
+					skipValue();
+				return;
+			case MAP:
+				for (long i = 0; i < n * 2; i++)
+					skipValue();
+				return;
+			default:
+				// Negative fixints have a length of -1 but no payload.
+				for (long i = 0; i < n; i++)
+					if (read() == -1)
+						throw new IOException("Unexpected end of file found at position " + pos);
+		}
+	}
+
+	/**
+	 * Sets an index of known strings (e.g. bean property names) that {@link #readString()} returns without creating
+	 * new strings.
+	 *
+	 * @param value The new value.  Can be <jk>null</jk>.
+	 */
+	void setStringIndex(StringIndex value) {
+		this.stringIndex = value;
+	}
+
 	/**
 	 * Read a binary field from the stream.
 	 */
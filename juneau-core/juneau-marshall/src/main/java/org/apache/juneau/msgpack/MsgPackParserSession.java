@@ -18,6 +18,7 @@ import java.io.IOException;
 import java.util.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.parser.*;
 import org.apache.juneau.transform.*;
 
@@ -93,15 +94,12 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 			else if (dt == BIN)
 				o = is.readBinary();
 			else if (dt == ARRAY && sType.isObject()) {
-				ObjectList ol = new ObjectList(this);
+				ObjectList ol = newObjectList();
 				for (int i = 0; i < length; i++)
 					ol.add(parseAnything(object(), is, outer, pMeta));
 				o = ol;
 			} else if (dt == MAP && sType.isObject()) {
-				ObjectMap om = new ObjectMap(this);
-				for (int i = 0; i < length; i++)
-					om.put((String)parseAnything(string(), is, outer, pMeta), parseAnything(object(), is, om, pMeta));
-				o = cast(om, pMeta, eType);
+				o = cast(parseIntoObjectMap(is, length, outer, pMeta, eType), pMeta, eType);
 			}
 
 			if (sType.isObject()) {
@@ -110,13 +108,21 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 				o = convertToType(o, sType);
 			} else if (sType.isMap()) {
 				if (dt == MAP) {
-					Map m = (sType.canCreateNewInstance(outer) ? (Map)sType.newInstance(outer) : new ObjectMap(this));
+					Map m = (sType.canCreateNewInstance(outer) ? (Map)sType.newInstance(outer) : newObjectMap());
+					ParserProjection pp = getProjection();
 					for (int i = 0; i < length; i++) {
 						Object key = parseAnything(sType.getKeyType(), is, outer, pMeta);
+						ParserProjection cp = getProjection(key == null ? null : key.toString(), eType);
+						if (cp == null) {
+							is.skipValue();
+							continue;
+						}
+						setProjection(cp);
 						ClassMeta<?> vt = sType.getValueType();
 						Object value = parseAnything(vt, is, m, pMeta);
 						setName(vt, value, key);
 						m.put(key, value);
+						setProjection(pp);
 					}
 					o = m;
 				} else {
@@ -125,19 +131,36 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 			} else if (builder != null || sType.canCreateNewBean(outer)) {
 				if (dt == MAP) {
 					BeanMap m = builder == null ? newBeanMap(outer, sType.getInnerClass()) : toBeanMap(builder.create(this, eType));
+					StringIndex names = m.getMeta().getPropertyNameIndex();
+					ParserProjection pp = getProjection();
 					for (int i = 0; i < length; i++) {
-						String pName = parseAnything(string(), is, m.getBean(false), null);
+						String pName;
+						is.setStringIndex(names);
+						try {
+							pName = parseAnything(string(), is, m.getBean(false), null);
+						} finally {
+							is.setStringIndex(null);
+						}
+						ParserProjection cp = getProjection(pName, m.getClassMeta());
+						if (cp == null) {
+							is.skipValue();
+							continue;
+						}
 						BeanPropertyMeta bpm = m.getPropertyMeta(pName);
 						if (bpm == null) {
 							if (pName.equals(getBeanTypePropertyName(eType)))
 								parseAnything(string(), is, null, null);
-							else
+							else {
 								onUnknownProperty(pName, m);
+								is.skipValue();
+							}
 						} else {
+							setProjection(cp);
 							ClassMeta<?> cm = bpm.getClassMeta();
 							Object value = parseAnything(cm, is, m.getBean(false), bpm);
 							setName(cm, value, pName);
 							bpm.set(m, pName, value);
+							setProjection(pp);
 						}
 					}
 					o = builder == null ? m.getBean() : builder.build(this, m.getBean(), eType);
@@ -148,15 +171,12 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 				o = sType.newInstanceFromString(outer, o == null ? "" : o.toString());
 			} else if (sType.isCollection()) {
 				if (dt == MAP) {
-					ObjectMap m = new ObjectMap(this);
-					for (int i = 0; i < length; i++)
-						m.put((String)parseAnything(string(), is, outer, pMeta), parseAnything(object(), is, m, pMeta));
-					o = cast(m, pMeta, eType);
+					o = cast(parseIntoObjectMap(is, length, outer, pMeta, eType), pMeta, eType);
 				} else if (dt == ARRAY) {
 					Collection l = (
 						sType.canCreateNewInstance(outer)
 						? (Collection)sType.newInstance()
-						: new ObjectList(this)
+						: newObjectList()
 					);
 					for (int i = 0; i < length; i++)
 						l.add(parseAnything(sType.getElementType(), is, l, pMeta));
@@ -166,15 +186,12 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 				}
 			} else if (sType.isArray() || sType.isArgs()) {
 				if (dt == MAP) {
-					ObjectMap m = new ObjectMap(this);
-					for (int i = 0; i < length; i++)
-						m.put((String)parseAnything(string(), is, outer, pMeta), parseAnything(object(), is, m, pMeta));
-					o = cast(m, pMeta, eType);
+					o = cast(parseIntoObjectMap(is, length, outer, pMeta, eType), pMeta, eType);
 				} else if (dt == ARRAY) {
 					Collection l = (
 						sType.isCollection() && sType.canCreateNewInstance(outer)
 						? (Collection)sType.newInstance()
-						: new ObjectList(this)
+						: newObjectList()
 					);
 					for (int i = 0; i < length; i++)
 						l.add(parseAnything(sType.isArgs() ? sType.getArg(i) : sType.getElementType(), is, l, pMeta));
@@ -183,9 +200,7 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 					throw new ParseException(this, "Invalid data type {0} encountered for parse type {1}", dt, sType);
 				}
 			} else if (dt == MAP) {
-				ObjectMap m = new ObjectMap(this);
-				for (int i = 0; i < length; i++)
-					m.put((String)parseAnything(string(), is, outer, pMeta), parseAnything(object(), is, m, pMeta));
+				ObjectMap m = parseIntoObjectMap(is, length, outer, pMeta, eType);
 				if (m.containsKey(getBeanTypePropertyName(eType)))
 					o = cast(m, pMeta, eType);
 				else
@@ -205,6 +220,23 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 		return (T)o;
 	}
 
+	private ObjectMap parseIntoObjectMap(MsgPackInputStream is, int length, Object outer, BeanPropertyMeta pMeta, ClassMeta<?> eType) throws IOException, ParseException, ExecutableException {
+		ObjectMap m = newObjectMap();
+		ParserProjection pp = getProjection();
+		for (int i = 0; i < length; i++) {
+			String key = (String)parseAnything(string(), is, outer, pMeta);
+			ParserProjection cp = getProjection(key, eType);
+			if (cp == null) {
+				is.skipValue();
+				continue;
+			}
+			setProjection(cp);
+			m.put(key, parseAnything(object(), is, m, pMeta));
+			setProjection(pp);
+		}
+		return m;
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Other methods
 	//-----------------------------------------------------------------------------------------------------------------
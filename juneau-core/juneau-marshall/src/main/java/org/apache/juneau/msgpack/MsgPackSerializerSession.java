@@ -18,6 +18,7 @@ import java.util.*;
 import org.apache.juneau.*;
 import org.apache.juneau.internal.*;
 import org.apache.juneau.serializer.*;
+import org.apache.juneau.serializer.BeanSerializerPlan.*;
 import org.apache.juneau.transform.*;
 
 /**
@@ -172,6 +173,12 @@ public final class MsgPackSerializerSession extends OutputStreamSerializerSessio
 
 	private void serializeBeanMap(MsgPackOutputStream out, final BeanMap<?> m, String typeName) throws IOException, SerializeException {
 
+		BeanSerializerPlan plan = getBeanSerializerPlan(m, BeanSerializerPlan::new);
+		if (plan != null) {
+			serializeBeanMap(out, m, typeName, plan);
+			return;
+		}
+
 		List<BeanPropertyValue> values = m.getValues(isTrimNullProperties(), typeName != null ? createBeanTypeNameProperty(m, typeName) : null);
 
 		int size = values.size();
@@ -185,18 +192,98 @@ public final class MsgPackSerializerSession extends OutputStreamSerializerSessio
 			if (pMeta.canRead()) {
 				ClassMeta<?> cMeta = p.getClassMeta();
 				String key = p.getName();
-				Object value = p.getValue();
 				Throwable t = p.getThrown();
+				Class<?> pt = p.getPrimitiveType();
 				if (t != null)
 					onBeanGetterException(pMeta, t);
-				else {
+				else if (pt != null) {
+					// Unboxed primitives don't need to go through serializeAnything().
 					serializeAnything(out, key, null, null, null);
-					serializeAnything(out, value, cMeta, key, pMeta);
+					if (pt == int.class)
+						out.appendInt(p.getInt());
+					else if (pt == long.class)
+						out.appendLong(p.getLong());
+					else if (pt == double.class)
+						out.appendDouble(p.getDouble());
+					else
+						out.appendBoolean(p.getBoolean());
+				} else {
+					serializeAnything(out, key, null, null, null);
+					serializeAnything(out, p.getValue(), cMeta, key, pMeta);
+				}
+			}
+		}
+	}
+
+	private void serializeBeanMap(MsgPackOutputStream out, BeanMap<?> m, String typeName, BeanSerializerPlan plan) throws IOException, SerializeException {
+
+		// The map size must be known up front, so read all the values first.
+		Property[] pp = plan.getProperties();
+		Object[] values = new Object[pp.length];
+		long[] primitives = new long[pp.length];
+		boolean trimNulls = isTrimNullProperties();
+
+		int size = typeName == null ? 0 : 1;
+		for (int i = 0; i < pp.length; i++) {
+			Property p = pp[i];
+			BeanPropertyMeta pMeta = p.getMeta();
+			Kind k = p.getKind();
+			try {
+				if (k == Kind.INT)
+					primitives[i] = pMeta.getInt(m);
+				else if (k == Kind.LONG)
+					primitives[i] = pMeta.getLong(m);
+				else if (k == Kind.DOUBLE)
+					primitives[i] = Double.doubleToRawLongBits(pMeta.getDouble(m));
+				else if (k == Kind.BOOLEAN)
+					primitives[i] = pMeta.getBoolean(m) ? 1 : 0;
+				else {
+					Object value = pMeta.get(m, null);
+					if (value == null && trimNulls)
+						value = SKIP;
+					values[i] = value;
 				}
+			} catch (Error e) {
+				// Errors should always be uncaught.
+				throw e;
+			} catch (Throwable t) {
+				onBeanGetterException(pMeta, t);
+				values[i] = SKIP;
 			}
+			if (values[i] != SKIP)
+				size++;
+		}
+		out.startMap(size);
+
+		if (typeName != null) {
+			BeanPropertyMeta tp = m.getMeta().getTypeProperty();
+			serializeAnything(out, tp.getName(), null, null, null);
+			serializeAnything(out, typeName, tp.getClassMeta(), tp.getName(), tp);
+		}
+
+		for (int i = 0; i < pp.length; i++) {
+			Object value = values[i];
+			if (value == SKIP)
+				continue;
+			Property p = pp[i];
+			String key = p.getName();
+			Kind k = p.getKind();
+			serializeAnything(out, key, null, null, null);
+			if (k == Kind.INT || k == Kind.LONG)
+				out.appendLong(primitives[i]);
+			else if (k == Kind.DOUBLE)
+				out.appendDouble(Double.longBitsToDouble(primitives[i]));
+			else if (k == Kind.BOOLEAN)
+				out.appendBoolean(primitives[i] != 0);
+			else if (k == Kind.STRING && value != null)
+				out.appendString(toString(value));
+			else
+				serializeAnything(out, value, p.getClassMeta(), key, p.getMeta());
 		}
 	}
 
+	private static final Object SKIP = new Object();
+
 	private static final class SimpleMapEntry {
 		final Object key;
 		final Object value;
@@ -76,6 +76,24 @@ public class OpenApiParserBuilder extends UonParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public OpenApiParserBuilder compactCollections(boolean value) {
+		super.compactCollections(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public OpenApiParserBuilder compactCollections() {
+		super.compactCollections();
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public OpenApiParserBuilder projection(String...values) {
+		super.projection(values);
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public OpenApiParserBuilder strict(boolean value) {
 		super.strict(value);
@@ -604,6 +622,18 @@ public class OpenApiParserBuilder extends UonParserBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public OpenApiParserBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public OpenApiParserBuilder useGeneratedAccessors() {
+		super.useGeneratedAccessors();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public OpenApiParserBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
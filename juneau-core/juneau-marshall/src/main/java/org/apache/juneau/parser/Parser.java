@@ -175,6 +175,61 @@ public abstract class Parser extends BeanContext {
 	 */
 	public static final String PARSER_autoCloseStreams = PREFIX + ".autoCloseStreams.b";
 
+	/**
+	 * Configuration property:  Compact collections.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.parser.Parser#PARSER_compactCollections PARSER_compactCollections}
+	 * 	<li><b>Name:</b>  <js>"Parser.compactCollections.b"</js>
+	 * 	<li><b>Data type:</b>  <jk>boolean</jk>
+	 * 	<li><b>System property:</b>  <c>Parser.compactCollections</c>
+	 * 	<li><b>Environment variable:</b>  <c>PARSER_COMPACTCOLLECTIONS</c>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Annotations:</b>
+	 * 		<ul>
+	 * 			<li class='ja'>{@link org.apache.juneau.parser.annotation.ParserConfig#compactCollections()}
+	 * 		</ul>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.parser.ParserBuilder#compactCollections(boolean)}
+	 * 			<li class='jm'>{@link org.apache.juneau.parser.ParserBuilder#compactCollections()}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * If <jk>true</jk>, generic maps and lists created by the parser (i.e. when parsing into {@link Object},
+	 * {@link Map}, {@link List} or other untyped values) are created as array-backed {@link CompactObjectMap} and
+	 * {@link CompactObjectList} instances instead of hash-table and linked-node backed {@link ObjectMap} and
+	 * {@link ObjectList} instances.
+	 *
+	 * <p>
+	 * This significantly reduces the memory footprint of large parsed document trees.
+	 * Note that key lookups on large compact maps are slightly slower than on regular maps, and that
+	 * {@link ObjectMap#setInner(Map)} is not supported on compact maps.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a parser that produces compact collections.</jc>
+	 * 	ReaderParser p = JsonParser.
+	 * 		.<jsm>create</jsm>()
+	 * 		.compactCollections()
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	ReaderParser p = JsonParser.
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>PARSER_compactCollections</jsf>, <jk>true</jk>)
+	 * 		.build();
+	 *
+	 * 	<jc>// Produces a CompactObjectMap containing a CompactObjectList.</jc>
+	 * 	Map m = p.parse(<js>"{a:[1,2,3]}"</js>, Map.<jk>class</jk>);
+	 * </p>
+	 */
+	public static final String PARSER_compactCollections = PREFIX + ".compactCollections.b";
+
 	/**
 	 * Configuration property:  Debug output lines.
 	 *
@@ -296,6 +351,73 @@ public abstract class Parser extends BeanContext {
 	 */
 	public static final String PARSER_listener = PREFIX + ".listener.c";
 
+	/**
+	 * Configuration property:  Projection.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.parser.Parser#PARSER_projection PARSER_projection}
+	 * 	<li><b>Name:</b>  <js>"Parser.projection.ss"</js>
+	 * 	<li><b>Data type:</b>  <c>Set&lt;String&gt;</c>
+	 * 	<li><b>System property:</b>  <c>Parser.projection</c>
+	 * 	<li><b>Environment variable:</b>  <c>PARSER_PROJECTION</c>
+	 * 	<li><b>Default:</b>  empty set
+	 * 	<li><b>Session property:</b>  <jk>true</jk>
+	 * 	<li><b>Annotations:</b>
+	 * 		<ul>
+	 * 			<li class='ja'>{@link org.apache.juneau.parser.annotation.ParserConfig#projection()}
+	 * 		</ul>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.parser.ParserBuilder#projection(String...)}
+	 * 			<li class='jm'>{@link org.apache.juneau.parser.ParserSessionArgs#projection(String...)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * Slash-delimited paths of the properties that should be materialized during parsing.
+	 *
+	 * <p>
+	 * When specified, only the listed bean properties and map entries (and everything beneath them) are converted
+	 * into objects.
+	 * <br>The values of all other properties are skipped over in the input without being parsed, which can greatly
+	 * reduce the memory and CPU needed to read a handful of fields from a large document.
+	 * <br>See {@link ParserProjection} for the path syntax.
+	 *
+	 * <p>
+	 * Projection is currently supported by the JSON, MessagePack, and XML parsers.
+	 * <br>Other parsers ignore this setting.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a parser that only reads the names of the customer and its orders.</jc>
+	 * 	ReaderParser p = JsonParser.
+	 * 		.<jsm>create</jsm>()
+	 * 		.projection(<js>"name"</js>, <js>"orders/id"</js>)
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	ReaderParser p = JsonParser.
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>PARSER_projection</jsf>, <jk>new</jk> String[]{<js>"name"</js>, <js>"orders/id"</js>})
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but only for a single parse.</jc>
+	 * 	Customer c = JsonParser.<jsf>DEFAULT</jsf>
+	 * 		.createSession(ParserSessionArgs.<jsm>create</jsm>().projection(<js>"name"</js>, <js>"orders/id"</js>))
+	 * 		.parse(json, Customer.<jk>class</jk>);
+	 * </p>
+	 *
+	 * <ul class='notes'>
+	 * 	<li>
+	 * 		Skipped values are not validated, so syntax errors within them may go unreported.
+	 * 	<li>
+	 * 		The bean type property (e.g. <js>"_type"</js>) is always parsed so that beans can still be resolved.
+	 * </ul>
+	 */
+	public static final String PARSER_projection = PREFIX + ".projection.ss";
+
 	/**
 	 * Configuration property:  Strict mode.
 	 *
@@ -501,6 +623,61 @@ public abstract class Parser extends BeanContext {
 	 */
 	public static final String PARSER_unbuffered = PREFIX + ".unbuffered.b";
 
+	/**
+	 * Configuration property:  Use buffer pool.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.parser.Parser#PARSER_useBufferPool PARSER_useBufferPool}
+	 * 	<li><b>Name:</b>  <js>"Parser.useBufferPool.b"</js>
+	 * 	<li><b>Data type:</b>  <jk>boolean</jk>
+	 * 	<li><b>System property:</b>  <c>Parser.useBufferPool</c>
+	 * 	<li><b>Environment variable:</b>  <c>PARSER_USEBUFFERPOOL</c>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Annotations:</b>
+	 * 		<ul>
+	 * 			<li class='ja'>{@link org.apache.juneau.parser.annotation.ParserConfig#useBufferPool()}
+	 * 		</ul>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.parser.ParserBuilder#useBufferPool(boolean)}
+	 * 			<li class='jm'>{@link org.apache.juneau.parser.ParserBuilder#useBufferPool()}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * If <jk>true</jk>, the character buffers used by {@link ParserReader} are borrowed from a per-thread pool and
+	 * returned to it when the parse completes.
+	 *
+	 * <p>
+	 * This reduces garbage when parsing large numbers of small documents (e.g. REST requests).
+	 * <br>Pool activity can be monitored through {@link org.apache.juneau.internal.BufferPool}.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a parser that recycles its buffers.</jc>
+	 * 	ReaderParser p = JsonParser.
+	 * 		.<jsm>create</jsm>()
+	 * 		.useBufferPool()
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	ReaderParser p = JsonParser.
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>PARSER_useBufferPool</jsf>, <jk>true</jk>)
+	 * 		.build();
+	 * </p>
+	 *
+	 * <ul class='notes'>
+	 * 	<li>
+	 * 		{@link ParserReader ParserReaders} obtained from {@link ParserPipe#getParserReader()} must not be used
+	 * 		after the pipe has been closed.
+	 * </ul>
+	 */
+	public static final String PARSER_useBufferPool = PREFIX + ".useBufferPool.b";
+
 	static Parser DEFAULT = new Parser(PropertyStore.create().build()) {
 		@Override
 		public ParserSession createSession(ParserSessionArgs args) {
@@ -512,9 +689,10 @@ public abstract class Parser extends BeanContext {
 	// Instance
 	//-------------------------------------------------------------------------------------------------------------------
 
-	private final boolean trimStrings, strict, autoCloseStreams, unbuffered;
+	private final boolean trimStrings, strict, autoCloseStreams, compactCollections, unbuffered, useBufferPool;
 	private final int debugOutputLines;
 	private final Class<? extends ParserListener> listener;
+	private final ParserProjection projection;
 
 	/** General parser properties currently set on this parser. */
 	private final MediaType[] consumes;
@@ -531,9 +709,12 @@ public abstract class Parser extends BeanContext {
 		trimStrings = getBooleanProperty(PARSER_trimStrings, false);
 		strict = getBooleanProperty(PARSER_strict, false);
 		autoCloseStreams = getBooleanProperty(PARSER_autoCloseStreams, false);
+		compactCollections = getBooleanProperty(PARSER_compactCollections, false);
 		debugOutputLines = getIntegerProperty(PARSER_debugOutputLines, 5);
 		unbuffered = getBooleanProperty(PARSER_unbuffered, false);
+		useBufferPool = getBooleanProperty(PARSER_useBufferPool, false);
 		listener = getClassProperty(PARSER_listener, ParserListener.class, null);
+		projection = ParserProjection.of(getArrayProperty(PARSER_projection, String.class));
 		this.consumes = new MediaType[consumes.length];
 		for (int i = 0; i < consumes.length; i++) {
 			this.consumes[i] = MediaType.forString(consumes[i]);
@@ -847,6 +1028,48 @@ public abstract class Parser extends BeanContext {
 		return createSession().parseIntoCollection(input, c, elementType);
 	}
 
+	/**
+	 * Parses the contents of the specified input as an array whose elements are returned one at a time.
+	 *
+	 * <p>
+	 * Elements are only parsed as they're requested from the iterator, so arbitrarily large arrays can be processed
+	 * in constant memory.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jk>try</jk> (ParserIterator&lt;MyBean&gt; i = JsonParser.<jsf>DEFAULT</jsf>.parseIterator(reader, MyBean.<jk>class</jk>)) {
+	 * 		<jk>while</jk> (i.hasNext())
+	 * 			process(i.next());
+	 * 	}
+	 * </p>
+	 *
+	 * @param <E> The element class type.
+	 * @param input The input.  See {@link #parse(Object, ClassMeta)} for supported input types.
+	 * @param elementType
+	 * 	The class type of the elements, or <jk>null</jk> to default to whatever is being parsed.
+	 * 	<br>Can be any of the following: {@link ClassMeta}, {@link Class}, {@link ParameterizedType}, {@link GenericArrayType}
+	 * @return A new iterator over the elements of the array.
+	 * @throws ParseException Malformed input encountered.
+	 * @throws UnsupportedOperationException If not implemented.
+	 */
+	public final <E> ParserIterator<E> parseIterator(Object input, Type elementType) throws ParseException {
+		return createSession().parseIterator(input, elementType);
+	}
+
+	/**
+	 * Same as {@link #parseIterator(Object, Type)} but specifies the element type as a class.
+	 *
+	 * @param <E> The element class type.
+	 * @param input The input.  See {@link #parse(Object, ClassMeta)} for supported input types.
+	 * @param elementType The class type of the elements, or <jk>null</jk> to default to whatever is being parsed.
+	 * @return A new iterator over the elements of the array.
+	 * @throws ParseException Malformed input encountered.
+	 * @throws UnsupportedOperationException If not implemented.
+	 */
+	public final <E> ParserIterator<E> parseIterator(Object input, Class<E> elementType) throws ParseException {
+		return createSession().parseIterator(input, elementType);
+	}
+
 	/**
 	 * Parses the specified array input with each entry in the object defined by the {@code argTypes}
 	 * argument.
@@ -926,6 +1149,17 @@ public abstract class Parser extends BeanContext {
 		return autoCloseStreams;
 	}
 
+	/**
+	 * Configuration property:  Compact collections.
+	 *
+	 * @see #PARSER_compactCollections
+	 * @return
+	 * 	<jk>true</jk> if generic maps and lists created by the parser are array-backed compact collections.
+	 */
+	protected final boolean isCompactCollections() {
+		return compactCollections;
+	}
+
 	/**
 	 * Configuration property:  Debug output lines.
 	 *
@@ -948,6 +1182,18 @@ public abstract class Parser extends BeanContext {
 		return listener;
 	}
 
+	/**
+	 * Configuration property:  Projection.
+	 *
+	 * @see #PARSER_projection
+	 * @return
+	 * 	The properties that should be materialized during parsing.
+	 * 	<br>Never <jk>null</jk>.
+	 */
+	protected final ParserProjection getProjection() {
+		return projection;
+	}
+
 	/**
 	 * Configuration property:  Strict mode.
 	 *
@@ -982,6 +1228,17 @@ public abstract class Parser extends BeanContext {
 		return unbuffered;
 	}
 
+	/**
+	 * Configuration property:  Use buffer pool.
+	 *
+	 * @see #PARSER_useBufferPool
+	 * @return
+	 * 	<jk>true</jk> if parsers borrow their internal buffers from a per-thread pool.
+	 */
+	protected final boolean isUseBufferPool() {
+		return useBufferPool;
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Other methods
 	//-----------------------------------------------------------------------------------------------------------------
@@ -991,11 +1248,14 @@ public abstract class Parser extends BeanContext {
 		return super.toMap()
 			.append("Parser", new DefaultFilteringObjectMap()
 				.append("autoCloseStreams", autoCloseStreams)
+				.append("compactCollections", compactCollections)
 				.append("debugOutputLines", debugOutputLines)
 				.append("listener", listener)
+				.append("projection", projection)
 				.append("strict", strict)
 				.append("trimStrings", trimStrings)
 				.append("unbuffered", unbuffered)
+				.append("useBufferPool", useBufferPool)
 			);
 	}
 }
@@ -84,6 +84,42 @@ public class ParserBuilder extends BeanContextBuilder {
 		return set(PARSER_autoCloseStreams, true);
 	}
 
+	/**
+	 * Configuration property:  Compact collections.
+	 *
+	 * <p>
+	 * If <jk>true</jk>, generic maps and lists created by the parser are array-backed {@link CompactObjectMap} and
+	 * {@link CompactObjectList} instances.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Parser#PARSER_compactCollections}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default value is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public ParserBuilder compactCollections(boolean value) {
+		return set(PARSER_compactCollections, value);
+	}
+
+	/**
+	 * Configuration property:  Compact collections.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>compactCollections(<jk>true</jk>)</code>.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Parser#PARSER_compactCollections}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public ParserBuilder compactCollections() {
+		return set(PARSER_compactCollections, true);
+	}
+
 	/**
 	 * Configuration property:  Debug output lines.
 	 *
@@ -121,6 +157,24 @@ public class ParserBuilder extends BeanContextBuilder {
 		return set(PARSER_listener, value);
 	}
 
+	/**
+	 * Configuration property:  Projection.
+	 *
+	 * <p>
+	 * Slash-delimited paths of the properties that should be materialized during parsing.
+	 * <br>The values of all other properties are skipped over without being parsed.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Parser#PARSER_projection}
+	 * </ul>
+	 *
+	 * @param values The new value for this property.
+	 * @return This object (for method chaining).
+	 */
+	public ParserBuilder projection(String...values) {
+		return set(PARSER_projection, values);
+	}
+
 	/**
 	 * Configuration property:  Strict mode.
 	 *
@@ -227,6 +281,41 @@ public class ParserBuilder extends BeanContextBuilder {
 		return set(PARSER_unbuffered, true);
 	}
 
+	/**
+	 * Configuration property:  Use buffer pool.
+	 *
+	 * <p>
+	 * If <jk>true</jk>, internal character buffers are borrowed from a per-thread pool and recycled across parses.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Parser#PARSER_useBufferPool}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default value is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public ParserBuilder useBufferPool(boolean value) {
+		return set(PARSER_useBufferPool, value);
+	}
+
+	/**
+	 * Configuration property:  Use buffer pool.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>useBufferPool(<jk>true</jk>)</code>.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Parser#PARSER_useBufferPool}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public ParserBuilder useBufferPool() {
+		return set(PARSER_useBufferPool, true);
+	}
+
 	@Override /* BeanContextBuilder */
 	public ParserBuilder annotations(Annotation...values) {
 		super.annotations(values);
@@ -731,6 +820,18 @@ public class ParserBuilder extends BeanContextBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public ParserBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public ParserBuilder useGeneratedAccessors() {
+		super.useGeneratedAccessors();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public ParserBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
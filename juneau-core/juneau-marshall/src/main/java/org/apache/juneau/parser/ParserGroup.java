@@ -13,13 +13,14 @@
 package org.apache.juneau.parser;
 
 import static org.apache.juneau.internal.CollectionUtils.*;
+import static org.apache.juneau.internal.HttpUtils.*;
 
 import java.util.*;
-import java.util.concurrent.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
 import org.apache.juneau.http.*;
+import org.apache.juneau.internal.*;
 
 /**
  * Represents a group of {@link Parser Parsers} that can be looked up by media type.
@@ -75,13 +76,67 @@ import org.apache.juneau.http.*;
 @ConfigurableContext(nocache=true)
 public final class ParserGroup extends BeanContext {
 
+	//-------------------------------------------------------------------------------------------------------------------
+	// Configurable properties
+	//-------------------------------------------------------------------------------------------------------------------
+
+	static final String PREFIX = "ParserGroup";
+
+	/**
+	 * Configuration property:  Match cache size.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.parser.ParserGroup#PARSERGROUP_matchCacheSize PARSERGROUP_matchCacheSize}
+	 * 	<li><b>Name:</b>  <js>"ParserGroup.matchCacheSize.i"</js>
+	 * 	<li><b>Data type:</b>  <jk>int</jk>
+	 * 	<li><b>System property:</b>  <c>ParserGroup.matchCacheSize</c>
+	 * 	<li><b>Environment variable:</b>  <c>PARSERGROUP_MATCHCACHESIZE</c>
+	 * 	<li><b>Default:</b>  <c>1000</c>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.parser.ParserGroupBuilder#matchCacheSize(int)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * The maximum number of <c>Content-Type</c> header values whose matching parser is remembered by
+	 * {@link #getParserMatch(String)}.
+	 *
+	 * <p>
+	 * When the cache is full, the least-recently-used entries are evicted so that clients sending many distinct
+	 * <c>Content-Type</c> headers cannot grow the cache without bound.
+	 * <br>Header values are normalized before lookup so that values that only differ in whitespace share an entry.
+	 * <br>A value of <c>0</c> disables caching.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a parser group that remembers up to 100 Content-Type headers.</jc>
+	 * 	ParserGroup g = ParserGroup
+	 * 		.<jsm>create</jsm>()
+	 * 		.append(JsonParser.<jk>class</jk>, XmlParser.<jk>class</jk>)
+	 * 		.matchCacheSize(100)
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	ParserGroup g = ParserGroup
+	 * 		.<jsm>create</jsm>()
+	 * 		.append(JsonParser.<jk>class</jk>, XmlParser.<jk>class</jk>)
+	 * 		.set(<jsf>PARSERGROUP_matchCacheSize</jsf>, 100)
+	 * 		.build();
+	 * </p>
+	 */
+	public static final String PARSERGROUP_matchCacheSize = PREFIX + ".matchCacheSize.i";
+
 	/**
 	 * An unmodifiable empty parser group.
 	 */
 	public static final ParserGroup EMPTY = create().build();
 
-	// Maps Content-Type headers to matches.
-	private final ConcurrentHashMap<String,ParserMatch> cache = new ConcurrentHashMap<>();
+	// Maps normalized Content-Type headers to matches.
+	private final BoundedCache<String,ParserMatch> cache;
 
 	private final MediaType[] mediaTypes;            // List of media types
 	private final List<MediaType> mediaTypesList;
@@ -124,6 +179,7 @@ public final class ParserGroup extends BeanContext {
 	public ParserGroup(PropertyStore ps, Parser[] parsers) {
 		super(ps);
 		this.parsers = immutableList(parsers);
+		this.cache = new BoundedCache<>(getIntegerProperty(PARSERGROUP_matchCacheSize, 1000));
 
 		List<MediaType> lmt = new ArrayList<>();
 		List<Parser> l = new ArrayList<>();
@@ -145,10 +201,14 @@ public final class ParserGroup extends BeanContext {
 	 * <p>
 	 * The returned object includes both the parser and media type that matched.
 	 *
+	 * <p>
+	 * Matches are remembered in a bounded cache whose size is controlled by {@link #PARSERGROUP_matchCacheSize}.
+	 *
 	 * @param contentTypeHeader The HTTP <l>Content-Type</l> header value.
 	 * @return The parser and media type that matched the content type header, or <jk>null</jk> if no match was made.
 	 */
 	public ParserMatch getParserMatch(String contentTypeHeader) {
+		contentTypeHeader = normalizeMediaTypeHeader(contentTypeHeader);
 		ParserMatch pm = cache.get(contentTypeHeader);
 		if (pm != null)
 			return pm;
@@ -156,12 +216,10 @@ public final class ParserGroup extends BeanContext {
 		ContentType ct = ContentType.forString(contentTypeHeader);
 		int match = ct.findMatch(mediaTypes);
 
-		if (match >= 0) {
-			pm = new ParserMatch(mediaTypes[match], mediaTypeParsers[match]);
-			cache.putIfAbsent(contentTypeHeader, pm);
-		}
+		if (match >= 0)
+			return cache.put(contentTypeHeader, new ParserMatch(mediaTypes[match], mediaTypeParsers[match]));
 
-		return cache.get(contentTypeHeader);
+		return null;
 	}
 
 	/**
@@ -216,4 +274,12 @@ public final class ParserGroup extends BeanContext {
 	public List<Parser> getParsers() {
 		return parsers;
 	}
+
+	/*
+	 * Returns the cache used by getParserMatch(String).
+	 * Used for testing.
+	 */
+	BoundedCache<String,ParserMatch> getMatchCache() {
+		return cache;
+	}
 }
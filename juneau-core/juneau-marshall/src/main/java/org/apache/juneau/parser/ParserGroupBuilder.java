@@ -170,6 +170,42 @@ public class ParserGroupBuilder extends BeanContextBuilder {
 		return set(PARSER_autoCloseStreams, true);
 	}
 
+	/**
+	 * Configuration property:  Compact collections.
+	 *
+	 * <p>
+	 * If <jk>true</jk>, generic maps and lists created by the parser are array-backed {@link CompactObjectMap} and
+	 * {@link CompactObjectList} instances.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Parser#PARSER_compactCollections}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default value is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public ParserGroupBuilder compactCollections(boolean value) {
+		return set(PARSER_compactCollections, value);
+	}
+
+	/**
+	 * Configuration property:  Compact collections.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>compactCollections(<jk>true</jk>)</code>.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Parser#PARSER_compactCollections}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public ParserGroupBuilder compactCollections() {
+		return set(PARSER_compactCollections, true);
+	}
+
 	/**
 	 * Configuration property:  Debug output lines.
 	 *
@@ -207,6 +243,44 @@ public class ParserGroupBuilder extends BeanContextBuilder {
 		return set(PARSER_listener, value);
 	}
 
+	/**
+	 * Configuration property:  Projection.
+	 *
+	 * <p>
+	 * Slash-delimited paths of the properties that should be materialized during parsing.
+	 * <br>The values of all other properties are skipped over without being parsed.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Parser#PARSER_projection}
+	 * </ul>
+	 *
+	 * @param values The new value for this property.
+	 * @return This object (for method chaining).
+	 */
+	public ParserGroupBuilder projection(String...values) {
+		return set(PARSER_projection, values);
+	}
+
+	/**
+	 * Configuration property:  Match cache size.
+	 *
+	 * <p>
+	 * The maximum number of <c>Content-Type</c> header values whose matching parser is remembered by the group.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link ParserGroup#PARSERGROUP_matchCacheSize}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <c>1000</c>.
+	 * 	<br>Use <c>0</c> to disable caching.
+	 * @return This object (for method chaining).
+	 */
+	public ParserGroupBuilder matchCacheSize(int value) {
+		return set(ParserGroup.PARSERGROUP_matchCacheSize, value);
+	}
+
 	/**
 	 * Configuration property:  Strict mode.
 	 *
@@ -313,6 +387,41 @@ public class ParserGroupBuilder extends BeanContextBuilder {
 		return set(PARSER_unbuffered, true);
 	}
 
+	/**
+	 * Configuration property:  Use buffer pool.
+	 *
+	 * <p>
+	 * If <jk>true</jk>, internal character buffers are borrowed from a per-thread pool and recycled across parses.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Parser#PARSER_useBufferPool}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default value is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public ParserGroupBuilder useBufferPool(boolean value) {
+		return set(PARSER_useBufferPool, value);
+	}
+
+	/**
+	 * Configuration property:  Use buffer pool.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>useBufferPool(<jk>true</jk>)</code>.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Parser#PARSER_useBufferPool}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public ParserGroupBuilder useBufferPool() {
+		return set(PARSER_useBufferPool, true);
+	}
+
 	/**
 	 * Configuration property:  File charset.
 	 *
@@ -875,6 +984,18 @@ public class ParserGroupBuilder extends BeanContextBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public ParserGroupBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public ParserGroupBuilder useGeneratedAccessors() {
+		super.useGeneratedAccessors();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public ParserGroupBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
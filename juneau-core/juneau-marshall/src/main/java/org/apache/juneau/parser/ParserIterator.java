@@ -0,0 +1,157 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.parser;
+
+import java.io.*;
+import java.util.*;
+import java.util.stream.*;
+
+import org.apache.juneau.*;
+
+/**
+ * Iterator over the elements of an array in the parser input.
+ *
+ * <p>
+ * Elements are parsed one at a time as {@link #next()} is called, so only the current element needs to be held in
+ * memory regardless of the size of the input.
+ *
+ * <p>
+ * The underlying input is closed when the last element has been read, when an error occurs, or when {@link #close()}
+ * is called.
+ * <br>Errors encountered while parsing are thrown from {@link #hasNext()} and {@link #next()} as
+ * {@link FormattedRuntimeException FormattedRuntimeExceptions} whose cause is the {@link ParseException}.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<jk>try</jk> (ParserIterator&lt;MyBean&gt; i = JsonParser.<jsf>DEFAULT</jsf>.parseIterator(reader, MyBean.<jk>class</jk>)) {
+ * 		<jk>while</jk> (i.hasNext())
+ * 			process(i.next());
+ * 	}
+ *
+ * 	<jc>// Or as a stream.</jc>
+ * 	<jk>try</jk> (Stream&lt;MyBean&gt; s = JsonParser.<jsf>DEFAULT</jsf>.parseIterator(reader, MyBean.<jk>class</jk>).stream()) {
+ * 		s.forEach(x -&gt; process(x));
+ * 	}
+ * </p>
+ *
+ * <ul class='notes'>
+ * 	<li>
+ * 		This class is not thread safe.
+ * </ul>
+ *
+ * @param <E> The element type.
+ */
+public abstract class ParserIterator<E> implements Iterator<E>, Closeable {
+
+	private final ParserSession session;
+	private final ParserPipe pipe;
+	private boolean closed;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param session The session doing the parsing.
+	 * @param pipe The parser input.  Closed when this iterator is closed.
+	 */
+	protected ParserIterator(ParserSession session, ParserPipe pipe) {
+		this.session = session;
+		this.pipe = pipe;
+	}
+
+	/**
+	 * Implementation method.
+	 *
+	 * <p>
+	 * Positions the input at the start of the next element.
+	 *
+	 * @return <jk>true</jk> if there is another element, or <jk>false</jk> if the end of the array was reached.
+	 * @throws Exception If thrown from underlying stream, or if the input contains a syntax error or is malformed.
+	 */
+	protected abstract boolean doHasNext() throws Exception;
+
+	/**
+	 * Implementation method.
+	 *
+	 * <p>
+	 * Only called after {@link #doHasNext()} returned <jk>true</jk>.
+	 *
+	 * @return The parsed element.
+	 * @throws Exception If thrown from underlying stream, or if the input contains a syntax error or is malformed.
+	 */
+	protected abstract E doNext() throws Exception;
+
+	@Override /* Iterator */
+	public boolean hasNext() {
+		if (closed)
+			return false;
+		try {
+			if (doHasNext())
+				return true;
+		} catch (Exception | StackOverflowError e) {
+			throw toRuntimeException(e);
+		}
+		close();
+		return false;
+	}
+
+	@Override /* Iterator */
+	public E next() {
+		if (! hasNext())
+			throw new NoSuchElementException();
+		try {
+			return doNext();
+		} catch (Exception | StackOverflowError e) {
+			throw toRuntimeException(e);
+		}
+	}
+
+	/**
+	 * Returns the remaining elements as a sequential {@link Stream}.
+	 *
+	 * <p>
+	 * Closing the stream closes this iterator.
+	 *
+	 * @return A new stream.
+	 */
+	public Stream<E> stream() {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false).onClose(this::close);
+	}
+
+	@Override /* Closeable */
+	public void close() {
+		if (! closed) {
+			closed = true;
+			try {
+				pipe.close();
+			} finally {
+				session.checkForWarnings();
+			}
+		}
+	}
+
+	private RuntimeException toRuntimeException(Throwable t) {
+		ParseException e;
+		if (t instanceof ParseException)
+			e = (ParseException)t;
+		else if (t instanceof StackOverflowError)
+			e = new ParseException(session, "Depth too deep.  Stack overflow occurred.");
+		else if (t instanceof IOException)
+			e = new ParseException(session, t, "I/O exception occurred.  exception={0}, message={1}.",
+				t.getClass().getSimpleName(), t.getLocalizedMessage());
+		else
+			e = new ParseException(session, t, "Exception occurred.  exception={0}, message={1}.",
+				t.getClass().getSimpleName(), t.getLocalizedMessage());
+		close();
+		return new FormattedRuntimeException(e, null);
+	}
+}
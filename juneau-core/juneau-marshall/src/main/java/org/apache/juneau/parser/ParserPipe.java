@@ -52,7 +52,7 @@ import org.apache.juneau.internal.*;
 public final class ParserPipe implements Closeable {
 
 	private final Object input;
-	final boolean debug, strict, autoCloseStreams, unbuffered;
+	final boolean debug, strict, autoCloseStreams, unbuffered, useBufferPool;
 	private final Charset charset;
 
 	private String inputString;
@@ -87,12 +87,43 @@ public final class ParserPipe implements Closeable {
 	 * 	The charset to expect when reading from {@link InputStream InputStreams}.
 	 */
 	public ParserPipe(Object input, boolean debug, boolean strict, boolean autoCloseStreams, boolean unbuffered, Charset streamCharset, Charset fileCharset) {
+		this(input, debug, strict, autoCloseStreams, unbuffered, false, streamCharset, fileCharset);
+	}
+
+	/**
+	 * Constructor for reader-based parsers that can borrow their buffers from the {@link BufferPool}.
+	 *
+	 * @param input The parser input object.
+	 * @param debug
+	 * 	If <jk>true</jk>, the input contents will be copied locally and accessible via the {@link #getInputAsString()}
+	 * 	method.
+	 * 	This allows the contents of the pipe to be accessed when a problem occurs.
+	 * @param strict
+	 * 	If <jk>true</jk>, sets {@link CodingErrorAction#REPORT} on {@link CharsetDecoder#onMalformedInput(CodingErrorAction)}
+	 * 	and {@link CharsetDecoder#onUnmappableCharacter(CodingErrorAction)}.
+	 * 	Otherwise, sets them to {@link CodingErrorAction#REPLACE}.
+	 * @param autoCloseStreams
+	 * 	Automatically close {@link InputStream InputStreams} and {@link Reader Readers} when passed in as input.
+	 * @param unbuffered
+	 * 	If <jk>true</jk>, we read one character at a time from underlying readers when the readers are expected to be parsed
+	 * 	multiple times.
+	 * 	<br>Otherwise, we read character data into a reusable buffer.
+	 * @param useBufferPool
+	 * 	If <jk>true</jk>, {@link ParserReader} buffers are borrowed from a per-thread pool and returned to it when this
+	 * 	pipe is closed.
+	 * @param fileCharset
+	 * 	The charset to expect when reading from {@link File Files}.
+	 * @param streamCharset
+	 * 	The charset to expect when reading from {@link InputStream InputStreams}.
+	 */
+	public ParserPipe(Object input, boolean debug, boolean strict, boolean autoCloseStreams, boolean unbuffered, boolean useBufferPool, Charset streamCharset, Charset fileCharset) {
 		boolean isFile = input instanceof File;
 		this.input = input;
 		this.debug = debug;
 		this.strict = strict;
 		this.autoCloseStreams = autoCloseStreams;
 		this.unbuffered = unbuffered;
+		this.useBufferPool = useBufferPool;
 		Charset cs = isFile ? fileCharset : streamCharset;
 		if (cs == null)
 			cs = (isFile ? Charset.defaultCharset() : UTF8);
@@ -124,6 +155,7 @@ public final class ParserPipe implements Closeable {
 		this.strict = false;
 		this.autoCloseStreams = autoCloseStreams;
 		this.unbuffered = unbuffered;
+		this.useBufferPool = false;
 		this.charset = null;
 		if (input instanceof CharSequence)
 			this.inputString = input.toString();
@@ -230,29 +262,13 @@ public final class ParserPipe implements Closeable {
 				? (InputStream)input
 				: new ByteArrayInputStream((byte[])input)
 			);
-			CharsetDecoder cd = charset.newDecoder();
-			if (strict) {
-				cd.onMalformedInput(CodingErrorAction.REPORT);
-				cd.onUnmappableCharacter(CodingErrorAction.REPORT);
-			} else {
-				cd.onMalformedInput(CodingErrorAction.REPLACE);
-				cd.onUnmappableCharacter(CodingErrorAction.REPLACE);
-			}
-			reader = new InputStreamReader(is, cd);
+			reader = createReader(is);
 			if (debug) {
 				inputString = read(reader);
 				reader = new StringReader(inputString);
 			}
 		} else if (input instanceof File) {
-			CharsetDecoder cd = charset.newDecoder();
-			if (strict) {
-				cd.onMalformedInput(CodingErrorAction.REPORT);
-				cd.onUnmappableCharacter(CodingErrorAction.REPORT);
-			} else {
-				cd.onMalformedInput(CodingErrorAction.REPLACE);
-				cd.onUnmappableCharacter(CodingErrorAction.REPLACE);
-			}
-			reader = new InputStreamReader(new FileInputStream((File)input), cd);
+			reader = createReader(new FileInputStream((File)input));
 			if (debug) {
 				inputString = read(reader);
 				reader = new StringReader(inputString);
@@ -265,6 +281,24 @@ public final class ParserPipe implements Closeable {
 		return reader;
 	}
 
+	/*
+	 * Wraps the specified stream in a reader using the charset of this pipe.
+	 * UTF-8 is decoded directly by a Utf8Reader instead of going through a CharsetDecoder.
+	 */
+	private Reader createReader(InputStream is) {
+		if (UTF8.equals(charset))
+			return new Utf8Reader(is, strict);
+		CharsetDecoder cd = charset.newDecoder();
+		if (strict) {
+			cd.onMalformedInput(CodingErrorAction.REPORT);
+			cd.onUnmappableCharacter(CodingErrorAction.REPORT);
+		} else {
+			cd.onMalformedInput(CodingErrorAction.REPLACE);
+			cd.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		}
+		return new InputStreamReader(is, cd);
+	}
+
 	/**
 	 * Returns the contents of this pipe as a buffered reader.
 	 *
@@ -339,6 +373,8 @@ public final class ParserPipe implements Closeable {
 	@Override /* Closeable */
 	public void close() {
 		try {
+			if (positionable instanceof ParserReader)
+				((ParserReader)positionable).release();
 			if (doClose)
 				IOUtils.close(reader, inputStream);
 		} catch (IOException e) {
@@ -0,0 +1,128 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.parser;
+
+import java.util.*;
+
+/**
+ * A tree of property paths identifying the parts of a document that should be materialized during parsing.
+ *
+ * <p>
+ * Created from a list of slash-delimited property paths such as <js>"a/b/c"</js>.
+ * <br>Each node identifies the child properties that should be parsed at that level.
+ * <br>The values of all other properties are skipped over by the parser without being converted into objects.
+ *
+ * <ul class='spaced-list'>
+ * 	<li>
+ * 		Path segments are bean property names or map keys.
+ * 		<br>Collections and arrays are transparent, so <js>"items/name"</js> selects the <js>"name"</js> property of
+ * 		every element of <js>"items"</js>.
+ * 	<li>
+ * 		Everything beneath the last segment of a path is parsed in full.
+ * 		<br>For example, <js>"a"</js> includes all of <js>"a/b"</js>.
+ * 	<li>
+ * 		A <js>"*"</js> segment matches any property name not otherwise listed at that level.
+ * </ul>
+ *
+ * <ul class='seealso'>
+ * 	<li class='jf'>{@link Parser#PARSER_projection}
+ * </ul>
+ */
+public final class ParserProjection {
+
+	/**
+	 * Projection that includes everything.
+	 */
+	public static final ParserProjection ALL = new ParserProjection(null);
+
+	private Map<String,ParserProjection> children;
+
+	private ParserProjection(Map<String,ParserProjection> children) {
+		this.children = children;
+	}
+
+	/**
+	 * Creates a projection from the specified property paths.
+	 *
+	 * @param paths
+	 * 	The slash-delimited property paths to include.
+	 * 	<br>Can be <jk>null</jk> or empty, in which case {@link #ALL} is returned.
+	 * @return A new projection, never <jk>null</jk>.
+	 */
+	public static ParserProjection of(String...paths) {
+		if (paths == null || paths.length == 0)
+			return ALL;
+		ParserProjection p = new ParserProjection(new LinkedHashMap<String,ParserProjection>());
+		for (String path : paths)
+			if (path != null)
+				p.add(path.split("/"), 0);
+		return p.children == null || p.children.isEmpty() ? ALL : p;
+	}
+
+	/**
+	 * Same as {@link #of(String...)} but takes in a collection of paths.
+	 *
+	 * @param paths
+	 * 	The slash-delimited property paths to include.
+	 * 	<br>Can be <jk>null</jk> or empty, in which case {@link #ALL} is returned.
+	 * @return A new projection, never <jk>null</jk>.
+	 */
+	public static ParserProjection of(Collection<String> paths) {
+		return paths == null ? ALL : of(paths.toArray(new String[paths.size()]));
+	}
+
+	private void add(String[] segments, int i) {
+		if (children == null)
+			return;
+		while (i < segments.length && segments[i].trim().isEmpty())
+			i++;
+		if (i == segments.length) {
+			children = null;
+			return;
+		}
+		String s = segments[i].trim();
+		ParserProjection p = children.get(s);
+		if (p == null) {
+			p = new ParserProjection(new LinkedHashMap<String,ParserProjection>());
+			children.put(s, p);
+		}
+		p.add(segments, i+1);
+	}
+
+	/**
+	 * Returns the projection of the specified child property.
+	 *
+	 * @param name The property name or map key.
+	 * @return The projection of the child property, or <jk>null</jk> if the property is not included.
+	 */
+	public ParserProjection get(String name) {
+		if (children == null)
+			return this;
+		ParserProjection p = children.get(name);
+		return p != null ? p : children.get("*");
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this projection includes everything beneath it.
+	 *
+	 * @return <jk>true</jk> if this projection includes everything beneath it.
+	 */
+	public boolean isAll() {
+		return children == null;
+	}
+
+	@Override /* Object */
+	public String toString() {
+		return children == null ? "*" : children.toString();
+	}
+}
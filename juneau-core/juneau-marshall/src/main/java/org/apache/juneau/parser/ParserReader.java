@@ -40,7 +40,7 @@ public class ParserReader extends Reader implements Positionable {
 	private int iCurrent = 0;  // Current pointer into character buffer
 	private int iMark = -1;    // Mark position in buffer
 	private int iEnd = 0;      // The last good character position in the buffer
-	private boolean endReached, holesExist;
+	private boolean endReached, holesExist, pooled;
 	private final boolean unbuffered;
 
 	/**
@@ -54,15 +54,16 @@ public class ParserReader extends Reader implements Positionable {
 		if (pipe.isString()) {
 			String in = pipe.getInputAsString();
 			this.r = new CharSequenceReader(in);
-			this.buff = new char[in.length() < 1024 ? in.length() : 1024];
+			this.buff = pipe.useBufferPool ? BufferPool.getCharBuffer() : new char[in.length() < 1024 ? in.length() : 1024];
 		} else {
 			Reader _r = pipe.getReader();
 			if (_r instanceof ParserReader)
 				this.r = ((ParserReader)_r).r;
 			else
 				this.r = _r;
-			this.buff = new char[1024];
+			this.buff = pipe.useBufferPool ? BufferPool.getCharBuffer() : new char[1024];
 		}
+		this.pooled = pipe.useBufferPool;
 		pipe.setPositionable(this);
 	}
 
@@ -196,6 +197,17 @@ public class ParserReader extends Reader implements Positionable {
 		iMark = iCurrent;
 	}
 
+	/**
+	 * Stops buffering the calls to read() without creating a string from the marked characters.
+	 *
+	 * <p>
+	 * Used when the marked characters were consumed directly (e.g. by {@link StringUtils#readNumber(ParserReader, Class, AsciiSet)})
+	 * so that the buffer doesn't keep growing to hold characters that will never be retrieved.
+	 */
+	public final void unmark() {
+		iMark = -1;
+	}
+
 	/**
 	 * Peeks the next character in the stream.
 	 *
@@ -280,6 +292,21 @@ public class ParserReader extends Reader implements Positionable {
 		// No-op
 	}
 
+	/**
+	 * Returns the internal character buffer to the {@link BufferPool} if it was borrowed from it.
+	 *
+	 * <p>
+	 * Called by {@link ParserPipe#close()}.
+	 * <br>This reader cannot be used after this method is called.
+	 */
+	final void release() {
+		if (pooled) {
+			pooled = false;
+			BufferPool.release(buff);
+			buff = null;
+		}
+	}
+
 	/**
 	 * Returns the contents of the reusable character buffer as a string, and resets the buffer for next usage.
 	 *
@@ -303,6 +330,22 @@ public class ParserReader extends Reader implements Positionable {
 	 * @return The contents of the reusable character buffer as a string.
 	 */
 	public final String getMarked(int offsetStart, int offsetEnd) {
+		return getMarked(offsetStart, offsetEnd, null);
+	}
+
+	/**
+	 * Same as {@link #getMarked(int, int)} except returns a string from the specified index if the marked characters
+	 * match one of its strings.
+	 *
+	 * <p>
+	 * Used for resolving known names (e.g. bean property names) without creating new strings.
+	 *
+	 * @param offsetStart The offset of the start position.
+	 * @param offsetEnd The offset of the end position.
+	 * @param index The index of known strings.  Can be <jk>null</jk>.
+	 * @return The contents of the reusable character buffer as a string.
+	 */
+	public final String getMarked(int offsetStart, int offsetEnd, StringIndex index) {
 		int offset = 0;
 
 		// Holes are \u00FF 'delete' characters that we need to get rid of now.
@@ -317,7 +360,9 @@ public class ParserReader extends Reader implements Positionable {
 			holesExist = false;
 		}
 		int start = iMark + offsetStart, len = iCurrent - iMark + offsetEnd - offsetStart - offset;
-		String s = new String(buff, start, len);
+		String s = index == null ? null : index.get(buff, start, len);
+		if (s == null)
+			s = new String(buff, start, len);
 		iMark = -1;
 		return s;
 	}
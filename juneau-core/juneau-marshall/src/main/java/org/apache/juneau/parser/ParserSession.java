@@ -41,6 +41,8 @@ public abstract class ParserSession extends BeanSession {
 	private BeanPropertyMeta currentProperty;
 	private ClassMeta<?> currentClass;
 	private final ParserListener listener;
+	private final ParserProjection rootProjection;
+	private ParserProjection projection;
 
 	private Position mark = new Position(-1);
 
@@ -62,6 +64,9 @@ public abstract class ParserSession extends BeanSession {
 		javaMethod = args.javaMethod;
 		outer = args.outer;
 		listener = getInstanceProperty(PARSER_listener, ParserListener.class, ctx.getListener());
+		String[] pp = getProperty(PARSER_projection, String[].class, (String[])null);
+		rootProjection = pp == null ? ctx.getProjection() : ParserProjection.of(pp);
+		projection = rootProjection;
 	}
 
 	/**
@@ -598,6 +603,7 @@ public abstract class ParserSession extends BeanSession {
 				e.getClass().getSimpleName(), e.getLocalizedMessage());
 		} finally {
 			checkForWarnings();
+			projection = rootProjection;
 		}
 	}
 
@@ -634,6 +640,7 @@ public abstract class ParserSession extends BeanSession {
 			throw new ParseException(this, e);
 		} finally {
 			checkForWarnings();
+			projection = rootProjection;
 		}
 	}
 
@@ -688,6 +695,7 @@ public abstract class ParserSession extends BeanSession {
 				e.getClass().getSimpleName(), e.getLocalizedMessage());
 		} finally {
 			checkForWarnings();
+			projection = rootProjection;
 		}
 	}
 
@@ -707,6 +715,85 @@ public abstract class ParserSession extends BeanSession {
 		throw new UnsupportedOperationException("Parser '"+getClass().getName()+"' does not support this method.");
 	}
 
+	/**
+	 * Parses the contents of the specified input as an array whose elements are returned one at a time.
+	 *
+	 * <p>
+	 * Unlike {@link #parseIntoCollection(Object, Collection, Type)}, elements are only parsed as they're requested
+	 * from the iterator, so arbitrarily large arrays can be processed in constant memory.
+	 *
+	 * <p>
+	 * The input is not closed until the iterator has been exhausted or closed, and this session must not be used
+	 * for anything else in the meantime.
+	 *
+	 * @param <E> The element class type.
+	 * @param input The input.  See {@link #parse(Object, ClassMeta)} for supported input types.
+	 * @param elementType
+	 * 	The class type of the elements, or <jk>null</jk> to default to whatever is being parsed.
+	 * 	<br>Can be any of the following: {@link ClassMeta}, {@link Class}, {@link ParameterizedType}, {@link GenericArrayType}
+	 * @return A new iterator over the elements of the array.
+	 * @throws ParseException Malformed input encountered.
+	 * @throws UnsupportedOperationException If not implemented.
+	 */
+	@SuppressWarnings("unchecked")
+	public final <E> ParserIterator<E> parseIterator(Object input, Type elementType) throws ParseException {
+		ParserPipe pipe = createPipe(input);
+		try {
+			return doParseIterator(pipe, (ClassMeta<E>)(elementType == null ? object() : getClassMeta(elementType)));
+		} catch (ParseException e) {
+			pipe.close();
+			throw e;
+		} catch (StackOverflowError e) {
+			pipe.close();
+			throw new ParseException(this, "Depth too deep.  Stack overflow occurred.");
+		} catch (IOException e) {
+			pipe.close();
+			throw new ParseException(this, e, "I/O exception occurred.  exception={0}, message={1}.",
+				e.getClass().getSimpleName(), e.getLocalizedMessage());
+		} catch (UnsupportedOperationException e) {
+			pipe.close();
+			throw e;
+		} catch (Exception e) {
+			pipe.close();
+			throw new ParseException(this, e, "Exception occurred.  exception={0}, message={1}.",
+				e.getClass().getSimpleName(), e.getLocalizedMessage());
+		}
+	}
+
+	/**
+	 * Same as {@link #parseIterator(Object, Type)} but specifies the element type as a class.
+	 *
+	 * @param <E> The element class type.
+	 * @param input The input.  See {@link #parse(Object, ClassMeta)} for supported input types.
+	 * @param elementType The class type of the elements, or <jk>null</jk> to default to whatever is being parsed.
+	 * @return A new iterator over the elements of the array.
+	 * @throws ParseException Malformed input encountered.
+	 * @throws UnsupportedOperationException If not implemented.
+	 */
+	public final <E> ParserIterator<E> parseIterator(Object input, Class<E> elementType) throws ParseException {
+		return parseIterator(input, (Type)elementType);
+	}
+
+	/**
+	 * Implementation method.
+	 *
+	 * <p>
+	 * Implementations should consume the start of the array and return an iterator that parses the remaining
+	 * elements on demand.
+	 * <br>The iterator is responsible for closing the pipe.
+	 *
+	 * <p>
+	 * Default implementation throws an {@link UnsupportedOperationException}.
+	 *
+	 * @param pipe The parser input.
+	 * @param elementType The class type of the elements.
+	 * @return A new iterator over the elements of the array.
+	 * @throws Exception If thrown from underlying stream, or if the input contains a syntax error or is malformed.
+	 */
+	protected <E> ParserIterator<E> doParseIterator(ParserPipe pipe, ClassMeta<E> elementType) throws Exception {
+		throw new UnsupportedOperationException("Parser '"+getClass().getName()+"' does not support this method.");
+	}
+
 	/**
 	 * Parses the specified array input with each entry in the object defined by the {@code argTypes}
 	 * argument.
@@ -742,6 +829,7 @@ public abstract class ParserSession extends BeanSession {
 				e.getClass().getSimpleName(), e.getLocalizedMessage());
 		} finally {
 			checkForWarnings();
+			projection = rootProjection;
 		}
 	}
 
@@ -937,6 +1025,37 @@ public abstract class ParserSession extends BeanSession {
 		return ctx.getDebugOutputLines();
 	}
 
+	/**
+	 * Configuration property:  Compact collections.
+	 *
+	 * @see Parser#PARSER_compactCollections
+	 * @return
+	 * 	<jk>true</jk> if generic maps and lists created by the parser are array-backed compact collections.
+	 */
+	protected final boolean isCompactCollections() {
+		return ctx.isCompactCollections();
+	}
+
+	/**
+	 * Creates a new generic map for holding a parsed object of unknown type.
+	 *
+	 * @see Parser#PARSER_compactCollections
+	 * @return A new {@link CompactObjectMap} or {@link ObjectMap} associated with this session.
+	 */
+	protected final ObjectMap newObjectMap() {
+		return ctx.isCompactCollections() ? new CompactObjectMap(this) : new ObjectMap(this);
+	}
+
+	/**
+	 * Creates a new generic list for holding a parsed array of unknown type.
+	 *
+	 * @see Parser#PARSER_compactCollections
+	 * @return A new {@link CompactObjectList} or {@link ObjectList} associated with this session.
+	 */
+	protected final ObjectList newObjectList() {
+		return ctx.isCompactCollections() ? new CompactObjectList(this) : new ObjectList(this);
+	}
+
 	/**
 	 * Returns the listener associated with this session.
 	 *
@@ -946,6 +1065,66 @@ public abstract class ParserSession extends BeanSession {
 		return listener;
 	}
 
+	/**
+	 * Configuration property:  Projection.
+	 *
+	 * @see Parser#PARSER_projection
+	 * @return
+	 * 	The projection of the value currently being parsed.
+	 * 	<br>Never <jk>null</jk>.
+	 */
+	protected final ParserProjection getProjection() {
+		return projection;
+	}
+
+	/**
+	 * Returns the projection of the specified child property of the value currently being parsed.
+	 *
+	 * <p>
+	 * Same as calling <c>getProjection(name, <jk>null</jk>)</c>.
+	 *
+	 * @param name The property name or map key.
+	 * @return The projection of the child property, or <jk>null</jk> if its value should be skipped.
+	 */
+	protected final ParserProjection getProjection(String name) {
+		return getProjection(name, null);
+	}
+
+	/**
+	 * Returns the projection of the specified child property of the value currently being parsed.
+	 *
+	 * <p>
+	 * The bean type property of the specified type is always included so that beans can still be resolved.
+	 *
+	 * @param name The property name or map key.
+	 * @param type
+	 * 	The type of the value currently being parsed.
+	 * 	<br>Used to look up the bean type property name defined through {@link Bean#typePropertyName() @Bean(typePropertyName)}.
+	 * 	<br>Can be <jk>null</jk>.
+	 * @return The projection of the child property, or <jk>null</jk> if its value should be skipped.
+	 */
+	protected final ParserProjection getProjection(String name, ClassMeta<?> type) {
+		if (projection.isAll())
+			return projection;
+		ParserProjection p = projection.get(name);
+		if (p == null && name != null && name.equals(getBeanTypePropertyName(type)))
+			return ParserProjection.ALL;
+		return p;
+	}
+
+	/**
+	 * Sets the projection of the value currently being parsed.
+	 *
+	 * <p>
+	 * Parsers set this to the projection returned by {@link #getProjection(String)} before parsing a property value,
+	 * and restore the previous projection afterwards.
+	 *
+	 * @param value The new projection.
+	 */
+	protected final void setProjection(ParserProjection value) {
+		projection = value;
+	}
+
 	/**
 	 * Configuration property:  Strict mode.
 	 *
@@ -980,6 +1159,17 @@ public abstract class ParserSession extends BeanSession {
 		return ctx.isUnbuffered();
 	}
 
+	/**
+	 * Configuration property:  Use buffer pool.
+	 *
+	 * @see Parser#PARSER_useBufferPool
+	 * @return
+	 * 	<jk>true</jk> if parsers borrow their internal buffers from a per-thread pool.
+	 */
+	protected final boolean isUseBufferPool() {
+		return ctx.isUseBufferPool();
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Other methods
 	//-----------------------------------------------------------------------------------------------------------------
@@ -1002,6 +1192,7 @@ public abstract class ParserSession extends BeanSession {
 				.append("javaMethod", javaMethod)
 				.append("listener", listener)
 				.append("outer", outer)
+				.append("projection", rootProjection)
 			);
 	}
 }
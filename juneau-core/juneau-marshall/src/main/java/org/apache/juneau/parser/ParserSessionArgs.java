@@ -94,6 +94,26 @@ public final class ParserSessionArgs extends BeanSessionArgs {
 		return this;
 	}
 
+	/**
+	 * Projection.
+	 *
+	 * <p>
+	 * Slash-delimited paths of the properties that should be materialized during parsing.
+	 * <br>The values of all other properties are skipped over without being parsed.
+	 *
+	 * <p>
+	 * If not specified, defaults to {@link Parser#PARSER_projection}.
+	 *
+	 * @param value
+	 * 	The new property value.
+	 * 	<br>Can be <jk>null</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public ParserSessionArgs projection(String...value) {
+		property(Parser.PARSER_projection, value);
+		return this;
+	}
+
 	/**
 	 * Input stream charset.
 	 *
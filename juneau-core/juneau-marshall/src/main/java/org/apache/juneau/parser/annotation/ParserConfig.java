@@ -103,6 +103,30 @@ public @interface ParserConfig {
 	 */
 	String autoCloseStreams() default "";
 
+	/**
+	 * Configuration property:  Compact collections.
+	 *
+	 * <p>
+	 * If <js>"true"</js>, generic maps and lists created by the parser are array-backed
+	 * {@link org.apache.juneau.CompactObjectMap} and {@link org.apache.juneau.CompactObjectList} instances.
+	 *
+	 * <ul class='notes'>
+	 * 	<li>
+	 * 		Possible values:
+	 * 		<ul>
+	 * 			<li><js>"true"</js>
+	 * 			<li><js>"false"</js> (default)
+	 * 		</ul>
+	 * 	<li>
+	 * 		Supports {@doc DefaultSvlVariables} (e.g. <js>"$C{myConfigVar}"</js>).
+	 * </ul>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Parser#PARSER_compactCollections}
+	 * </ul>
+	 */
+	String compactCollections() default "";
+
 	/**
 	 * Configuration property:  Debug output lines.
 	 *
@@ -137,6 +161,23 @@ public @interface ParserConfig {
 	 */
 	Class<? extends ParserListener> listener() default ParserListener.Null.class;
 
+	/**
+	 * Configuration property:  Projection.
+	 *
+	 * <p>
+	 * Slash-delimited paths of the properties that should be materialized during parsing.
+	 *
+	 * <ul class='notes'>
+	 * 	<li>
+	 * 		Supports {@doc DefaultSvlVariables} (e.g. <js>"$C{myConfigVar}"</js>).
+	 * </ul>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Parser#PARSER_projection}
+	 * </ul>
+	 */
+	String[] projection() default {};
+
 	/**
 	 * Configuration property:  Strict mode.
 	 *
@@ -252,6 +293,29 @@ public @interface ParserConfig {
 	 */
 	String unbuffered() default "";
 
+	/**
+	 * Configuration property:  Use buffer pool.
+	 *
+	 * <p>
+	 * If <js>"true"</js>, internal character buffers are borrowed from a per-thread pool and recycled across parses.
+	 *
+	 * <ul class='notes'>
+	 * 	<li>
+	 * 		Possible values:
+	 * 		<ul>
+	 * 			<li><js>"true"</js>
+	 * 			<li><js>"false"</js> (default)
+	 * 		</ul>
+	 * 	<li>
+	 * 		Supports {@doc DefaultSvlVariables} (e.g. <js>"$C{myConfigVar}"</js>).
+	 * </ul>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Parser#PARSER_useBufferPool}
+	 * </ul>
+	 */
+	String useBufferPool() default "";
+
 	//-------------------------------------------------------------------------------------------------------------------
 	// ReaderParser
 	//-------------------------------------------------------------------------------------------------------------------
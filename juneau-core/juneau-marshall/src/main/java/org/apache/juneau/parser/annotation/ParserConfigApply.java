@@ -44,16 +44,22 @@ public class ParserConfigApply extends ConfigApply<ParserConfig> {
 		ParserConfig a = ai.getAnnotation();
 		if (! a.autoCloseStreams().isEmpty())
 			psb.set(PARSER_autoCloseStreams, bool(a.autoCloseStreams()));
+		if (! a.compactCollections().isEmpty())
+			psb.set(PARSER_compactCollections, bool(a.compactCollections()));
 		if (! a.debugOutputLines().isEmpty())
 			psb.set(PARSER_debugOutputLines, integer(a.debugOutputLines(), "debugOutputLines"));
 		if (a.listener() != ParserListener.Null.class)
 			psb.set(PARSER_listener, a.listener());
+		if (a.projection().length != 0)
+			psb.set(PARSER_projection, strings(a.projection()));
 		if (! a.strict().isEmpty())
 			psb.set(PARSER_strict, bool(a.strict()));
 		if (! a.trimStrings().isEmpty())
 			psb.set(PARSER_trimStrings, bool(a.trimStrings()));
 		if (! a.unbuffered().isEmpty())
 			psb.set(PARSER_unbuffered, bool(a.unbuffered()));
+		if (! a.useBufferPool().isEmpty())
+			psb.set(PARSER_useBufferPool, bool(a.useBufferPool()));
 
 		if (! a.binaryFormat().isEmpty())
 			psb.set(ISPARSER_binaryFormat, string(a.binaryFormat()));
@@ -0,0 +1,165 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.serializer;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+
+/**
+ * Precomputed information for serializing the properties of a bean class.
+ *
+ * <p>
+ * Plans are created once per bean class and serializer and cached on the {@link Serializer} through
+ * {@link SerializerSession#getBeanSerializerPlan(BeanMap, java.util.function.Function)}.
+ * Serializer sessions iterate over the readable properties of a plan instead of calling
+ * {@link BeanMap#getValues(boolean, BeanPropertyValue...)}, which avoids resolving property metadata and creating
+ * intermediate {@link BeanPropertyValue} objects for every bean instance.
+ *
+ * <p>
+ * Serializers that need additional per-property information (e.g. pre-encoded attribute names) can subclass this
+ * class and keep that information in arrays parallel to {@link #getProperties()}.
+ */
+public class BeanSerializerPlan {
+
+	/**
+	 * Identifies how the value of a bean property can be read and serialized.
+	 */
+	public static enum Kind {
+
+		/** Unboxed <jk>int</jk> read through {@link BeanPropertyMeta#getInt(BeanMap)}. */
+		INT,
+
+		/** Unboxed <jk>long</jk> read through {@link BeanPropertyMeta#getLong(BeanMap)}. */
+		LONG,
+
+		/** Unboxed <jk>double</jk> read through {@link BeanPropertyMeta#getDouble(BeanMap)}. */
+		DOUBLE,
+
+		/** Unboxed <jk>boolean</jk> read through {@link BeanPropertyMeta#getBoolean(BeanMap)}. */
+		BOOLEAN,
+
+		/** <c>String</c> value that can be written as-is (see {@link BeanPropertyMeta#isPlainString()}). */
+		STRING,
+
+		/** Any other value.  Must be serialized through the generic path. */
+		OTHER
+	}
+
+	/**
+	 * A single readable bean property in a plan.
+	 */
+	public static final class Property {
+		private final BeanPropertyMeta meta;
+		private final String name;
+		private final ClassMeta<?> classMeta;
+		private final Kind kind;
+
+		Property(BeanPropertyMeta meta) {
+			this.meta = meta;
+			this.name = meta.getName();
+			this.classMeta = meta.getClassMeta();
+			Class<?> t = meta.getUnboxedType();
+			if (t == int.class)
+				this.kind = Kind.INT;
+			else if (t == long.class)
+				this.kind = Kind.LONG;
+			else if (t == double.class)
+				this.kind = Kind.DOUBLE;
+			else if (t == boolean.class)
+				this.kind = Kind.BOOLEAN;
+			else if (meta.isPlainString())
+				this.kind = Kind.STRING;
+			else
+				this.kind = Kind.OTHER;
+		}
+
+		/**
+		 * Returns the metadata on this property.
+		 *
+		 * @return The metadata on this property.
+		 */
+		public BeanPropertyMeta getMeta() {
+			return meta;
+		}
+
+		/**
+		 * Returns the name of this property.
+		 *
+		 * @return The name of this property.
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * Returns the class type of this property.
+		 *
+		 * @return The class type of this property.
+		 */
+		public ClassMeta<?> getClassMeta() {
+			return classMeta;
+		}
+
+		/**
+		 * Returns how the value of this property can be read and serialized.
+		 *
+		 * @return How the value of this property can be read and serialized.
+		 */
+		public Kind getKind() {
+			return kind;
+		}
+	}
+
+	private final Property[] properties;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param meta The bean being serialized.
+	 */
+	public BeanSerializerPlan(BeanMeta<?> meta) {
+		List<Property> l = new ArrayList<>();
+		for (BeanPropertyMeta p : meta.getPropertyMetas())
+			if (p.canRead())
+				l.add(new Property(p));
+		this.properties = l.toArray(new Property[l.size()]);
+	}
+
+	/**
+	 * Returns the readable properties of the bean in serialization order.
+	 *
+	 * @return The readable properties of the bean.  Never <jk>null</jk>.
+	 */
+	public final Property[] getProperties() {
+		return properties;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the specified bean map can be serialized using a plan.
+	 *
+	 * <p>
+	 * Plans aren't used for filtered bean maps, beans with dynamic properties, or read-only beans that haven't been
+	 * constructed yet.
+	 *
+	 * @param m The bean map to check.
+	 * @return <jk>true</jk> if the specified bean map can be serialized using a plan.
+	 */
+	public static boolean canUse(BeanMap<?> m) {
+		BeanMeta<?> bm = m.getMeta();
+		return m.getClass() == BeanMap.class
+			&& bm.getClass() == BeanMeta.class
+			&& ! bm.hasDynaProperty()
+			&& m.getBean(false) != null;
+	}
+}
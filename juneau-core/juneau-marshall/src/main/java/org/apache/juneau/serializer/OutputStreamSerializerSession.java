@@ -78,6 +78,17 @@ public abstract class OutputStreamSerializerSession extends SerializerSession {
 	 */
 	@Override /* SerializerSession */
 	public final byte[] serialize(Object o) throws SerializeException {
+		if (isUseBufferPool()) {
+			ByteArrayOutputStream baos = BufferPool.getByteArrayOutputStream();
+			try {
+				serialize(o, baos);
+				return baos.toByteArray();
+			} catch (IOException e) {
+				throw new SerializeException(e); // Should never happen.
+			} finally {
+				BufferPool.release(baos);
+			}
+		}
 		ByteArrayOutputStream baos = new ByteArrayOutputStream();
 		try {
 			serialize(o, baos);
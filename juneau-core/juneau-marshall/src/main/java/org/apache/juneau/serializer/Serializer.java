@@ -13,6 +13,9 @@
 package org.apache.juneau.serializer;
 
 import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
@@ -341,6 +344,64 @@ public abstract class Serializer extends BeanTraverseContext {
 	 */
 	public static final String SERIALIZER_sortMaps = PREFIX + ".sortMaps.b";
 
+	/**
+	 * Configuration property:  Stream flush interval.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.serializer.Serializer#SERIALIZER_streamFlushInterval SERIALIZER_streamFlushInterval}
+	 * 	<li><b>Name:</b>  <js>"Serializer.streamFlushInterval.i"</js>
+	 * 	<li><b>Data type:</b>  <jk>int</jk>
+	 * 	<li><b>System property:</b>  <c>Serializer.streamFlushInterval</c>
+	 * 	<li><b>Environment variable:</b>  <c>SERIALIZER_STREAMFLUSHINTERVAL</c>
+	 * 	<li><b>Default:</b>  <c>0</c>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Annotations:</b>
+	 * 		<ul>
+	 * 			<li class='ja'>{@link org.apache.juneau.serializer.annotation.SerializerConfig#streamFlushInterval()}
+	 * 		</ul>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.serializer.SerializerBuilder#streamFlushInterval(int)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 *
+	 * <p>
+	 * Flushes the output every <c>N</c> elements when serializing lazily-evaluated sources such as
+	 * {@link java.util.Iterator Iterators}, {@link java.util.Enumeration Enumerations},
+	 * {@link java.util.stream.Stream Streams} and {@link java.util.Spliterator Spliterators}.
+	 *
+	 * <p>
+	 * Serializers that support streaming (e.g. JSON and XML) write the elements of these sources as they're consumed
+	 * instead of first copying them into a list.
+	 * <br>Setting this value allows consumers to start reading partial results (e.g. over an HTTP connection) before
+	 * the source has been exhausted.
+	 *
+	 * <p>
+	 * A value of <c>0</c> means the output is never explicitly flushed by the serializer.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a serializer that flushes the output after every 100 streamed elements.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.streamFlushInterval(100)
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>SERIALIZER_streamFlushInterval</jsf>, 100)
+	 * 		.build();
+	 *
+	 * 	<jc>// Serialize a stream of beans.</jc>
+	 * 	s.serialize(personDao.streamAll(), writer);
+	 * </p>
+	 */
+	public static final String SERIALIZER_streamFlushInterval = PREFIX + ".streamFlushInterval.i";
+
 	/**
 	 * Configuration property:  Trim empty lists and arrays.
 	 *
@@ -729,6 +790,57 @@ public abstract class Serializer extends BeanTraverseContext {
 	 */
 	public static final String SERIALIZER_uriResolution = PREFIX + ".uriResolution.s";
 
+	/**
+	 * Configuration property:  Use buffer pool.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.serializer.Serializer#SERIALIZER_useBufferPool SERIALIZER_useBufferPool}
+	 * 	<li><b>Name:</b>  <js>"Serializer.useBufferPool.b"</js>
+	 * 	<li><b>Data type:</b>  <jk>boolean</jk>
+	 * 	<li><b>System property:</b>  <c>Serializer.useBufferPool</c>
+	 * 	<li><b>Environment variable:</b>  <c>SERIALIZER_USEBUFFERPOOL</c>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Annotations:</b>
+	 * 		<ul>
+	 * 			<li class='ja'>{@link org.apache.juneau.serializer.annotation.SerializerConfig#useBufferPool()}
+	 * 		</ul>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.serializer.SerializerBuilder#useBufferPool(boolean)}
+	 * 			<li class='jm'>{@link org.apache.juneau.serializer.SerializerBuilder#useBufferPool()}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 *
+	 * <p>
+	 * If <jk>true</jk>, the in-memory buffers used by {@link WriterSerializer#serialize(Object)} and
+	 * {@link OutputStreamSerializer#serialize(Object)} are borrowed from a per-thread pool and recycled across
+	 * serializations instead of being allocated for each call.
+	 *
+	 * <p>
+	 * This reduces garbage when serializing large numbers of small documents to strings or byte arrays.
+	 * <br>Pool activity can be monitored through {@link org.apache.juneau.internal.BufferPool}.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a serializer that recycles its buffers.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.useBufferPool()
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>SERIALIZER_useBufferPool</jsf>, <jk>true</jk>)
+	 * 		.build();
+	 * </p>
+	 */
+	public static final String SERIALIZER_useBufferPool = PREFIX + ".useBufferPool.b";
+
 	static final Serializer DEFAULT = new Serializer(PropertyStore.create().build(), "", "") {
 		@Override
 		public SerializerSession createSession(SerializerSessionArgs args) {
@@ -748,7 +860,9 @@ public abstract class Serializer extends BeanTraverseContext {
 		trimStrings,
 		sortCollections,
 		sortMaps,
-		addRootType;
+		addRootType,
+		useBufferPool;
+	private final int streamFlushInterval;
 	private final UriContext uriContext;
 	private final UriResolution uriResolution;
 	private final UriRelativity uriRelativity;
@@ -757,6 +871,7 @@ public abstract class Serializer extends BeanTraverseContext {
 	private final MediaTypeRange[] accept;
 	private final MediaType[] accepts;
 	private final MediaType produces;
+	private final Map<BeanMeta<?>,BeanSerializerPlan> beanSerializerPlans = new ConcurrentHashMap<>();
 
 	/**
 	 * Constructor
@@ -795,6 +910,8 @@ public abstract class Serializer extends BeanTraverseContext {
 		sortCollections = getBooleanProperty(SERIALIZER_sortCollections, false);
 		sortMaps = getBooleanProperty(SERIALIZER_sortMaps, false);
 		addRootType = getBooleanProperty(SERIALIZER_addRootType, false);
+		streamFlushInterval = getIntegerProperty(SERIALIZER_streamFlushInterval, 0);
+		useBufferPool = getBooleanProperty(SERIALIZER_useBufferPool, false);
 		uriContext = getProperty(SERIALIZER_uriContext, UriContext.class, UriContext.DEFAULT);
 		uriResolution = getProperty(SERIALIZER_uriResolution, UriResolution.class, UriResolution.NONE);
 		uriRelativity = getProperty(SERIALIZER_uriRelativity, UriRelativity.class, UriRelativity.RESOURCE);
@@ -970,6 +1087,30 @@ public abstract class Serializer extends BeanTraverseContext {
 		return produces;
 	}
 
+	/**
+	 * Returns the serialization plan for the specified bean, creating it on first use.
+	 *
+	 * <p>
+	 * Plans are cached on this serializer since their contents can depend on serializer settings, so the creator is
+	 * only called once per bean class.
+	 *
+	 * @param <P> The plan type.
+	 * @param bm The bean being serialized.
+	 * @param creator Creates the plan if it's not already cached.
+	 * @return The cached plan.
+	 */
+	@SuppressWarnings("unchecked")
+	public final <P extends BeanSerializerPlan> P getBeanSerializerPlan(BeanMeta<?> bm, Function<BeanMeta<?>,P> creator) {
+		BeanSerializerPlan p = beanSerializerPlans.get(bm);
+		if (p == null) {
+			p = creator.apply(bm);
+			BeanSerializerPlan p2 = beanSerializerPlans.putIfAbsent(bm, p);
+			if (p2 != null)
+				p = p2;
+		}
+		return (P)p;
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Properties
 	//-----------------------------------------------------------------------------------------------------------------
@@ -1030,6 +1171,17 @@ public abstract class Serializer extends BeanTraverseContext {
 		return sortMaps;
 	}
 
+	/**
+	 * Configuration property:  Stream flush interval.
+	 *
+	 * @see #SERIALIZER_streamFlushInterval
+	 * @return
+	 * 	The number of streamed elements after which the output is flushed, or <c>0</c> if never flushed.
+	 */
+	protected final int getStreamFlushInterval() {
+		return streamFlushInterval;
+	}
+
 	/**
 	 * Configuration property:  Trim empty lists and arrays.
 	 *
@@ -1107,6 +1259,17 @@ public abstract class Serializer extends BeanTraverseContext {
 		return uriResolution;
 	}
 
+	/**
+	 * Configuration property:  Use buffer pool.
+	 *
+	 * @see #SERIALIZER_useBufferPool
+	 * @return
+	 * 	<jk>true</jk> if in-memory output buffers are borrowed from a per-thread pool.
+	 */
+	protected final boolean isUseBufferPool() {
+		return useBufferPool;
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Other methods
 	//-----------------------------------------------------------------------------------------------------------------
@@ -1123,10 +1286,12 @@ public abstract class Serializer extends BeanTraverseContext {
 				.append("sortCollections", sortCollections)
 				.append("sortMaps", sortMaps)
 				.append("addRootType", addRootType)
+				.append("streamFlushInterval", streamFlushInterval)
 				.append("uriContext", uriContext)
 				.append("uriResolution", uriResolution)
 				.append("uriRelativity", uriRelativity)
 				.append("listener", listener)
+				.append("useBufferPool", useBufferPool)
 			);
 	}
 }
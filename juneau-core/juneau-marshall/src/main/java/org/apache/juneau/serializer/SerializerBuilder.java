@@ -208,6 +208,26 @@ public class SerializerBuilder extends BeanTraverseBuilder {
 		return set(SERIALIZER_sortMaps, true);
 	}
 
+	/**
+	 * Configuration property:  Stream flush interval.
+	 *
+	 * <p>
+	 * Flushes the output every <c>N</c> elements when serializing {@link Iterator Iterators},
+	 * {@link Enumeration Enumerations}, {@link java.util.stream.Stream Streams} and {@link Spliterator Spliterators}.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_streamFlushInterval}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <c>0</c> (never flush).
+	 * @return This object (for method chaining).
+	 */
+	public SerializerBuilder streamFlushInterval(int value) {
+		return set(SERIALIZER_streamFlushInterval, value);
+	}
+
 	/**
 	 * Configuration property:  Trim empty lists and arrays.
 	 *
@@ -466,6 +486,41 @@ public class SerializerBuilder extends BeanTraverseBuilder {
 		return set(SERIALIZER_uriResolution, value);
 	}
 
+	/**
+	 * Configuration property:  Use buffer pool.
+	 *
+	 * <p>
+	 * If <jk>true</jk>, in-memory output buffers are borrowed from a per-thread pool and recycled across serializations.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_useBufferPool}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default value is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public SerializerBuilder useBufferPool(boolean value) {
+		return set(SERIALIZER_useBufferPool, value);
+	}
+
+	/**
+	 * Configuration property:  Use buffer pool.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>useBufferPool(<jk>true</jk>)</code>.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_useBufferPool}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public SerializerBuilder useBufferPool() {
+		return set(SERIALIZER_useBufferPool, true);
+	}
+
 	@Override /* BeanTraverseBuilder */
 	public SerializerBuilder detectRecursions(boolean value) {
 		super.detectRecursions(value);
@@ -1006,6 +1061,18 @@ public class SerializerBuilder extends BeanTraverseBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public SerializerBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public SerializerBuilder useGeneratedAccessors() {
+		super.useGeneratedAccessors();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public SerializerBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
@@ -13,13 +13,14 @@
 package org.apache.juneau.serializer;
 
 import static org.apache.juneau.internal.CollectionUtils.*;
+import static org.apache.juneau.internal.HttpUtils.*;
 
 import java.util.*;
-import java.util.concurrent.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
 import org.apache.juneau.http.*;
+import org.apache.juneau.internal.*;
 
 /**
  * Represents a group of {@link Serializer Serializers} that can be looked up by media type.
@@ -67,13 +68,67 @@ import org.apache.juneau.http.*;
 @ConfigurableContext(nocache=true)
 public final class SerializerGroup extends BeanTraverseContext {
 
+	//-------------------------------------------------------------------------------------------------------------------
+	// Configurable properties
+	//-------------------------------------------------------------------------------------------------------------------
+
+	static final String PREFIX = "SerializerGroup";
+
+	/**
+	 * Configuration property:  Match cache size.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.serializer.SerializerGroup#SERIALIZERGROUP_matchCacheSize SERIALIZERGROUP_matchCacheSize}
+	 * 	<li><b>Name:</b>  <js>"SerializerGroup.matchCacheSize.i"</js>
+	 * 	<li><b>Data type:</b>  <jk>int</jk>
+	 * 	<li><b>System property:</b>  <c>SerializerGroup.matchCacheSize</c>
+	 * 	<li><b>Environment variable:</b>  <c>SERIALIZERGROUP_MATCHCACHESIZE</c>
+	 * 	<li><b>Default:</b>  <c>1000</c>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.serializer.SerializerGroupBuilder#matchCacheSize(int)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * The maximum number of <c>Accept</c> header values whose matching serializer is remembered by
+	 * {@link #getSerializerMatch(String)}.
+	 *
+	 * <p>
+	 * When the cache is full, the least-recently-used entries are evicted so that clients sending many distinct
+	 * <c>Accept</c> headers cannot grow the cache without bound.
+	 * <br>Header values are normalized before lookup so that values that only differ in whitespace share an entry.
+	 * <br>A value of <c>0</c> disables caching.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a serializer group that remembers up to 100 Accept headers.</jc>
+	 * 	SerializerGroup g = SerializerGroup
+	 * 		.<jsm>create</jsm>()
+	 * 		.append(JsonSerializer.<jk>class</jk>, XmlSerializer.<jk>class</jk>)
+	 * 		.matchCacheSize(100)
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	SerializerGroup g = SerializerGroup
+	 * 		.<jsm>create</jsm>()
+	 * 		.append(JsonSerializer.<jk>class</jk>, XmlSerializer.<jk>class</jk>)
+	 * 		.set(<jsf>SERIALIZERGROUP_matchCacheSize</jsf>, 100)
+	 * 		.build();
+	 * </p>
+	 */
+	public static final String SERIALIZERGROUP_matchCacheSize = PREFIX + ".matchCacheSize.i";
+
 	/**
 	 * An unmodifiable empty serializer group.
 	 */
 	public static final SerializerGroup EMPTY = create().build();
 
-	// Maps Accept headers to matching serializers.
-	private final ConcurrentHashMap<String,SerializerMatch> cache = new ConcurrentHashMap<>();
+	// Maps normalized Accept headers to matching serializers.
+	private final BoundedCache<String,SerializerMatch> cache;
 
 	private final MediaTypeRange[] mediaTypeRanges;
 	private final Serializer[] mediaTypeRangeSerializers;
@@ -117,6 +172,7 @@ public final class SerializerGroup extends BeanTraverseContext {
 	public SerializerGroup(PropertyStore ps, Serializer[] serializers) {
 		super(ps);
 		this.serializers = immutableList(serializers);
+		this.cache = new BoundedCache<>(getIntegerProperty(SERIALIZERGROUP_matchCacheSize, 1000));
 
 		List<MediaTypeRange> lmtr = new ArrayList<>();
 		LinkedHashSet<MediaType> lmt = new LinkedHashSet<>();
@@ -155,22 +211,24 @@ public final class SerializerGroup extends BeanTraverseContext {
 	 * <p>
 	 * The returned object includes both the serializer and media type that matched.
 	 *
+	 * <p>
+	 * Matches are remembered in a bounded cache whose size is controlled by {@link #SERIALIZERGROUP_matchCacheSize}.
+	 *
 	 * @param acceptHeader The HTTP <l>Accept</l> header string.
 	 * @return The serializer and media type that matched the accept header, or <jk>null</jk> if no match was made.
 	 */
 	public SerializerMatch getSerializerMatch(String acceptHeader) {
+		acceptHeader = normalizeMediaTypeHeader(acceptHeader);
 		SerializerMatch sm = cache.get(acceptHeader);
 		if (sm != null)
 			return sm;
 
 		Accept a = Accept.forString(acceptHeader);
 		int match = a.findMatch(mediaTypeRanges);
-		if (match >= 0) {
-			sm = new SerializerMatch(mediaTypeRanges[match].getMediaType(), mediaTypeRangeSerializers[match]);
-			cache.putIfAbsent(acceptHeader, sm);
-		}
+		if (match >= 0)
+			return cache.put(acceptHeader, new SerializerMatch(mediaTypeRanges[match].getMediaType(), mediaTypeRangeSerializers[match]));
 
-		return cache.get(acceptHeader);
+		return null;
 	}
 
 	/**
@@ -266,4 +324,12 @@ public final class SerializerGroup extends BeanTraverseContext {
 	public List<Serializer> getSerializers() {
 		return serializers;
 	}
+
+	/*
+	 * Returns the cache used by getSerializerMatch(String).
+	 * Used for testing.
+	 */
+	BoundedCache<String,SerializerMatch> getMatchCache() {
+		return cache;
+	}
 }
@@ -225,6 +225,26 @@ public class SerializerGroupBuilder extends BeanTraverseBuilder {
 		return set(SERIALIZER_listener, value);
 	}
 
+	/**
+	 * Configuration property:  Match cache size.
+	 *
+	 * <p>
+	 * The maximum number of <c>Accept</c> header values whose matching serializer is remembered by the group.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link SerializerGroup#SERIALIZERGROUP_matchCacheSize}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <c>1000</c>.
+	 * 	<br>Use <c>0</c> to disable caching.
+	 * @return This object (for method chaining).
+	 */
+	public SerializerGroupBuilder matchCacheSize(int value) {
+		return set(SerializerGroup.SERIALIZERGROUP_matchCacheSize, value);
+	}
+
 	/**
 	 * Configuration property:  Sort arrays and collections alphabetically.
 	 *
@@ -289,6 +309,22 @@ public class SerializerGroupBuilder extends BeanTraverseBuilder {
 		return set(SERIALIZER_sortMaps, true);
 	}
 
+	/**
+	 * Configuration property:  Stream flush interval.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_streamFlushInterval}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <c>0</c> (never flush).
+	 * @return This object (for method chaining).
+	 */
+	public SerializerGroupBuilder streamFlushInterval(int value) {
+		return set(SERIALIZER_streamFlushInterval, value);
+	}
+
 	/**
 	 * Configuration property:  Trim empty lists and arrays.
 	 *
@@ -413,6 +449,41 @@ public class SerializerGroupBuilder extends BeanTraverseBuilder {
 		return set(SERIALIZER_trimStrings, true);
 	}
 
+	/**
+	 * Configuration property:  Use buffer pool.
+	 *
+	 * <p>
+	 * If <jk>true</jk>, in-memory output buffers are borrowed from a per-thread pool and recycled across serializations.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_useBufferPool}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default value is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public SerializerGroupBuilder useBufferPool(boolean value) {
+		return set(SERIALIZER_useBufferPool, value);
+	}
+
+	/**
+	 * Configuration property:  Use buffer pool.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>useBufferPool(<jk>true</jk>)</code>.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_useBufferPool}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public SerializerGroupBuilder useBufferPool() {
+		return set(SERIALIZER_useBufferPool, true);
+	}
+
 	/**
 	 * Configuration property:  URI context bean.
 	 *
@@ -1180,6 +1251,18 @@ public class SerializerGroupBuilder extends BeanTraverseBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public SerializerGroupBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public SerializerGroupBuilder useGeneratedAccessors() {
+		super.useGeneratedAccessors();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public SerializerGroupBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
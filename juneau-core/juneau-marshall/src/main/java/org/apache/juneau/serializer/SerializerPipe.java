@@ -33,6 +33,9 @@ import org.apache.juneau.internal.*;
  * </ul>
  *
  * <p>
+ * UTF-8 output to streams is encoded through a {@link Utf8Writer} instead of an {@link OutputStreamWriter}.
+ *
+ * <p>
  * For stream-based serializers, the output object can be any of the following:
  * <ul>
  * 	<li>{@link OutputStream}
@@ -135,7 +138,7 @@ public final class SerializerPipe implements Closeable {
 		if (output instanceof Writer)
 			writer = (Writer)output;
 		else if (output instanceof OutputStream)
-			writer = new OutputStreamWriter((OutputStream)output, charset);
+			writer = UTF8.equals(charset) ? new Utf8Writer((OutputStream)output) : new OutputStreamWriter((OutputStream)output, charset);
 		else if (output instanceof File)
 			writer = new OutputStreamWriter(new BufferedOutputStream(new FileOutputStream((File)output)));
 		else if (output instanceof StringBuilder)
@@ -20,6 +20,7 @@ import java.io.*;
 import java.lang.reflect.*;
 import java.text.*;
 import java.util.*;
+import java.util.function.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.parser.*;
@@ -414,6 +415,65 @@ public abstract class SerializerSession extends BeanTraverseSession {
 		return Arrays.asList((Object[])array);
 	}
 
+	/**
+	 * Returns <jk>true</jk> if this session serializes lazily-evaluated sources directly.
+	 *
+	 * <p>
+	 * Lazily-evaluated sources are objects whose class is categorized as {@link ClassMeta#isStream()}
+	 * (i.e. {@link Iterator Iterators}, {@link Enumeration Enumerations}, {@link java.util.stream.BaseStream Streams}
+	 * and {@link Spliterator Spliterators}).
+	 * <br>When <jk>false</jk> (the default), the default swaps for these types copy their contents into a list before
+	 * serialization.
+	 * <br>Subclasses that can write elements as they're consumed should override this method and use
+	 * {@link #toIterator(Object)} to iterate over the source.
+	 *
+	 * @return <jk>true</jk> if this session serializes lazily-evaluated sources directly.
+	 */
+	public boolean canSerializeStreams() {
+		return false;
+	}
+
+	/**
+	 * Returns an iterator over the contents of a lazily-evaluated source.
+	 *
+	 * @param o The {@link Iterator}, {@link Enumeration}, {@link java.util.stream.BaseStream} or {@link Spliterator}.
+	 * @return An iterator over the contents of the source.
+	 */
+	@SuppressWarnings("rawtypes")
+	protected static final Iterator<?> toIterator(Object o) {
+		if (o instanceof Iterator)
+			return (Iterator<?>)o;
+		if (o instanceof java.util.stream.BaseStream)
+			return ((java.util.stream.BaseStream)o).iterator();
+		if (o instanceof Spliterator)
+			return Spliterators.iterator((Spliterator<?>)o);
+		final Enumeration<?> e = (Enumeration<?>)o;
+		return new Iterator<Object>() {
+			@Override /* Iterator */
+			public boolean hasNext() {
+				return e.hasMoreElements();
+			}
+			@Override /* Iterator */
+			public Object next() {
+				return e.nextElement();
+			}
+		};
+	}
+
+	/**
+	 * Called after a lazily-evaluated source has been fully serialized.
+	 *
+	 * <p>
+	 * Closes the source if it's a {@link java.util.stream.BaseStream} so that any close handlers (e.g. on streams
+	 * backed by I/O resources) are run.
+	 *
+	 * @param o The source that was serialized.
+	 */
+	protected static final void closeStream(Object o) {
+		if (o instanceof java.util.stream.BaseStream)
+			((java.util.stream.BaseStream<?,?>)o).close();
+	}
+
 	/**
 	 * Converts a String to an absolute URI based on the {@link UriContext} on this session.
 	 *
@@ -523,6 +583,49 @@ public abstract class SerializerSession extends BeanTraverseSession {
 		return new BeanPropertyValue(bm.getTypeProperty(), bm.getTypeProperty().getName(), typeName, null);
 	}
 
+	/**
+	 * Returns the cached serialization plan for the specified bean map.
+	 *
+	 * <p>
+	 * Plans are cached on the serializer (see {@link Serializer#getBeanSerializerPlan(BeanMeta, Function)}), so the
+	 * creator is only called once per bean class and serializer.
+	 *
+	 * @param <P> The plan type.
+	 * @param m The bean map being serialized.
+	 * @param creator Creates the plan if it's not already cached.
+	 * @return
+	 * 	The serialization plan, or <jk>null</jk> if the bean map can't be serialized using a plan
+	 * 	(see {@link BeanSerializerPlan#canUse(BeanMap)}).
+	 */
+	protected final <P extends BeanSerializerPlan> P getBeanSerializerPlan(BeanMap<?> m, Function<BeanMeta<?>,P> creator) {
+		if (! BeanSerializerPlan.canUse(m))
+			return null;
+		return ctx.getBeanSerializerPlan(m.getMeta(), creator);
+	}
+
+	/**
+	 * Returns the value of the specified bean property for serialization.
+	 *
+	 * <p>
+	 * Same as {@link BeanPropertyMeta#get(BeanMap, String)} except that exceptions thrown by the getter are reported
+	 * through {@link #onBeanGetterException(BeanPropertyMeta, Throwable)} and a <jk>null</jk> value is returned.
+	 *
+	 * @param m The bean map being serialized.
+	 * @param pMeta The bean property to read.
+	 * @return The property value, or <jk>null</jk> if the getter threw an exception.
+	 */
+	protected final Object getBeanPropertyValue(BeanMap<?> m, BeanPropertyMeta pMeta) {
+		try {
+			return pMeta.get(m, null);
+		} catch (Error e) {
+			// Errors should always be uncaught.
+			throw e;
+		} catch (Throwable t) {
+			onBeanGetterException(pMeta, t);
+			return null;
+		}
+	}
+
 	/**
 	 * Resolves the dictionary name for the actual type.
 	 *
@@ -727,6 +830,17 @@ public abstract class SerializerSession extends BeanTraverseSession {
 		return ctx.isSortMaps();
 	}
 
+	/**
+	 * Configuration property:  Stream flush interval.
+	 *
+	 * @see Serializer#SERIALIZER_streamFlushInterval
+	 * @return
+	 * 	The number of streamed elements after which the output is flushed, or <c>0</c> if never flushed.
+	 */
+	protected final int getStreamFlushInterval() {
+		return ctx.getStreamFlushInterval();
+	}
+
 	/**
 	 * Configuration property:  Trim empty lists and arrays.
 	 *
@@ -804,6 +918,17 @@ public abstract class SerializerSession extends BeanTraverseSession {
 		return ctx.getUriResolution();
 	}
 
+	/**
+	 * Configuration property:  Use buffer pool.
+	 *
+	 * @see Serializer#SERIALIZER_useBufferPool
+	 * @return
+	 * 	<jk>true</jk> if in-memory output buffers are borrowed from a per-thread pool.
+	 */
+	protected final boolean isUseBufferPool() {
+		return ctx.isUseBufferPool();
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Other methods
 	//-----------------------------------------------------------------------------------------------------------------
@@ -50,6 +50,8 @@ public class SerializerWriter extends Writer {
 	/** The URI resolver of the request. */
 	protected final UriResolver uriResolver;
 
+	private char[] digits;
+
 	/**
 	 * @param out The writer being wrapped.
 	 * @param useWhitespace
@@ -199,6 +201,35 @@ public class SerializerWriter extends Writer {
 		return this;
 	}
 
+	/**
+	 * Appends the decimal representation of the specified number to this writer.
+	 *
+	 * <p>
+	 * Produces the same output as <c>append(String.valueOf(l))</c> but doesn't create an intermediate string.
+	 *
+	 * @param l The number to append.
+	 * @return This object (for method chaining).
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	public SerializerWriter appendLong(long l) throws IOException {
+		if (l == Long.MIN_VALUE)
+			return append(String.valueOf(l));
+		if (digits == null)
+			digits = new char[20];
+		boolean negative = l < 0;
+		if (negative)
+			l = -l;
+		int pos = digits.length;
+		do {
+			digits[--pos] = (char)('0' + (l % 10));
+			l /= 10;
+		} while (l != 0);
+		if (negative)
+			digits[--pos] = '-';
+		out.write(digits, pos, digits.length - pos);
+		return this;
+	}
+
 	/**
 	 * Appends the specified characters to this writer.
 	 *
@@ -376,6 +407,11 @@ public class SerializerWriter extends Writer {
 		out.write(cbuf, off, len);
 	}
 
+	@Override /* Writer */
+	public void write(String str, int off, int len) throws IOException {
+		out.write(str, off, len);
+	}
+
 	@Override /* Writer */
 	public void flush() throws IOException {
 		out.flush();
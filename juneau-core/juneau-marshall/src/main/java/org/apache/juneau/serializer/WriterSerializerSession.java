@@ -18,6 +18,7 @@ import java.io.*;
 import java.nio.charset.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
 
 /**
  * Subclass of {@link SerializerSession} for character-based serializers.
@@ -90,6 +91,17 @@ public abstract class WriterSerializerSession extends SerializerSession {
 	 */
 	@Override /* SerializerSession */
 	public final String serialize(Object o) throws SerializeException {
+		if (isUseBufferPool()) {
+			StringBuilderWriter w = BufferPool.getStringBuilderWriter();
+			try {
+				serialize(o, w);
+				return w.toString();
+			} catch (IOException e) {
+				throw new SerializeException(e); // Shouldn't happen.
+			} finally {
+				BufferPool.release(w);
+			}
+		}
 		StringWriter w = new StringWriter();
 		try {
 			serialize(o, w);
@@ -137,7 +149,7 @@ public abstract class WriterSerializerSession extends SerializerSession {
 	 * @return
 	 * 	The character used for quoting attributes and values.
 	 */
-	protected final boolean isUseWhitespace() {
+	protected boolean isUseWhitespace() {
 		return useWhitespace;
 	}
 
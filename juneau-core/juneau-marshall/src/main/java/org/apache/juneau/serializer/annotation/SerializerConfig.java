@@ -210,6 +210,27 @@ public @interface SerializerConfig {
 	 */
 	String sortMaps() default "";
 
+	/**
+	 * Configuration property:  Stream flush interval.
+	 *
+	 * <p>
+	 * Flushes the output every <c>N</c> elements when serializing iterators, enumerations, streams and spliterators.
+	 *
+	 * <ul class='notes'>
+	 * 	<li>
+	 * 		Format: integer
+	 * 	<li>
+	 * 		Default: 0 (never flush)
+	 * 	<li>
+	 * 		Supports {@doc DefaultSvlVariables} (e.g. <js>"$C{myConfigVar}"</js>).
+	 * </ul>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_streamFlushInterval}
+	 * </ul>
+	 */
+	String streamFlushInterval() default "";
+
 	/**
 	 * Configuration property:  Trim empty lists and arrays.
 	 *
@@ -404,6 +425,30 @@ public @interface SerializerConfig {
 	 */
 	String uriResolution() default "";
 
+	/**
+	 * Configuration property:  Use buffer pool.
+	 *
+	 * <p>
+	 * If <js>"true"</js>, in-memory output buffers are borrowed from a per-thread pool and recycled across
+	 * serializations.
+	 *
+	 * <ul class='notes'>
+	 * 	<li>
+	 * 		Possible values:
+	 * 		<ul>
+	 * 			<li><js>"true"</js>
+	 * 			<li><js>"false"</js> (default)
+	 * 		</ul>
+	 * 	<li>
+	 * 		Supports {@doc DefaultSvlVariables} (e.g. <js>"$C{myConfigVar}"</js>).
+	 * </ul>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_useBufferPool}
+	 * </ul>
+	 */
+	String useBufferPool() default "";
+
 	//-------------------------------------------------------------------------------------------------------------------
 	// WriterSerializer
 	//-------------------------------------------------------------------------------------------------------------------
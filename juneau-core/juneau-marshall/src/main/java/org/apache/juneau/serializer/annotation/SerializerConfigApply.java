@@ -51,6 +51,8 @@ public class SerializerConfigApply extends ConfigApply<SerializerConfig> {
 			psb.set(SERIALIZER_sortCollections, bool(a.sortCollections()));
 		if (! a.sortMaps().isEmpty())
 			psb.set(SERIALIZER_sortMaps, bool(a.sortMaps()));
+		if (! a.streamFlushInterval().isEmpty())
+			psb.set(SERIALIZER_streamFlushInterval, integer(a.streamFlushInterval(), "streamFlushInterval"));
 		if (! a.trimEmptyCollections().isEmpty())
 			psb.set(SERIALIZER_trimEmptyCollections, bool(a.trimEmptyCollections()));
 		if (! a.trimEmptyMaps().isEmpty())
@@ -65,6 +67,8 @@ public class SerializerConfigApply extends ConfigApply<SerializerConfig> {
 			psb.set(SERIALIZER_uriRelativity, string(a.uriRelativity()));
 		if (! a.uriResolution().isEmpty())
 			psb.set(SERIALIZER_uriResolution, string(a.uriResolution()));
+		if (! a.useBufferPool().isEmpty())
+			psb.set(SERIALIZER_useBufferPool, bool(a.useBufferPool()));
 
 		if (! a.binaryFormat().isEmpty())
 			psb.set(OSSERIALIZER_binaryFormat, string(a.binaryFormat()));
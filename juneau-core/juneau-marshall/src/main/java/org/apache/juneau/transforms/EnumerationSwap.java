@@ -15,6 +15,7 @@ package org.apache.juneau.transforms;
 import java.util.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.serializer.*;
 import org.apache.juneau.transform.*;
 
 /**
@@ -22,6 +23,9 @@ import org.apache.juneau.transform.*;
  *
  * <p>
  * This is a one-way transform, since {@code Enumerations} cannot be reconstituted.
+ *
+ * <p>
+ * This swap is not used by serializers that write the elements lazily (see {@link SerializerSession#canSerializeStreams()}).
  */
 @SuppressWarnings({"unchecked","rawtypes"})
 public class EnumerationSwap extends PojoSwap<Enumeration,List> {
@@ -36,4 +40,11 @@ public class EnumerationSwap extends PojoSwap<Enumeration,List> {
 			l.add(o.nextElement());
 		return l;
 	}
+
+	@Override /* PojoSwap */
+	public int match(BeanSession session) {
+		if (session instanceof SerializerSession && ((SerializerSession)session).canSerializeStreams())
+			return 0;
+		return super.match(session);
+	}
 }
@@ -0,0 +1,55 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.transforms;
+
+import java.util.*;
+import java.util.stream.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.transform.*;
+
+/**
+ * Transforms {@link Stream Streams} (and primitive streams such as {@link IntStream}) to {@code List<Object>} objects.
+ *
+ * <p>
+ * This is a one-way transform, since {@code Streams} cannot be reconstituted.
+ *
+ * <p>
+ * This swap is not used by serializers that write the elements lazily (see {@link SerializerSession#canSerializeStreams()}).
+ */
+@SuppressWarnings({"unchecked","rawtypes"})
+public class StreamSwap extends PojoSwap<BaseStream,List> {
+
+	/**
+	 * Converts the specified {@link BaseStream} to a {@link List}.
+	 */
+	@Override /* PojoSwap */
+	public List swap(BeanSession session, BaseStream o) {
+		List l = new LinkedList();
+		try {
+			for (Iterator i = o.iterator(); i.hasNext();)
+				l.add(i.next());
+		} finally {
+			o.close();
+		}
+		return l;
+	}
+
+	@Override /* PojoSwap */
+	public int match(BeanSession session) {
+		if (session instanceof SerializerSession && ((SerializerSession)session).canSerializeStreams())
+			return 0;
+		return super.match(session);
+	}
+}
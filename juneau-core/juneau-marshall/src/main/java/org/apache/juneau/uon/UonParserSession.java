@@ -210,12 +210,14 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 				throw new ParseException(this, "Expected ''null'' for void value, but was ''{0}''.", s);
 		} else if (sType.isObject()) {
 			if (c == '(') {
-				ObjectMap m = new ObjectMap(this);
+				ObjectMap m = newObjectMap();
 				parseIntoMap(r, m, string(), object(), pMeta);
 				o = cast(m, pMeta, eType);
 			} else if (c == '@') {
-				Collection l = new ObjectList(this);
+				Collection l = newObjectList();
 				o = parseIntoCollection(r, l, sType, isUrlParamValue, pMeta);
+			} else if (! isUrlParamValue && (o = readNumber(r, Number.class)) != null) {
+				// Plain number read directly from the input.
 			} else {
 				String s = parseString(r, isUrlParamValue);
 				if (c != '\'') {
@@ -240,11 +242,11 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 		} else if (sType.isNumber()) {
 			o = parseNumber(r, (Class<? extends Number>)sType.getInnerClass());
 		} else if (sType.isMap()) {
-			Map m = (sType.canCreateNewInstance(outer) ? (Map)sType.newInstance(outer) : new ObjectMap(this));
+			Map m = (sType.canCreateNewInstance(outer) ? (Map)sType.newInstance(outer) : newObjectMap());
 			o = parseIntoMap(r, m, sType.getKeyType(), sType.getValueType(), pMeta);
 		} else if (sType.isCollection()) {
 			if (c == '(') {
-				ObjectMap m = new ObjectMap(this);
+				ObjectMap m = newObjectMap();
 				parseIntoMap(r, m, string(), object(), pMeta);
 				// Handle case where it's a collection, but serialized as a map with a _type or _value key.
 				if (m.containsKey(getBeanTypePropertyName(sType)))
@@ -254,7 +256,7 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 					Collection l = (
 						sType.canCreateNewInstance(outer)
 						? (Collection)sType.newInstance(outer)
-						: new ObjectList(this)
+						: newObjectList()
 					);
 					l.add(m.cast(sType.getElementType()));
 					o = l;
@@ -263,7 +265,7 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 				Collection l = (
 					sType.canCreateNewInstance(outer)
 					? (Collection)sType.newInstance(outer)
-					: new ObjectList(this)
+					: newObjectList()
 				);
 				o = parseIntoCollection(r, l, sType, isUrlParamValue, pMeta);
 			}
@@ -281,7 +283,7 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 				o = sType.newInstanceFromString(outer, s);
 		} else if (sType.isArray() || sType.isArgs()) {
 			if (c == '(') {
-				ObjectMap m = new ObjectMap(this);
+				ObjectMap m = newObjectMap();
 				parseIntoMap(r, m, string(), object(), pMeta);
 				// Handle case where it's an array, but serialized as a map with a _type or _value key.
 				if (m.containsKey(getBeanTypePropertyName(sType)))
@@ -298,7 +300,7 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 			}
 		} else if (c == '(') {
 			// It could be a non-bean with _type attribute.
-			ObjectMap m = new ObjectMap(this);
+			ObjectMap m = newObjectMap();
 			parseIntoMap(r, m, string(), object(), pMeta);
 			if (m.containsKey(getBeanTypePropertyName(sType)))
 				o = cast(m, pMeta, eType);
@@ -532,7 +534,7 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 						else {
 							r.unread();
 							mark();
-							currAttr = parseAttrName(r, decoding);
+							currAttr = parseAttrName(r, decoding, m.getMeta().getPropertyNameIndex());
 							if (currAttr == null) { // Value was '%00'
 								return null;
 							}
@@ -570,7 +572,10 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 								if (pMeta == null) {
 									onUnknownProperty(currAttr, m);
 									unmark();
-									parseAnything(object(), r.unread(), m.getBean(false), false, null); // Read content anyway to ignore it
+									if (isStrict())
+										parseAnything(object(), r.unread(), m.getBean(false), false, null); // Read content anyway to ignore it
+									else
+										skipValue(r.unread());
 								} else {
 									unmark();
 									setCurrentProperty(pMeta);
@@ -640,13 +645,28 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 	 * @throws ParseException Attribute name was malformed.
 	 */
 	protected final String parseAttrName(UonReader r, boolean encoded) throws IOException, ParseException {
+		return parseAttrName(r, encoded, null);
+	}
+
+	/**
+	 * Same as {@link #parseAttrName(UonReader, boolean)} except names found in the specified index (e.g. bean property
+	 * names) are returned without creating new strings.
+	 *
+	 * @param r The reader.
+	 * @param encoded Whether the attribute is encoded.
+	 * @param names The index of known names.  Can be <jk>null</jk>.
+	 * @return The parsed attribute name.
+	 * @throws IOException Exception thrown by underlying stream.
+	 * @throws ParseException Attribute name was malformed.
+	 */
+	protected final String parseAttrName(UonReader r, boolean encoded, StringIndex names) throws IOException, ParseException {
 
 		// If string is of form 'xxx', we're looking for ' at the end.
 		// Otherwise, we're looking for '&' or '=' or WS or -1 denoting the end of this string.
 
 		int c = r.peekSkipWs();
 		if (c == '\'')
-			return parsePString(r);
+			return parsePString(r, names);
 
 		r.mark();
 		boolean isInEscape = false;
@@ -657,7 +677,7 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 					if (c == AMP || c == EQ || c == -1 || Character.isWhitespace(c)) {
 						if (c != -1)
 							r.unread();
-						String s = r.getMarked();
+						String s = r.getMarked(0, 0, names);
 						return ("null".equals(s) ? null : s);
 					}
 				}
@@ -674,7 +694,7 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 					if (c == '=' || c == -1 || Character.isWhitespace(c)) {
 						if (c != -1)
 							r.unread();
-						String s = r.getMarked();
+						String s = r.getMarked(0, 0, names);
 						return ("null".equals(s) ? null : trim(s));
 					}
 				}
@@ -754,11 +774,86 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 	private static final AsciiSet endCharsParam = AsciiSet.create(""+AMP), endCharsNormal = AsciiSet.create(",)"+AMP);
 
 
+	/*
+	 * Moves the position beyond the value at the current position without creating any objects.
+	 * Used for ignoring the values of unknown bean properties.
+	 * Only parentheses, quotes, and escapes are tracked, so the syntax of the skipped value isn't validated.
+	 */
+	private void skipValue(UonReader r) throws IOException, ParseException {
+		int c = r.peekSkipWs();
+
+		if (c == '\'') {
+			r.read();
+			skipPString(r);
+			return;
+		}
+
+		if (c == '@') {
+			r.read();
+			c = r.peek();
+		}
+
+		if (c == '(') {
+			r.read();
+			int depth = 1;
+			boolean valueStart = true;  // Quotes only start strings at the beginning of names and values.
+			while ((c = r.read()) != -1) {
+				if (c == '~' && escapedChars.contains(r.peek())) {
+					r.read();
+					valueStart = false;
+				} else if (c == '\'' && valueStart) {
+					skipPString(r);
+					valueStart = false;
+				} else if (c == '(') {
+					depth++;
+					valueStart = true;
+				} else if (c == ')') {
+					if (--depth == 0)
+						return;
+					valueStart = false;
+				} else if (c == ',' || c == '=' || c == EQ) {
+					valueStart = true;
+				} else if (c != '@' && ! Character.isWhitespace(c)) {
+					valueStart = false;
+				}
+			}
+			throw new ParseException(this, "Could not find end of object or array.");
+		}
+
+		// Plain strings, numbers, and keywords.
+		while ((c = r.read()) != -1) {
+			if (c == '~' && escapedChars.contains(r.peek())) {
+				r.read();
+			} else if (endCharsNormal.contains(c)) {
+				r.unread();
+				return;
+			}
+		}
+	}
+
+	/*
+	 * Moves the position beyond the end of a string of the form "'foo'" whose opening quote has already been read.
+	 */
+	private void skipPString(UonReader r) throws IOException, ParseException {
+		int c;
+		while ((c = r.read()) != -1) {
+			if (c == '~' && escapedChars.contains(r.peek()))
+				r.read();
+			else if (c == '\'')
+				return;
+		}
+		throw new ParseException(this, "Unmatched parenthesis");
+	}
+
 	/*
 	 * Parses a string of the form "'foo'"
 	 * All whitespace within parenthesis are preserved.
 	 */
 	private String parsePString(UonReader r) throws IOException, ParseException {
+		return parsePString(r, null);
+	}
+
+	private String parsePString(UonReader r, StringIndex names) throws IOException, ParseException {
 
 		r.read(); // Skip first quote.
 		r.mark();
@@ -769,7 +864,7 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 			c = r.read();
 			if (! isInEscape) {
 				if (c == '\'')
-					return trim(r.getMarked(0, -1));
+					return trim(r.getMarked(0, -1, names));
 			}
 			if (c == EQ)
 				r.replace('=');
@@ -790,6 +885,9 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 	}
 
 	private Number parseNumber(UonReader r, Class<? extends Number> c) throws IOException, ParseException {
+		Number n = readNumber(r, c);
+		if (n != null)
+			return n;
 		String s = parseString(r, false);
 		if (s == null)
 			return null;
@@ -812,6 +910,20 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 		}
 	}
 
+	/*
+	 * Reads a plain number directly from the input without creating an intermediate string.
+	 * Returns null if the value needs to go through parseString() (e.g. it contains escapes or isn't a plain number).
+	 */
+	private static Number readNumber(UonReader r, Class<? extends Number> c) throws IOException {
+		int c2 = r.peekSkipWs();
+		if (! ((c2 >= '0' && c2 <= '9') || c2 == '-'))
+			return null;
+		Number n = StringUtils.readNumber(r, c, endCharsNormal);
+		if (n != null)
+			skipSpace(r);
+		return n;
+	}
+
 	private static void skipSpace(ParserReader r) throws IOException {
 		int c = 0;
 		while ((c = r.read()) != -1) {
@@ -19,6 +19,7 @@ import org.apache.juneau.*;
 import org.apache.juneau.httppart.*;
 import org.apache.juneau.internal.*;
 import org.apache.juneau.serializer.*;
+import org.apache.juneau.serializer.BeanSerializerPlan.*;
 import org.apache.juneau.transform.*;
 
 /**
@@ -208,39 +209,130 @@ public class UonSerializerSession extends WriterSerializerSession implements Htt
 		if (! plainTextParams)
 			out.append('(');
 
-		boolean addComma = false;
+		BeanSerializerPlan plan = getBeanSerializerPlan(m, BeanSerializerPlan::new);
+		if (plan != null)
+			serializeBeanProperties(out, m, typeName, plan);
+		else
+			serializeBeanProperties(out, m, typeName);
+
+		if (m.size() > 0)
+			out.cre(indent-1);
+		if (! plainTextParams)
+			out.append(')');
 
+		return out;
+	}
+
+	private void serializeBeanProperties(UonWriter out, BeanMap<?> m, String typeName) throws IOException, SerializeException {
+		boolean addComma = false;
 		for (BeanPropertyValue p : m.getValues(isTrimNullProperties(), typeName != null ? createBeanTypeNameProperty(m, typeName) : null)) {
 			BeanPropertyMeta pMeta = p.getMeta();
 			if (pMeta.canRead()) {
 				ClassMeta<?> cMeta = p.getClassMeta();
 
 				String key = p.getName();
-				Object value = p.getValue();
 				Throwable t = p.getThrown();
 				if (t != null)
 					onBeanGetterException(pMeta, t);
 
-				if (canIgnoreValue(cMeta, key, value))
+				// Unboxed primitives are never ignored and don't need to go through serializeAnything().
+				Class<?> pt = p.getPrimitiveType();
+				if (pt != null) {
+					if (addComma)
+						out.append(',');
+					out.cr(indent).appendObject(key, false).append('=');
+					if (pt == int.class)
+						out.appendNumber(p.getInt());
+					else if (pt == long.class)
+						out.appendNumber(p.getLong());
+					else if (pt == double.class)
+						out.appendNumber(p.getDouble());
+					else
+						out.appendBoolean(p.getBoolean());
+					addComma = true;
 					continue;
+				}
 
-				if (addComma)
-					out.append(',');
+				addComma = serializeBeanProperty(out, pMeta, key, p.getValue(), cMeta, addComma);
+			}
+		}
+	}
 
-				out.cr(indent).appendObject(key, false).append('=');
+	private void serializeBeanProperties(UonWriter out, BeanMap<?> m, String typeName, BeanSerializerPlan plan) throws IOException, SerializeException {
+		boolean addComma = false;
+		if (typeName != null) {
+			BeanPropertyMeta tp = m.getMeta().getTypeProperty();
+			addComma = serializeBeanProperty(out, tp, tp.getName(), typeName, tp.getClassMeta(), addComma);
+		}
 
-				serializeAnything(out, value, cMeta, key, pMeta);
+		for (Property p : plan.getProperties()) {
+			BeanPropertyMeta pMeta = p.getMeta();
+			String key = p.getName();
+			Kind k = p.getKind();
 
+			if (k == Kind.OTHER) {
+				addComma = serializeBeanProperty(out, pMeta, key, getBeanPropertyValue(m, pMeta), p.getClassMeta(), addComma);
+				continue;
+			}
+
+			if (k == Kind.STRING) {
+				Object value = getBeanPropertyValue(m, pMeta);
+				if (value == null) {
+					addComma = serializeBeanProperty(out, pMeta, key, null, p.getClassMeta(), addComma);
+					continue;
+				}
+				if (addComma)
+					out.append(',');
+				out.cr(indent).appendObject(key, false).append('=').appendObject(value, false);
 				addComma = true;
+				continue;
 			}
+
+			// Unboxed primitives are never ignored unless the getter throws an exception.
+			long l = 0;
+			double d = 0;
+			boolean b = false;
+			try {
+				if (k == Kind.INT)
+					l = pMeta.getInt(m);
+				else if (k == Kind.LONG)
+					l = pMeta.getLong(m);
+				else if (k == Kind.DOUBLE)
+					d = pMeta.getDouble(m);
+				else
+					b = pMeta.getBoolean(m);
+			} catch (Error e) {
+				throw e;
+			} catch (Throwable t) {
+				onBeanGetterException(pMeta, t);
+				addComma = serializeBeanProperty(out, pMeta, key, null, p.getClassMeta(), addComma);
+				continue;
+			}
+			if (addComma)
+				out.append(',');
+			out.cr(indent).appendObject(key, false).append('=');
+			if (k == Kind.INT || k == Kind.LONG)
+				out.appendNumber(l);
+			else if (k == Kind.DOUBLE)
+				out.appendNumber(d);
+			else
+				out.appendBoolean(b);
+			addComma = true;
 		}
+	}
 
-		if (m.size() > 0)
-			out.cre(indent-1);
-		if (! plainTextParams)
-			out.append(')');
+	private boolean serializeBeanProperty(UonWriter out, BeanPropertyMeta pMeta, String key, Object value, ClassMeta<?> cMeta, boolean addComma) throws IOException, SerializeException {
+		if (canIgnoreValue(cMeta, key, value))
+			return addComma;
 
-		return out;
+		if (addComma)
+			out.append(',');
+
+		out.cr(indent).appendObject(key, false).append('=');
+
+		serializeAnything(out, value, cMeta, key, pMeta);
+
+		return true;
 	}
 
 	@SuppressWarnings({ "rawtypes", "unchecked" })
@@ -91,11 +91,19 @@ public final class UonWriter extends SerializerWriter {
 
 		if (needsQuotes)
 			append('\'');
-		for (int i = 0; i < s.length(); i++) {
+
+		// Copy runs of characters that don't need escaping or encoding in bulk.
+		int len = s.length(), start = 0;
+		for (int i = 0; i < len; i++) {
 			char c = s.charAt(i);
-			if (esc.contains(c))
+			boolean isEscaped = esc.contains(c), isUnencoded = (! encodeChars) || unenc.contains(c);
+			if (isUnencoded && ! isEscaped)
+				continue;
+			if (i > start)
+				out.write(s, start, i - start);
+			if (isEscaped)
 				append('~');
-			if ((!encodeChars) || unenc.contains(c))
+			if (isUnencoded)
 				append(c);
 			else {
 				if (c == ' ')
@@ -117,7 +125,13 @@ public final class UonWriter extends SerializerWriter {
 					}
 				}
 			}
+			start = i + 1;
 		}
+		if (start == 0)
+			out.write(s);
+		else if (start < len)
+			out.write(s, start, len - start);
+
 		if (needsQuotes)
 			append('\'');
 
@@ -148,6 +162,42 @@ public final class UonWriter extends SerializerWriter {
 		return this;
 	}
 
+	/**
+	 * Appends a <jk>long</jk> value to the output.
+	 *
+	 * @param l The numeric value to append to the output.
+	 * @return This object (for method chaining).
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	protected UonWriter appendNumber(long l) throws IOException {
+		appendLong(l);
+		return this;
+	}
+
+	/**
+	 * Appends a <jk>double</jk> value to the output.
+	 *
+	 * @param d The numeric value to append to the output.
+	 * @return This object (for method chaining).
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	protected UonWriter appendNumber(double d) throws IOException {
+		append(Double.toString(d));
+		return this;
+	}
+
+	/**
+	 * Appends a <jk>boolean</jk> value to the output.
+	 *
+	 * @param b The boolean value to append to the output.
+	 * @return This object (for method chaining).
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	protected UonWriter appendBoolean(boolean b) throws IOException {
+		append(b ? "true" : "false");
+		return this;
+	}
+
 	/**
 	 * Prints out a two-byte %xx sequence for the given byte value.
 	 */
@@ -0,0 +1,273 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.utils;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.marshall.*;
+
+/**
+ * A lock-free, fixed-size histogram of execution times.
+ *
+ * <p>
+ * Times are recorded with microsecond resolution into log-linear buckets:  times under 16&micro;s get their own
+ * bucket, and each power-of-two range above that is split into 16 equal buckets.
+ * <br>This keeps the error of reported percentiles under about 6% while using a fixed 464 buckets to cover times up
+ * to about 71 minutes.  Longer times are recorded in the highest bucket.
+ *
+ * <p>
+ * In addition to the counts since the histogram was created, counts are kept in a ring of 15-second slots so that
+ * percentiles can be reported over the last minute ({@link #getLastMinute()}) or the last five minutes
+ * ({@link #getLast5Minutes()}).
+ *
+ * <p>
+ * Recording a time is a handful of atomic increments and doesn't allocate, so it's cheap enough to be left enabled.
+ * <br>Reads are not atomic with respect to concurrent writes, so snapshots may be off by the few times recorded while
+ * the snapshot was being taken.
+ */
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 4, SUB_BUCKETS = 1 << SUB_BUCKET_BITS, MAX_EXPONENT = 31;
+
+	/** The number of buckets in the histogram. */
+	static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+	private static final long SLOT_NANOS = TimeUnit.SECONDS.toNanos(15);
+	private static final int SLOTS = 21;  // 5 minutes plus the slot currently being filled.
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+	private final AtomicLong max = new AtomicLong();
+	private final Slot[] slots = new Slot[SLOTS];
+
+	private static final class Slot {
+		final AtomicLong epoch = new AtomicLong(Long.MIN_VALUE);
+		final AtomicIntegerArray counts = new AtomicIntegerArray(BUCKETS);
+	}
+
+	/**
+	 * Constructor.
+	 */
+	public LatencyHistogram() {
+		for (int i = 0; i < SLOTS; i++)
+			slots[i] = new Slot();
+	}
+
+	/**
+	 * Records an execution time.
+	 *
+	 * @param nanoTime The execution time in nanoseconds.
+	 */
+	public void record(long nanoTime) {
+		long micros = Math.max(nanoTime, 0) / 1_000;
+		int i = bucket(micros);
+		counts.incrementAndGet(i);
+		long m = max.get();
+		while (micros > m && ! max.compareAndSet(m, micros))
+			m = max.get();
+
+		long epoch = Math.floorDiv(nanoTime(), SLOT_NANOS);
+		Slot s = slots[(int)Math.floorMod(epoch, SLOTS)];
+		long e = s.epoch.get();
+		if (e != epoch && s.epoch.compareAndSet(e, epoch))
+			for (int j = 0; j < BUCKETS; j++)
+				s.counts.set(j, 0);
+		s.counts.incrementAndGet(i);
+	}
+
+	/**
+	 * Returns percentiles over all times recorded since this histogram was created.
+	 *
+	 * @return A snapshot of this histogram.
+	 */
+	public Snapshot getAllTime() {
+		long[] c = new long[BUCKETS];
+		for (int i = 0; i < BUCKETS; i++)
+			c[i] = counts.get(i);
+		return new Snapshot(c, max.get());
+	}
+
+	/**
+	 * Returns percentiles over the times recorded in roughly the last minute.
+	 *
+	 * @return A snapshot of this histogram.
+	 */
+	public Snapshot getLastMinute() {
+		return getWindow(4);
+	}
+
+	/**
+	 * Returns percentiles over the times recorded in roughly the last five minutes.
+	 *
+	 * @return A snapshot of this histogram.
+	 */
+	public Snapshot getLast5Minutes() {
+		return getWindow(20);
+	}
+
+	/**
+	 * Returns the current time in nanoseconds.
+	 *
+	 * <p>
+	 * Used to determine which window slot a time is recorded in.
+	 * <br>Can be overridden for testing.
+	 *
+	 * @return The current value of {@link System#nanoTime()}.
+	 */
+	protected long nanoTime() {
+		return System.nanoTime();
+	}
+
+	// Sums the slot currently being filled plus the specified number of complete slots before it.
+	private Snapshot getWindow(int completeSlots) {
+		long now = Math.floorDiv(nanoTime(), SLOT_NANOS);
+		long[] c = new long[BUCKETS];
+		for (Slot s : slots) {
+			long e = s.epoch.get();
+			if (e <= now && e >= now - completeSlots)
+				for (int i = 0; i < BUCKETS; i++)
+					c[i] += s.counts.get(i);
+		}
+		return new Snapshot(c, -1);
+	}
+
+	static int bucket(long micros) {
+		if (micros < SUB_BUCKETS)
+			return (int)micros;
+		int exp = 63 - Long.numberOfLeadingZeros(micros);
+		if (exp > MAX_EXPONENT)
+			return BUCKETS - 1;
+		int mantissa = (int)(micros >>> (exp - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return (exp - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + mantissa;
+	}
+
+	// Returns the highest time in microseconds that's recorded in the specified bucket.
+	static long bucketUpperBound(int bucket) {
+		if (bucket < SUB_BUCKETS)
+			return bucket;
+		int exp = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1, mantissa = bucket % SUB_BUCKETS;
+		int shift = exp - SUB_BUCKET_BITS;
+		return ((long)(SUB_BUCKETS + mantissa + 1) << shift) - 1;
+	}
+
+	/**
+	 * An immutable view of the percentiles of a {@link LatencyHistogram}.
+	 *
+	 * <p>
+	 * All times are in milliseconds.
+	 */
+	@Bean(bpi="count,p50,p90,p99,p999,max")
+	public static final class Snapshot {
+		private final long[] counts;
+		private final long count, max;
+
+		Snapshot(long[] counts, long max) {
+			long n = 0;
+			int last = -1;
+			for (int i = 0; i < counts.length; i++) {
+				n += counts[i];
+				if (counts[i] > 0)
+					last = i;
+			}
+			this.counts = counts;
+			this.count = n;
+			this.max = max >= 0 ? max : last == -1 ? 0 : bucketUpperBound(last);
+		}
+
+		/**
+		 * Returns the number of times recorded.
+		 *
+		 * @return The number of times recorded.
+		 */
+		public long getCount() {
+			return count;
+		}
+
+		/**
+		 * Returns the time below which the specified fraction of recorded times fall.
+		 *
+		 * @param percentile The percentile as a value between <c>0</c> and <c>100</c> (e.g. <c>99.9</c>).
+		 * @return The time in milliseconds, or <c>0</c> if nothing was recorded.
+		 */
+		public float getPercentile(double percentile) {
+			if (count == 0)
+				return 0;
+			long target = Math.max(1, (long)Math.ceil(count * Math.min(percentile, 100) / 100));
+			long n = 0;
+			for (int i = 0; i < counts.length; i++) {
+				n += counts[i];
+				if (n >= target)
+					return toMillis(Math.min(bucketUpperBound(i), max));
+			}
+			return toMillis(max);
+		}
+
+		/**
+		 * Returns the median time.
+		 *
+		 * @return The median time in milliseconds.
+		 */
+		public float getP50() {
+			return getPercentile(50);
+		}
+
+		/**
+		 * Returns the 90th percentile time.
+		 *
+		 * @return The 90th percentile time in milliseconds.
+		 */
+		public float getP90() {
+			return getPercentile(90);
+		}
+
+		/**
+		 * Returns the 99th percentile time.
+		 *
+		 * @return The 99th percentile time in milliseconds.
+		 */
+		public float getP99() {
+			return getPercentile(99);
+		}
+
+		/**
+		 * Returns the 99.9th percentile time.
+		 *
+		 * @return The 99.9th percentile time in milliseconds.
+		 */
+		public float getP999() {
+			return getPercentile(99.9);
+		}
+
+		/**
+		 * Returns the maximum time.
+		 *
+		 * <p>
+		 * For windowed snapshots, this is the upper bound of the highest bucket containing a time.
+		 *
+		 * @return The maximum time in milliseconds.
+		 */
+		public float getMax() {
+			return toMillis(max);
+		}
+
+		private static float toMillis(long micros) {
+			return micros / 1_000f;
+		}
+
+		@Override /* Object */
+		public String toString() {
+			return SimpleJson.DEFAULT.toString(this);
+		}
+	}
+}
@@ -23,13 +23,15 @@ import org.apache.juneau.marshall.*;
  * Basic timing information.
  *
  * Keeps track of number of starts/finishes on tasks and keeps an average run time.
+ *
+ * <p>
+ * Execution times are also recorded in a {@link LatencyHistogram} so that percentiles can be reported since startup
+ * and over the last one and five minutes.
  */
-@Bean(bpi="method,runs,running,errors,minTime,maxTime,avgTime,totalTime,exceptions")
+@Bean(bpi="method,runs,running,errors,minTime,maxTime,avgTime,totalTime,latency,latency1m,latency5m,exceptions")
 public class MethodExecStats implements Comparable<MethodExecStats> {
 
 	private String method;
-	private WeightedAverage avgTime = new WeightedAverage();
-	private volatile int minTime = -1, maxTime;
 
 	private AtomicInteger
 		starts = new AtomicInteger(),
@@ -37,7 +39,11 @@ public class MethodExecStats implements Comparable<MethodExecStats> {
 		errors = new AtomicInteger();
 
 	private AtomicLong
-		totalTime = new AtomicLong();
+		totalTime = new AtomicLong(),
+		minTime = new AtomicLong(Long.MAX_VALUE),
+		maxTime = new AtomicLong();
+
+	private final LatencyHistogram latency = new LatencyHistogram();
 
 	private StackTraceDatabase stackTraceDb;
 
@@ -73,12 +79,11 @@ public class MethodExecStats implements Comparable<MethodExecStats> {
 	 * @param nanoTime The execution time of the task in nanoseconds.
 	 */
 	public void finished(long nanoTime) {
-		finishes.incrementAndGet();
-		int milliTime = (int)(nanoTime/1_000_000);
 		totalTime.addAndGet(nanoTime);
-		avgTime.add(1, nanoTime);
-		minTime = minTime == -1 ? milliTime : Math.min(minTime, milliTime);
-		maxTime = Math.max(maxTime, milliTime);
+		finishes.incrementAndGet();
+		minTime.accumulateAndGet(nanoTime, Math::min);
+		maxTime.accumulateAndGet(nanoTime, Math::max);
+		latency.record(nanoTime);
 	}
 
 	/**
@@ -132,7 +137,8 @@ public class MethodExecStats implements Comparable<MethodExecStats> {
 	 * @return The average execution time in milliseconds.
 	 */
 	public int getMinTime() {
-		return minTime == -1 ? 0 : minTime;
+		long l = minTime.get();
+		return l == Long.MAX_VALUE ? 0 : (int)(l / 1_000_000);
 	}
 
 	/**
@@ -141,7 +147,7 @@ public class MethodExecStats implements Comparable<MethodExecStats> {
 	 * @return The average execution time in milliseconds.
 	 */
 	public int getMaxTime() {
-		return maxTime;
+		return (int)(maxTime.get() / 1_000_000);
 	}
 
 	/**
@@ -150,7 +156,8 @@ public class MethodExecStats implements Comparable<MethodExecStats> {
 	 * @return The average execution time in milliseconds.
 	 */
 	public int getAvgTime() {
-		return (int)avgTime.getValue() / 1_000_000;
+		int f = finishes.get();
+		return f == 0 ? 0 : (int)(totalTime.get() / f / 1_000_000);
 	}
 
 	/**
@@ -162,6 +169,43 @@ public class MethodExecStats implements Comparable<MethodExecStats> {
 		return totalTime.get() / 1_000_000;
 	}
 
+	/**
+	 * Returns execution time percentiles since startup.
+	 *
+	 * @return Execution time percentiles since startup.
+	 */
+	public LatencyHistogram.Snapshot getLatency() {
+		return latency.getAllTime();
+	}
+
+	/**
+	 * Returns execution time percentiles over roughly the last minute.
+	 *
+	 * @return Execution time percentiles over roughly the last minute.
+	 */
+	public LatencyHistogram.Snapshot getLatency1m() {
+		return latency.getLastMinute();
+	}
+
+	/**
+	 * Returns execution time percentiles over roughly the last five minutes.
+	 *
+	 * @return Execution time percentiles over roughly the last five minutes.
+	 */
+	public LatencyHistogram.Snapshot getLatency5m() {
+		return latency.getLast5Minutes();
+	}
+
+	/**
+	 * Returns the histogram that execution times are recorded in.
+	 *
+	 * @return The histogram that execution times are recorded in.
+	 */
+	@BeanIgnore
+	public LatencyHistogram getLatencyHistogram() {
+		return latency;
+	}
+
 	/**
 	 * Returns information on all stack traces of all exceptions encountered.
 	 *
@@ -0,0 +1,65 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.xml;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.serializer.*;
+
+/**
+ * Serialization plan for beans used by {@link XmlSerializerSession}.
+ *
+ * <p>
+ * Resolves which properties are rendered as attributes, elements, or content once per bean class so that the
+ * attribute and element name sets don't need to be searched for every bean instance.
+ * <br>All arrays are parallel to {@link #getProperties()}.
+ */
+final class XmlBeanSerializerPlan extends BeanSerializerPlan {
+
+	final XmlBeanMeta xmlBeanMeta;
+	final XmlBeanPropertyMeta[] xmlMetas;
+	final boolean[] attr, attrsProperty, contentProperty, element;
+	final boolean hasContentProperty;
+
+	XmlBeanSerializerPlan(BeanMeta<?> bm, XmlMetaProvider mp) {
+		super(bm);
+		this.xmlBeanMeta = mp.getXmlBeanMeta(bm);
+
+		Set<String>
+			attrs = xmlBeanMeta.getAttrPropertyNames(),
+			elements = xmlBeanMeta.getElementPropertyNames(),
+			collapsedElements = xmlBeanMeta.getCollapsedPropertyNames();
+		String
+			attrsPropertyName = xmlBeanMeta.getAttrsPropertyName(),
+			contentPropertyName = xmlBeanMeta.getContentPropertyName();
+
+		Property[] pp = getProperties();
+		int len = pp.length;
+		this.xmlMetas = new XmlBeanPropertyMeta[len];
+		this.attr = new boolean[len];
+		this.attrsProperty = new boolean[len];
+		this.contentProperty = new boolean[len];
+		this.element = new boolean[len];
+		this.hasContentProperty = contentPropertyName != null;
+
+		for (int i = 0; i < len; i++) {
+			String n = pp[i].getName();
+			xmlMetas[i] = mp.getXmlBeanPropertyMeta(pp[i].getMeta());
+			attrsProperty[i] = n.equals(attrsPropertyName);
+			attr[i] = attrs.contains(n) || attrs.contains("*") || attrsProperty[i];
+			contentProperty[i] = n.equals(contentPropertyName);
+			element[i] = ! contentProperty[i] && (elements.contains(n) || collapsedElements.contains(n) || elements.contains("*") || collapsedElements.contains("*"));
+		}
+	}
+}
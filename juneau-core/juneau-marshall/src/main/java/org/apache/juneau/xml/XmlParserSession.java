@@ -322,13 +322,13 @@ public class XmlParserSession extends ReaderParserSession {
 
 		if (sType.isObject()) {
 			if (jsonType == OBJECT) {
-				ObjectMap m = new ObjectMap(this);
-				parseIntoMap(r, m, string(), object(), pMeta);
+				ObjectMap m = newObjectMap();
+				parseIntoMap(r, m, string(), object(), pMeta, eType);
 				if (wrapperAttr != null)
-					m = new ObjectMap(this).append(wrapperAttr, m);
+					m = newObjectMap().append(wrapperAttr, m);
 				o = cast(m, pMeta, eType);
 			} else if (jsonType == ARRAY)
-				o = parseIntoCollection(r, new ObjectList(this), null, pMeta);
+				o = parseIntoCollection(r, newObjectList(), null, pMeta);
 			else if (jsonType == STRING) {
 				o = getElementText(r);
 				if (sType.isChar())
@@ -347,12 +347,12 @@ public class XmlParserSession extends ReaderParserSession {
 		} else if (sType.isChar()) {
 			o = parseCharacter(getElementText(r));
 		} else if (sType.isMap()) {
-			Map m = (sType.canCreateNewInstance(outer) ? (Map)sType.newInstance(outer) : new ObjectMap(this));
-			o = parseIntoMap(r, m, sType.getKeyType(), sType.getValueType(), pMeta);
+			Map m = (sType.canCreateNewInstance(outer) ? (Map)sType.newInstance(outer) : newObjectMap());
+			o = parseIntoMap(r, m, sType.getKeyType(), sType.getValueType(), pMeta, eType);
 			if (wrapperAttr != null)
-				o = new ObjectMap(this).append(wrapperAttr, m);
+				o = newObjectMap().append(wrapperAttr, m);
 		} else if (sType.isCollection()) {
-			Collection l = (sType.canCreateNewInstance(outer) ? (Collection)sType.newInstance(outer) : new ObjectList(this));
+			Collection l = (sType.canCreateNewInstance(outer) ? (Collection)sType.newInstance(outer) : newObjectList());
 			o = parseIntoCollection(r, l, sType, pMeta);
 		} else if (sType.isNumber()) {
 			o = parseNumber(getElementText(r), (Class<? extends Number>)sType.getInnerClass());
@@ -392,12 +392,12 @@ public class XmlParserSession extends ReaderParserSession {
 	}
 
 	private <K,V> Map<K,V> parseIntoMap(XmlReader r, Map<K,V> m, ClassMeta<K> keyType,
-			ClassMeta<V> valueType, BeanPropertyMeta pMeta) throws IOException, ParseException, ExecutableException, XMLStreamException {
+			ClassMeta<V> valueType, BeanPropertyMeta pMeta, ClassMeta<?> eType) throws IOException, ParseException, ExecutableException, XMLStreamException {
 		int depth = 0;
 		for (int i = 0; i < r.getAttributeCount(); i++) {
 			String a = r.getAttributeLocalName(i);
 			// TODO - Need better handling of namespaces here.
-			if (! (a.equals(getBeanTypePropertyName(null)))) {
+			if (! (a.equals(getBeanTypePropertyName(null))) && getProjection(a, eType) != null) {
 				K key = trim(convertAttrToType(m, a, keyType));
 				V value = trim(convertAttrToType(m, r.getAttributeValue(i), valueType));
 				setName(valueType, value, key);
@@ -410,6 +410,12 @@ public class XmlParserSession extends ReaderParserSession {
 			if (event == START_ELEMENT) {
 				depth++;
 				currAttr = getElementName(r);
+				ParserProjection pp = getProjection(), cp = getProjection(currAttr, eType);
+				if (cp == null) {
+					skipCurrentTag(r);
+					continue;
+				}
+				setProjection(cp);
 				K key = convertAttrToType(m, currAttr, keyType);
 				V value = parseAnything(valueType, currAttr, r, m, false, pMeta);
 				setName(valueType, value, currAttr);
@@ -422,6 +428,7 @@ public class XmlParserSession extends ReaderParserSession {
 				} else {
 					m.put(key, value);
 				}
+				setProjection(pp);
 			} else if (event == END_ELEMENT) {
 				depth--;
 				return m;
@@ -476,7 +483,7 @@ public class XmlParserSession extends ReaderParserSession {
 
 		for (int i = 0; i < r.getAttributeCount(); i++) {
 			String key = getAttributeName(r, i);
-			if (! "nil".equals(key)) {
+			if (! "nil".equals(key) && getProjection(key, m.getClassMeta()) != null) {
 				String val = r.getAttributeValue(i);
 				String ns = r.getAttributeNamespace(i);
 				BeanPropertyMeta bpm = xmlMeta.getPropertyMeta(key);
@@ -561,11 +568,15 @@ public class XmlParserSession extends ReaderParserSession {
 					cp.add(m, null, parseAnything(cpcm.getElementType(), cp.getName(), r, m.getBean(false), false, cp));
 				} else {
 					currAttr = getElementName(r);
-					BeanPropertyMeta pMeta = xmlMeta.getPropertyMeta(currAttr);
-					if (pMeta == null) {
+					ParserProjection pp = getProjection(), ep = getProjection(currAttr, m.getClassMeta());
+					BeanPropertyMeta pMeta = ep == null ? null : xmlMeta.getPropertyMeta(currAttr);
+					if (ep == null) {
+						skipCurrentTag(r);
+					} else if (pMeta == null) {
 						onUnknownProperty(currAttr, m);
 						skipCurrentTag(r);
 					} else {
+						setProjection(ep);
 						setCurrentProperty(pMeta);
 						XmlFormat xf = getXmlBeanPropertyMeta(pMeta).getXmlFormat();
 						if (xf == COLLAPSED) {
@@ -583,6 +594,7 @@ public class XmlParserSession extends ReaderParserSession {
 							pMeta.set(m, currAttr, value);
 						}
 						setCurrentProperty(null);
+						setProjection(pp);
 					}
 				}
 			} else if (event == END_ELEMENT) {
@@ -638,7 +650,7 @@ public class XmlParserSession extends ReaderParserSession {
 
 		// If this element has attributes, then it's always an ObjectMap.
 		if (r.getAttributeCount() > 0) {
-			m = new ObjectMap(this);
+			m = newObjectMap();
 			for (int i = 0; i < r.getAttributeCount(); i++) {
 				String key = getAttributeName(r, i);
 				String val = r.getAttributeValue(i);
@@ -659,7 +671,7 @@ public class XmlParserSession extends ReaderParserSession {
 				// Oops...this has an element in it.
 				// Parse it as a map.
 				if (m == null)
-					m = new ObjectMap(this);
+					m = newObjectMap();
 				int depth = 0;
 				do {
 					int event = (eventType == -1 ? r.nextTag() : eventType);
@@ -135,6 +135,11 @@ public class XmlSerializerSession extends WriterSerializerSession {
 		serializeAnything(getXmlWriter(out), o, getExpectedRootType(o), null, null, isEnableNamespaces() && isAddNamespaceUrisToRoot(), XmlFormat.DEFAULT, false, false, null);
 	}
 
+	@Override /* SerializerSession */
+	public boolean canSerializeStreams() {
+		return ! isSortCollections();
+	}
+
 	/**
 	 * Recursively searches for the XML namespaces on the specified POJO and adds them to the serializer context object.
 	 *
@@ -309,8 +314,8 @@ public class XmlSerializerSession extends WriterSerializerSession {
 				isExpectedType = aType.isNumber();
 			else if (eType.isMap())
 				isExpectedType = aType.isMap();
-			else if (eType.isCollectionOrArray())
-				isExpectedType = aType.isCollectionOrArray();
+			else if (eType.isCollectionOrArray() || eType.isStream())
+				isExpectedType = aType.isCollectionOrArray() || aType.isStream();
 			else
 				isExpectedType = false;
 		}
@@ -342,7 +347,7 @@ public class XmlSerializerSession extends WriterSerializerSession {
 		} else if (sType.isMapOrBean()) {
 			isCollapsed = getXmlClassMeta(sType).getFormat() == COLLAPSED;
 			type = OBJECT;
-		} else if (sType.isCollectionOrArray()) {
+		} else if (sType.isCollectionOrArray() || sType.isStream()) {
 			isCollapsed = (format == COLLAPSED && ! addNamespaceUris);
 			type = ARRAY;
 		} else {
@@ -372,7 +377,7 @@ public class XmlSerializerSession extends WriterSerializerSession {
 		}
 
 		// Do we need a carriage return after the start tag?
-		boolean cr = o != null && (sType.isMapOrBean() || sType.isCollectionOrArray()) && ! isMixedOrText;
+		boolean cr = o != null && (sType.isMapOrBean() || sType.isCollectionOrArray() || sType.isStream()) && ! isMixedOrText;
 
 		String en = elementName;
 		if (en == null && ! isRaw) {
@@ -446,7 +451,7 @@ public class XmlSerializerSession extends WriterSerializerSession {
 				serializeCollection(out, o, sType, eType, pMeta, isMixedOrText);
 				if (isCollapsed)
 					this.indent++;
-			} else if (sType.isArray()) {
+			} else if (sType.isArray() || sType.isStream()) {
 				if (isCollapsed)
 					this.indent--;
 				serializeCollection(out, o, sType, eType, pMeta, isMixedOrText);
@@ -528,6 +533,11 @@ public class XmlSerializerSession extends WriterSerializerSession {
 
 	private ContentResult serializeBeanMap(XmlWriter out, BeanMap<?> m,
 			Namespace elementNs, boolean isCollapsed, boolean isMixedOrText) throws IOException, SerializeException {
+
+		XmlBeanSerializerPlan plan = getBeanSerializerPlan(m, x -> new XmlBeanSerializerPlan(x, ctx));
+		if (plan != null)
+			return serializeBeanMap(out, m, plan, elementNs, isCollapsed, isMixedOrText);
+
 		boolean hasChildren = false;
 		BeanMeta<?> bm = m.getMeta();
 
@@ -566,28 +576,7 @@ public class XmlSerializerSession extends WriterSerializerSession {
 					XmlBeanPropertyMeta bpXml = getXmlBeanPropertyMeta(pMeta);
 					Namespace ns = (isEnableNamespaces() && bpXml.getNamespace() != elementNs ? bpXml.getNamespace() : null);
 
-					if (pMeta.isUri()  ) {
-						out.attrUri(ns, key, value);
-					} else if (n.equals(attrsProperty)) {
-						if (value instanceof BeanMap) {
-							BeanMap<?> bm2 = (BeanMap)value;
-							for (BeanPropertyValue p2 : bm2.getValues(true)) {
-								String key2 = p2.getName();
-								Object value2 = p2.getValue();
-								Throwable t2 = p2.getThrown();
-								if (t2 != null)
-									onBeanGetterException(pMeta, t);
-								out.attr(ns, key2, value2);
-							}
-						} else /* Map */ {
-							Map m2 = (Map)value;
-							if (m2 != null)
-								for (Map.Entry e : (Set<Map.Entry>)(m2.entrySet()))
-									out.attr(ns, toString(e.getKey()), e.getValue());
-						}
-					} else {
-						out.attr(ns, key, value);
-					}
+					serializeBeanAttr(out, pMeta, ns, key, value, n.equals(attrsProperty));
 				}
 			}
 		}
@@ -639,7 +628,131 @@ public class XmlSerializerSession extends WriterSerializerSession {
 		if (contentProperty == null && ! hasContent)
 			return (hasChildren ? CR_ELEMENTS : isVoidElement ? CR_VOID : CR_EMPTY);
 
-		// Serialize XML content.
+		return serializeBeanContent(out, content, contentType, cf, isMixedOrText, preserveWhitespace);
+	}
+
+	@SuppressWarnings({"rawtypes","unchecked"})
+	private ContentResult serializeBeanMap(XmlWriter out, BeanMap<?> m, XmlBeanSerializerPlan plan,
+			Namespace elementNs, boolean isCollapsed, boolean isMixedOrText) throws IOException, SerializeException {
+		boolean hasChildren = false;
+		XmlBeanMeta xbm = plan.xmlBeanMeta;
+		BeanSerializerPlan.Property[] pp = plan.getProperties();
+		boolean trimNulls = isTrimNullProperties();
+
+		// Read each rendered property once.
+		// Properties whose getters threw exceptions are treated as null values that are never trimmed.
+		Object[] values = new Object[pp.length];
+		boolean[] present = new boolean[pp.length];
+		for (int i = 0; i < pp.length; i++) {
+			if (plan.attr[i] || plan.contentProperty[i] || plan.element[i]) {
+				BeanPropertyMeta pMeta = pp[i].getMeta();
+				try {
+					values[i] = pMeta.get(m, null);
+					present[i] = values[i] != null || ! trimNulls;
+				} catch (Error e) {
+					// Errors should always be uncaught.
+					throw e;
+				} catch (Throwable t) {
+					onBeanGetterException(pMeta, t);
+					present[i] = true;
+				}
+			}
+		}
+
+		for (int i = 0; i < pp.length; i++) {
+			if (plan.attr[i] && present[i]) {
+				BeanSerializerPlan.Property p = pp[i];
+				String key = p.getName();
+				Object value = values[i];
+
+				if (canIgnoreValue(p.getClassMeta(), key, value))
+					continue;
+
+				XmlBeanPropertyMeta bpXml = plan.xmlMetas[i];
+				Namespace ns = (isEnableNamespaces() && bpXml.getNamespace() != elementNs ? bpXml.getNamespace() : null);
+
+				serializeBeanAttr(out, p.getMeta(), ns, key, value, plan.attrsProperty[i]);
+			}
+		}
+
+		boolean
+			hasContent = false,
+			preserveWhitespace = false,
+			isVoidElement = xbm.getContentFormat() == VOID;
+
+		XmlFormat cf = null;
+		Object content = null;
+		ClassMeta<?> contentType = null;
+
+		for (int i = 0; i < pp.length; i++) {
+			if (! present[i])
+				continue;
+			BeanSerializerPlan.Property p = pp[i];
+			if (plan.contentProperty[i]) {
+				content = values[i];
+				contentType = p.getClassMeta();
+				hasContent = true;
+				cf = xbm.getContentFormat();
+				if (cf.isOneOf(MIXED,MIXED_PWS,TEXT,TEXT_PWS,XMLTEXT))
+					isMixedOrText = true;
+				if (cf.isOneOf(MIXED_PWS, TEXT_PWS))
+					preserveWhitespace = true;
+				if (contentType.isCollection() && ((Collection)content).isEmpty())
+					hasContent = false;
+				else if (contentType.isArray() && Array.getLength(content) == 0)
+					hasContent = false;
+			} else if (plan.element[i]) {
+				String key = p.getName();
+				Object value = values[i];
+				ClassMeta<?> cMeta = p.getClassMeta();
+
+				if (canIgnoreValue(cMeta, key, value))
+					continue;
+
+				if (! hasChildren) {
+					hasChildren = true;
+					out.appendIf(! isCollapsed, '>').nlIf(! isMixedOrText, indent);
+				}
+
+				XmlBeanPropertyMeta bpXml = plan.xmlMetas[i];
+				serializeAnything(out, value, cMeta, key, bpXml.getNamespace(), false, bpXml.getXmlFormat(), isMixedOrText, false, p.getMeta());
+			}
+		}
+		if (! plan.hasContentProperty && ! hasContent)
+			return (hasChildren ? CR_ELEMENTS : isVoidElement ? CR_VOID : CR_EMPTY);
+
+		return serializeBeanContent(out, content, contentType, cf, isMixedOrText, preserveWhitespace);
+	}
+
+	@SuppressWarnings({"rawtypes","unchecked"})
+	private void serializeBeanAttr(XmlWriter out, BeanPropertyMeta pMeta, Namespace ns, String key, Object value, boolean isAttrsProperty) throws IOException, SerializeException {
+		if (pMeta.isUri()  ) {
+			out.attrUri(ns, key, value);
+		} else if (isAttrsProperty) {
+			if (value instanceof BeanMap) {
+				BeanMap<?> bm2 = (BeanMap)value;
+				for (BeanPropertyValue p2 : bm2.getValues(true)) {
+					String key2 = p2.getName();
+					Object value2 = p2.getValue();
+					Throwable t2 = p2.getThrown();
+					if (t2 != null)
+						onBeanGetterException(pMeta, t2);
+					out.attr(ns, key2, value2);
+				}
+			} else /* Map */ {
+				Map m2 = (Map)value;
+				if (m2 != null)
+					for (Map.Entry e : (Set<Map.Entry>)(m2.entrySet()))
+						out.attr(ns, toString(e.getKey()), e.getValue());
+			}
+		} else {
+			out.attr(ns, key, value);
+		}
+	}
+
+	@SuppressWarnings("rawtypes")
+	private ContentResult serializeBeanContent(XmlWriter out, Object content, ClassMeta<?> contentType, XmlFormat cf,
+			boolean isMixedOrText, boolean preserveWhitespace) throws IOException, SerializeException {
 		if (content != null) {
 			out.append('>').nlIf(! isMixedOrText, indent);
 			if (contentType == null) {
@@ -669,10 +782,6 @@ public class XmlSerializerSession extends WriterSerializerSession {
 
 		ClassMeta<?> eeType = eType.getElementType();
 
-		Collection c = (sType.isCollection() ? (Collection)in : toList(sType.getInnerClass(), in));
-
-		c = sort(c);
-
 		String type2 = null;
 
 		String eName = type2;
@@ -684,6 +793,25 @@ public class XmlSerializerSession extends WriterSerializerSession {
 			eNs = bpXml.getNamespace();
 		}
 
+		if (sType.isStream()) {
+			int flushInterval = getStreamFlushInterval(), count = 0;
+			try {
+				for (Iterator i = toIterator(in); i.hasNext();) {
+					Object value = i.next();
+					serializeAnything(out, value, eeType, eName, eNs, false, XmlFormat.DEFAULT, isMixed, false, null);
+					if (flushInterval > 0 && ++count % flushInterval == 0)
+						out.flush();
+				}
+			} finally {
+				closeStream(in);
+			}
+			return out;
+		}
+
+		Collection c = (sType.isCollection() ? (Collection)in : toList(sType.getInnerClass(), in));
+
+		c = sort(c);
+
 		for (Iterator i = c.iterator(); i.hasNext();) {
 			Object value = i.next();
 			serializeAnything(out, value, eeType, eName, eNs, false, XmlFormat.DEFAULT, isMixed, false, null);
@@ -144,19 +144,8 @@ public final class XmlUtils {
 		try {
 			if (! needsTextEncoding(s))
 				return s;
-			final int len = s.length();
 			StringWriter sw = new StringWriter(s.length()*2);
-			for (int i = 0; i < len; i++) {
-				char c = s.charAt(i);
-				if ((i == 0 || i == len-1) && Character.isWhitespace(c))
-					appendPaddedHexChar(sw, c);
-				else if (c == '_' && isEscapeSequence(s,i))
-					appendPaddedHexChar(sw, c);
-				else if (isValidXmlCharacter(c))
-					sw.append(c);
-				else
-					appendPaddedHexChar(sw, c);
-			}
+			encode(sw, s, NO_REPLACE, true);
 			return sw.toString();
 		} catch (IOException e) {
 			throw new RuntimeException(e); // Never happens
@@ -193,26 +182,7 @@ public final class XmlUtils {
 		if (trim)
 			s = s.trim();
 
-		if (needsTextEncoding(s)) {
-			final int len = s.length();
-			for (int i = 0; i < len; i++) {
-				char c = s.charAt(i);
-				if ((i == 0 || i == len-1) && Character.isWhitespace(c) && ! preserveWhitespace)
-					appendPaddedHexChar(w, c);
-				else if (REPLACE_TEXT.contains(c))
-					w.append(REPLACE_TEXT.get(c));
-				else if (c == '_' && isEscapeSequence(s,i))
-					appendPaddedHexChar(w, c);
-				else if (isValidXmlCharacter(c))
-					w.append(c);
-				else
-					appendPaddedHexChar(w, c);
-			}
-		} else {
-			w.append(s);
-		}
-
-		return w;
+		return encode(w, s, REPLACE_TEXT, ! preserveWhitespace);
 	}
 
 	private static final boolean needsTextEncoding(String s) {
@@ -326,40 +296,7 @@ public final class XmlUtils {
 		if (trim)
 			s = s.trim();
 
-		if (needsAttrValueEncoding(s)) {
-			final int len = s.length();
-			for (int i = 0; i < len; i++) {
-				char c = s.charAt(i);
-				if ((i == 0 || i == len-1) && Character.isWhitespace(c))
-					appendPaddedHexChar(w, c);
-				else if (REPLACE_ATTR_VAL.contains(c))
-					w.append(REPLACE_ATTR_VAL.get(c));
-				else if (c == '_' && isEscapeSequence(s,i))
-					appendPaddedHexChar(w, c);
-				else if (isValidXmlCharacter(c))
-					w.append(c);
-				else
-					appendPaddedHexChar(w, c);
-			}
-		} else {
-			w.append(s);
-		}
-
-		return w;
-	}
-
-	private static final boolean needsAttrValueEncoding(String s) {
-		// See if we need to convert the string.
-		// Conversion is somewhat expensive, so make sure we need to do so before hand.
-		final int len = s.length();
-		for (int i = 0; i < len; i++) {
-			char c = s.charAt(i);
-			if ((i == 0 || i == len-1) && Character.isWhitespace(c))
-				return true;
-			if (REPLACE_ATTR_VAL.contains(c) || ! isValidXmlCharacter(c) || (c == '_' && isEscapeSequence(s,i)))
-				return true;
-		}
-		return false;
+		return encode(w, s, REPLACE_ATTR_VAL, true);
 	}
 
 	private static AsciiMap REPLACE_ATTR_VAL = new AsciiMap()
@@ -447,6 +384,38 @@ public final class XmlUtils {
 	// Other methods
 	//-----------------------------------------------------------------------------------------------------------------
 
+	private static AsciiMap NO_REPLACE = new AsciiMap();
+
+	// Encodes the specified string in a single pass, copying runs of characters that don't need encoding in bulk.
+	// Characters in the replacement map are written as their replacement values.
+	// Invalid XML characters, "_x####_" sequences, and optionally leading/trailing whitespace are written as "_x####_".
+	private static final Writer encode(Writer w, String s, AsciiMap replace, boolean encodeEdgeWhitespace) throws IOException {
+		final int len = s.length();
+		int start = 0;
+		for (int i = 0; i < len; i++) {
+			char c = s.charAt(i);
+			String r = null;
+			if (! (encodeEdgeWhitespace && (i == 0 || i == len-1) && Character.isWhitespace(c))) {
+				if (replace.contains(c))
+					r = replace.get(c);
+				else if (c == '_' ? ! isEscapeSequence(s,i) : isValidXmlCharacter(c))
+					continue;
+			}
+			if (i > start)
+				w.write(s, start, i - start);
+			if (r != null)
+				w.write(r);
+			else
+				appendPaddedHexChar(w, c);
+			start = i + 1;
+		}
+		if (start == 0)
+			w.write(s);
+		else if (start < len)
+			w.write(s, start, len - start);
+		return w;
+	}
+
 	// Returns true if the specified character can safely be used in XML text or an attribute.
 	private static final boolean isValidXmlCharacter(char c) {
 		return (c >= 0x20 && c <= 0xD7FF) /*|| c == 0xA || c == 0xD*/ || (c >= 0xE000 && c <= 0xFFFD);
@@ -0,0 +1,77 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import static org.apache.juneau.testutils.TestUtils.*;
+
+import org.apache.juneau.json.*;
+import org.apache.juneau.rest.*;
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.mock2.*;
+import org.junit.*;
+import org.junit.runners.*;
+
+/**
+ * Tests projection of request and response bodies.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class BodyProjectionTest {
+
+	public static class Bean {
+		public int f1, f2;
+		public Bean f3;
+
+		public static Bean create() {
+			Bean b = new Bean();
+			b.f1 = 1;
+			b.f2 = 2;
+			b.f3 = new Bean();
+			b.f3.f1 = 3;
+			b.f3.f2 = 4;
+			return b;
+		}
+	}
+
+	@Rest(serializers=JsonSerializer.class, parsers=JsonParser.class)
+	public static class A {
+		@RestMethod
+		public Bean getA01() {
+			return Bean.create();
+		}
+
+		@RestMethod
+		public Bean postA02(RestRequest req) throws Exception {
+			return req.getBody().projection("f1", "f3/f2").asType(Bean.class);
+		}
+	}
+
+	private static RestClient a = MockRestClient.create(A.class).json().build();
+
+	@Test
+	public void a01_responseBodyProjection() throws Exception {
+		assertObjectEquals("{f1:1,f2:0,f3:{f1:0,f2:4}}", a.doGet("/a01").responseBodyProjection("f1", "f3/f2").getResponse(Bean.class));
+		assertObjectEquals("{f1:1,f2:2,f3:{f1:3,f2:4}}", a.doGet("/a01").getResponse(Bean.class));
+	}
+
+	@Test
+	public void a02_requestBodyProjection() throws Exception {
+		assertObjectEquals("{f1:1,f2:0,f3:{f1:0,f2:4}}", a.doPost("/a02", Bean.create()).getResponse(Bean.class));
+	}
+
+	@Test
+	public void a03_clientProjection() throws Exception {
+		try (RestClient rc = MockRestClient.create(A.class).json().projection("f2").build()) {
+			assertObjectEquals("{f1:0,f2:2}", rc.doGet("/a01").getResponse(Bean.class));
+		}
+	}
+}
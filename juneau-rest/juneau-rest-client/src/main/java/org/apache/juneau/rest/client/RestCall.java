@@ -106,6 +106,7 @@ public final class RestCall extends BeanSession implements Closeable {
 	private HttpPartSerializer partSerializer;
 	private HttpPartParser partParser;
 	private HttpPartSchema requestBodySchema, responseBodySchema;
+	private String[] responseBodyProjection;
 	private URIBuilder uriBuilder;
 	private NameValuePairs formData;
 	private boolean softClose = false;  // If true, don't consume response and set isClosed flag, but do call listeners.
@@ -591,6 +592,35 @@ public final class RestCall extends BeanSession implements Closeable {
 		return this;
 	}
 
+	/**
+	 * Limits the properties that are materialized when the response body is parsed into a POJO.
+	 *
+	 * <p>
+	 * The values of all other properties are skipped over without being parsed, which makes it cheap to read a
+	 * handful of fields from a large response.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Only read the id and the names of the line items.</jc>
+	 * 	Order order = client.doGet(<js>"/orders/123"</js>)
+	 * 		.responseBodyProjection(<js>"id"</js>, <js>"items/name"</js>)
+	 * 		.getResponse(Order.<jk>class</jk>);
+	 * </p>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Parser#PARSER_projection}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The slash-delimited property paths to materialize.
+	 * 	<br>Can be <jk>null</jk> to parse everything.
+	 * @return This object (for method chaining).
+	 */
+	public RestCall responseBodyProjection(String...value) {
+		this.responseBodyProjection = value;
+		return this;
+	}
+
 	/**
 	 * Sets the input for this REST call.
 	 *
@@ -2304,6 +2334,8 @@ public final class RestCall extends BeanSession implements Closeable {
 							.locale(response.getLocale())
 							.mediaType(mt)
 							.schema(responseBodySchema);
+					if (responseBodyProjection != null)
+						pArgs.projection(responseBodyProjection);
 					return parser.createSession(pArgs).parse(in, type);
 				}
 			}
@@ -2522,6 +2554,7 @@ public final class RestCall extends BeanSession implements Closeable {
 				.append("requestBodySchema", requestBodySchema)
 				.append("response", response)
 				.append("responseBodySchema", responseBodySchema)
+				.append("responseBodyProjection", responseBodyProjection)
 				.append("retries", retries)
 				.append("retryInterval", retryInterval)
 				.append("retryOn", retryOn)
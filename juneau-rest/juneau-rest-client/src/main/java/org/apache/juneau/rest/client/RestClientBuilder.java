@@ -1784,6 +1784,24 @@ public class RestClientBuilder extends BeanContextBuilder {
 		return set(SERIALIZER_sortMaps, true);
 	}
 
+	/**
+	 * Sets the {@link Serializer#SERIALIZER_streamFlushInterval} property on all serializers in this group.
+	 *
+	 * <p>
+	 * Flushes the request body every <c>N</c> elements when serializing iterators, enumerations, streams and
+	 * spliterators.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_streamFlushInterval}
+	 * </ul>
+	 *
+	 * @param value The new value for this property.
+	 * @return This object (for method chaining).
+	 */
+	public RestClientBuilder streamFlushInterval(int value) {
+		return set(SERIALIZER_streamFlushInterval, value);
+	}
+
 	/**
 	 * Configuration property:  Trim empty lists and arrays.
 	 *
@@ -1963,6 +1981,41 @@ public class RestClientBuilder extends BeanContextBuilder {
 		return set(SERIALIZER_uriResolution, value);
 	}
 
+	/**
+	 * Configuration property:  Use buffer pool.
+	 *
+	 * <p>
+	 * If <jk>true</jk>, in-memory output buffers used by serializers are borrowed from a per-thread pool.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_useBufferPool}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public RestClientBuilder useBufferPoolS(boolean value) {
+		return set(SERIALIZER_useBufferPool, value);
+	}
+
+	/**
+	 * Configuration property:  Use buffer pool.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>useBufferPoolS(<jk>true</jk>)</code>.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_useBufferPool}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public RestClientBuilder useBufferPoolS() {
+		return set(SERIALIZER_useBufferPool, true);
+	}
+
 	/**
 	 * Configuration property:  Maximum indentation.
 	 *
@@ -2122,6 +2175,42 @@ public class RestClientBuilder extends BeanContextBuilder {
 		return set(PARSER_autoCloseStreams, true);
 	}
 
+	/**
+	 * Configuration property:  Compact collections.
+	 *
+	 * <p>
+	 * If <jk>true</jk>, generic maps and lists created by the parser are array-backed {@link CompactObjectMap} and
+	 * {@link CompactObjectList} instances.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Parser#PARSER_compactCollections}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default value is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public RestClientBuilder compactCollections(boolean value) {
+		return set(PARSER_compactCollections, value);
+	}
+
+	/**
+	 * Configuration property:  Compact collections.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>compactCollections(<jk>true</jk>)</code>.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Parser#PARSER_compactCollections}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public RestClientBuilder compactCollections() {
+		return set(PARSER_compactCollections, true);
+	}
+
 	/**
 	 * Configuration property:  Debug output lines.
 	 *
@@ -2159,6 +2248,25 @@ public class RestClientBuilder extends BeanContextBuilder {
 		return set(PARSER_listener, value);
 	}
 
+	/**
+	 * Configuration property:  Projection.
+	 *
+	 * <p>
+	 * Slash-delimited paths of the properties that should be materialized when parsing responses.
+	 * <br>The values of all other properties are skipped over without being parsed.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Parser#PARSER_projection}
+	 * 	<li class='jm'>{@link RestCall#responseBodyProjection(String...)}
+	 * </ul>
+	 *
+	 * @param values The new value for this property.
+	 * @return This object (for method chaining).
+	 */
+	public RestClientBuilder projection(String...values) {
+		return set(PARSER_projection, values);
+	}
+
 	/**
 	 * Configuration property:  Strict mode.
 	 *
@@ -2264,6 +2372,41 @@ public class RestClientBuilder extends BeanContextBuilder {
 		return set(PARSER_unbuffered, true);
 	}
 
+	/**
+	 * Configuration property:  Use buffer pool.
+	 *
+	 * <p>
+	 * If <jk>true</jk>, internal character buffers used by parsers are borrowed from a per-thread pool.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Parser#PARSER_useBufferPool}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public RestClientBuilder useBufferPoolP(boolean value) {
+		return set(PARSER_useBufferPool, value);
+	}
+
+	/**
+	 * Configuration property:  Use buffer pool.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>useBufferPoolP(<jk>true</jk>)</code>.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Parser#PARSER_useBufferPool}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public RestClientBuilder useBufferPoolP() {
+		return set(PARSER_useBufferPool, true);
+	}
+
 	/**
 	 * Configuration property:  File charset.
 	 *
@@ -2853,6 +2996,18 @@ public class RestClientBuilder extends BeanContextBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public RestClientBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public RestClientBuilder useGeneratedAccessors() {
+		super.useGeneratedAccessors();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public RestClientBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
@@ -27,6 +27,7 @@ import javax.ws.rs.ext.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.http.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.parser.*;
 import org.apache.juneau.rest.annotation.*;
 import org.apache.juneau.serializer.*;
@@ -40,10 +41,16 @@ import org.apache.juneau.serializer.*;
  */
 public class BaseProvider implements MessageBodyReader<Object>, MessageBodyWriter<Object> {
 
+	private static final int CACHE_SIZE = 1000;
+
 	private SerializerGroup serializers;
 	private ParserGroup parsers;
 	private ObjectMap properties = new ObjectMap();
 
+	// Serializer/parser matches and session properties keyed by the method annotations and media type.
+	private final BoundedCache<CacheKey,Resolved<SerializerMatch>> writerCache = new BoundedCache<>(CACHE_SIZE);
+	private final BoundedCache<CacheKey,Resolved<ParserMatch>> readerCache = new BoundedCache<>(CACHE_SIZE);
+
 	/**
 	 * Constructor.
 	 */
@@ -102,28 +109,53 @@ public class BaseProvider implements MessageBodyReader<Object>, MessageBodyWrite
 		return -1;
 	}
 
+	/*
+	 * Returns the serializer match and session properties for the specified method annotations and media type.
+	 */
+	private Resolved<SerializerMatch> getWriter(Annotation[] a, MediaType mediaType) {
+		CacheKey k = new CacheKey(a, mediaType);
+		Resolved<SerializerMatch> r = writerCache.get(k);
+		if (r == null) {
+			String mt = mediaType.toString();
+			r = writerCache.put(k, new Resolved<>(serializers.getSerializerMatch(mt), getMethodProperties(a).append("mediaType", mt)));
+		}
+		return r;
+	}
+
+	/*
+	 * Returns the parser match and session properties for the specified method annotations and media type.
+	 */
+	private Resolved<ParserMatch> getReader(Annotation[] a, MediaType mediaType) {
+		CacheKey k = new CacheKey(a, mediaType);
+		Resolved<ParserMatch> r = readerCache.get(k);
+		if (r == null) {
+			String mt = mediaType.toString();
+			r = readerCache.put(k, new Resolved<>(parsers.getParserMatch(mt), getMethodProperties(a).append("mediaType", mt)));
+		}
+		return r;
+	}
+
 	@Override /* MessageBodyWriter */
 	public boolean isWriteable(Class<?> type, Type gType, Annotation[] a, MediaType mediaType) {
-		return serializers.getSerializerMatch(mediaType.toString()) != null;
+		return getWriter(a, mediaType).match != null;
 	}
 
 	@Override /* MessageBodyWriter */
 	public void writeTo(Object o, Class<?> type, Type gType, Annotation[] a, MediaType mediaType,
 			MultivaluedMap<String,Object> headers, OutputStream os) throws IOException, WebApplicationException {
 		try {
-			SerializerMatch sm = serializers.getSerializerMatch(mediaType.toString());
+			Resolved<SerializerMatch> r = getWriter(a, mediaType);
+			SerializerMatch sm = r.match;
 			if (sm == null)
 				throw new WebApplicationException(SC_NOT_ACCEPTABLE);
 			Serializer s = sm.getSerializer();
-			ObjectMap mp = getMethodProperties(a);
-			mp.append("mediaType", mediaType.toString());
 			Locale locale = getLocale(headers);
 			TimeZone timeZone = getTimeZone(headers);
 
 			SerializerSession session = s.createSession(
 				SerializerSessionArgs
 					.create()
-					.properties(mp)
+					.properties(new ObjectMap().setInner(r.properties))
 					.locale(locale)
 					.timeZone(timeZone)
 					.mediaType(sm.getMediaType())
@@ -140,25 +172,24 @@ public class BaseProvider implements MessageBodyReader<Object>, MessageBodyWrite
 
 	@Override /* MessageBodyReader */
 	public boolean isReadable(Class<?> type, Type gType, Annotation[] a, MediaType mediaType) {
-		return parsers.getParserMatch(mediaType.toString()) != null;
+		return getReader(a, mediaType).match != null;
 	}
 
 	@Override /* MessageBodyReader */
 	public Object readFrom(Class<Object> type, Type gType, Annotation[] a, MediaType mediaType,
 			MultivaluedMap<String,String> headers, InputStream in) throws IOException, WebApplicationException {
 		try {
-			ParserMatch pm = parsers.getParserMatch(mediaType.toString());
+			Resolved<ParserMatch> r = getReader(a, mediaType);
+			ParserMatch pm = r.match;
 			if (pm == null)
 				throw new WebApplicationException(SC_UNSUPPORTED_MEDIA_TYPE);
 			Parser p = pm.getParser();
-			ObjectMap mp = getMethodProperties(a);
-			mp.put("mediaType", mediaType.toString());
 			Locale locale = getLocale(headers);
 			TimeZone timeZone = getTimeZone(headers);
 			ParserSession session = p.createSession(
 				ParserSessionArgs
 					.create()
-					.properties(mp)
+					.properties(new ObjectMap().setInner(r.properties))
 					.locale(locale)
 					.timeZone(timeZone)
 					.mediaType(pm.getMediaType())
@@ -205,4 +236,58 @@ public class BaseProvider implements MessageBodyReader<Object>, MessageBodyWrite
 		return null;
 	}
 
+	/*
+	 * Cache key consisting of the annotations on a resource method and a media type.
+	 * Annotation instances are compared by identity since the JAX-RS runtime passes in the same instances for the
+	 * same method on every call (although not necessarily the same array).
+	 * Methods with equal but separately declared annotations get their own entries, so there's one miss per method and
+	 * media type.
+	 */
+	private static final class CacheKey {
+		private final Annotation[] annotations;
+		private final MediaType mediaType;
+		private final int hashCode;
+
+		CacheKey(Annotation[] annotations, MediaType mediaType) {
+			this.annotations = annotations;
+			this.mediaType = mediaType;
+			int h = mediaType.hashCode();
+			for (Annotation a : annotations)
+				h = 31 * h + System.identityHashCode(a);
+			this.hashCode = h;
+		}
+
+		@Override /* Object */
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override /* Object */
+		public boolean equals(Object o) {
+			if (! (o instanceof CacheKey))
+				return false;
+			CacheKey k = (CacheKey)o;
+			if (hashCode != k.hashCode || annotations.length != k.annotations.length || ! mediaType.equals(k.mediaType))
+				return false;
+			for (int i = 0; i < annotations.length; i++)
+				if (annotations[i] != k.annotations[i])
+					return false;
+			return true;
+		}
+	}
+
+	/*
+	 * A serializer or parser match along with the session properties to use with it.
+	 * The properties are shared read-only between calls, so each session gets an empty map layered on top of them to
+	 * hold the values added by the session args (locale, time zone, media type).
+	 */
+	private static final class Resolved<M> {
+		final M match;
+		final ObjectMap properties;
+
+		Resolved(M match, ObjectMap properties) {
+			this.match = match;
+			this.properties = properties.unmodifiable();
+		}
+	}
 }
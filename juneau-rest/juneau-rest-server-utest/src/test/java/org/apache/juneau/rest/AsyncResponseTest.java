@@ -0,0 +1,286 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import static org.apache.juneau.http.HttpMethodName.*;
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import javax.servlet.*;
+import javax.servlet.http.*;
+
+import org.apache.juneau.http.exception.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.mock2.*;
+import org.apache.juneau.serializer.*;
+import org.junit.*;
+import org.junit.runners.*;
+
+/**
+ * Validates REST Java methods that return {@link CompletionStage} objects.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class AsyncResponseTest {
+
+	//=================================================================================================================
+	// Basic tests
+	//=================================================================================================================
+
+	@Rest(serializers=SimpleJsonSerializer.class, asyncTimeout="100")
+	public static class A {
+		@RestMethod(name=GET)
+		public CompletableFuture<String> a01() {
+			return CompletableFuture.supplyAsync(() -> "foo");
+		}
+		@RestMethod(name=GET)
+		public CompletionStage<String[]> a02() {
+			return CompletableFuture.completedFuture(new String[]{"foo","bar"});
+		}
+		@RestMethod(name=GET)
+		public CompletableFuture<String> a03() {
+			CompletableFuture<String> f = new CompletableFuture<>();
+			f.completeExceptionally(new NotAcceptable("Nope"));
+			return f;
+		}
+		@RestMethod(name=GET)
+		public CompletableFuture<String> a04() {
+			return CompletableFuture.supplyAsync(() -> { throw new RuntimeException("Foo"); });
+		}
+		@RestMethod(name=GET)
+		public CompletableFuture<String> a05() {
+			return new CompletableFuture<>();
+		}
+	}
+	private static MockRest a = MockRest.build(A.class, null);
+
+	@Test
+	public void a01_completesLater() throws Exception {
+		a.get("/a01").execute().assertStatus(200).assertBody("'foo'");
+	}
+	@Test
+	public void a02_alreadyCompleted() throws Exception {
+		a.get("/a02").execute().assertStatus(200).assertBody("['foo','bar']");
+	}
+	@Test
+	public void a03_httpException() throws Exception {
+		a.get("/a03").execute().assertStatus(406).assertBodyContains("Nope");
+	}
+	@Test
+	public void a04_runtimeException() throws Exception {
+		a.get("/a04").execute().assertStatus(500).assertBodyContains("Foo");
+	}
+	@Test
+	public void a05_timeout() throws Exception {
+		a.get("/a05").execute().assertStatus(503).assertBodyContains("100ms");
+	}
+
+	//=================================================================================================================
+	// Converters are applied to the completed value.
+	//=================================================================================================================
+
+	public static class B01 implements RestConverter {
+		@Override
+		public Object convert(RestRequest req, Object res) throws HttpException, SerializeException {
+			return res.toString().toUpperCase();
+		}
+	}
+
+	@Rest(serializers=SimpleJsonSerializer.class)
+	public static class B {
+		@RestMethod(name=GET, converters=B01.class)
+		public CompletableFuture<String> b01() {
+			return CompletableFuture.supplyAsync(() -> "foo");
+		}
+	}
+	private static MockRest b = MockRest.build(B.class, null);
+
+	@Test
+	public void b01_converters() throws Exception {
+		b.get("/b01").execute().assertStatus(200).assertBody("'FOO'");
+	}
+
+	//=================================================================================================================
+	// Containers that support asynchronous processing.
+	//=================================================================================================================
+
+	@Rest(serializers=SimpleJsonSerializer.class, asyncTimeout="100")
+	public static class D {
+		static CompletableFuture<String> future;
+		@RestMethod(name=GET)
+		public CompletableFuture<String> d01() {
+			return future;
+		}
+	}
+	private static RestContext d;
+	static {
+		try {
+			d = RestContext.create(new D()).build();
+			d.postInit();
+			d.postInitChildFirst();
+		} catch (Exception e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/** Async context that lets the test fire the container events. */
+	public static class MockAsyncContext implements AsyncContext {
+		private final ServletRequest req;
+		private final ServletResponse res;
+		private final List<AsyncListener> listeners = new ArrayList<>();
+		private long timeout;
+		private int completeCount;
+
+		MockAsyncContext(ServletRequest req, ServletResponse res) {
+			this.req = req;
+			this.res = res;
+		}
+		void fireTimeout() throws IOException {
+			for (AsyncListener l : listeners)
+				l.onTimeout(new AsyncEvent(this, req, res));
+		}
+		void fireError(Throwable t) throws IOException {
+			for (AsyncListener l : listeners)
+				l.onError(new AsyncEvent(this, req, res, t));
+		}
+		@Override public ServletRequest getRequest() { return req; }
+		@Override public ServletResponse getResponse() { return res; }
+		@Override public boolean hasOriginalRequestAndResponse() { return true; }
+		@Override public void dispatch() {}
+		@Override public void dispatch(String path) {}
+		@Override public void dispatch(ServletContext context, String path) {}
+		@Override public void complete() { completeCount++; }
+		@Override public void start(Runnable run) { run.run(); }
+		@Override public void addListener(AsyncListener listener) { listeners.add(listener); }
+		@Override public void addListener(AsyncListener listener, ServletRequest req, ServletResponse res) { listeners.add(listener); }
+		@Override public <T extends AsyncListener> T createListener(Class<T> c) throws ServletException { return null; }
+		@Override public void setTimeout(long timeout) { this.timeout = timeout; }
+		@Override public long getTimeout() { return timeout; }
+	}
+
+	/** Request that claims asynchronous support and records the async context it hands out. */
+	public static class AsyncRequest extends HttpServletRequestWrapper {
+		MockAsyncContext ac;
+
+		AsyncRequest(HttpServletRequest req) {
+			super(req);
+		}
+		@Override
+		public boolean isAsyncSupported() {
+			return true;
+		}
+		@Override
+		public AsyncContext startAsync(ServletRequest req, ServletResponse res) {
+			ac = new MockAsyncContext(req, res);
+			return ac;
+		}
+	}
+
+	private static AsyncRequest d01(CompletableFuture<String> f, MockServletResponse res) throws Exception {
+		D.future = f;
+		AsyncRequest req = new AsyncRequest(MockServletRequest.create("GET", "/d01").restContext(d));
+		d.getCallHandler().service(req, res);
+		assertNotNull("Request wasn't put in asynchronous mode.", req.ac);
+		return req;
+	}
+
+	@Test
+	public void d01_completionWritesResponse() throws Exception {
+		CompletableFuture<String> f = new CompletableFuture<>();
+		MockServletResponse res = MockServletResponse.create();
+		MockAsyncContext ac = d01(f, res).ac;
+		assertEquals(100, ac.getTimeout());
+		assertEquals(0, ac.completeCount);
+		assertEquals("", res.getBodyAsString());
+
+		f.complete("foo");
+		assertEquals(200, res.getStatus());
+		assertEquals("'foo'", res.getBodyAsString());
+		assertEquals(1, ac.completeCount);
+	}
+
+	@Test
+	public void d02_alreadyCompleted() throws Exception {
+		MockServletResponse res = MockServletResponse.create();
+		MockAsyncContext ac = d01(CompletableFuture.completedFuture("foo"), res).ac;
+		assertEquals(200, res.getStatus());
+		assertEquals("'foo'", res.getBodyAsString());
+		assertEquals(1, ac.completeCount);
+	}
+
+	@Test
+	public void d03_timeoutCancelsFuture() throws Exception {
+		CompletableFuture<String> f = new CompletableFuture<>();
+		MockServletResponse res = MockServletResponse.create();
+		MockAsyncContext ac = d01(f, res).ac;
+
+		ac.fireTimeout();
+		assertEquals(503, res.getStatus());
+		assertTrue(res.getBodyAsString(), res.getBodyAsString().contains("100ms"));
+		assertTrue(f.isCancelled());
+		assertEquals(1, ac.completeCount);
+	}
+
+	@Test
+	public void d04_errorCancelsFuture() throws Exception {
+		CompletableFuture<String> f = new CompletableFuture<>();
+		MockServletResponse res = MockServletResponse.create();
+		MockAsyncContext ac = d01(f, res).ac;
+
+		ac.fireError(new IOException("Connection reset"));
+		assertEquals(500, res.getStatus());
+		assertTrue(f.isCancelled());
+		assertEquals(1, ac.completeCount);
+	}
+
+	@Test
+	public void d05_completionAfterTimeoutIsIgnored() throws Exception {
+		CompletableFuture<String> f = new CompletableFuture<>();
+		MockServletResponse res = MockServletResponse.create();
+		MockAsyncContext ac = d01(f, res).ac;
+
+		ac.fireTimeout();
+		String body = res.getBodyAsString();
+		f.complete("foo");
+		assertEquals(503, res.getStatus());
+		assertEquals(body, res.getBodyAsString());
+		assertEquals(1, ac.completeCount);
+	}
+
+	@Test
+	public void d06_timeoutAfterCompletionIsIgnored() throws Exception {
+		CompletableFuture<String> f = new CompletableFuture<>();
+		MockServletResponse res = MockServletResponse.create();
+		MockAsyncContext ac = d01(f, res).ac;
+
+		f.complete("foo");
+		ac.fireTimeout();
+		ac.fireError(new IOException("Connection reset"));
+		assertEquals(200, res.getStatus());
+		assertEquals("'foo'", res.getBodyAsString());
+		assertFalse(f.isCancelled());
+		assertEquals(1, ac.completeCount);
+	}
+
+	//=================================================================================================================
+	// Settings
+	//=================================================================================================================
+
+	@Test
+	public void c01_asyncTimeoutDefault() throws Exception {
+		Assert.assertEquals(30000, RestContext.create(new B()).build().getAsyncTimeout());
+	}
+}
@@ -0,0 +1,79 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import static org.apache.juneau.http.HttpMethodName.*;
+
+import java.util.*;
+import java.util.stream.*;
+
+import org.apache.juneau.http.annotation.Body;
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.mock2.*;
+import org.junit.*;
+import org.junit.runners.*;
+
+/**
+ * Validates that {@link BasicRestServlet} accepts and produces newline-delimited JSON.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class NdJsonContentTest {
+
+	public static class Bean {
+		public int f;
+
+		public Bean init(int f) {
+			this.f = f;
+			return this;
+		}
+	}
+
+	public static class A extends BasicRestServlet {
+		private static final long serialVersionUID = 1L;
+
+		@RestMethod(name=GET)
+		public List<Bean> a01() {
+			return Arrays.asList(new Bean().init(1), new Bean().init(2));
+		}
+		@RestMethod(name=GET)
+		public Stream<Bean> a02() {
+			return Stream.of(new Bean().init(3), new Bean().init(4));
+		}
+		@RestMethod(name=POST)
+		public int a03(@Body List<Bean> body) {
+			int sum = 0;
+			for (Bean b : body)
+				sum += b.f;
+			return sum;
+		}
+	}
+	static MockRest a = MockRest.build(A.class);
+
+	@Test
+	public void a01_produceCollection() throws Exception {
+		a.get("/a01").accept("application/x-ndjson").execute()
+			.assertStatus(200)
+			.assertHeader("Content-Type", "application/x-ndjson")
+			.assertBody("{\"f\":1}\n{\"f\":2}\n");
+	}
+	@Test
+	public void a02_produceStream() throws Exception {
+		a.get("/a02").accept("application/x-ndjson").execute().assertStatus(200).assertBody("{\"f\":3}\n{\"f\":4}\n");
+	}
+	@Test
+	public void a03_consume() throws Exception {
+		a.post("/a03", "{\"f\":1}\n{\"f\":2}\n{\"f\":3}\n").contentType("application/x-ndjson").accept("application/json").execute()
+			.assertStatus(200)
+			.assertBody("6");
+	}
+}
@@ -0,0 +1,222 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.jaxrs;
+
+import static org.apache.juneau.serializer.WriterSerializer.*;
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.lang.annotation.*;
+import java.util.*;
+
+import javax.ws.rs.core.*;
+import javax.ws.rs.ext.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.rest.annotation.*;
+import org.junit.*;
+import org.junit.runners.*;
+
+/**
+ * Validates reading and writing entities through {@link BaseProvider}.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class BaseProviderTest {
+
+	private static MediaType JSON;
+	private static BasicProvider p;
+
+	public static class Bean {
+		public int f;
+	}
+
+	@RestMethod(flags=WSERIALIZER_useWhitespace)
+	public void whitespace() {}
+
+	@RestMethod(flags=WSERIALIZER_useWhitespace)
+	public void whitespace2() {}
+
+	@JuneauProvider(serializers=JsonSerializer.class, parsers=JsonParser.class)
+	public static class CountingProvider extends BaseProvider {
+		int count;
+
+		@Override /* BaseProvider */
+		protected ObjectMap getMethodProperties(Annotation[] a) {
+			count++;
+			return super.getMethodProperties(a);
+		}
+	}
+
+	@BeforeClass
+	public static void beforeClass() {
+		// The JAX-RS API needs an implementation to convert media types to strings.
+		RuntimeDelegate.setInstance(new TestRuntimeDelegate());
+		JSON = new MediaType("application", "json");
+		p = new BasicProvider();
+	}
+
+	@AfterClass
+	public static void afterClass() {
+		RuntimeDelegate.setInstance(null);
+	}
+
+	private static String write(Object o, Annotation[] a, Headers<Object> headers) throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		p.writeTo(o, o.getClass(), o.getClass(), a, JSON, headers, baos);
+		return baos.toString("UTF-8");
+	}
+
+	private static Object read(String in, Class<?> c, Headers<String> headers) throws Exception {
+		@SuppressWarnings("unchecked")
+		Class<Object> c2 = (Class<Object>)c;
+		return p.readFrom(c2, c, new Annotation[0], JSON, headers, new ByteArrayInputStream(in.getBytes("UTF-8")));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Tests
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_writeTo() throws Exception {
+		Bean b = new Bean();
+		b.f = 1;
+		assertTrue(p.isWriteable(Bean.class, Bean.class, new Annotation[0], JSON));
+		// Called twice to use the cached serializer match.
+		assertEquals("{\"f\":1}", write(b, new Annotation[0], new Headers<>()));
+		assertEquals("{\"f\":1}", write(b, new Annotation[0], new Headers<>()));
+	}
+
+	@Test
+	public void a02_writeTo_withHeaders() throws Exception {
+		Bean b = new Bean();
+		b.f = 1;
+		Headers<Object> h = new Headers<>();
+		h.add("Accept-Language", "fr-FR");
+		h.add("Time-Zone", "GMT");
+		assertEquals("{\"f\":1}", write(b, new Annotation[0], h));
+	}
+
+	@Test
+	public void a03_writeTo_methodProperties() throws Exception {
+		Bean b = new Bean();
+		b.f = 1;
+		Annotation[] a = getClass().getMethod("whitespace").getAnnotations();
+		assertEquals("{\n\t\"f\": 1\n}", write(b, a, new Headers<>()));
+		assertEquals("{\"f\":1}", write(b, new Annotation[0], new Headers<>()));
+	}
+
+	@Test
+	public void a04_writeTo_cachedPerMethod() throws Exception {
+		CountingProvider cp = new CountingProvider();
+		Bean b = new Bean();
+		b.f = 1;
+
+		// The JAX-RS runtime may pass in a new array each time, but with the same annotation instances.
+		for (int i = 0; i < 3; i++) {
+			Annotation[] a = getClass().getMethod("whitespace").getAnnotations();
+			ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			assertTrue(cp.isWriteable(Bean.class, Bean.class, a, JSON));
+			cp.writeTo(b, Bean.class, Bean.class, a, JSON, new Headers<>(), baos);
+			assertEquals("{\n\t\"f\": 1\n}", baos.toString("UTF-8"));
+		}
+		assertEquals(1, cp.count);
+
+		// Equal annotations declared on another method are resolved separately.
+		assertTrue(cp.isWriteable(Bean.class, Bean.class, getClass().getMethod("whitespace2").getAnnotations(), JSON));
+		assertEquals(2, cp.count);
+	}
+
+	@Test
+	public void b01_readFrom() throws Exception {
+		assertTrue(p.isReadable(Bean.class, Bean.class, new Annotation[0], JSON));
+		// Called twice to use the cached parser match.
+		assertEquals(2, ((Bean)read("{f:2}", Bean.class, new Headers<>())).f);
+		assertEquals(3, ((Bean)read("{f:3}", Bean.class, new Headers<>())).f);
+	}
+
+	@Test
+	public void b02_readFrom_withHeaders() throws Exception {
+		Headers<String> h = new Headers<>();
+		h.add("Accept-Language", "fr-FR");
+		h.add("Time-Zone", "GMT");
+		assertEquals(2, ((Bean)read("{f:2}", Bean.class, h)).f);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Helper classes
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@SuppressWarnings("serial")
+	private static class Headers<V> extends LinkedHashMap<String,List<V>> implements MultivaluedMap<String,V> {
+
+		@Override /* MultivaluedMap */
+		public void putSingle(String key, V value) {
+			put(key, new ArrayList<>(Collections.singletonList(value)));
+		}
+
+		@Override /* MultivaluedMap */
+		public void add(String key, V value) {
+			if (! containsKey(key))
+				put(key, new ArrayList<V>());
+			get(key).add(value);
+		}
+
+		@Override /* MultivaluedMap */
+		public V getFirst(String key) {
+			List<V> l = get(key);
+			return l == null || l.isEmpty() ? null : l.get(0);
+		}
+	}
+
+	private static class TestRuntimeDelegate extends RuntimeDelegate {
+
+		@Override /* RuntimeDelegate */
+		public UriBuilder createUriBuilder() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override /* RuntimeDelegate */
+		public Response.ResponseBuilder createResponseBuilder() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override /* RuntimeDelegate */
+		public Variant.VariantListBuilder createVariantListBuilder() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override /* RuntimeDelegate */
+		public <T> T createEndpoint(Application application, Class<T> endpointType) {
+			throw new UnsupportedOperationException();
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override /* RuntimeDelegate */
+		public <T> HeaderDelegate<T> createHeaderDelegate(Class<T> type) {
+			if (type != MediaType.class)
+				throw new UnsupportedOperationException();
+			return (HeaderDelegate<T>)new HeaderDelegate<MediaType>() {
+				@Override /* HeaderDelegate */
+				public MediaType fromString(String value) {
+					String[] s = value.split("/");
+					return new MediaType(s[0], s[1]);
+				}
+				@Override /* HeaderDelegate */
+				public String toString(MediaType value) {
+					return value.getType() + '/' + value.getSubtype();
+				}
+			};
+		}
+	}
+}
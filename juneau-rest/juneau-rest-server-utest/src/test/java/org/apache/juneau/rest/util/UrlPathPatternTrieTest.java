@@ -0,0 +1,108 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.util;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.junit.*;
+import org.junit.runners.*;
+
+/**
+ * Validates the functionality of the UrlPathPatternTrie class.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class UrlPathPatternTrieTest {
+
+	private static final String[] PATTERNS = {
+		"",
+		"*",
+		"/",
+		"/*",
+		"/foo",
+		"/foo/*",
+		"/foo/bar",
+		"/foo/bar/*",
+		"/foo/{id}",
+		"/foo/{id}/*",
+		"/foo/{id}/bar",
+		"/foo/{id}/bar/*",
+		"/foo/*/baz",
+		"/{a}/{b}",
+		"/x%20y",
+	};
+
+	private static final String[] PATHS = {
+		"/",
+		"/foo",
+		"/foo/",
+		"/foo/bar",
+		"/foo/bar/",
+		"/foo/bar/baz",
+		"/foo/123/bar",
+		"/foo/123/bar/",
+		"/foo/123/bar/x/y",
+		"/foo/123/baz",
+		"/foo/123/qux",
+		"/bar",
+		"/bar/baz",
+		"/bar/baz/qux",
+		"/x%20y",
+		"/x y",
+	};
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Candidates are the same patterns found by a linear scan.
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_sameAsLinearScan() throws Exception {
+		UrlPathPattern[] patterns = new UrlPathPattern[PATTERNS.length];
+		for (int i = 0; i < PATTERNS.length; i++)
+			patterns[i] = new UrlPathPattern(PATTERNS[i]);
+		UrlPathPatternTrie t = new UrlPathPatternTrie(patterns);
+
+		for (String path : PATHS) {
+			UrlPathInfo pi = new UrlPathInfo(path);
+			List<Integer> expected = new ArrayList<>(), actual = new ArrayList<>();
+			for (int i = 0; i < patterns.length; i++)
+				if (patterns[i].match(pi) != null)
+					expected.add(i);
+			for (int i : t.getCandidates(pi))
+				if (patterns[i].match(pi) != null)
+					actual.add(i);
+			assertEquals("Path=" + path, expected, actual);
+		}
+	}
+
+	@Test
+	public void a02_candidatesInOrder() throws Exception {
+		UrlPathPatternTrie t = new UrlPathPatternTrie(
+			new UrlPathPattern("/foo/*"),
+			new UrlPathPattern("/foo/{id}"),
+			new UrlPathPattern("/foo/bar"),
+			new UrlPathPattern("/baz")
+		);
+		assertArrayEquals(new int[]{0,1,2}, t.getCandidates(new UrlPathInfo("/foo/bar")));
+		assertArrayEquals(new int[]{0,1}, t.getCandidates(new UrlPathInfo("/foo/qux")));
+		assertArrayEquals(new int[]{3}, t.getCandidates(new UrlPathInfo("/baz/")));
+		assertArrayEquals(new int[0], t.getCandidates(new UrlPathInfo("/qux")));
+	}
+
+	@Test
+	public void a03_empty() throws Exception {
+		UrlPathPatternTrie t = new UrlPathPatternTrie();
+		assertArrayEquals(new int[0], t.getCandidates(new UrlPathInfo("/foo")));
+	}
+}
@@ -20,6 +20,8 @@ import static org.apache.juneau.rest.Enablement.*;
 import java.io.*;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 import javax.servlet.*;
 import javax.servlet.http.*;
@@ -118,7 +120,7 @@ public class BasicRestCallHandler implements RestCallHandler {
 			// If this resource has child resources, try to recursively call them.
 			String pi = call.getPathInfoUndecoded();
 			if (context.hasChildResources() && pi != null && ! pi.equals("/")) {
-				for (RestContext rc : context.getChildResources().values()) {
+				for (RestContext rc : context.findChildResources(call.getUrlPathInfo())) {
 					UrlPathPattern upp = rc.pathPattern;
 					UrlPathPatternMatch uppm = upp.match(call.getUrlPathInfo());
 					if (uppm != null) {
@@ -191,6 +193,17 @@ public class BasicRestCallHandler implements RestCallHandler {
 					call.status(rc);
 			}
 
+			// If the Java method returned a future, either release the container thread until it completes or
+			// wait for it here if the container doesn't support asynchronous processing.
+			if (call.getOutput() instanceof CompletionStage) {
+				CompletionStage<?> cs = (CompletionStage<?>)call.getOutput();
+				if (call.getRequest().isAsyncSupported()) {
+					handleAsync(call, cs);
+					return;
+				}
+				call.output(await(cs));
+			}
+
 			if (call.hasOutput()) {
 				// Now serialize the output if there was any.
 				// Some subclasses may write to the OutputStream or Writer directly.
@@ -208,6 +221,104 @@ public class BasicRestCallHandler implements RestCallHandler {
 		context.finishCall(call);
 	}
 
+	/**
+	 * Waits for the specified future to complete when asynchronous processing isn't supported by the container.
+	 *
+	 * @param cs The future returned by the Java method.
+	 * @return The completed value.
+	 * @throws Throwable The exception that completed the future, or {@link ServiceUnavailable} on timeout.
+	 */
+	private Object await(CompletionStage<?> cs) throws Throwable {
+		int timeout = context.getAsyncTimeout();
+		CompletableFuture<?> f = cs.toCompletableFuture();
+		try {
+			return timeout > 0 ? f.get(timeout, TimeUnit.MILLISECONDS) : f.get();
+		} catch (ExecutionException e) {
+			throw e.getCause();
+		} catch (TimeoutException e) {
+			f.cancel(true);
+			throw new ServiceUnavailable("Response not available within {0}ms.", timeout);
+		}
+	}
+
+	/**
+	 * Puts the request into asynchronous mode and serializes the response when the specified future completes.
+	 *
+	 * <p>
+	 * The container thread is released as soon as this method returns.
+	 * <br>The response is written by the thread that completes the future, or by the container if the request times
+	 * out or fails.
+	 * <br>In the latter case, the future is cancelled after the error response is written.
+	 *
+	 * <p>
+	 * Note that {@link org.apache.juneau.rest.annotation.HookEvent#POST_CALL} methods and the Java method execution
+	 * statistics have already run by the time this method is called, so they don't include the time spent waiting on
+	 * the future.
+	 * <br>{@link org.apache.juneau.rest.annotation.HookEvent#END_CALL} methods are run by the thread that writes the
+	 * response.
+	 *
+	 * @param call The HTTP call.
+	 * @param cs The future returned by the Java method.
+	 */
+	protected void handleAsync(final RestCall call, final CompletionStage<?> cs) {
+		final AsyncContext ac = call.getRequest().startAsync(call.getRequest(), call.getResponse());
+		final AtomicBoolean done = new AtomicBoolean();
+		int timeout = context.getAsyncTimeout();
+		ac.setTimeout(timeout > 0 ? timeout : 0);
+
+		ac.addListener(new AsyncListener() {
+			@Override /* AsyncListener */
+			public void onTimeout(AsyncEvent event) throws IOException {
+				finishAsync(call, ac, done, null, new ServiceUnavailable("Response not available within {0}ms.", ac.getTimeout()));
+				// Stop the work since nobody is waiting for the result anymore.
+				cs.toCompletableFuture().cancel(true);
+			}
+			@Override /* AsyncListener */
+			public void onError(AsyncEvent event) throws IOException {
+				finishAsync(call, ac, done, null, event.getThrowable());
+				cs.toCompletableFuture().cancel(true);
+			}
+			@Override /* AsyncListener */
+			public void onStartAsync(AsyncEvent event) throws IOException {}
+			@Override /* AsyncListener */
+			public void onComplete(AsyncEvent event) throws IOException {}
+		});
+
+		cs.whenComplete((o, t) -> finishAsync(call, ac, done, o, t));
+	}
+
+	/*
+	 * Writes the response of an asynchronous call.
+	 * Only the first of completion, timeout, or error gets to write the response.
+	 */
+	private void finishAsync(RestCall call, AsyncContext ac, AtomicBoolean done, Object output, Throwable t) {
+		if (! done.compareAndSet(false, true))
+			return;
+		if (t instanceof CompletionException && t.getCause() != null)
+			t = t.getCause();
+		try {
+			context.setRequest(call.getRestRequest());
+			context.setResponse(call.getRestResponse());
+			try {
+				if (t != null)
+					throw t;
+				call.output(output);
+				if (call.hasOutput())
+					handleResponse(call);
+			} catch (Throwable e) {
+				handleError(call, convertThrowable(e));
+			} finally {
+				context.clearState();
+			}
+			call.finish();
+			context.finishCall(call);
+		} catch (Throwable e) {
+			call.exception(e);
+		} finally {
+			ac.complete();
+		}
+	}
+
 	private boolean isDebug(RestCall call) {
 		Enablement e = context.getDebug();
 		if (e == TRUE)
@@ -49,6 +49,7 @@ import org.apache.juneau.xmlschema.XmlSchemaDocSerializer;
 		JsonSerializer.class,
 		SimpleJsonSerializer.class,
 		JsonSchemaSerializer.class,
+		NdJsonSerializer.class,
 		XmlDocSerializer.class,
 		XmlSchemaDocSerializer.class,
 		UonSerializer.class,
@@ -63,6 +64,7 @@ import org.apache.juneau.xmlschema.XmlSchemaDocSerializer;
 	parsers={
 		JsonParser.class,
 		JsonParser.Simple.class,
+		NdJsonParser.class,
 		XmlParser.class,
 		HtmlParser.class,
 		UonParser.class,
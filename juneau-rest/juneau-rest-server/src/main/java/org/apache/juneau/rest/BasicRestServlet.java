@@ -51,6 +51,11 @@ import org.apache.juneau.xml.*;
  * 		<td>{@link JsonSchemaSerializer}</td>
  * 	</tr>
  * 	<tr>
+ * 		<td class='code'>application/x-ndjson</td>
+ * 		<td class='code'>application/x-ndjson</td>
+ * 		<td>{@link NdJsonSerializer}</td>
+ * 	</tr>
+ * 	<tr>
  * 		<td class='code'>text/xml</td>
  * 		<td class='code'>text/xml</td>
  * 		<td>{@link XmlDocSerializer}</td>
@@ -104,6 +109,10 @@ import org.apache.juneau.xml.*;
  * 		<td>{@link JsonParser}</td>
  * 	</tr>
  * 	<tr>
+ * 		<td class='code'>application/x-ndjson</td>
+ * 		<td>{@link NdJsonParser}</td>
+ * 	</tr>
+ * 	<tr>
  * 		<td class='code'>text/xml<br>application/xml</td>
  * 		<td>{@link XmlParser}</td>
  * 	</tr>
@@ -51,6 +51,7 @@ public class RequestBody {
 	private MediaType mediaType;
 	private Parser parser;
 	private HttpPartSchema schema;
+	private String[] projection;
 
 	RequestBody(RestRequest req) {
 		this.req = req;
@@ -92,6 +93,33 @@ public class RequestBody {
 		return body != null;
 	}
 
+	/**
+	 * Limits the properties that are materialized when the body is parsed into a POJO.
+	 *
+	 * <p>
+	 * The values of all other properties are skipped over without being parsed, which makes it cheap to read a
+	 * handful of fields from a large request body.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Only read the id and the names of the line items.</jc>
+	 * 	Order order = req.getBody().projection(<js>"id"</js>, <js>"items/name"</js>).asType(Order.<jk>class</jk>);
+	 * </p>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link Parser#PARSER_projection}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The slash-delimited property paths to materialize.
+	 * 	<br>Can be <jk>null</jk> to parse everything.
+	 * @return This object (for method chaining).
+	 */
+	public RequestBody projection(String...value) {
+		this.projection = value;
+		return this;
+	}
+
 	/**
 	 * Reads the input from the HTTP request parsed into a POJO.
 	 *
@@ -307,7 +335,10 @@ public class RequestBody {
 	protected Reader getUnbufferedReader() throws IOException {
 		if (body != null)
 			return new CharSequenceReader(new String(body, UTF8));
-		return new InputStreamReader(getInputStream(), req.getCharacterEncoding());
+		String ce = req.getCharacterEncoding();
+		if (Utf8Writer.isUtf8(ce))
+			return new Utf8Reader(getInputStream(), false);
+		return new InputStreamReader(getInputStream(), ce);
 	}
 
 	/**
@@ -439,6 +470,8 @@ public class RequestBody {
 				.schema(schema)
 				.debug(req.isDebug() ? true : null)
 				.outer(req.getContext().getResource());
+			if (projection != null)
+				pArgs.projection(projection);
 			ParserSession session = p.createSession(pArgs);
 			try (Closeable in = session.isReaderParser() ? getUnbufferedReader() : getInputStream()) {
 				T o = session.parse(in, cm);
@@ -27,12 +27,21 @@ import org.apache.juneau.rest.util.*;
  * <p>
  * Incoming requests for a particular HTTP method type (e.g. <js>"GET"</js>) are handed off to this class and then
  * dispatched to the appropriate RestJavaMethod.
+ *
+ * <p>
+ * The path patterns of the methods are compiled into a {@link UrlPathPatternTrie} so that only the methods whose
+ * patterns can match the request path are tried, in the same order as the full list.
  */
 public class RestCallRouter {
 	private final RestMethodContext[] restJavaMethods;
+	private final UrlPathPatternTrie trie;
 
 	RestCallRouter(RestMethodContext[] callMethods) {
 		this.restJavaMethods = callMethods;
+		UrlPathPattern[] patterns = new UrlPathPattern[callMethods.length];
+		for (int i = 0; i < callMethods.length; i++)
+			patterns[i] = callMethods[i].getUrlPathPattern();
+		this.trie = new UrlPathPatternTrie(patterns);
 	}
 
 	/**
@@ -63,8 +72,8 @@ public class RestCallRouter {
 
 	boolean matches(RestCall call) {
 		UrlPathInfo pi = call.getUrlPathInfo();
-		for (RestMethodContext m : restJavaMethods)
-			if (m.matches(pi))
+		for (int i : trie.getCandidates(pi))
+			if (restJavaMethods[i].matches(pi))
 				return true;
 		return false;
 	}
@@ -82,9 +91,9 @@ public class RestCallRouter {
 		if (restJavaMethods.length == 1)
 			return restJavaMethods[0].invoke(call);
 
-		int maxRc = 0;
-		for (RestMethodContext m : restJavaMethods) {
-			int rc = m.invoke(call);
+		int maxRc = SC_NOT_FOUND;
+		for (int i : trie.getCandidates(call.getUrlPathInfo())) {
+			int rc = restJavaMethods[i].invoke(call);
 			if (rc == SC_OK)
 				return SC_OK;
 			maxRc = Math.max(maxRc, rc);
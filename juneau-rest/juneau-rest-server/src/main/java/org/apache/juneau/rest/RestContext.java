@@ -381,6 +381,77 @@ public final class RestContext extends BeanContext {
 	@Deprecated
 	public static final String REST_allowHeaderParams = PREFIX + ".allowHeaderParams.b";
 
+	/**
+	 * Configuration property:  Asynchronous response timeout.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.rest.RestContext#REST_asyncTimeout REST_asyncTimeout}
+	 * 	<li><b>Name:</b>  <js>"RestContext.asyncTimeout.i"</js>
+	 * 	<li><b>Data type:</b>  <jk>int</jk>
+	 * 	<li><b>System property:</b>  <c>RestContext.asyncTimeout</c>
+	 * 	<li><b>Environment variable:</b>  <c>RESTCONTEXT_ASYNCTIMEOUT</c>
+	 * 	<li><b>Default:</b>  <c>30000</c>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Annotations:</b>
+	 * 		<ul>
+	 * 			<li class='ja'>{@link org.apache.juneau.rest.annotation.Rest#asyncTimeout()}
+	 * 		</ul>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.rest.RestContextBuilder#asyncTimeout(int)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * REST Java methods can return a {@link java.util.concurrent.CompletionStage} (such as a
+	 * {@link java.util.concurrent.CompletableFuture}) instead of a value.
+	 * <br>When the servlet container supports asynchronous processing, the container thread is released as soon as
+	 * the method returns and the response is serialized when the future completes.
+	 * <br>This setting is the number of milliseconds to wait for the future to complete before the request fails with
+	 * a <c>503 Service Unavailable</c> error.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Option #1 - Defined via annotation resolving to a config file setting with default value.</jc>
+	 * 	<ja>@Rest</ja>(asyncTimeout=<js>"$C{REST/asyncTimeout,10000}"</js>)
+	 * 	<jk>public class</jk> MyResource {
+	 *
+	 * 		<jc>// Option #2 - Defined via builder passed in through resource constructor.</jc>
+	 * 		<jk>public</jk> MyResource(RestContextBuilder builder) <jk>throws</jk> Exception {
+	 *
+	 * 			<jc>// Using method on builder.</jc>
+	 * 			builder.asyncTimeout(10000);
+	 *
+	 * 			<jc>// Same, but using property.</jc>
+	 * 			builder.set(<jsf>REST_asyncTimeout</jsf>, 10000);
+	 * 		}
+	 *
+	 * 		<jc>// A method whose response is written when the future completes.</jc>
+	 * 		<ja>@RestMethod</ja>(name=<jsf>GET</jsf>, path=<js>"/foo"</js>)
+	 * 		<jk>public</jk> CompletableFuture&lt;Foo&gt; getFoo() {
+	 * 			<jk>return</jk> CompletableFuture.<jsm>supplyAsync</jsm>(() -&gt; <jsm>slowCall</jsm>(), <jf>executor</jf>);
+	 * 		}
+	 * 	}
+	 * </p>
+	 *
+	 * <ul class='notes'>
+	 * 	<li>
+	 * 		A value of <c>0</c> or less means no timeout.
+	 * 	<li>
+	 * 		When the container doesn't support asynchronous processing (e.g. the servlet or a filter isn't marked with
+	 * 		<c>asyncSupported</c>), the container thread waits for the future to complete instead.
+	 * 	<li>
+	 * 		Exceptions that complete the future are handled the same way as exceptions thrown from the Java method.
+	 * 	<li>
+	 * 		{@link HookEvent#POST_CALL} methods and the Java method execution statistics run when the Java method
+	 * 		returns the future, not when the future completes.
+	 * 		<br>{@link HookEvent#END_CALL} methods run after the response has been written.
+	 * </ul>
+	 */
+	public static final String REST_asyncTimeout = PREFIX + ".asyncTimeout.i";
+
 	/**
 	 * Configuration property:  REST call handler.
 	 *
@@ -3426,6 +3497,7 @@ public final class RestContext extends BeanContext {
 		renderResponseStackTraces,
 		useClasspathResourceCaching;
 	private final Enablement debug;
+	private final int asyncTimeout;
 	@Deprecated private final boolean
 		useStackTraceHashes;
 	private final String
@@ -3462,6 +3534,8 @@ public final class RestContext extends BeanContext {
 	private final Map<String,RestCallRouter> callRouters;
 	private final Map<String,RestMethodContext> callMethods;
 	private final Map<String,RestContext> childResources;
+	private final RestContext[] childResourceArray;
+	private final UrlPathPatternTrie childResourceTrie;
 	@SuppressWarnings("deprecation") private final RestLogger logger;
 	private final RestCallLogger callLogger;
 	private final RestCallLoggerConfig callLoggerConfig;
@@ -3584,6 +3658,7 @@ public final class RestContext extends BeanContext {
 			uriRelativity = getProperty(REST_uriRelativity, UriRelativity.class, UriRelativity.RESOURCE);
 
 			allowBodyParam = getBooleanProperty(REST_allowBodyParam, true);
+			asyncTimeout = getIntegerProperty(REST_asyncTimeout, 30000);
 			allowedHeaderParams = newUnmodifiableSortedCaseInsensitiveSet(getStringPropertyWithNone(REST_allowedHeaderParams, "Accept,Content-Type"));
 			allowedMethodParams = newUnmodifiableSortedCaseInsensitiveSet(getStringPropertyWithNone(REST_allowedMethodParams, "HEAD,OPTIONS"));
 			allowedMethodHeaders = newUnmodifiableSortedCaseInsensitiveSet(getStringPropertyWithNone(REST_allowedMethodHeaders, ""));
@@ -3938,6 +4013,12 @@ public final class RestContext extends BeanContext {
 				childResources.put(path, rc2);
 			}
 
+			this.childResourceArray = childResources.values().toArray(new RestContext[childResources.size()]);
+			UrlPathPattern[] childPatterns = new UrlPathPattern[childResourceArray.length];
+			for (int i = 0; i < childResourceArray.length; i++)
+				childPatterns[i] = childResourceArray[i].pathPattern;
+			this.childResourceTrie = new UrlPathPatternTrie(childPatterns);
+
 			callHandler = getInstanceProperty(REST_callHandler, resource, RestCallHandler.class, BasicRestCallHandler.class, resourceResolver, this);
 			infoProvider = getInstanceProperty(REST_infoProvider, resource, RestInfoProvider.class, BasicRestInfoProvider.class, resourceResolver, this);
 
@@ -4621,6 +4702,19 @@ public final class RestContext extends BeanContext {
 		return allowBodyParam;
 	}
 
+	/**
+	 * Returns the number of milliseconds to wait for asynchronous responses to complete.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link RestContext#REST_asyncTimeout}
+	 * </ul>
+	 *
+	 * @return The timeout in milliseconds, or <c>0</c> or less if there is no timeout.
+	 */
+	public int getAsyncTimeout() {
+		return asyncTimeout;
+	}
+
 	/**
 	 * Allowed header URL parameters.
 	 *
@@ -4869,6 +4963,20 @@ public final class RestContext extends BeanContext {
 		return childResources.get(path);
 	}
 
+	/**
+	 * Returns the child resources whose paths can match the specified path.
+	 *
+	 * @param pathInfo The path to match against.
+	 * @return The candidate child resources in the order they were added.  Never <jk>null</jk>.
+	 */
+	RestContext[] findChildResources(UrlPathInfo pathInfo) {
+		int[] c = childResourceTrie.getCandidates(pathInfo);
+		RestContext[] l = new RestContext[c.length];
+		for (int i = 0; i < c.length; i++)
+			l[i] = childResourceArray[c[i]];
+		return l;
+	}
+
 	/**
 	 * Returns the authority path of the resource.
 	 *
@@ -5028,12 +5136,15 @@ public final class RestContext extends BeanContext {
 	 */
 	public String getMethodExecStatsReport() {
 		StringBuilder sb = new StringBuilder()
-			.append(" Method                         Runs      Running   Errors   Avg          Total     \n")
-			.append("------------------------------ --------- --------- -------- ------------ -----------\n");
+			.append(" Method                         Runs      Running   Errors   Avg          Total        P50(1m)      P99(1m)     \n")
+			.append("------------------------------ --------- --------- -------- ------------ ----------- ------------ ------------\n");
 		getMethodExecStats()
 			.stream()
 			.sorted(Comparator.comparingDouble(MethodExecStats::getTotalTime).reversed())
-			.forEach(x -> sb.append(String.format("%30s %9d %9d %9d %10dms %10dms\n", x.getMethod(), x.getRuns(), x.getRunning(), x.getErrors(), x.getAvgTime(), x.getTotalTime())));
+			.forEach(x -> {
+				LatencyHistogram.Snapshot l = x.getLatency1m();
+				sb.append(String.format("%30s %9d %9d %9d %10dms %10dms %10.3fms %10.3fms\n", x.getMethod(), x.getRuns(), x.getRunning(), x.getErrors(), x.getAvgTime(), x.getTotalTime(), l.getP50(), l.getP99()));
+			});
 		return sb.toString();
 	}
 
@@ -5286,6 +5397,7 @@ public final class RestContext extends BeanContext {
 				.append("allowBodyParam", allowBodyParam)
 				.append("allowedMethodHeader", allowedMethodHeaders)
 				.append("allowedMethodParams", allowedMethodParams)
+				.append("asyncTimeout", asyncTimeout)
 				.append("allowedHeaderParams", allowedHeaderParams)
 				.append("callHandler", callHandler)
 				.append("clientVersionHeader", clientVersionHeader)
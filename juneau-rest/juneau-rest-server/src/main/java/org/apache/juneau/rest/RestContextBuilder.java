@@ -507,6 +507,27 @@ public class RestContextBuilder extends BeanContextBuilder implements ServletCon
 		return set(REST_allowedMethodParams, value);
 	}
 
+	/**
+	 * Configuration property:  Asynchronous response timeout.
+	 *
+	 * <p>
+	 * The number of milliseconds to wait for a {@link java.util.concurrent.CompletionStage} returned by a REST Java
+	 * method to complete.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link RestContext#REST_asyncTimeout}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this setting.
+	 * 	<br>The default is <c>30000</c>.
+	 * 	<br>A value of <c>0</c> or less means no timeout.
+	 * @return This object (for method chaining).
+	 */
+	public RestContextBuilder asyncTimeout(int value) {
+		return set(REST_asyncTimeout, value);
+	}
+
 	/**
 	 * Configuration property:  Allow header URL parameters.
 	 *
@@ -2953,6 +2974,18 @@ public class RestContextBuilder extends BeanContextBuilder implements ServletCon
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public RestContextBuilder useGeneratedAccessors(boolean value) {
+		super.useGeneratedAccessors(value);
+		return this;
+	}
+
+	@Override /* BeanContextBuilder */
+	public RestContextBuilder useGeneratedAccessors() {
+		super.useGeneratedAccessors();
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public RestContextBuilder useInterfaceProxies(boolean value) {
 		super.useInterfaceProxies(value);
@@ -55,6 +55,9 @@ public class RestContextStats {
 	/**
 	 * Returns statistics on all method executions.
 	 *
+	 * <p>
+	 * Includes execution time percentiles since startup and over the last one and five minutes.
+	 *
 	 * @return Statistics on all method executions.
 	 */
 	public Collection<MethodExecStats> getMethodStats() {
@@ -841,6 +841,13 @@ public class RestMethodContext extends BeanContext implements Comparable<RestMet
 		return pathPattern.toString();
 	}
 
+	/**
+	 * Returns the parsed path pattern for this method.
+	 */
+	UrlPathPattern getUrlPathPattern() {
+		return pathPattern;
+	}
+
 	/**
 	 * Returns <jk>true</jk> if the specified request object can call this method.
 	 */
@@ -939,9 +946,13 @@ public class RestMethodContext extends BeanContext implements Comparable<RestMet
 
 			context.postCall(req, res);
 
-			if (res.hasOutput())
-				for (RestConverter converter : converters)
-					res.setOutput(converter.convert(req, res.getOutput()));
+			if (res.hasOutput() && converters.length > 0) {
+				Object o = res.getOutput();
+				if (o instanceof CompletionStage)
+					res.setOutput(((CompletionStage<?>)o).thenApply(x -> convertAsync(req, x)));
+				else
+					res.setOutput(convert(req, o));
+			}
 
 		} catch (IllegalArgumentException e) {
 			throw new BadRequest(e,
@@ -954,6 +965,26 @@ public class RestMethodContext extends BeanContext implements Comparable<RestMet
 		return SC_OK;
 	}
 
+	/*
+	 * Applies the converters to the specified output.
+	 */
+	private Object convert(RestRequest req, Object o) throws HttpException, SerializeException {
+		for (RestConverter converter : converters)
+			o = converter.convert(req, o);
+		return o;
+	}
+
+	/*
+	 * Same as convert(RestRequest,Object) but wraps checked exceptions so that it can be used in futures.
+	 */
+	private Object convertAsync(RestRequest req, Object o) {
+		try {
+			return convert(req, o);
+		} catch (SerializeException e) {
+			throw new CompletionException(e);
+		}
+	}
+
 	/*
 	 * compareTo() method is used to keep SimpleMethods ordered in the RestCallRouter list.
 	 * It maintains the order in which matches are made during requests.
@@ -149,6 +149,25 @@ public @interface Rest {
 	 */
 	String allowedMethodParams() default "";
 
+	/**
+	 * Asynchronous response timeout.
+	 *
+	 * <p>
+	 * The number of milliseconds to wait for a {@link java.util.concurrent.CompletionStage} returned by a REST Java
+	 * method to complete.
+	 *
+	 * <ul class='notes'>
+	 * 	<li>
+	 * 		Supports {@doc DefaultRestSvlVariables}
+	 * 		(e.g. <js>"$C{REST/asyncTimeout,10000}"</js>).
+	 * </ul>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link RestContext#REST_asyncTimeout}
+	 * </ul>
+	 */
+	String asyncTimeout() default "";
+
 	/**
 	 * Default request attributes.
 	 *
@@ -281,6 +281,9 @@ public class RestConfigApply extends ConfigApply<Rest> {
 		if (! a.allowedMethodParams().isEmpty())
 			psb.set(REST_allowedMethodParams, string(a.allowedMethodParams()));
 
+		if (! a.asyncTimeout().isEmpty())
+			psb.set(REST_asyncTimeout, integer(a.asyncTimeout(), "asyncTimeout"));
+
 		if (! a.renderResponseStackTraces().isEmpty())
 			psb.set(REST_renderResponseStackTraces, bool(a.renderResponseStackTraces()));
 
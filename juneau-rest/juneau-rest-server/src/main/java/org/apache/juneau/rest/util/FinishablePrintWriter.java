@@ -15,6 +15,7 @@ package org.apache.juneau.rest.util;
 import java.io.*;
 
 import org.apache.juneau.encoders.*;
+import org.apache.juneau.internal.*;
 
 /**
  * A wrapped {@link PrintWriter} with an added <c>finish()</c> method.
@@ -26,13 +27,16 @@ public class FinishablePrintWriter extends PrintWriter implements Finishable {
 	/**
 	 * Constructor.
 	 *
+	 * <p>
+	 * UTF-8 output is encoded through a {@link Utf8Writer} instead of an {@link OutputStreamWriter}.
+	 *
 	 * @param out The wrapped output stream.
 	 * @param characterEncoding The character encoding of the output stream.
 	 * @param autoFlush Automatically flush after every println.
 	 * @throws IOException Thrown by underlying stream.
 	 */
 	public FinishablePrintWriter(OutputStream out, String characterEncoding, boolean autoFlush) throws IOException {
-		super(new OutputStreamWriter(out, characterEncoding), autoFlush);
+		super(Utf8Writer.isUtf8(characterEncoding) ? new Utf8Writer(out) : new OutputStreamWriter(out, characterEncoding), autoFlush);
 		f = (out instanceof Finishable ? (Finishable)out : null);
 	}
 
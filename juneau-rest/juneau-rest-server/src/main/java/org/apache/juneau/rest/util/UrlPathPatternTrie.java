@@ -0,0 +1,129 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.util;
+
+import java.util.*;
+
+/**
+ * A prefix tree built from a list of {@link UrlPathPattern} objects for finding the patterns that can match a path.
+ *
+ * <p>
+ * Patterns are broken into segments.
+ * <br>Literal segments (e.g. <js>"foo"</js>) are keyed by name, while variable segments (e.g. <js>"{id}"</js>) and
+ * <js>"*"</js> segments share a single wildcard branch.
+ * <br>Patterns ending in <js>"/*"</js> are attached to the node where their remainder starts.
+ *
+ * <p>
+ * Finding the candidates for a path takes time proportional to the depth of the path instead of the number of patterns.
+ * <br>The candidates are a superset of the patterns that match the path, so callers should still call
+ * {@link UrlPathPattern#match(UrlPathInfo)} on them.
+ * <br>Candidates are returned as indexes into the original list in ascending order, so the precedence of the
+ * original list is preserved.
+ */
+public final class UrlPathPatternTrie {
+
+	private static final int[] EMPTY = new int[0];
+
+	private final Node root = new Node();
+	private final int size;
+
+	private static final class Node {
+		Map<String,Node> literals;
+		Node wildcard;
+		int[] terminal = EMPTY, remainder = EMPTY;
+
+		Node child(String literal) {
+			if (literal == null) {
+				if (wildcard == null)
+					wildcard = new Node();
+				return wildcard;
+			}
+			if (literals == null)
+				literals = new HashMap<>();
+			Node n = literals.get(literal);
+			if (n == null) {
+				n = new Node();
+				literals.put(literal, n);
+			}
+			return n;
+		}
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param patterns The patterns to add to this trie in order of precedence.
+	 */
+	public UrlPathPatternTrie(UrlPathPattern...patterns) {
+		this.size = patterns.length;
+		for (int i = 0; i < patterns.length; i++) {
+			UrlPathPattern p = patterns[i];
+			Node n = root;
+			for (int j = 0; j < p.parts.length; j++)
+				n = n.child(p.vars[j] != null || "*".equals(p.parts[j]) ? null : p.parts[j]);
+			if (p.hasRemainder)
+				n.remainder = append(n.remainder, i);
+			else
+				n.terminal = append(n.terminal, i);
+		}
+	}
+
+	/**
+	 * Returns the indexes of the patterns that can match the specified path.
+	 *
+	 * @param pathInfo The path to match against.
+	 * @return The indexes of the candidate patterns in ascending order.  Never <jk>null</jk>.
+	 */
+	public int[] getCandidates(UrlPathInfo pathInfo) {
+		String[] pip = pathInfo.getParts();
+		int[] buff = new int[size];
+		int count = collect(root, 0, pip, pathInfo, buff, 0);
+		if (count == 0)
+			return EMPTY;
+		int[] c = Arrays.copyOf(buff, count);
+		Arrays.sort(c);
+		return c;
+	}
+
+	private static int collect(Node n, int depth, String[] pip, UrlPathInfo pathInfo, int[] buff, int count) {
+
+		// Patterns with a remainder match any path with at least as many parts.
+		count = copy(n.remainder, buff, count);
+
+		// Patterns without a remainder match paths with the same number of parts, plus a trailing slash.
+		if (depth == pip.length || (depth == pip.length - 1 && pathInfo.isTrailingSlash()))
+			count = copy(n.terminal, buff, count);
+
+		if (depth < pip.length) {
+			if (n.literals != null) {
+				Node c = n.literals.get(pip[depth]);
+				if (c != null)
+					count = collect(c, depth+1, pip, pathInfo, buff, count);
+			}
+			if (n.wildcard != null)
+				count = collect(n.wildcard, depth+1, pip, pathInfo, buff, count);
+		}
+		return count;
+	}
+
+	private static int copy(int[] src, int[] buff, int count) {
+		System.arraycopy(src, 0, buff, count, src.length);
+		return count + src.length;
+	}
+
+	private static int[] append(int[] a, int i) {
+		int[] a2 = Arrays.copyOf(a, a.length+1);
+		a2[a.length] = i;
+		return a2;
+	}
+}